@@ -48,7 +48,8 @@ public class ServerTools {
                     description,
                     username,
                     password,
-                    finalDeployPath
+                    finalDeployPath,
+                    null
             );
 
             return String.format(
@@ -0,0 +1,109 @@
+package com.hwgi.autocert.api.controller;
+
+import com.hwgi.autocert.api.dto.request.AgentReportRequest;
+import com.hwgi.autocert.api.dto.response.AgentTokenResponse;
+import com.hwgi.autocert.api.dto.response.CertificateDeployResponse;
+import com.hwgi.autocert.certificate.distribution.agent.AgentBundle;
+import com.hwgi.autocert.certificate.distribution.agent.AgentBundleService;
+import com.hwgi.autocert.common.dto.ApiResponse;
+import com.hwgi.autocert.domain.model.Deployment;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 풀 모드 배포 에이전트 REST API
+ *
+ * 에이전트는 Authorization: Bearer {토큰} 헤더로 인증
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/agents")
+@RequiredArgsConstructor
+@Tag(name = "Agent", description = "풀 모드 배포 에이전트 API")
+public class AgentController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AgentBundleService agentBundleService;
+
+    @Operation(summary = "에이전트 토큰 발급", description = "서버를 풀 모드로 전환하고 에이전트 토큰 발급 (기존 토큰 폐기)")
+    @PostMapping("/{serverId}/token")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<AgentTokenResponse> issueToken(@PathVariable Long serverId) {
+        log.info("Issue agent token for server: {}", serverId);
+
+        String token = agentBundleService.issueToken(serverId);
+        return ApiResponse.success(new AgentTokenResponse(serverId, token), "에이전트 토큰 발급 성공");
+    }
+
+    @Operation(summary = "에이전트 토큰 폐기", description = "에이전트 토큰을 폐기하고 SSH 푸시 모드로 전환")
+    @DeleteMapping("/{serverId}/token")
+    public ApiResponse<Void> revokeToken(@PathVariable Long serverId) {
+        log.info("Revoke agent token for server: {}", serverId);
+
+        agentBundleService.revokeToken(serverId);
+        return ApiResponse.success(null, "에이전트 토큰이 폐기되었습니다");
+    }
+
+    @Operation(summary = "번들 조회", description = "If-None-Match가 현재 버전과 같으면 304, 아니면 암호화된 번들과 ETag 반환")
+    @GetMapping("/{serverId}/bundle")
+    public ResponseEntity<byte[]> getBundle(
+            @PathVariable Long serverId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AgentBundle bundle = agentBundleService.getBundle(serverId, bearerToken(authorization), ifNoneMatch);
+
+        if (bundle.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(bundle.getETag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(bundle.getETag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(bundle.getContent());
+    }
+
+    @Operation(summary = "적용 결과 보고", description = "에이전트가 적용한 번들 버전의 배포 이력에 결과 기록 (이전 버전 보고도 해당 버전 이력에 기록, 전달한 적 없는 버전은 409)")
+    @PostMapping("/{serverId}/report")
+    public ApiResponse<List<CertificateDeployResponse>> report(
+            @PathVariable Long serverId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @Valid @RequestBody AgentReportRequest request) {
+        log.info("Agent report from server {}: version={}, success={}",
+                serverId, request.getVersion(), request.getSuccess());
+
+        List<Deployment> deployments = agentBundleService.reportApplied(
+                serverId,
+                bearerToken(authorization),
+                request.getVersion(),
+                request.getSuccess(),
+                request.getMessage(),
+                request.getDurationMs()
+        );
+        return ApiResponse.success(
+                deployments.stream().map(CertificateDeployResponse::from).toList(),
+                "적용 결과 기록 성공");
+    }
+
+    private String bearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length()).trim();
+    }
+}
@@ -2,9 +2,12 @@ package com.hwgi.autocert.api.controller;
 
 import com.hwgi.autocert.api.dto.request.CertificateCreateRequest;
 import com.hwgi.autocert.api.dto.request.CertificateUpdateRequest;
+import com.hwgi.autocert.api.dto.request.DomainCoverageRequest;
 import com.hwgi.autocert.api.dto.response.CertificateDeployResponse;
 import com.hwgi.autocert.api.dto.response.CertificateResponse;
+import com.hwgi.autocert.api.dto.response.DomainCoverageResponse;
 import com.hwgi.autocert.api.dto.response.PageResponse;
+import com.hwgi.autocert.certificate.index.CertificateDomainIndex;
 import com.hwgi.autocert.certificate.service.CertificateService;
 import com.hwgi.autocert.common.dto.ApiResponse;
 import com.hwgi.autocert.domain.model.Certificate;
@@ -22,6 +25,8 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 인증서 관리 REST API
  */
@@ -33,6 +38,7 @@ import org.springframework.web.bind.annotation.*;
 public class CertificateController {
 
     private final CertificateService certificateService;
+    private final CertificateDomainIndex domainIndex;
 
     @Operation(summary = "인증서 목록 조회", description = "페이지네이션을 지원하는 인증서 목록 조회")
     @GetMapping
@@ -61,6 +67,29 @@ public class CertificateController {
         return ApiResponse.success(response, "인증서 조회 성공");
     }
 
+    @Operation(summary = "호스트 인증서 포함 여부 일괄 확인",
+            description = "각 호스트를 포함하는(정확히 일치 또는 와일드카드) 저장된 인증서 조회 (Ingress 감사 등)")
+    @PostMapping("/coverage")
+    public ApiResponse<List<DomainCoverageResponse>> checkCoverage(@Valid @RequestBody DomainCoverageRequest request) {
+        log.info("Check certificate coverage for {} host(s)", request.getHosts().size());
+
+        List<DomainCoverageResponse> response = domainIndex.findCovering(request.getHosts()).entrySet().stream()
+            .map(entry -> DomainCoverageResponse.of(entry.getKey(), entry.getValue()))
+            .toList();
+        return ApiResponse.success(response, "인증서 포함 여부 확인 성공");
+    }
+
+    @Operation(summary = "영역별 인증서 이름 조회", description = "영역(예: example.com) 아래에서 저장된 인증서가 포함하는 이름 조회")
+    @GetMapping("/coverage")
+    public ApiResponse<List<DomainCoverageResponse>> getCoverageByZone(@RequestParam String zone) {
+        log.info("Get certificate names under zone: {}", zone);
+
+        List<DomainCoverageResponse> response = domainIndex.findNamesUnder(zone).entrySet().stream()
+            .map(entry -> DomainCoverageResponse.of(entry.getKey(), entry.getValue()))
+            .toList();
+        return ApiResponse.success(response, "영역별 인증서 이름 조회 성공");
+    }
+
     @Operation(summary = "인증서 생성", description = "새로운 인증서 발급 요청")
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
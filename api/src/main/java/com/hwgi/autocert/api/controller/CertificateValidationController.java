@@ -1,8 +1,17 @@
 package com.hwgi.autocert.api.controller;
 
 import com.hwgi.autocert.api.dto.request.CertificateValidationRequest;
+import com.hwgi.autocert.api.dto.response.CertificateValidationHistoryResponse;
 import com.hwgi.autocert.api.dto.response.CertificateValidationResponse;
+import com.hwgi.autocert.api.dto.response.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwgi.autocert.certificate.validation.BulkValidationService;
 import com.hwgi.autocert.certificate.validation.CertificateValidationService;
+import com.hwgi.autocert.certificate.validation.history.ValidationHistoryService;
+import com.hwgi.autocert.certificate.validation.scan.TlsEndpointScanner;
+import com.hwgi.autocert.domain.model.CertificateValidation;
+import com.hwgi.autocert.domain.model.CertificateValidationCheck;
+import com.hwgi.autocert.domain.model.CertificateStatus;
 import com.hwgi.autocert.domain.model.CertificateValidationResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,8 +22,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 인증서 검증 API 컨트롤러
@@ -27,6 +50,10 @@ import org.springframework.web.bind.annotation.*;
 public class CertificateValidationController {
     
     private final CertificateValidationService validationService;
+    private final BulkValidationService bulkValidationService;
+    private final ValidationHistoryService historyService;
+    private final TlsEndpointScanner endpointScanner;
+    private final ObjectMapper objectMapper;
     
     /**
      * 저장된 인증서 검증
@@ -114,4 +141,106 @@ public class CertificateValidationController {
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 저장된 인증서 일괄 검증
+     */
+    @Operation(
+        summary = "저장된 인증서 일괄 검증",
+        description = "데이터베이스의 인증서를 순차적으로 읽어 병렬로 검증하고 인증서별 결과를 NDJSON으로 스트리밍합니다."
+    )
+    @GetMapping(value = "/validate/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> validateAllCertificates(
+            @Parameter(description = "인증서 상태 (생략하면 전체)", example = "ACTIVE")
+            @RequestParam(required = false) CertificateStatus status
+    ) {
+        log.info("Bulk validating certificates: status={}", status);
+
+        StreamingResponseBody stream = out -> bulkValidationService.validateAll(status, item -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+    /**
+     * 서버 TLS 엔드포인트 스캔
+     */
+    @Operation(
+        summary = "TLS 엔드포인트 스캔",
+        description = "모든 서버와 설정된 추가 엔드포인트에 TLS 핸드셰이크를 수행하여 실제로 제공되는 체인을 검증하고, 저장된 인증서와 다르면 MISMATCH로 표시합니다. 결과는 NDJSON으로 스트리밍합니다."
+    )
+    @GetMapping(value = "/validate/scan", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> scanEndpoints() {
+        log.info("Scanning TLS endpoints");
+
+        StreamingResponseBody stream = out -> {
+            try {
+                endpointScanner.scan(result -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(result));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
+    /**
+     * 인증서 검증 이력 조회
+     */
+    @Operation(
+        summary = "인증서 검증 이력 조회",
+        description = "저장된 인증서의 검증 실행 이력과 항목별 결과를 최신순으로 조회합니다."
+    )
+    @GetMapping("/{id}/validations")
+    public ResponseEntity<PageResponse<CertificateValidationHistoryResponse>> getValidationHistory(
+            @Parameter(description = "인증서 ID", required = true, example = "1")
+            @PathVariable Long id,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable
+    ) {
+        Page<CertificateValidation> page = historyService.getHistory(id, pageable);
+        Map<Long, List<CertificateValidationCheck>> checks = historyService.getChecks(
+                page.getContent().stream().map(CertificateValidation::getId).toList());
+
+        return ResponseEntity.ok(PageResponse.from(page.map(validation ->
+                CertificateValidationHistoryResponse.from(validation,
+                        checks.getOrDefault(validation.getId(), List.of())))));
+    }
+
+    /**
+     * 새로 실패하기 시작한 검증 항목 조회
+     */
+    @Operation(
+        summary = "새로 실패한 검증 항목 조회",
+        description = "기준 시각 이후 직전 실행에서는 통과했지만 실패하기 시작한 인증서를 재검증 없이 이력에서 조회합니다. 기준 시각을 생략하면 오늘 0시입니다."
+    )
+    @GetMapping("/validations/newly-failing")
+    public ResponseEntity<List<CertificateValidationHistoryResponse>> getNewlyFailing(
+            @Parameter(description = "검증 항목 (signature, validity, chain, revocation, domain, keyUsage, transparency)", example = "chain")
+            @RequestParam(defaultValue = "chain") String check,
+            @Parameter(description = "기준 시각", example = "2025-11-21T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since
+    ) {
+        LocalDateTime from = since != null ? since : LocalDate.now().atStartOfDay();
+        List<CertificateValidationHistoryResponse> response = historyService.findNewlyFailing(check, from).stream()
+                .map(CertificateValidationHistoryResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
 }
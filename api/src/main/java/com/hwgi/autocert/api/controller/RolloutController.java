@@ -0,0 +1,111 @@
+package com.hwgi.autocert.api.controller;
+
+import com.hwgi.autocert.api.dto.request.RolloutCreateRequest;
+import com.hwgi.autocert.api.dto.response.PageResponse;
+import com.hwgi.autocert.api.dto.response.RolloutResponse;
+import com.hwgi.autocert.api.dto.response.RolloutTargetResponse;
+import com.hwgi.autocert.certificate.distribution.rollout.RolloutService;
+import com.hwgi.autocert.common.dto.ApiResponse;
+import com.hwgi.autocert.domain.model.Rollout;
+import com.hwgi.autocert.domain.model.RolloutTarget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 롤아웃(단계적 배포) REST API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/rollouts")
+@RequiredArgsConstructor
+@Tag(name = "Rollout", description = "인증서 단계적 배포 API")
+public class RolloutController {
+
+    private final RolloutService rolloutService;
+
+    @Operation(summary = "롤아웃 생성", description = "카나리 → 웨이브 순서로 여러 서버에 인증서 배포")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<RolloutResponse> createRollout(@Valid @RequestBody RolloutCreateRequest request) {
+        log.info("Create rollout: certificateId={}, servers={}",
+                request.getCertificateId(), request.getServerIds().size());
+
+        Rollout rollout = rolloutService.create(
+                request.getCertificateId(),
+                request.getServerIds(),
+                request.getCanarySize(),
+                request.getWaveGrowthFactor(),
+                request.getMaxWaveSize(),
+                request.getConcurrency(),
+                request.getFailureThresholdPercent()
+        );
+
+        if (Boolean.TRUE.equals(request.getStart())) {
+            rolloutService.start(rollout.getId());
+        }
+        return ApiResponse.success(toResponse(rollout.getId()), "롤아웃 생성 성공");
+    }
+
+    @Operation(summary = "롤아웃 진행 현황 조회", description = "롤아웃 상태와 대상 상태별 서버 수 조회")
+    @GetMapping("/{id}")
+    public ApiResponse<RolloutResponse> getRollout(@PathVariable Long id) {
+        log.info("Get rollout: {}", id);
+        return ApiResponse.success(toResponse(id), "롤아웃 조회 성공");
+    }
+
+    @Operation(summary = "롤아웃 대상 조회", description = "웨이브 순서로 대상 서버별 배포 결과 조회")
+    @GetMapping("/{id}/targets")
+    public ApiResponse<PageResponse<RolloutTargetResponse>> getTargets(
+            @PathVariable Long id,
+            @ParameterObject @PageableDefault(size = 50) Pageable pageable) {
+        log.info("Get rollout targets: {}", id);
+
+        Page<RolloutTarget> page = rolloutService.getTargets(id, pageable);
+        return ApiResponse.success(PageResponse.from(page.map(RolloutTargetResponse::from)), "롤아웃 대상 조회 성공");
+    }
+
+    @Operation(summary = "롤아웃 시작", description = "생성된 롤아웃 시작")
+    @PostMapping("/{id}/start")
+    public ApiResponse<RolloutResponse> startRollout(@PathVariable Long id) {
+        log.info("Start rollout: {}", id);
+        rolloutService.start(id);
+        return ApiResponse.success(toResponse(id), "롤아웃 시작");
+    }
+
+    @Operation(summary = "롤아웃 일시정지", description = "진행 중인 배포는 마무리하고 이후 대상 배포를 멈춤")
+    @PostMapping("/{id}/pause")
+    public ApiResponse<RolloutResponse> pauseRollout(@PathVariable Long id) {
+        log.info("Pause rollout: {}", id);
+        rolloutService.pause(id);
+        return ApiResponse.success(toResponse(id), "롤아웃 일시정지");
+    }
+
+    @Operation(summary = "롤아웃 재개", description = "일시정지된 롤아웃을 현재 웨이브부터 재개")
+    @PostMapping("/{id}/resume")
+    public ApiResponse<RolloutResponse> resumeRollout(@PathVariable Long id) {
+        log.info("Resume rollout: {}", id);
+        rolloutService.resume(id);
+        return ApiResponse.success(toResponse(id), "롤아웃 재개");
+    }
+
+    @Operation(summary = "롤아웃 중단", description = "롤아웃을 중단하고 남은 대상은 건너뜀 처리")
+    @PostMapping("/{id}/abort")
+    public ApiResponse<RolloutResponse> abortRollout(@PathVariable Long id) {
+        log.info("Abort rollout: {}", id);
+        rolloutService.abort(id);
+        return ApiResponse.success(toResponse(id), "롤아웃 중단");
+    }
+
+    private RolloutResponse toResponse(Long id) {
+        return RolloutResponse.from(rolloutService.getRollout(id), rolloutService.getProgress(id));
+    }
+}
@@ -3,10 +3,22 @@ package com.hwgi.autocert.api.controller;
 import com.hwgi.autocert.server.dto.ServerCreateRequest;
 import com.hwgi.autocert.server.dto.ServerUpdateRequest;
 import com.hwgi.autocert.server.dto.ServerResponse;
+import com.hwgi.autocert.server.importer.ServerImportFormat;
+import com.hwgi.autocert.server.importer.ServerImportService;
 import com.hwgi.autocert.server.service.ServerService;
+import com.hwgi.autocert.api.dto.response.KeystorePasswordResponse;
+import com.hwgi.autocert.api.dto.response.KnownHostResponse;
 import com.hwgi.autocert.api.dto.response.PageResponse;
+import com.hwgi.autocert.api.dto.response.ServerHealthCheckResponse;
+import com.hwgi.autocert.api.dto.response.SshCircuitResponse;
+import com.hwgi.autocert.certificate.distribution.health.ReachabilityResult;
+import com.hwgi.autocert.certificate.distribution.health.ServerHealthMonitor;
+import com.hwgi.autocert.certificate.distribution.keystore.KeystoreService;
+import com.hwgi.autocert.certificate.distribution.service.SshKeyService;
+import com.hwgi.autocert.certificate.distribution.ssh.SshCircuitBreaker;
 import com.hwgi.autocert.common.dto.ApiResponse;
 import com.hwgi.autocert.domain.model.Server;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -17,8 +29,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 /**
  * 서버 관리 REST API
@@ -31,6 +52,12 @@ import org.springframework.web.bind.annotation.*;
 public class ServerController {
 
     private final ServerService serverService;
+    private final SshCircuitBreaker sshCircuitBreaker;
+    private final SshKeyService sshKeyService;
+    private final ServerHealthMonitor serverHealthMonitor;
+    private final ServerImportService serverImportService;
+    private final KeystoreService keystoreService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "서버 목록 조회", description = "페이지네이션을 지원하는 서버 목록 조회")
     @GetMapping
@@ -43,6 +70,118 @@ public class ServerController {
         return ApiResponse.success(response, "서버 목록 조회 성공");
     }
 
+    @Operation(summary = "SSH 서킷 브레이커 목록 조회", description = "연결 실패 이력이 있는 서버의 브레이커 상태 조회")
+    @GetMapping("/ssh-circuits")
+    public ApiResponse<List<SshCircuitResponse>> getSshCircuits() {
+        log.info("Get SSH circuit states");
+
+        List<SshCircuitResponse> response = sshCircuitBreaker.getTrackedStates().stream()
+                .map(SshCircuitResponse::from)
+                .toList();
+        return ApiResponse.success(response, "서킷 브레이커 조회 성공");
+    }
+
+    @Operation(summary = "서버 SSH 서킷 브레이커 조회", description = "서버의 SSH 연결 차단 상태 조회")
+    @GetMapping("/{id}/ssh-circuit")
+    public ApiResponse<SshCircuitResponse> getSshCircuit(@PathVariable Long id) {
+        log.info("Get SSH circuit state: id={}", id);
+
+        serverService.findById(id);
+        return ApiResponse.success(SshCircuitResponse.from(sshCircuitBreaker.getState(id)), "서킷 브레이커 조회 성공");
+    }
+
+    @Operation(summary = "서버 SSH 서킷 브레이커 초기화", description = "차단된 서버의 SSH 연결을 즉시 허용")
+    @PostMapping("/{id}/ssh-circuit/reset")
+    public ApiResponse<SshCircuitResponse> resetSshCircuit(@PathVariable Long id) {
+        log.info("Reset SSH circuit: id={}", id);
+
+        serverService.findById(id);
+        sshCircuitBreaker.reset(id);
+        return ApiResponse.success(SshCircuitResponse.from(sshCircuitBreaker.getState(id)), "서킷 브레이커 초기화 성공");
+    }
+
+    @Operation(summary = "서버 SSH 호스트 키 조회", description = "서버에 등록된 SSH 호스트 키(known hosts) 조회")
+    @GetMapping("/{id}/host-keys")
+    public ApiResponse<List<KnownHostResponse>> getHostKeys(@PathVariable Long id) {
+        log.info("Get SSH host keys: id={}", id);
+
+        Server server = serverService.findById(id);
+        List<KnownHostResponse> response = sshKeyService.getHostKeys(server.getIpAddress(), server.getPort())
+                .stream()
+                .map(KnownHostResponse::from)
+                .toList();
+        return ApiResponse.success(response, "호스트 키 조회 성공");
+    }
+
+    @Operation(summary = "서버 SSH 호스트 키 삭제", description = "서버 호스트 키 교체 후 다음 접속에서 새 키를 등록하도록 삭제")
+    @DeleteMapping("/{id}/host-keys")
+    public ApiResponse<Void> forgetHostKeys(@PathVariable Long id) {
+        log.info("Forget SSH host keys: id={}", id);
+
+        Server server = serverService.findById(id);
+        sshKeyService.forgetHostKeys(server.getIpAddress(), server.getPort());
+        return ApiResponse.success(null, "호스트 키가 삭제되었습니다");
+    }
+
+    @Operation(summary = "서버 키스토어 비밀번호 조회",
+            description = "Tomcat/JEUS/WebLogic에 배포되는 JKS/PKCS12 키스토어의 형식과 비밀번호 (없으면 생성)")
+    @GetMapping("/{id}/keystore")
+    public ApiResponse<KeystorePasswordResponse> getKeystore(@PathVariable Long id) {
+        log.info("Get keystore password: id={}", id);
+
+        Server server = serverService.findById(id);
+        return ApiResponse.success(keystoreResponse(server, keystoreService.getPassword(server)), "키스토어 조회 성공");
+    }
+
+    @Operation(summary = "서버 키스토어 비밀번호 교체",
+            description = "새 비밀번호를 생성하며 다음 배포부터 새 비밀번호로 키스토어를 만듦. "
+                    + "교체 순서: 1) 이 API 호출 2) 서버 설정(keystorePass 등)에 새 비밀번호 입력, 재기동하지 않음 "
+                    + "3) 즉시 재배포하여 새 키스토어 배포와 재기동을 함께 수행. "
+                    + "2와 3 사이에 서버가 재기동되면 기존 키스토어를 열 수 없으며, "
+                    + "3이 실패해 롤백되면 이전 키스토어가 복원되므로 원인 해결 후 3을 다시 실행")
+    @PostMapping("/{id}/keystore/rotate-password")
+    public ApiResponse<KeystorePasswordResponse> rotateKeystorePassword(@PathVariable Long id) {
+        log.info("Rotate keystore password: id={}", id);
+
+        Server server = serverService.findById(id);
+        return ApiResponse.success(keystoreResponse(server, keystoreService.rotatePassword(id)), "키스토어 비밀번호 교체 성공");
+    }
+
+    @Operation(summary = "서버 연결 상태 조회", description = "도달성 모니터의 최근 SSH/HTTPS 포트 검사 결과 (미검사 시 즉시 검사)")
+    @GetMapping("/{id}/health")
+    public ApiResponse<ServerHealthCheckResponse> getHealth(@PathVariable Long id) {
+        log.info("Get server health: id={}", id);
+
+        Server server = serverService.findById(id);
+        ReachabilityResult result = serverHealthMonitor.getLatest(id);
+        if (result == null) {
+            result = serverHealthMonitor.check(server);
+        }
+        return ApiResponse.success(ServerHealthCheckResponse.from(result), "연결 상태 조회 성공");
+    }
+
+    @Operation(summary = "서버 연결 상태 즉시 검사", description = "SSH/HTTPS 포트에 TCP 연결하여 상태 갱신")
+    @PostMapping("/{id}/health-check")
+    public ApiResponse<ServerHealthCheckResponse> checkHealth(@PathVariable Long id) {
+        log.info("Check server health: id={}", id);
+
+        Server server = serverService.findById(id);
+        return ApiResponse.success(ServerHealthCheckResponse.from(serverHealthMonitor.check(server)), "연결 상태 검사 성공");
+    }
+
+    @Operation(summary = "서버 연결 상태 이력 조회", description = "상태 변경 또는 샘플 주기마다 기록된 검사 이력 (최신순)")
+    @GetMapping("/{id}/health-history")
+    public ApiResponse<PageResponse<ServerHealthCheckResponse>> getHealthHistory(
+            @PathVariable Long id,
+            @ParameterObject @PageableDefault(size = 50) Pageable pageable) {
+        log.info("Get server health history: id={}", id);
+
+        serverService.findById(id);
+        PageResponse<ServerHealthCheckResponse> response = PageResponse.from(
+                serverHealthMonitor.getHistory(id, pageable).map(ServerHealthCheckResponse::from));
+        return ApiResponse.success(response, "연결 상태 이력 조회 성공");
+    }
+
     @Operation(summary = "서버 상세 조회", description = "ID로 특정 서버 조회")
     @GetMapping("/{id}")
     public ApiResponse<ServerResponse> getServer(@PathVariable Long id) {
@@ -92,13 +231,40 @@ public class ServerController {
                 request.getDescription(),
                 request.getUsername(),
                 request.getPassword(),
-                request.getDeployPath()
+                request.getDeployPath(),
+                request.getSshKeyId()
         );
 
         ServerResponse response = ServerResponse.from(server);
         return ApiResponse.success(response, "서버 생성 성공");
     }
 
+    @Operation(summary = "서버 일괄 등록",
+            description = "CSV(헤더 행 포함) 또는 JSON 배열/NDJSON으로 서버를 IP 주소 기준 등록/갱신하고 행별 결과를 NDJSON으로 스트리밍")
+    @PostMapping(value = "/import",
+            consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importServers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(defaultValue = "false") boolean testConnection,
+            InputStream body) {
+        ServerImportFormat format = ServerImportFormat.fromContentType(contentType);
+        log.info("Import servers: format={}, testConnection={}", format, testConnection);
+
+        StreamingResponseBody stream = out -> serverImportService.importServers(body, format, testConnection, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+    }
+
     @Operation(summary = "서버 수정", description = "기존 서버 정보 수정")
     @PutMapping("/{id}")
     public ApiResponse<ServerResponse> updateServer(
@@ -115,7 +281,8 @@ public class ServerController {
                 request.getDescription(),
                 request.getUsername(),
                 request.getPassword(),
-                request.getDeployPath()
+                request.getDeployPath(),
+                request.getSshKeyId()
         );
 
         ServerResponse response = ServerResponse.from(server);
@@ -131,4 +298,14 @@ public class ServerController {
         serverService.delete(id);
         return ApiResponse.success(null, "서버가 삭제되었습니다");
     }
+
+    private KeystorePasswordResponse keystoreResponse(Server server, String password) {
+        return keystoreService.getFormat(server)
+                .map(format -> KeystorePasswordResponse.builder()
+                        .format(format.name())
+                        .extension(format.getExtension())
+                        .password(password)
+                        .build())
+                .orElseGet(() -> KeystorePasswordResponse.builder().password(password).build());
+    }
 }
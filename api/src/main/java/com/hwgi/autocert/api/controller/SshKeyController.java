@@ -0,0 +1,82 @@
+package com.hwgi.autocert.api.controller;
+
+import com.hwgi.autocert.api.dto.request.SshKeyCreateRequest;
+import com.hwgi.autocert.api.dto.request.SshKeyRotateRequest;
+import com.hwgi.autocert.api.dto.response.SshKeyResponse;
+import com.hwgi.autocert.certificate.distribution.service.SshKeyService;
+import com.hwgi.autocert.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * SSH 인증 키 관리 REST API
+ *
+ * 같은 키를 여러 서버에 지정하면 키 교체가 모든 서버에 한 번에 적용됨
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/ssh-keys")
+@RequiredArgsConstructor
+@Tag(name = "SSH Key", description = "SSH 인증 키 관리 API")
+public class SshKeyController {
+
+    private final SshKeyService sshKeyService;
+
+    @Operation(summary = "SSH 키 목록 조회", description = "등록된 SSH 키의 공개키와 지문 조회")
+    @GetMapping
+    public ApiResponse<List<SshKeyResponse>> getSshKeys() {
+        log.info("Get SSH keys");
+
+        List<SshKeyResponse> response = sshKeyService.findAll().stream()
+                .map(SshKeyResponse::from)
+                .toList();
+        return ApiResponse.success(response, "SSH 키 목록 조회 성공");
+    }
+
+    @Operation(summary = "SSH 키 상세 조회", description = "ID로 SSH 키 조회")
+    @GetMapping("/{id}")
+    public ApiResponse<SshKeyResponse> getSshKey(@PathVariable Long id) {
+        log.info("Get SSH key: id={}", id);
+
+        return ApiResponse.success(SshKeyResponse.from(sshKeyService.findById(id)), "SSH 키 조회 성공");
+    }
+
+    @Operation(summary = "SSH 키 등록", description = "개인키를 암호화하여 저장하고 공개키/지문 반환")
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<SshKeyResponse> createSshKey(@Valid @RequestBody SshKeyCreateRequest request) {
+        log.info("Create SSH key: name={}", request.getName());
+
+        return ApiResponse.success(
+                SshKeyResponse.from(sshKeyService.create(request.getName(), request.getPrivateKey(),
+                        request.getPassphrase())),
+                "SSH 키 등록 성공");
+    }
+
+    @Operation(summary = "SSH 키 교체", description = "키를 사용하는 모든 서버에 다음 연결부터 새 키 적용")
+    @PutMapping("/{id}")
+    public ApiResponse<SshKeyResponse> rotateSshKey(@PathVariable Long id,
+                                                   @Valid @RequestBody SshKeyRotateRequest request) {
+        log.info("Rotate SSH key: id={}", id);
+
+        return ApiResponse.success(
+                SshKeyResponse.from(sshKeyService.rotate(id, request.getPrivateKey(), request.getPassphrase())),
+                "SSH 키 교체 성공");
+    }
+
+    @Operation(summary = "SSH 키 삭제", description = "사용 중인 서버가 없는 SSH 키 삭제")
+    @DeleteMapping("/{id}")
+    public ApiResponse<Void> deleteSshKey(@PathVariable Long id) {
+        log.info("Delete SSH key: id={}", id);
+
+        sshKeyService.delete(id);
+        return ApiResponse.success(null, "SSH 키가 삭제되었습니다");
+    }
+}
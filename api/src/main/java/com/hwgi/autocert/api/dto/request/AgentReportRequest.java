@@ -0,0 +1,34 @@
+package com.hwgi.autocert.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 에이전트 적용 결과 보고 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "에이전트 번들 적용 결과 보고")
+public class AgentReportRequest {
+
+    @Schema(description = "적용한 번들 버전 (ETag)", example = "3f2a...", required = true)
+    @NotBlank(message = "번들 버전은 필수입니다")
+    private String version;
+
+    @Schema(description = "적용 성공 여부", example = "true", required = true)
+    @NotNull(message = "적용 성공 여부는 필수입니다")
+    private Boolean success;
+
+    @Schema(description = "에이전트 메시지", example = "nginx reloaded")
+    private String message;
+
+    @Schema(description = "적용 소요 시간 (밀리초)", example = "850")
+    private Long durationMs;
+}
@@ -0,0 +1,22 @@
+package com.hwgi.autocert.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 호스트 인증서 포함 여부 일괄 확인 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class DomainCoverageRequest {
+
+    @Schema(description = "확인할 호스트명 목록 (Ingress 호스트 등)", example = "[\"www.example.com\", \"api.example.com\"]")
+    @NotEmpty(message = "호스트 목록은 필수입니다")
+    @Size(max = 100000, message = "한 번에 100,000개까지 확인할 수 있습니다")
+    private List<String> hosts;
+}
@@ -0,0 +1,60 @@
+package com.hwgi.autocert.api.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 롤아웃 생성 요청 DTO
+ *
+ * 옵션을 지정하지 않으면 autocert.distribution.rollout 설정값 사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "롤아웃(단계적 배포) 생성 요청")
+public class RolloutCreateRequest {
+
+    @Schema(description = "배포할 인증서 ID", example = "1", required = true)
+    @NotNull(message = "인증서 ID는 필수입니다")
+    private Long certificateId;
+
+    @Schema(description = "대상 서버 ID 목록 (앞에서부터 카나리/웨이브에 배정)", example = "[1, 2, 3]", required = true)
+    @NotEmpty(message = "대상 서버는 1개 이상이어야 합니다")
+    private List<Long> serverIds;
+
+    @Schema(description = "카나리 웨이브 서버 수", example = "1")
+    @Min(value = 1, message = "카나리 크기는 1 이상이어야 합니다")
+    private Integer canarySize;
+
+    @Schema(description = "웨이브 크기 증가 배율", example = "2.0")
+    @DecimalMin(value = "1.0", message = "증가 배율은 1.0 이상이어야 합니다")
+    private Double waveGrowthFactor;
+
+    @Schema(description = "최대 웨이브 크기", example = "50")
+    @Min(value = 1, message = "최대 웨이브 크기는 1 이상이어야 합니다")
+    private Integer maxWaveSize;
+
+    @Schema(description = "웨이브 내 동시 배포 수", example = "8")
+    @Min(value = 1, message = "동시 배포 수는 1 이상이어야 합니다")
+    private Integer concurrency;
+
+    @Schema(description = "중단 임계치 (시도한 대상 중 실패 비율, %)", example = "10")
+    @Min(value = 0, message = "임계치는 0 이상이어야 합니다")
+    @Max(value = 100, message = "임계치는 100 이하여야 합니다")
+    private Integer failureThresholdPercent;
+
+    @Schema(description = "생성 후 바로 시작 여부", example = "true", defaultValue = "true")
+    @Builder.Default
+    private Boolean start = true;
+}
@@ -0,0 +1,24 @@
+package com.hwgi.autocert.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 에이전트 토큰 발급 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "에이전트 토큰 발급 응답")
+public class AgentTokenResponse {
+
+    @Schema(description = "서버 ID", example = "1")
+    private Long serverId;
+
+    @Schema(description = "에이전트 토큰 (발급 시에만 조회 가능)", example = "q8Xk...")
+    private String token;
+}
@@ -2,6 +2,7 @@ package com.hwgi.autocert.api.dto.response;
 
 import com.hwgi.autocert.domain.model.Deployment;
 import com.hwgi.autocert.domain.model.DeploymentStatus;
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 인증서 배포 응답 DTO
@@ -53,6 +55,21 @@ public class CertificateDeployResponse {
     @Schema(description = "배포 소요 시간 (밀리초)", example = "1234")
     private Long durationMs;
 
+    @Schema(description = "배포 후 TLS 검증 상태", example = "VERIFIED")
+    private DeploymentVerificationStatus verificationStatus;
+
+    @Schema(description = "서버가 제공한 인증서 시리얼 (16진수)", example = "4a3f1c...")
+    private String servedSerial;
+
+    @Schema(description = "TLS 핸드셰이크 소요 시간 (밀리초)", example = "45")
+    private Long handshakeMs;
+
+    @Schema(description = "에이전트가 적용한 번들 버전 (풀 모드)", example = "3f2a...")
+    private String appliedVersion;
+
+    @Schema(description = "단계별 소요 시간 (밀리초)", example = "{\"tcp_connect\": 12, \"key_exchange\": 85, \"auth\": 40, \"upload\": 120, \"reload\": 900}")
+    private Map<String, Long> phaseTimings;
+
     /**
      * Deployment 엔티티를 DTO로 변환
      *
@@ -72,6 +89,11 @@ public class CertificateDeployResponse {
                 .deployedAt(deployment.getDeployedAt())
                 .message(deployment.getMessage())
                 .durationMs(deployment.getDurationMs())
+                .verificationStatus(deployment.getVerificationStatus())
+                .servedSerial(deployment.getServedSerial())
+                .handshakeMs(deployment.getHandshakeMs())
+                .appliedVersion(deployment.getAppliedVersion())
+                .phaseTimings(deployment.getPhaseTimings())
                 .build();
     }
 }
@@ -0,0 +1,77 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.domain.model.CertificateValidation;
+import com.hwgi.autocert.domain.model.CertificateValidationCheck;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인증서 검증 실행 이력 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "인증서 검증 실행 이력")
+public class CertificateValidationHistoryResponse {
+
+    @Schema(description = "실행 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "인증서 ID", example = "1")
+    private Long certificateId;
+
+    @Schema(description = "인증서 도메인 (새로 실패한 항목 조회 시)", example = "example.com")
+    private String domain;
+
+    @Schema(description = "리프 + 체인 SHA-256 지문")
+    private String fingerprint;
+
+    @Schema(description = "전체 검증 통과 여부", example = "true")
+    private boolean valid;
+
+    @Schema(description = "검증 시각")
+    private LocalDateTime validatedAt;
+
+    @Schema(description = "재검증 예정 시각")
+    private LocalDateTime nextValidationAt;
+
+    @Schema(description = "항목별 결과")
+    private List<ValidationHistoryCheckResponse> checks;
+
+    public static CertificateValidationHistoryResponse from(CertificateValidation validation,
+                                                            List<CertificateValidationCheck> checks) {
+        return CertificateValidationHistoryResponse.builder()
+                .id(validation.getId())
+                .certificateId(validation.getCertificate().getId())
+                .fingerprint(validation.getFingerprint())
+                .valid(validation.getValid())
+                .validatedAt(validation.getValidatedAt())
+                .nextValidationAt(validation.getNextValidationAt())
+                .checks(checks.stream().map(ValidationHistoryCheckResponse::from).toList())
+                .build();
+    }
+
+    /**
+     * 새로 실패한 항목 조회 결과 (실행과 인증서를 함께 조회한 경우)
+     */
+    public static CertificateValidationHistoryResponse from(CertificateValidationCheck check) {
+        CertificateValidation validation = check.getValidation();
+        return CertificateValidationHistoryResponse.builder()
+                .id(validation.getId())
+                .certificateId(validation.getCertificate().getId())
+                .domain(validation.getCertificate().getDomain())
+                .fingerprint(validation.getFingerprint())
+                .valid(validation.getValid())
+                .validatedAt(validation.getValidatedAt())
+                .nextValidationAt(validation.getNextValidationAt())
+                .checks(List.of(ValidationHistoryCheckResponse.from(check)))
+                .build();
+    }
+}
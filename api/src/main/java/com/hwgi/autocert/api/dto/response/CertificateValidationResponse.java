@@ -44,6 +44,9 @@ public class CertificateValidationResponse {
     @Schema(description = "키 사용 검증 결과")
     private ValidationCheckResponse keyUsageCheck;
     
+    @Schema(description = "Certificate Transparency(SCT) 검증 결과")
+    private ValidationCheckResponse transparencyCheck;
+    
     @Schema(description = "경고 메시지 목록")
     private List<String> warnings;
     
@@ -63,6 +66,7 @@ public class CertificateValidationResponse {
                 .revocationCheck(ValidationCheckResponse.from(validationResult.getRevocationCheck()))
                 .domainCheck(ValidationCheckResponse.from(validationResult.getDomainCheck()))
                 .keyUsageCheck(ValidationCheckResponse.from(validationResult.getKeyUsageCheck()))
+                .transparencyCheck(ValidationCheckResponse.from(validationResult.getTransparencyCheck()))
                 .warnings(validationResult.getWarnings())
                 .errors(validationResult.getErrors())
                 .build();
@@ -0,0 +1,37 @@
+package com.hwgi.autocert.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 도메인 인증서 포함 여부 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "도메인 인증서 포함 여부")
+public class DomainCoverageResponse {
+
+    @Schema(description = "호스트명 또는 인증서 이름 (와일드카드는 *.으로 시작)", example = "www.example.com")
+    private String name;
+
+    @Schema(description = "인증서가 포함하는지 여부", example = "true")
+    private boolean covered;
+
+    @Schema(description = "포함하는 인증서 ID", example = "[1, 7]")
+    private List<Long> certificateIds;
+
+    public static DomainCoverageResponse of(String name, List<Long> certificateIds) {
+        return DomainCoverageResponse.builder()
+                .name(name)
+                .covered(!certificateIds.isEmpty())
+                .certificateIds(certificateIds)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.hwgi.autocert.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서버 키스토어 비밀번호 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "서버 키스토어 정보 (server.xml 등 서버 설정에 입력)")
+public class KeystorePasswordResponse {
+
+    @Schema(description = "배포되는 키스토어 형식 (키스토어를 배포하지 않는 웹서버 타입이면 null)", example = "PKCS12")
+    private String format;
+
+    @Schema(description = "키스토어 파일 확장자 (배포 경로/{도메인}.{확장자})", example = "p12")
+    private String extension;
+
+    @Schema(description = "키스토어 및 키 비밀번호")
+    private String password;
+}
@@ -0,0 +1,46 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.domain.model.KnownHost;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSH 호스트 키 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "등록된 SSH 호스트 키")
+public class KnownHostResponse {
+
+    @Schema(description = "호스트", example = "192.168.1.100")
+    private String host;
+
+    @Schema(description = "SSH 포트", example = "22")
+    private Integer port;
+
+    @Schema(description = "키 타입", example = "ssh-ed25519")
+    private String keyType;
+
+    @Schema(description = "호스트 키 지문", example = "SHA256:47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU")
+    private String fingerprint;
+
+    @Schema(description = "등록 시각")
+    private LocalDateTime createdAt;
+
+    public static KnownHostResponse from(KnownHost knownHost) {
+        return KnownHostResponse.builder()
+                .host(knownHost.getHost())
+                .port(knownHost.getPort())
+                .keyType(knownHost.getKeyType())
+                .fingerprint(knownHost.getFingerprint())
+                .createdAt(knownHost.getCreatedAt())
+                .build();
+    }
+}
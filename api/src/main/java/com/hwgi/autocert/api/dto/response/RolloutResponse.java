@@ -0,0 +1,109 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.certificate.distribution.rollout.RolloutProgress;
+import com.hwgi.autocert.domain.model.Rollout;
+import com.hwgi.autocert.domain.model.RolloutStatus;
+import com.hwgi.autocert.domain.model.RolloutTargetStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 롤아웃 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "롤아웃(단계적 배포) 응답")
+public class RolloutResponse {
+
+    @Schema(description = "롤아웃 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "인증서 ID", example = "1")
+    private Long certificateId;
+
+    @Schema(description = "인증서 도메인", example = "example.com")
+    private String certificateDomain;
+
+    @Schema(description = "롤아웃 상태", example = "RUNNING")
+    private RolloutStatus status;
+
+    @Schema(description = "카나리 웨이브 서버 수", example = "1")
+    private Integer canarySize;
+
+    @Schema(description = "웨이브 크기 증가 배율", example = "2.0")
+    private Double waveGrowthFactor;
+
+    @Schema(description = "최대 웨이브 크기", example = "50")
+    private Integer maxWaveSize;
+
+    @Schema(description = "웨이브 내 동시 배포 수", example = "8")
+    private Integer concurrency;
+
+    @Schema(description = "중단 임계치 (%)", example = "10")
+    private Integer failureThresholdPercent;
+
+    @Schema(description = "현재 웨이브 번호 (0 = 카나리)", example = "2")
+    private Integer currentWave;
+
+    @Schema(description = "전체 웨이브 수", example = "5")
+    private Integer totalWaves;
+
+    @Schema(description = "전체 대상 서버 수", example = "20")
+    private Long totalTargets;
+
+    @Schema(description = "대상 상태별 서버 수")
+    private Map<RolloutTargetStatus, Long> targetCounts;
+
+    @Schema(description = "처리 완료 비율 (%)", example = "35")
+    private Integer percentComplete;
+
+    @Schema(description = "상태 메시지", example = "Started")
+    private String message;
+
+    @Schema(description = "생성 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "시작 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각")
+    private LocalDateTime completedAt;
+
+    /**
+     * Rollout 엔티티와 진행 현황을 DTO로 변환
+     *
+     * @param rollout 롤아웃 엔티티
+     * @param progress 진행 현황
+     * @return 롤아웃 응답 DTO
+     */
+    public static RolloutResponse from(Rollout rollout, RolloutProgress progress) {
+        return RolloutResponse.builder()
+                .id(rollout.getId())
+                .certificateId(rollout.getCertificate().getId())
+                .certificateDomain(rollout.getCertificate().getDomain())
+                .status(progress.getStatus())
+                .canarySize(rollout.getCanarySize())
+                .waveGrowthFactor(rollout.getWaveGrowthFactor())
+                .maxWaveSize(rollout.getMaxWaveSize())
+                .concurrency(rollout.getConcurrency())
+                .failureThresholdPercent(rollout.getFailureThresholdPercent())
+                .currentWave(progress.getCurrentWave())
+                .totalWaves(progress.getTotalWaves())
+                .totalTargets(progress.getTotalTargets())
+                .targetCounts(progress.getTargetCounts())
+                .percentComplete(progress.getPercentComplete())
+                .message(progress.getMessage())
+                .createdAt(rollout.getCreatedAt())
+                .startedAt(rollout.getStartedAt())
+                .completedAt(rollout.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.domain.model.DeploymentStatus;
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
+import com.hwgi.autocert.domain.model.RolloutTarget;
+import com.hwgi.autocert.domain.model.RolloutTargetStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 롤아웃 대상 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "롤아웃 대상 서버 응답")
+public class RolloutTargetResponse {
+
+    @Schema(description = "서버 ID", example = "1")
+    private Long serverId;
+
+    @Schema(description = "서버 이름", example = "Web Server 01")
+    private String serverName;
+
+    @Schema(description = "서버 IP 주소", example = "192.168.1.100")
+    private String serverIp;
+
+    @Schema(description = "웨이브 번호 (0 = 카나리)", example = "0")
+    private Integer waveNumber;
+
+    @Schema(description = "대상 상태", example = "SUCCEEDED")
+    private RolloutTargetStatus status;
+
+    @Schema(description = "배포 ID", example = "10")
+    private Long deploymentId;
+
+    @Schema(description = "배포 상태", example = "SUCCESS")
+    private DeploymentStatus deploymentStatus;
+
+    @Schema(description = "배포 후 TLS 검증 상태", example = "VERIFIED")
+    private DeploymentVerificationStatus verificationStatus;
+
+    @Schema(description = "배포 메시지")
+    private String message;
+
+    @Schema(description = "최종 변경 시각")
+    private LocalDateTime updatedAt;
+
+    /**
+     * RolloutTarget 엔티티를 DTO로 변환
+     *
+     * @param target 롤아웃 대상 엔티티
+     * @return 롤아웃 대상 응답 DTO
+     */
+    public static RolloutTargetResponse from(RolloutTarget target) {
+        RolloutTargetResponseBuilder builder = RolloutTargetResponse.builder()
+                .serverId(target.getServer().getId())
+                .serverName(target.getServer().getName())
+                .serverIp(target.getServer().getIpAddress())
+                .waveNumber(target.getWaveNumber())
+                .status(target.getStatus())
+                .updatedAt(target.getUpdatedAt());
+
+        if (target.getDeployment() != null) {
+            builder.deploymentId(target.getDeployment().getId())
+                   .deploymentStatus(target.getDeployment().getStatus())
+                   .verificationStatus(target.getDeployment().getVerificationStatus())
+                   .message(target.getDeployment().getMessage());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.certificate.distribution.health.ReachabilityResult;
+import com.hwgi.autocert.domain.model.ServerHealthCheck;
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서버 도달성 검사 결과 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "서버 도달성 검사 결과")
+public class ServerHealthCheckResponse {
+
+    @Schema(description = "연결 상태 (UP, DEGRADED, DOWN)", example = "UP")
+    private ServerHealthStatus status;
+
+    @Schema(description = "SSH 포트 연결 가능 여부", example = "true")
+    private Boolean sshReachable;
+
+    @Schema(description = "SSH 포트 TCP 연결 지연 (밀리초)", example = "3")
+    private Integer sshLatencyMs;
+
+    @Schema(description = "HTTPS 포트 연결 가능 여부", example = "true")
+    private Boolean httpsReachable;
+
+    @Schema(description = "HTTPS 포트 TCP 연결 지연 (밀리초)", example = "4")
+    private Integer httpsLatencyMs;
+
+    @Schema(description = "연결 실패 사유", example = "https:443 Connection refused")
+    private String error;
+
+    @Schema(description = "검사 시각")
+    private LocalDateTime checkedAt;
+
+    public static ServerHealthCheckResponse from(ReachabilityResult result) {
+        return ServerHealthCheckResponse.builder()
+                .status(result.getStatus())
+                .sshReachable(result.isSshReachable())
+                .sshLatencyMs(result.getSshLatencyMs())
+                .httpsReachable(result.isHttpsReachable())
+                .httpsLatencyMs(result.getHttpsLatencyMs())
+                .error(result.getError())
+                .checkedAt(result.getCheckedAt())
+                .build();
+    }
+
+    public static ServerHealthCheckResponse from(ServerHealthCheck check) {
+        return ServerHealthCheckResponse.builder()
+                .status(check.getStatus())
+                .sshReachable(check.getSshReachable())
+                .sshLatencyMs(check.getSshLatencyMs())
+                .httpsReachable(check.getHttpsReachable())
+                .httpsLatencyMs(check.getHttpsLatencyMs())
+                .error(check.getError())
+                .checkedAt(check.getCheckedAt())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.certificate.distribution.ssh.CircuitBreakerState;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서버 SSH 서킷 브레이커 상태 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "서버 SSH 서킷 브레이커 상태")
+public class SshCircuitResponse {
+
+    @Schema(description = "서버 ID", example = "1")
+    private Long serverId;
+
+    @Schema(description = "브레이커 상태 (CLOSED, OPEN, HALF_OPEN)", example = "OPEN")
+    private CircuitBreakerState.Status status;
+
+    @Schema(description = "연속 연결 실패 횟수", example = "5")
+    private Integer consecutiveFailures;
+
+    @Schema(description = "연속 차단 횟수", example = "1")
+    private Integer tripCount;
+
+    @Schema(description = "차단 시각")
+    private Instant openedAt;
+
+    @Schema(description = "다음 연결 시도 가능 시각")
+    private Instant retryAt;
+
+    @Schema(description = "마지막 연결 오류", example = "Connection timed out")
+    private String lastError;
+
+    public static SshCircuitResponse from(CircuitBreakerState state) {
+        return SshCircuitResponse.builder()
+                .serverId(state.getServerId())
+                .status(state.getStatus())
+                .consecutiveFailures(state.getConsecutiveFailures())
+                .tripCount(state.getTripCount())
+                .openedAt(state.getOpenedAt())
+                .retryAt(state.getRetryAt())
+                .lastError(state.getLastError())
+                .build();
+    }
+}
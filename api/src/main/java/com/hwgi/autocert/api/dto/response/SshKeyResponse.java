@@ -0,0 +1,50 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.domain.model.SshKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSH 키 응답 DTO (개인키와 암호는 포함하지 않음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "SSH 인증 키")
+public class SshKeyResponse {
+
+    @Schema(description = "SSH 키 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "키 이름", example = "web-servers")
+    private String name;
+
+    @Schema(description = "공개키 (authorized_keys 형식)", example = "ssh-ed25519 AAAAC3Nza...")
+    private String publicKey;
+
+    @Schema(description = "공개키 지문", example = "SHA256:47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU")
+    private String fingerprint;
+
+    @Schema(description = "생성 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정 시각")
+    private LocalDateTime updatedAt;
+
+    public static SshKeyResponse from(SshKey sshKey) {
+        return SshKeyResponse.builder()
+                .id(sshKey.getId())
+                .name(sshKey.getName())
+                .publicKey(sshKey.getPublicKey())
+                .fingerprint(sshKey.getFingerprint())
+                .createdAt(sshKey.getCreatedAt())
+                .updatedAt(sshKey.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.hwgi.autocert.api.dto.response;
+
+import com.hwgi.autocert.domain.model.CertificateValidationCheck;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검증 이력 항목 결과 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "검증 이력 항목 결과")
+public class ValidationHistoryCheckResponse {
+
+    @Schema(description = "검증 항목", example = "chain")
+    private String name;
+
+    @Schema(description = "검증 통과 여부", example = "false")
+    private boolean valid;
+
+    @Schema(description = "직전 실행 대비 통과 여부 변경", example = "true")
+    private boolean changed;
+
+    @Schema(description = "에러 코드 (실패 시)", example = "INVALID_CHAIN")
+    private String errorCode;
+
+    @Schema(description = "검증 결과 메시지")
+    private String message;
+
+    public static ValidationHistoryCheckResponse from(CertificateValidationCheck check) {
+        return ValidationHistoryCheckResponse.builder()
+                .name(check.getName())
+                .valid(check.getValid())
+                .changed(check.getChanged())
+                .errorCode(check.getErrorCode())
+                .message(check.getMessage())
+                .build();
+    }
+}
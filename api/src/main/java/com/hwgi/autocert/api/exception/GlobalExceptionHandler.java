@@ -1,6 +1,8 @@
 package com.hwgi.autocert.api.exception;
 
 import com.hwgi.autocert.common.dto.ApiResponse;
+import com.hwgi.autocert.common.exception.AutoCertException;
+import com.hwgi.autocert.common.exception.ErrorCode;
 import com.hwgi.autocert.common.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -79,6 +81,29 @@ public class GlobalExceptionHandler {
             .body(response);
     }
 
+    /**
+     * AutoCertException 처리
+     * 에러 코드에 정의된 HTTP 상태로 응답 (에러 코드가 없으면 500)
+     */
+    @ExceptionHandler(AutoCertException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAutoCertException(
+            AutoCertException ex, WebRequest request) {
+        ErrorCode errorCode = ex.getErrorCode();
+        if (errorCode == null) {
+            return handleRuntimeException(ex, request);
+        }
+        log.warn("AutoCert exception: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+
+        ApiResponse<Void> response = ApiResponse.error(
+            errorCode.getCode(),
+            ex.getMessage()
+        );
+
+        return ResponseEntity
+            .status(errorCode.getHttpStatus())
+            .body(response);
+    }
+
     /**
      * Validation 실패 처리 (@Valid 검증 실패)
      * 400 Bad Request 응답과 함께 필드별 에러 정보 반환
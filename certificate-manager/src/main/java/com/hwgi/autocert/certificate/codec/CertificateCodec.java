@@ -0,0 +1,181 @@
+package com.hwgi.autocert.certificate.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증서 PEM 코덱
+ *
+ * PEM(인증서 하나 또는 체인)을 한 번에 디코딩하고 내용 해시별로 결과를 캐시
+ * - 같은 PEM은 다시 디코딩하지 않고 캐시된 X509Certificate/메타데이터를 반환
+ * - CertificateFactory는 하나를 공유하고 generateCertificates로 체인을 한 번에 읽음
+ * - 캐시가 가득 차면 가장 오래 사용하지 않은 항목 제거
+ */
+@Slf4j
+@Component
+public class CertificateCodec {
+
+    private static final CertificateFactory CERTIFICATE_FACTORY = createCertificateFactory();
+
+    private final int maxEntries;
+
+    /**
+     * PEM 내용 해시 → 디코딩 결과
+     */
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final List<X509Certificate> certificates;
+        private final List<CertificateInfo> infos;
+        private volatile long lastAccess;
+
+        private Entry(List<X509Certificate> certificates) {
+            this.certificates = certificates;
+            this.infos = certificates.stream().map(CertificateInfo::from).toList();
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    public CertificateCodec(@Value("${autocert.certificate.codec.max-entries:2000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * PEM의 첫 번째 인증서
+     *
+     * @param pem 인증서 PEM (체인이면 첫 번째가 리프)
+     * @throws CertificateException 인증서가 없거나 형식이 잘못된 경우
+     */
+    public X509Certificate parseCertificate(String pem) throws CertificateException {
+        return entry(pem).certificates.get(0);
+    }
+
+    /**
+     * PEM의 모든 인증서 (입력 순서)
+     *
+     * @param pem 체인 PEM
+     * @return 변경할 수 없는 목록 (비어 있는 PEM이면 빈 목록)
+     * @throws CertificateException 형식이 잘못된 경우
+     */
+    public List<X509Certificate> parseChain(String pem) throws CertificateException {
+        if (pem == null || pem.isBlank()) {
+            return List.of();
+        }
+        return entry(pem).certificates;
+    }
+
+    /**
+     * PEM의 첫 번째 인증서 메타데이터
+     */
+    public CertificateInfo describe(String pem) throws CertificateException {
+        return entry(pem).infos.get(0);
+    }
+
+    /**
+     * PEM의 모든 인증서 메타데이터 (입력 순서)
+     */
+    public List<CertificateInfo> describeChain(String pem) throws CertificateException {
+        if (pem == null || pem.isBlank()) {
+            return List.of();
+        }
+        return entry(pem).infos;
+    }
+
+    /**
+     * 인증서를 PEM으로 인코딩 (64자 줄바꿈, 마지막 줄바꿈 포함)
+     */
+    public static String toPem(X509Certificate certificate) throws CertificateEncodingException {
+        return "-----BEGIN CERTIFICATE-----\n"
+                + Base64.getMimeEncoder(64, new byte[]{'\n'}).encodeToString(certificate.getEncoded())
+                + "\n-----END CERTIFICATE-----\n";
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private Entry entry(String pem) throws CertificateException {
+        if (pem == null || pem.isBlank()) {
+            throw new CertificateException("Certificate PEM is empty");
+        }
+
+        String key = contentHash(pem);
+        Entry cached = cache.get(key);
+        if (cached != null) {
+            cached.lastAccess = System.nanoTime();
+            return cached;
+        }
+
+        Entry entry = new Entry(decode(pem));
+        if (cache.size() >= maxEntries) {
+            cache.entrySet().stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess))
+                    .ifPresent(oldest -> cache.remove(oldest.getKey(), oldest.getValue()));
+        }
+        Entry existing = cache.putIfAbsent(key, entry);
+        return existing != null ? existing : entry;
+    }
+
+    private static List<X509Certificate> decode(String pem) throws CertificateException {
+        Collection<? extends Certificate> decoded = CERTIFICATE_FACTORY.generateCertificates(
+                new ByteArrayInputStream(pem.trim().getBytes(StandardCharsets.US_ASCII)));
+        if (decoded.isEmpty()) {
+            throw new CertificateException("No certificate found in PEM");
+        }
+
+        List<X509Certificate> certificates = new ArrayList<>(decoded.size());
+        for (Certificate certificate : decoded) {
+            if (!(certificate instanceof X509Certificate x509)) {
+                throw new CertificateException("Not an X.509 certificate: " + certificate.getType());
+            }
+            certificates.add(x509);
+        }
+        return List.copyOf(certificates);
+    }
+
+    private static String contentHash(String pem) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(pem.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static CertificateFactory createCertificateFactory() {
+        try {
+            return CertificateFactory.getInstance("X.509");
+        } catch (CertificateException e) {
+            throw new IllegalStateException("X.509 CertificateFactory not available", e);
+        }
+    }
+}
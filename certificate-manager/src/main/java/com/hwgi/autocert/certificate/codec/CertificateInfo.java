@@ -0,0 +1,114 @@
+package com.hwgi.autocert.certificate.codec;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 인증서 메타데이터
+ *
+ * @param serialNumber 일련번호 (16진수)
+ * @param subject 주체 DN (RFC 2253)
+ * @param issuer 발급자 DN (RFC 2253)
+ * @param notBefore 유효기간 시작
+ * @param notAfter 유효기간 종료
+ * @param dnsNames SAN DNS 이름 (와일드카드 포함, 소문자)
+ * @param ipAddresses SAN IP 주소
+ * @param keyType 공개키 종류 (RSA, EC, Ed25519 등)
+ * @param keySize 공개키 크기 (비트, 고정 크기 곡선은 null)
+ * @param signatureAlgorithm 서명 알고리즘
+ * @param fingerprint DER SHA-256 지문 (16진수)
+ */
+public record CertificateInfo(
+        String serialNumber,
+        String subject,
+        String issuer,
+        Instant notBefore,
+        Instant notAfter,
+        List<String> dnsNames,
+        List<String> ipAddresses,
+        String keyType,
+        Integer keySize,
+        String signatureAlgorithm,
+        String fingerprint
+) {
+
+    private static final int SAN_DNS_NAME = 2;
+    private static final int SAN_IP_ADDRESS = 7;
+
+    /**
+     * 인증서에서 메타데이터 추출
+     */
+    public static CertificateInfo from(X509Certificate certificate) {
+        List<String> dnsNames = new ArrayList<>();
+        List<String> ipAddresses = new ArrayList<>();
+        try {
+            Collection<List<?>> names = certificate.getSubjectAlternativeNames();
+            if (names != null) {
+                for (List<?> name : names) {
+                    int type = (Integer) name.get(0);
+                    if (type == SAN_DNS_NAME) {
+                        dnsNames.add(name.get(1).toString().toLowerCase());
+                    } else if (type == SAN_IP_ADDRESS) {
+                        ipAddresses.add(name.get(1).toString());
+                    }
+                }
+            }
+        } catch (CertificateParsingException e) {
+            // SAN 확장이 잘못된 인증서는 이름 없이 처리
+        }
+
+        PublicKey key = certificate.getPublicKey();
+        return new CertificateInfo(
+                certificate.getSerialNumber().toString(16),
+                certificate.getSubjectX500Principal().getName(),
+                certificate.getIssuerX500Principal().getName(),
+                certificate.getNotBefore().toInstant(),
+                certificate.getNotAfter().toInstant(),
+                List.copyOf(dnsNames),
+                List.copyOf(ipAddresses),
+                keyType(key),
+                keySize(key),
+                certificate.getSigAlgName(),
+                fingerprint(certificate)
+        );
+    }
+
+    private static String keyType(PublicKey key) {
+        if (key instanceof EdECPublicKey edKey) {
+            return edKey.getParams().getName();
+        }
+        return key.getAlgorithm();
+    }
+
+    private static Integer keySize(PublicKey key) {
+        if (key instanceof RSAPublicKey rsaKey) {
+            return rsaKey.getModulus().bitLength();
+        }
+        if (key instanceof ECPublicKey ecKey) {
+            return ecKey.getParams().getOrder().bitLength();
+        }
+        return null;
+    }
+
+    /**
+     * DER SHA-256 지문 (16진수)
+     */
+    public static String fingerprint(X509Certificate certificate) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to fingerprint certificate", e);
+        }
+    }
+}
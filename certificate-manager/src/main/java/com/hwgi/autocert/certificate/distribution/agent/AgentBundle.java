@@ -0,0 +1,33 @@
+package com.hwgi.autocert.certificate.distribution.agent;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 에이전트 번들 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class AgentBundle {
+
+    /**
+     * 번들 버전 (SHA-256 16진수, 따옴표 없는 ETag 값)
+     */
+    private final String version;
+
+    /**
+     * 암호화된 번들 (IV 12바이트 + AES-256-GCM 암호문), 변경이 없으면 null
+     */
+    private final byte[] content;
+
+    public boolean isNotModified() {
+        return content == null;
+    }
+
+    /**
+     * 강한 ETag 헤더 값
+     */
+    public String getETag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,415 @@
+package com.hwgi.autocert.certificate.distribution.agent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.reload.ReloadAdapter;
+import com.hwgi.autocert.certificate.distribution.reload.ReloadAdapterFactory;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.common.exception.CommonErrorCode;
+import com.hwgi.autocert.common.exception.DistributionException;
+import com.hwgi.autocert.common.exception.ResourceNotFoundException;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Deployment;
+import com.hwgi.autocert.domain.model.DeploymentStatus;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.DeploymentRepository;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 풀 모드 에이전트 번들 서비스
+ *
+ * 방화벽 안쪽 서버의 에이전트(또는 cron + curl)가 주기적으로 조건부 GET으로 번들을 조회
+ * - 번들 버전(강한 ETag)은 번들을 구성하는 저장값의 SHA-256이므로 변경이 없으면 복호화/직렬화 없이 304 응답
+ * - 번들은 에이전트 토큰에서 유도한 키로 AES-256-GCM 암호화 (IV는 평문의 HMAC에서 유도하여 같은 버전은 같은 바이트)
+ * - 번들을 내려줄 때 버전별 배포 이력(IN_PROGRESS)을 남기고, 에이전트가 보고한 결과는 해당 버전의 이력에 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AgentBundleService {
+
+    /**
+     * 번들 형식 식별자 (형식 변경 시 버전이 모두 바뀌도록 ETag 계산에 포함)
+     */
+    static final String BUNDLE_FORMAT = "autocert-agent-bundle-v1";
+
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH = 128;
+    private static final int TOKEN_BYTES = 32;
+
+    private final ServerRepository serverRepository;
+    private final CertificateRepository certificateRepository;
+    private final DeploymentRepository deploymentRepository;
+    private final CertificateEncryptionUtil encryptionUtil;
+    private final ReloadAdapterFactory reloadAdapterFactory;
+    private final DistributionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final IntermediateCertificateStore intermediateCertificateStore;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * 에이전트 토큰 발급 (기존 토큰은 폐기)
+     *
+     * 토큰은 해시만 저장하므로 발급 시에만 확인 가능
+     *
+     * @param serverId 서버 ID
+     * @return 에이전트 토큰 (Base64 URL)
+     */
+    @Transactional
+    public String issueToken(Long serverId) {
+        Server server = serverRepository.findById(serverId)
+                .orElseThrow(() -> new ResourceNotFoundException("서버를 찾을 수 없습니다: " + serverId));
+
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        server.setAgentTokenHash(hashToken(token));
+        serverRepository.save(server);
+        log.info("Agent token issued for server {}", serverId);
+        return token;
+    }
+
+    /**
+     * 에이전트 토큰 폐기 (SSH 푸시 모드로 전환)
+     *
+     * @param serverId 서버 ID
+     */
+    @Transactional
+    public void revokeToken(Long serverId) {
+        Server server = serverRepository.findById(serverId)
+                .orElseThrow(() -> new ResourceNotFoundException("서버를 찾을 수 없습니다: " + serverId));
+        server.setAgentTokenHash(null);
+        serverRepository.save(server);
+        log.info("Agent token revoked for server {}", serverId);
+    }
+
+    /**
+     * 번들 조회
+     *
+     * @param serverId 서버 ID
+     * @param token 에이전트 토큰
+     * @param ifNoneMatch If-None-Match 헤더 (없으면 null)
+     * @return 번들 (버전이 같으면 내용 없이 반환)
+     */
+    @Transactional
+    public AgentBundle getBundle(Long serverId, String token, String ifNoneMatch) {
+        Server server = authenticate(serverId, token);
+        List<Certificate> certificates = certificateRepository.findByServerIdOrderByIdAsc(serverId);
+        String version = computeVersion(server, certificates);
+
+        if (matches(ifNoneMatch, version)) {
+            return new AgentBundle(version, null);
+        }
+
+        byte[] plaintext = serialize(server, certificates, version);
+        recordDelivery(server, certificates, version);
+        log.info("Serving agent bundle {} to server {} ({} certificate(s))", version, serverId, certificates.size());
+        return new AgentBundle(version, encrypt(plaintext, token));
+    }
+
+    /**
+     * 에이전트 적용 결과 보고
+     *
+     * 보고한 버전을 내려줄 때 남긴 배포 이력에 결과를 기록하므로, 그 사이 인증서가 바뀌어 이전 버전이 된 보고도 기록됨
+     * (전달 이력이 없는 현재 버전은 현재 번들의 인증서마다 새로 기록)
+     *
+     * @param serverId 서버 ID
+     * @param token 에이전트 토큰
+     * @param version 적용한 번들 버전
+     * @param success 적용 성공 여부
+     * @param message 에이전트 메시지
+     * @param durationMs 적용 소요 시간 (밀리초)
+     * @return 기록된 배포 이력
+     */
+    @Transactional
+    public List<Deployment> reportApplied(Long serverId, String token, String version, boolean success,
+                                          String message, Long durationMs) {
+        Server server = authenticate(serverId, token);
+        String reportedVersion = stripQuotes(version);
+
+        List<Deployment> deployments = deploymentRepository.findByServerIdAndAppliedVersion(serverId, reportedVersion);
+        if (deployments.isEmpty()) {
+            List<Certificate> certificates = certificateRepository.findByServerIdOrderByIdAsc(serverId);
+            String currentVersion = computeVersion(server, certificates);
+            if (!currentVersion.equals(reportedVersion)) {
+                throw new IllegalStateException("전달한 적 없는 번들 버전입니다 (현재: " + currentVersion + ")");
+            }
+            deployments = newDeployments(server, certificates, reportedVersion);
+        }
+
+        for (Deployment deployment : deployments) {
+            deployment.setStatus(success ? DeploymentStatus.SUCCESS : DeploymentStatus.FAILED);
+            deployment.setMessage(message != null ? message
+                    : (success ? "Applied by agent" : "Agent failed to apply bundle"));
+            deployment.setDurationMs(durationMs);
+        }
+
+        log.info("Agent on server {} reported bundle {} as {}", serverId, reportedVersion,
+                success ? "applied" : "failed");
+        return deploymentRepository.saveAll(deployments);
+    }
+
+    /**
+     * 번들 전달 이력 기록 (같은 버전을 다시 내려주면 기존 이력 유지)
+     */
+    private void recordDelivery(Server server, List<Certificate> certificates, String version) {
+        if (!deploymentRepository.findByServerIdAndAppliedVersion(server.getId(), version).isEmpty()) {
+            return;
+        }
+        List<Deployment> deployments = newDeployments(server, certificates, version);
+        deployments.forEach(deployment -> deployment.setMessage("Bundle delivered to agent"));
+        deploymentRepository.saveAll(deployments);
+    }
+
+    private List<Deployment> newDeployments(Server server, List<Certificate> certificates, String version) {
+        List<Deployment> deployments = new ArrayList<>(certificates.size());
+        for (Certificate certificate : certificates) {
+            deployments.add(Deployment.builder()
+                    .certificate(certificate)
+                    .server(server)
+                    .status(DeploymentStatus.IN_PROGRESS)
+                    .deploymentPath(deployPath(server))
+                    .appliedVersion(version)
+                    .build());
+        }
+        return deployments;
+    }
+
+    /**
+     * If-None-Match 헤더가 번들 버전과 일치하는지 확인 (약한 비교, 목록/와일드카드 지원)
+     */
+    static boolean matches(String ifNoneMatch, String version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (stripQuotes(value).equals(version)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 번들 복호화 (에이전트 구현 및 테스트용)
+     *
+     * @param bundle 암호화된 번들 (IV + 암호문)
+     * @param token 에이전트 토큰
+     * @return 번들 JSON
+     */
+    public static byte[] decrypt(byte[] bundle, String token) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, bundleKey(token),
+                new GCMParameterSpec(GCM_TAG_LENGTH, bundle, 0, GCM_IV_LENGTH));
+            return cipher.doFinal(bundle, GCM_IV_LENGTH, bundle.length - GCM_IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("번들 복호화 실패", e);
+        }
+    }
+
+    /**
+     * 번들 암호화
+     *
+     * IV를 평문의 HMAC에서 유도하여 같은 평문은 항상 같은 암호문이 되도록 함 (강한 ETag 유지)
+     */
+    static byte[] encrypt(byte[] plaintext, String token) {
+        try {
+            SecretKeySpec key = bundleKey(token);
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] iv = Arrays.copyOf(mac.doFinal(plaintext), GCM_IV_LENGTH);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            byte[] encrypted = cipher.doFinal(plaintext);
+
+            return ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("번들 암호화 실패", e);
+        }
+    }
+
+    /**
+     * 토큰 해시 (SHA-256 16진수)
+     */
+    static String hashToken(String token) {
+        return HexFormat.of().formatHex(sha256().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 에이전트 인증 (Authorization: Bearer 토큰)
+     */
+    private Server authenticate(Long serverId, String token) {
+        Server server = serverRepository.findById(serverId).orElse(null);
+        if (server == null || server.getAgentTokenHash() == null || token == null || token.isBlank()) {
+            throw new DistributionException(CommonErrorCode.UNAUTHORIZED, "에이전트 인증 실패: " + serverId);
+        }
+
+        byte[] expected = server.getAgentTokenHash().getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = hashToken(token).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new DistributionException(CommonErrorCode.UNAUTHORIZED, "에이전트 인증 실패: " + serverId);
+        }
+        return server;
+    }
+
+    /**
+     * 번들 버전 계산
+     *
+     * 번들을 구성하는 저장값(암호화된 개인키 포함)만으로 계산하여 304 응답 시 복호화하지 않음
+     */
+    private String computeVersion(Server server, List<Certificate> certificates) {
+        MessageDigest digest = sha256();
+        update(digest, BUNDLE_FORMAT);
+        update(digest, server.getAgentTokenHash());
+        update(digest, deployPath(server));
+
+        ReloadAdapter adapter = adapter(server);
+        update(digest, adapter != null ? adapter.getValidateCommand(server) : null);
+        update(digest, adapter != null ? adapter.getReloadCommand(server) : null);
+
+        for (Certificate certificate : certificates) {
+            update(digest, String.valueOf(certificate.getId()));
+            update(digest, certificate.getDomain());
+            update(digest, certificate.getCertificatePem());
+            update(digest, chainPem(certificate));
+            update(digest, certificate.getPrivateKeyPem());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 번들 직렬화 (JSON)
+     *
+     * 파일 경로는 SSH 푸시 배포와 같은 규칙 사용 ({deployPath}/{domain}.crt, .key, -chain.crt)
+     */
+    private byte[] serialize(Server server, List<Certificate> certificates, String version) {
+        String deployPath = deployPath(server);
+        List<Map<String, Object>> files = new ArrayList<>();
+
+        for (Certificate certificate : certificates) {
+            if (certificate.getCertificatePem() == null || certificate.getPrivateKeyPem() == null) {
+                continue;
+            }
+            String base = deployPath + "/" + certificate.getDomain();
+            files.add(file(certificate, base + ".crt", certificate.getCertificatePem(), "0644"));
+            files.add(file(certificate, base + ".key", encryptionUtil.decryptPrivateKey(certificate), "0600"));
+            String chainPem = chainPem(certificate);
+            if (chainPem != null && !chainPem.isEmpty()) {
+                files.add(file(certificate, base + "-chain.crt", chainPem, "0644"));
+            }
+        }
+
+        ReloadAdapter adapter = adapter(server);
+        Map<String, Object> bundle = new LinkedHashMap<>();
+        bundle.put("format", BUNDLE_FORMAT);
+        bundle.put("version", version);
+        bundle.put("serverId", server.getId());
+        bundle.put("deployPath", deployPath);
+        bundle.put("validateCommand", adapter != null ? adapter.getValidateCommand(server) : null);
+        bundle.put("reloadCommand", adapter != null ? adapter.getReloadCommand(server) : null);
+        bundle.put("files", files);
+
+        try {
+            return objectMapper.writeValueAsBytes(bundle);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("번들 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Object> file(Certificate certificate, String path, String content, String mode) {
+        Map<String, Object> file = new LinkedHashMap<>();
+        file.put("certificateId", certificate.getId());
+        file.put("domain", certificate.getDomain());
+        file.put("path", path);
+        file.put("mode", mode);
+        file.put("content", content);
+        return file;
+    }
+
+    private String deployPath(Server server) {
+        return server.getDeployPath() != null
+            ? server.getDeployPath()
+            : properties.getSsh().getDefaultCertPath();
+    }
+
+    private ReloadAdapter adapter(Server server) {
+        return server.getWebServerType() != null
+            ? reloadAdapterFactory.getAdapter(server.getWebServerType()).orElse(null)
+            : null;
+    }
+
+    /**
+     * 배포할 체인 PEM (저장된 중간 인증서로 누락된 부분을 덧붙임, 네트워크 조회 없음)
+     */
+    private String chainPem(Certificate certificate) {
+        return intermediateCertificateStore.completeChainPem(certificate.getCertificatePem(), certificate.getChainPem());
+    }
+
+    private static SecretKeySpec bundleKey(String token) {
+        byte[] key = sha256().digest((BUNDLE_FORMAT + ":" + token).getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static String stripQuotes(String value) {
+        if (value == null) {
+            return "";
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
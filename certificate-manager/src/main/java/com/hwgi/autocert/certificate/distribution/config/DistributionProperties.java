@@ -1,10 +1,17 @@
 package com.hwgi.autocert.certificate.distribution.config;
 
+import com.hwgi.autocert.common.constants.WebServerType;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 배포 서비스 설정
  */
@@ -16,6 +23,25 @@ public class DistributionProperties {
 
     private Ssh ssh = new Ssh();
 
+    private Queue queue = new Queue();
+
+    private Probe probe = new Probe();
+
+    private Rollout rollout = new Rollout();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Health health = new Health();
+
+    private Keystore keystore = new Keystore();
+
+    private TomcatManager tomcatManager = new TomcatManager();
+
+    /**
+     * 웹서버 타입별 재기동 명령 재정의
+     */
+    private Map<WebServerType, Reload> reload = new EnumMap<>(WebServerType.class);
+
     @Getter
     @Setter
     public static class Ssh {
@@ -34,6 +60,11 @@ public class DistributionProperties {
          */
         private int retryDelay = 1000;
 
+        /**
+         * 재시도 최대 대기 시간 (밀리초, full jitter 백오프 상한)
+         */
+        private int maxRetryDelay = 30000;
+
         /**
          * SSH 포트
          */
@@ -48,5 +79,280 @@ public class DistributionProperties {
          * 개인키 기본 배포 경로
          */
         private String defaultKeyPath = "/etc/ssl/private";
+
+        /**
+         * tar 번들 단일 스트림 업로드 사용 여부 (false면 파일별 SFTP 업로드)
+         */
+        private boolean bundleUpload = true;
+
+        /**
+         * 등록되지 않은 호스트 키 처리 정책
+         */
+        private HostKeyPolicy hostKeyPolicy = HostKeyPolicy.ACCEPT_NEW;
+
+        /**
+         * 서버 일괄 등록 시 동시에 수행할 SSH 로그인 테스트 수
+         */
+        private int connectionTestConcurrency = 32;
+    }
+
+    /**
+     * 호스트 키 검증 정책
+     */
+    public enum HostKeyPolicy {
+        /**
+         * 처음 접속한 호스트의 키를 등록하고 이후 변경만 거부 (TOFU)
+         */
+        ACCEPT_NEW,
+
+        /**
+         * 사전 등록된 호스트 키만 허용
+         */
+        STRICT
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+        /**
+         * 배포 워커 스레드 수 (동시에 배포 가능한 서버 수)
+         */
+        private int workers = 16;
+
+        /**
+         * 대기 작업 조회 주기 (밀리초)
+         */
+        private long pollInterval = 2000;
+
+        /**
+         * 작업 임대 시간 (밀리초) - 처리 중 상태가 이보다 오래되면 워커가 죽은 것으로 보고 대기 상태로 복구
+         * (가장 긴 배포보다 길어야 함)
+         */
+        private long lease = 1800000;
+
+        /**
+         * 배포 실패 시 최대 시도 횟수 (1이면 재시도 없음)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 첫 재시도 대기 시간 (밀리초, 시도마다 2배)
+         */
+        private long retryBackoff = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class Probe {
+        /**
+         * 배포 후 TLS 핸드셰이크 검증 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 검증 대상 TLS 포트
+         */
+        private int port = 443;
+
+        /**
+         * 연결/핸드셰이크 타임아웃 (밀리초)
+         */
+        private int timeout = 5000;
+
+        /**
+         * 다른 인증서가 제공될 때 최대 시도 횟수 (재기동 반영 대기)
+         */
+        private int attempts = 3;
+
+        /**
+         * 재시도 간격 (밀리초)
+         */
+        private int attemptDelay = 1000;
+
+        /**
+         * 다른 인증서가 제공되는 경우 백업 파일로 롤백
+         */
+        private boolean rollbackOnMismatch = true;
+
+        /**
+         * 재기동 후 연결할 수 없는 경우 백업 파일로 롤백
+         * (배포 전 헬스 체크에서 HTTPS 포트가 열려 있던(UP) 서버만, 그 외에는 네트워크 문제일 수 있으므로 기록만 함)
+         */
+        private boolean rollbackOnUnreachable = true;
+
+        /**
+         * 와일드카드 인증서 검증에 사용할 호스트명 (예: www.example.com)
+         * 와일드카드는 상위 도메인을 포함하지 않으므로 와일드카드가 포함하는 이름 중 첫 번째를 SNI로 사용하고,
+         * 없으면 인증서의 다른 SAN을 사용 (둘 다 없으면 지문 비교 생략)
+         */
+        private List<String> wildcardHosts = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Rollout {
+        /**
+         * 카나리 웨이브 기본 서버 수
+         */
+        private int canarySize = 1;
+
+        /**
+         * 웨이브 크기 기본 증가 배율
+         */
+        private double waveGrowthFactor = 2.0;
+
+        /**
+         * 최대 웨이브 크기
+         */
+        private int maxWaveSize = 50;
+
+        /**
+         * 웨이브 내 기본 동시 배포 수
+         */
+        private int concurrency = 8;
+
+        /**
+         * 기본 중단 임계치 (시도한 대상 중 실패 비율, %)
+         */
+        private int failureThresholdPercent = 10;
+
+        /**
+         * 서버 잠금 대기 시간 (밀리초, 배포 큐가 같은 서버를 처리 중인 경우)
+         */
+        private long lockTimeout = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        /**
+         * 브레이커를 여는 연속 연결 실패 횟수
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * 최초 차단 시간 (밀리초, 시험 연결 실패 시 두 배씩 증가)
+         */
+        private long openDuration = 60000;
+
+        /**
+         * 최대 차단 시간 (밀리초)
+         */
+        private long maxOpenDuration = 900000;
+    }
+
+    @Getter
+    @Setter
+    public static class Keystore {
+        /**
+         * Java 애플리케이션 서버용 키스토어 생성/배포 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 웹서버 타입별 키스토어 형식 (목록에 없는 타입은 PEM 파일만 배포)
+         */
+        private Map<WebServerType, KeystoreFormat> formats = new EnumMap<>(Map.of(
+            WebServerType.TOMCAT, KeystoreFormat.PKCS12,
+            WebServerType.JEUS, KeystoreFormat.JKS,
+            WebServerType.WEBLOGIC, KeystoreFormat.JKS
+        ));
+
+        /**
+         * 생성한 키스토어 캐시 최대 항목 수 ((서버, 인증서, 형식)별 하나, 가득 차면 가장 오래된 항목 제거)
+         */
+        private int maxCacheEntries = 1000;
+    }
+
+    /**
+     * 키스토어 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum KeystoreFormat {
+        PKCS12("PKCS12", "p12"),
+        JKS("JKS", "jks");
+
+        /**
+         * KeyStore 타입
+         */
+        private final String type;
+
+        /**
+         * 배포 파일 확장자
+         */
+        private final String extension;
+    }
+
+    @Getter
+    @Setter
+    public static class Health {
+        /**
+         * 도달성 모니터 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 전체 서버 검사 주기 (밀리초)
+         */
+        private long interval = 60000;
+
+        /**
+         * TCP 연결 타임아웃 (밀리초)
+         */
+        private int timeout = 3000;
+
+        /**
+         * 동시 검사 수
+         */
+        private int concurrency = 256;
+
+        /**
+         * HTTPS 검사 포트
+         */
+        private int httpsPort = 443;
+
+        /**
+         * 상태 변경이 없을 때 이력 기록 주기 (밀리초)
+         */
+        private long historySampleInterval = 900000;
+
+        /**
+         * 이력 보관 기간 (일)
+         */
+        private int retentionDays = 14;
+    }
+
+    @Getter
+    @Setter
+    public static class Reload {
+        /**
+         * 설정 검증 명령 (미지정 시 어댑터 기본값)
+         */
+        private String validateCommand;
+
+        /**
+         * 재기동 명령 (미지정 시 어댑터 기본값)
+         */
+        private String reloadCommand;
+    }
+
+    @Getter
+    @Setter
+    public static class TomcatManager {
+        /**
+         * Manager text 인터페이스 URL (배포 대상 서버 기준)
+         */
+        private String url = "http://localhost:8080/manager/text";
+
+        /**
+         * manager-script 역할 사용자
+         */
+        private String username;
+
+        /**
+         * 사용자 비밀번호
+         */
+        private String password;
     }
 }
@@ -0,0 +1,40 @@
+package com.hwgi.autocert.certificate.distribution.health;
+
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서버 도달성 검사 결과
+ */
+@Getter
+@Builder
+public class ReachabilityResult {
+
+    private final Long serverId;
+
+    private final ServerHealthStatus status;
+
+    private final boolean sshReachable;
+
+    /**
+     * SSH 포트 TCP 연결 지연 (밀리초, 연결 불가 시 null)
+     */
+    private final Integer sshLatencyMs;
+
+    private final boolean httpsReachable;
+
+    /**
+     * HTTPS 포트 TCP 연결 지연 (밀리초, 연결 불가 시 null)
+     */
+    private final Integer httpsLatencyMs;
+
+    /**
+     * 연결 실패 사유
+     */
+    private final String error;
+
+    private final LocalDateTime checkedAt;
+}
@@ -0,0 +1,292 @@
+package com.hwgi.autocert.certificate.distribution.health;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.ServerHealthCheck;
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
+import com.hwgi.autocert.domain.repository.ServerHealthCheckRepository;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 도달성 모니터
+ *
+ * 모든 서버의 SSH/HTTPS 포트에 가상 스레드로 동시에 TCP 연결하여 상태와 지연을 기록
+ * - SSH 포트 연결 불가(DOWN) 서버는 배포 큐/롤아웃이 SSH 타임아웃을 기다리지 않고 즉시 보류/건너뜀
+ * - 최근 결과는 메모리에 보관하고, 상태가 바뀌었거나 샘플 주기가 지난 경우에만 DB에 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServerHealthMonitor {
+
+    private final ServerRepository serverRepository;
+    private final ServerHealthCheckRepository healthCheckRepository;
+    private final DistributionProperties properties;
+
+    /**
+     * 서버별 최근 검사 결과
+     */
+    private final Map<Long, ReachabilityResult> latest = new ConcurrentHashMap<>();
+
+    /**
+     * 서버별 마지막 이력 기록 시각
+     */
+    private final Map<Long, LocalDateTime> lastRecordedAt = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastCleanupAt;
+
+    /**
+     * 전체 서버 주기 검사
+     */
+    @Scheduled(fixedDelayString = "${autocert.distribution.health.interval:60000}",
+               initialDelayString = "${autocert.distribution.health.initial-delay:10000}")
+    public void checkAll() {
+        if (!properties.getHealth().isEnabled()) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<ReachabilityResult> results = checkAll(serverRepository.findAll());
+            long down = results.stream().filter(result -> result.getStatus() == ServerHealthStatus.DOWN).count();
+            log.info("Reachability check finished: {} server(s), {} down in {}ms",
+                    results.size(), down, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            purgeHistory();
+        } catch (Exception e) {
+            log.error("Reachability check failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 서버 목록 동시 검사 및 기록
+     *
+     * @param servers 검사할 서버
+     * @return 검사 결과
+     */
+    public List<ReachabilityResult> checkAll(List<Server> servers) throws InterruptedException {
+        DistributionProperties.Health health = properties.getHealth();
+        Semaphore permits = new Semaphore(health.getConcurrency());
+
+        List<Future<ReachabilityResult>> futures = new ArrayList<>(servers.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Server server : servers) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return probe(server, health.getHttpsPort(), health.getTimeout());
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<ReachabilityResult> results = new ArrayList<>(servers.size());
+        List<ServerHealthCheck> history = new ArrayList<>();
+        for (int i = 0; i < servers.size(); i++) {
+            try {
+                ReachabilityResult result = futures.get(i).get();
+                results.add(result);
+                if (update(servers.get(i), result)) {
+                    history.add(toHistory(servers.get(i), result));
+                }
+            } catch (ExecutionException e) {
+                log.warn("Reachability probe for server {} failed: {}", servers.get(i).getId(), e.getMessage());
+            }
+        }
+
+        if (!history.isEmpty()) {
+            healthCheckRepository.saveAll(history);
+        }
+        return results;
+    }
+
+    /**
+     * 단일 서버 즉시 검사 및 기록
+     *
+     * @param server 서버
+     * @return 검사 결과
+     */
+    public ReachabilityResult check(Server server) {
+        DistributionProperties.Health health = properties.getHealth();
+        ReachabilityResult result = probe(server, health.getHttpsPort(), health.getTimeout());
+        if (update(server, result)) {
+            healthCheckRepository.save(toHistory(server, result));
+        }
+        return result;
+    }
+
+    /**
+     * 배포 가능 여부 (SSH 포트 도달 가능 또는 미검사)
+     *
+     * 모니터가 멈춘 경우 배포를 막지 않도록 검사 주기의 3배보다 오래된 결과는 무시
+     *
+     * @param serverId 서버 ID
+     * @return DOWN으로 확인된 서버이면 false
+     */
+    public boolean isReachable(Long serverId) {
+        if (!properties.getHealth().isEnabled()) {
+            return true;
+        }
+
+        ReachabilityResult result = latest.get(serverId);
+        if (result == null || result.getStatus() != ServerHealthStatus.DOWN) {
+            return true;
+        }
+        long staleMillis = properties.getHealth().getInterval() * 3;
+        return result.getCheckedAt().isBefore(LocalDateTime.now().minusNanos(staleMillis * 1_000_000));
+    }
+
+    /**
+     * 최근 검사 결과 조회
+     *
+     * @param serverId 서버 ID
+     * @return 최근 결과 (미검사 시 null)
+     */
+    public ReachabilityResult getLatest(Long serverId) {
+        return latest.get(serverId);
+    }
+
+    /**
+     * 서버별 검사 이력 조회 (최신순)
+     *
+     * @param serverId 서버 ID
+     * @param pageable 페이지 정보
+     * @return 검사 이력
+     */
+    public Page<ServerHealthCheck> getHistory(Long serverId, Pageable pageable) {
+        return healthCheckRepository.findByServerIdOrderByCheckedAtDesc(serverId, pageable);
+    }
+
+    /**
+     * SSH/HTTPS 포트 TCP 연결 검사
+     *
+     * @param server 서버
+     * @param httpsPort HTTPS 포트
+     * @param timeout 연결 타임아웃 (밀리초)
+     * @return 검사 결과
+     */
+    static ReachabilityResult probe(Server server, int httpsPort, int timeout) {
+        Integer sshLatency = null;
+        Integer httpsLatency = null;
+        List<String> errors = new ArrayList<>(2);
+
+        try {
+            sshLatency = connect(server.getIpAddress(), server.getPort(), timeout);
+        } catch (IOException e) {
+            errors.add("ssh:" + server.getPort() + " " + e.getMessage());
+        }
+        try {
+            httpsLatency = connect(server.getIpAddress(), httpsPort, timeout);
+        } catch (IOException e) {
+            errors.add("https:" + httpsPort + " " + e.getMessage());
+        }
+
+        ServerHealthStatus status = sshLatency == null ? ServerHealthStatus.DOWN
+                : httpsLatency == null ? ServerHealthStatus.DEGRADED
+                : ServerHealthStatus.UP;
+
+        return ReachabilityResult.builder()
+                .serverId(server.getId())
+                .status(status)
+                .sshReachable(sshLatency != null)
+                .sshLatencyMs(sshLatency)
+                .httpsReachable(httpsLatency != null)
+                .httpsLatencyMs(httpsLatency)
+                .error(errors.isEmpty() ? null : String.join("; ", errors))
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * TCP 연결 시간 측정
+     *
+     * @return 연결 지연 (밀리초)
+     */
+    private static int connect(String host, int port, int timeout) throws IOException {
+        long start = System.nanoTime();
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), timeout);
+        }
+        return (int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * 메모리 상태 갱신, 상태 변경 또는 샘플 주기 경과 시 서버 상태 컬럼 갱신
+     *
+     * @return 이력 기록 대상 여부
+     */
+    private boolean update(Server server, ReachabilityResult result) {
+        ReachabilityResult previous = latest.put(server.getId(), result);
+        ServerHealthStatus previousStatus = previous != null ? previous.getStatus() : server.getHealthStatus();
+
+        LocalDateTime recordedAt = lastRecordedAt.get(server.getId());
+        boolean changed = previousStatus != result.getStatus();
+        boolean sampleDue = recordedAt == null || !result.getCheckedAt().isBefore(
+                recordedAt.plusNanos(properties.getHealth().getHistorySampleInterval() * 1_000_000));
+        if (!changed && !sampleDue) {
+            return false;
+        }
+
+        if (changed && previousStatus != null) {
+            log.warn("Server {} ({}) reachability changed: {} -> {}{}", server.getName(), server.getIpAddress(),
+                    previousStatus, result.getStatus(), result.getError() != null ? " (" + result.getError() + ")" : "");
+        }
+        serverRepository.updateHealth(server.getId(), result.getStatus(), result.getSshLatencyMs(),
+                result.getHttpsLatencyMs(), result.getCheckedAt());
+        lastRecordedAt.put(server.getId(), result.getCheckedAt());
+        return true;
+    }
+
+    private ServerHealthCheck toHistory(Server server, ReachabilityResult result) {
+        return ServerHealthCheck.builder()
+                .server(server)
+                .status(result.getStatus())
+                .sshReachable(result.isSshReachable())
+                .sshLatencyMs(result.getSshLatencyMs())
+                .httpsReachable(result.isHttpsReachable())
+                .httpsLatencyMs(result.getHttpsLatencyMs())
+                .error(result.getError())
+                .checkedAt(result.getCheckedAt())
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 이력 삭제 (1시간에 한 번)
+     */
+    private void purgeHistory() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastCleanupAt != null && lastCleanupAt.isAfter(now.minusHours(1))) {
+            return;
+        }
+        lastCleanupAt = now;
+
+        int deleted = healthCheckRepository.deleteByCheckedAtBefore(
+                now.minusDays(properties.getHealth().getRetentionDays()));
+        if (deleted > 0) {
+            log.info("Purged {} server health check record(s)", deleted);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.hwgi.autocert.certificate.distribution.keystore;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties.KeystoreFormat;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.common.exception.ResourceNotFoundException;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.sec.ECPrivateKey;
+import org.bouncycastle.asn1.x9.X9ObjectIdentifiers;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECPrivateKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Java 애플리케이션 서버용 키스토어 생성
+ *
+ * 대상 서버에서 keytool/JVM을 실행하지 않도록 JKS/PKCS12 파일을 프로세스 내에서 만들어 PEM 파일과 함께 배포
+ * - 비밀번호는 서버별 하나를 생성하여 암호화 저장
+ * - PKCS12는 구버전 JVM에서도 읽을 수 있도록 BouncyCastle 기본 알고리즘(3DES/SHA-1 MAC)으로 생성
+ * - 생성 결과는 (서버, 인증서, 형식)별로 버전(PEM과 암호화된 비밀번호의 해시)과 함께 캐시하여 재배포 시 같은 파일을 사용 (최대 항목 수 제한)
+ * - 비밀번호 교체는 서버 설정 변경과 재배포를 함께 해야 적용됨 (rotatePassword 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeystoreService {
+
+    private static final Provider BOUNCY_CASTLE = new BouncyCastleProvider();
+    private static final String PASSWORD_CHARACTERS =
+        "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz23456789";
+    private static final int PASSWORD_LENGTH = 32;
+
+    private final ServerRepository serverRepository;
+    private final CertificateEncryptionUtil encryptionUtil;
+    private final DistributionProperties properties;
+    private final IntermediateCertificateStore intermediateCertificateStore;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * (서버 ID:인증서 ID:형식) → 최근 생성한 키스토어
+     */
+    private final Map<String, CachedKeystore> cache = new ConcurrentHashMap<>();
+
+    private record CachedKeystore(String version, byte[] content, long builtAt) {
+    }
+
+    /**
+     * 서버에 배포할 키스토어 형식
+     *
+     * @param server 서버
+     * @return 형식 (키스토어가 필요 없는 웹서버 타입이면 empty)
+     */
+    public Optional<KeystoreFormat> getFormat(Server server) {
+        DistributionProperties.Keystore keystore = properties.getKeystore();
+        if (!keystore.isEnabled() || server.getWebServerType() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(keystore.getFormats().get(server.getWebServerType()));
+    }
+
+    /**
+     * 키스토어 조회 (인증서, 체인, 저장된 비밀번호가 같으면 캐시된 파일 반환)
+     *
+     * @param server 배포 대상 서버
+     * @param certificate 인증서
+     * @param privateKeyPem 복호화된 개인키
+     * @param format 키스토어 형식
+     * @return 키스토어 파일 내용
+     */
+    public byte[] getKeystore(Server server, Certificate certificate, String privateKeyPem, KeystoreFormat format) {
+        String cacheKey = server.getId() + ":" + certificate.getId() + ":" + format;
+        String chainPem = intermediateCertificateStore.completeChainPem(
+            certificate.getCertificatePem(), certificate.getChainPem());
+        char[] password = getPassword(server).toCharArray();
+        try {
+            // 다른 인스턴스에서 비밀번호를 교체했으면 저장된 비밀번호가 바뀌므로 다시 생성
+            String version = version(certificate, chainPem, server.getKeystorePassword());
+
+            CachedKeystore cached = cache.get(cacheKey);
+            if (cached != null && cached.version().equals(version)) {
+                return cached.content();
+            }
+
+            byte[] content = build(certificate.getCertificatePem(), chainPem, privateKeyPem,
+                certificate.getDomain(), password, format);
+            put(cacheKey, new CachedKeystore(version, content, System.nanoTime()));
+            log.info("Built {} keystore for certificate {} on server {}", format, certificate.getId(), server.getId());
+            return content;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("키스토어 생성 실패: " + e.getMessage(), e);
+        } finally {
+            Arrays.fill(password, '\0');
+        }
+    }
+
+    /**
+     * 서버 키스토어 비밀번호 조회 (없으면 생성하여 암호화 저장)
+     *
+     * @param server 서버
+     * @return 복호화된 비밀번호
+     */
+    public String getPassword(Server server) {
+        if (server.getKeystorePassword() == null) {
+            String encrypted = encryptionUtil.encrypt(generatePassword());
+            if (serverRepository.initKeystorePassword(server.getId(), encrypted) == 0) {
+                // 다른 배포에서 먼저 생성한 경우 저장된 값을 사용
+                encrypted = serverRepository.findById(server.getId())
+                    .map(Server::getKeystorePassword)
+                    .orElseThrow(() -> new ResourceNotFoundException("서버를 찾을 수 없습니다: " + server.getId()));
+            } else {
+                log.info("Generated keystore password for server {}", server.getId());
+            }
+            server.setKeystorePassword(encrypted);
+        }
+        return encryptionUtil.decrypt(server.getKeystorePassword());
+    }
+
+    /**
+     * 서버 키스토어 비밀번호 조회 (관리자가 서버 설정에 입력하는 용도)
+     *
+     * @param serverId 서버 ID
+     * @return 복호화된 비밀번호
+     */
+    public String getPassword(Long serverId) {
+        return getPassword(findServer(serverId));
+    }
+
+    /**
+     * 서버 키스토어 비밀번호 교체 (다음 배포부터 새 비밀번호로 생성)
+     *
+     * 이미 배포된 키스토어는 이전 비밀번호로 만들어져 있으므로 다음 순서로 교체해야 함
+     * 1. 비밀번호 교체 (이후 생성되는 키스토어는 새 비밀번호 사용)
+     * 2. 서버 설정(keystorePass 등)에 새 비밀번호 입력, 서버는 재기동하지 않음
+     * 3. 바로 재배포하여 새 키스토어 배포와 재기동을 함께 수행
+     * 2와 3 사이에 서버가 재기동되면 기존 키스토어를 열 수 없고, 3이 실패해 롤백되면 이전 키스토어가 복원되므로
+     * 원인을 해결한 뒤 3을 다시 실행
+     *
+     * @param serverId 서버 ID
+     * @return 새 비밀번호
+     */
+    public String rotatePassword(Long serverId) {
+        findServer(serverId);
+        String password = generatePassword();
+        serverRepository.updateKeystorePassword(serverId, encryptionUtil.encrypt(password));
+        cache.keySet().removeIf(key -> key.startsWith(serverId + ":"));
+        log.info("Rotated keystore password for server {}", serverId);
+        return password;
+    }
+
+    /**
+     * 캐시된 키스토어 수
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 키스토어 생성 (개인키 항목 하나, 인증서 체인 포함)
+     *
+     * @param certificatePem 인증서 PEM
+     * @param chainPem 체인 PEM (없으면 null)
+     * @param privateKeyPem 개인키 PEM (PKCS#8 또는 PKCS#1/SEC1)
+     * @param alias 항목 별칭
+     * @param password 키스토어/키 비밀번호
+     * @param format 형식
+     * @return 키스토어 파일 내용
+     */
+    public static byte[] build(String certificatePem, String chainPem, String privateKeyPem, String alias,
+                               char[] password, KeystoreFormat format) throws IOException, GeneralSecurityException {
+        List<X509Certificate> chain = new ArrayList<>(parseCertificates(certificatePem));
+        if (chainPem != null && !chainPem.isBlank()) {
+            chain.addAll(parseCertificates(chainPem));
+        }
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("인증서가 없습니다");
+        }
+
+        KeyStore keyStore = format == KeystoreFormat.PKCS12
+            ? KeyStore.getInstance(format.getType(), BOUNCY_CASTLE)
+            : KeyStore.getInstance(format.getType());
+        keyStore.load(null, null);
+        keyStore.setKeyEntry(alias, parsePrivateKey(privateKeyPem, chain.get(0)), password,
+            chain.toArray(X509Certificate[]::new));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        keyStore.store(out, password);
+        return out.toByteArray();
+    }
+
+    private static List<X509Certificate> parseCertificates(String pem) throws IOException, GeneralSecurityException {
+        List<X509Certificate> certificates = new ArrayList<>();
+        JcaX509CertificateConverter converter = new JcaX509CertificateConverter();
+        try (PEMParser parser = new PEMParser(new StringReader(pem))) {
+            Object object;
+            while ((object = parser.readObject()) != null) {
+                if (object instanceof X509CertificateHolder holder) {
+                    certificates.add(converter.getCertificate(holder));
+                }
+            }
+        }
+        return certificates;
+    }
+
+    /**
+     * 개인키 파싱
+     *
+     * SEC1(EC PRIVATE KEY) 형식은 곡선 파라미터가 생략될 수 있으므로 리프 인증서 공개키의 파라미터로 복원
+     */
+    private static PrivateKey parsePrivateKey(String pem, X509Certificate leaf)
+            throws IOException, GeneralSecurityException {
+        PrivateKeyInfo keyInfo;
+        try (PEMParser parser = new PEMParser(new StringReader(pem))) {
+            Object object = parser.readObject();
+            if (object instanceof PEMKeyPair keyPair) {
+                keyInfo = keyPair.getPrivateKeyInfo();
+            } else if (object instanceof PrivateKeyInfo info) {
+                keyInfo = info;
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 개인키 형식입니다");
+            }
+        }
+
+        if (X9ObjectIdentifiers.id_ecPublicKey.equals(keyInfo.getPrivateKeyAlgorithm().getAlgorithm())
+                && keyInfo.getPrivateKeyAlgorithm().getParameters() == null
+                && leaf.getPublicKey() instanceof ECPublicKey publicKey) {
+            BigInteger privateValue = ECPrivateKey.getInstance(keyInfo.parsePrivateKey()).getKey();
+            return KeyFactory.getInstance("EC").generatePrivate(new ECPrivateKeySpec(privateValue, publicKey.getParams()));
+        }
+        return new JcaPEMKeyConverter().getPrivateKey(keyInfo);
+    }
+
+    /**
+     * 키스토어 버전 (인증서, 체인 PEM, 암호화된 비밀번호의 해시, 갱신되거나 체인이 완성되거나 비밀번호를 교체하면 바뀜)
+     */
+    private static String version(Certificate certificate, String chainPem, String encryptedPassword) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(certificate.getCertificatePem().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (chainPem != null) {
+                digest.update(chainPem.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            digest.update(encryptedPassword.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void put(String cacheKey, CachedKeystore keystore) {
+        if (!cache.containsKey(cacheKey) && cache.size() >= properties.getKeystore().getMaxCacheEntries()) {
+            cache.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().builtAt()))
+                .ifPresent(oldest -> cache.remove(oldest.getKey(), oldest.getValue()));
+        }
+        cache.put(cacheKey, keystore);
+    }
+
+    private String generatePassword() {
+        StringBuilder password = new StringBuilder(PASSWORD_LENGTH);
+        for (int i = 0; i < PASSWORD_LENGTH; i++) {
+            password.append(PASSWORD_CHARACTERS.charAt(secureRandom.nextInt(PASSWORD_CHARACTERS.length())));
+        }
+        return password.toString();
+    }
+
+    private Server findServer(Long serverId) {
+        return serverRepository.findById(serverId)
+            .orElseThrow(() -> new ResourceNotFoundException("서버를 찾을 수 없습니다: " + serverId));
+    }
+}
@@ -0,0 +1,55 @@
+package com.hwgi.autocert.certificate.distribution.metrics;
+
+import com.hwgi.autocert.domain.model.Server;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 배포 메트릭
+ *
+ * - autocert.deployment.phase: 단계별 소요 시간 (server, web_server_type, phase 태그)
+ * - autocert.deployment.duration: 전체 배포 소요 시간 (server, web_server_type, outcome 태그)
+ */
+@Component
+@RequiredArgsConstructor
+public class DeploymentMetrics {
+
+    static final String PHASE_TIMER = "autocert.deployment.phase";
+    static final String DURATION_TIMER = "autocert.deployment.duration";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 배포 결과 기록
+     *
+     * @param server 배포 대상 서버
+     * @param timer 단계별 소요 시간
+     * @param totalNanos 전체 소요 시간 (나노초)
+     * @param outcome 결과 (success, failed, rolled_back)
+     */
+    public void record(Server server, DeploymentTimer timer, long totalNanos, String outcome) {
+        String serverTag = server.getName() != null ? server.getName() : String.valueOf(server.getId());
+        String typeTag = server.getWebServerType() != null ? server.getWebServerType().name() : "UNKNOWN";
+
+        timer.getNanos().forEach((phase, nanos) ->
+            Timer.builder(PHASE_TIMER)
+                    .description("Certificate deployment phase duration")
+                    .tag("server", serverTag)
+                    .tag("web_server_type", typeTag)
+                    .tag("phase", phase.getKey())
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(nanos)));
+
+        Timer.builder(DURATION_TIMER)
+                .description("Certificate deployment total duration")
+                .tag("server", serverTag)
+                .tag("web_server_type", typeTag)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(totalNanos));
+    }
+}
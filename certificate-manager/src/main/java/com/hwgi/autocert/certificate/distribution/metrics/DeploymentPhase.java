@@ -0,0 +1,51 @@
+package com.hwgi.autocert.certificate.distribution.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배포 단계
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DeploymentPhase {
+    /**
+     * 이전 연결 시도 실패 및 재시도 대기
+     */
+    CONNECT_RETRY("connect_retry"),
+
+    /**
+     * TCP 연결
+     */
+    TCP_CONNECT("tcp_connect"),
+
+    /**
+     * SSH 버전 교환 및 키 교환
+     */
+    KEY_EXCHANGE("key_exchange"),
+
+    /**
+     * SSH 사용자 인증
+     */
+    AUTH("auth"),
+
+    /**
+     * 인증서 파일 업로드 (스테이징)
+     */
+    UPLOAD("upload"),
+
+    /**
+     * 파일 교체, 설정 검증, 재기동 스크립트
+     */
+    RELOAD("reload"),
+
+    /**
+     * 배포 후 TLS 핸드셰이크 검증 (롤백 포함)
+     */
+    VERIFY("verify");
+
+    /**
+     * 저장/메트릭 태그에 사용하는 이름
+     */
+    private final String key;
+}
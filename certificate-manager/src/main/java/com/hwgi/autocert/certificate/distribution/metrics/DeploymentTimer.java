@@ -0,0 +1,42 @@
+package com.hwgi.autocert.certificate.distribution.metrics;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 단계별 소요 시간 기록기
+ *
+ * 한 번의 배포(서버 단위)에서 사용하며, 연결 스레드와 배포 스레드가 함께 기록할 수 있도록 동기화
+ */
+public class DeploymentTimer {
+
+    private final Map<DeploymentPhase, Long> nanos = new EnumMap<>(DeploymentPhase.class);
+
+    /**
+     * 단계 소요 시간 기록 (같은 단계는 덮어씀)
+     *
+     * @param phase 배포 단계
+     * @param elapsedNanos 소요 시간 (나노초)
+     */
+    public synchronized void record(DeploymentPhase phase, long elapsedNanos) {
+        nanos.put(phase, Math.max(0, elapsedNanos));
+    }
+
+    /**
+     * 측정된 단계별 소요 시간 (나노초)
+     */
+    public synchronized Map<DeploymentPhase, Long> getNanos() {
+        return new EnumMap<>(nanos);
+    }
+
+    /**
+     * 측정된 단계별 소요 시간 (밀리초, 단계 순서 유지)
+     */
+    public synchronized Map<String, Long> toMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        nanos.forEach((phase, value) -> millis.put(phase.getKey(), TimeUnit.NANOSECONDS.toMillis(value)));
+        return millis;
+    }
+}
@@ -0,0 +1,280 @@
+package com.hwgi.autocert.certificate.distribution.probe;
+
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.codec.CertificateInfo;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * 배포 후 TLS 핸드셰이크 검증
+ *
+ * 서버에 TLS로 접속하여 실제로 제공되는 리프 인증서의 시리얼과 SHA-256 지문을
+ * 배포한 인증서와 비교 (체인 신뢰 여부가 아닌 "무엇을 제공하는가"만 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TlsProbe {
+
+    private final DistributionProperties properties;
+    private final CertificateCodec certificateCodec;
+
+    /**
+     * 인증서를 검증할 SNI 호스트명
+     *
+     * @param domain 인증서 도메인
+     * @param certificatePem 인증서 PEM (와일드카드일 때 SAN 조회)
+     * @return SNI 호스트명 (와일드카드에 해당하는 구체적인 이름이 없으면 empty, 지문 비교 생략)
+     */
+    public Optional<String> serverNameFor(String domain, String certificatePem) {
+        List<String> dnsNames = List.of();
+        if (domain != null && domain.startsWith("*.") && certificatePem != null) {
+            try {
+                dnsNames = certificateCodec.describe(certificatePem).dnsNames();
+            } catch (Exception e) {
+                log.debug("Could not read SANs of {}: {}", domain, e.getMessage());
+            }
+        }
+        return Optional.ofNullable(Target.serverNameOf(domain, dnsNames, properties.getProbe().getWildcardHosts()));
+    }
+
+    /**
+     * 여러 대상을 동시에 검증 (가상 스레드, 대상당 1개)
+     *
+     * @param targets 검증 대상 목록
+     * @return 대상 순서와 같은 검증 결과 목록
+     */
+    public List<TlsProbeResult> probeAll(List<Target> targets) {
+        List<TlsProbeResult> results = new ArrayList<>(targets.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<TlsProbeResult>> futures = new ArrayList<>(targets.size());
+            for (Target target : targets) {
+                futures.add(executor.submit(() -> probe(target)));
+            }
+
+            for (Future<TlsProbeResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (Exception e) {
+                    results.add(unreachable("Probe interrupted: " + e.getMessage(), null));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 단일 대상 검증
+     *
+     * graceful 재기동 직후에는 이전 워커가 잠시 응답할 수 있으므로
+     * 다른 인증서가 제공되면 설정된 횟수만큼 간격을 두고 재시도
+     *
+     * @param target 검증 대상
+     * @return 검증 결과
+     */
+    public TlsProbeResult probe(Target target) {
+        int attempts = Math.max(1, properties.getProbe().getAttempts());
+
+        TlsProbeResult result = probeOnce(target);
+        for (int attempt = 2; attempt <= attempts
+                && result.getStatus() == DeploymentVerificationStatus.MISMATCH; attempt++) {
+            try {
+                Thread.sleep(properties.getProbe().getAttemptDelay());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+            log.debug("Retrying TLS probe to {}:{} (attempt {}/{})",
+                target.getHost(), target.getPort(), attempt, attempts);
+            result = probeOnce(target);
+        }
+
+        return result;
+    }
+
+    /**
+     * 단일 대상 1회 검증
+     */
+    private TlsProbeResult probeOnce(Target target) {
+        int timeout = properties.getProbe().getTimeout();
+        long startTime = System.nanoTime();
+
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(target.getHost(), target.getPort()), timeout);
+            socket.setSoTimeout(timeout);
+
+            try (SSLSocket sslSocket = (SSLSocket) trustAllContext().getSocketFactory()
+                    .createSocket(socket, target.getHost(), target.getPort(), true)) {
+
+                SSLParameters parameters = sslSocket.getSSLParameters();
+                if (target.getServerName() != null) {
+                    parameters.setServerNames(List.of(new SNIHostName(target.getServerName())));
+                }
+                sslSocket.setSSLParameters(parameters);
+                sslSocket.startHandshake();
+
+                long handshakeMs = (System.nanoTime() - startTime) / 1_000_000;
+                X509Certificate served = (X509Certificate) sslSocket.getSession().getPeerCertificates()[0];
+                return compare(target, served, handshakeMs);
+            }
+
+        } catch (Exception e) {
+            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+            log.warn("TLS probe to {}:{} (SNI: {}) failed: {}",
+                target.getHost(), target.getPort(), target.getServerName(), e.getMessage());
+            return unreachable("TLS handshake failed: " + e.getMessage(), elapsedMs);
+        }
+    }
+
+    /**
+     * 제공된 인증서와 배포한 인증서 비교
+     */
+    private TlsProbeResult compare(Target target, X509Certificate served, long handshakeMs) throws Exception {
+        CertificateInfo expected = certificateCodec.describe(target.getExpectedCertificatePem());
+
+        String servedSerial = served.getSerialNumber().toString(16);
+        String servedFingerprint = fingerprint(served);
+        boolean matches = servedFingerprint.equals(expected.fingerprint());
+
+        log.info("TLS probe to {}:{} (SNI: {}) - serial: {}, {} in {}ms",
+            target.getHost(), target.getPort(), target.getServerName(), servedSerial,
+            matches ? "matches deployed certificate" : "MISMATCH", handshakeMs);
+
+        return TlsProbeResult.builder()
+                .status(matches ? DeploymentVerificationStatus.VERIFIED : DeploymentVerificationStatus.MISMATCH)
+                .servedSerial(servedSerial)
+                .servedFingerprint(servedFingerprint)
+                .handshakeMs(handshakeMs)
+                .message(matches
+                    ? "Server is serving the deployed certificate"
+                    : "Server is serving a different certificate (expected serial "
+                        + expected.serialNumber() + ", served " + servedSerial + ")")
+                .build();
+    }
+
+    private TlsProbeResult unreachable(String message, Long elapsedMs) {
+        return TlsProbeResult.builder()
+                .status(DeploymentVerificationStatus.UNREACHABLE)
+                .handshakeMs(elapsedMs)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 인증서 SHA-256 지문 (16진수)
+     */
+    static String fingerprint(X509Certificate certificate) throws GeneralSecurityException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(certificate.getEncoded()));
+    }
+
+    /**
+     * 모든 인증서를 허용하는 SSLContext (지문 비교만 수행하므로 신뢰 검증 불필요)
+     */
+    public static SSLContext trustAllContext() throws GeneralSecurityException {
+        TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(null, new TrustManager[]{trustAll}, null);
+        return context;
+    }
+
+    /**
+     * 검증 대상
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Target {
+
+        /**
+         * 접속 호스트 (IP 또는 호스트명)
+         */
+        private final String host;
+
+        /**
+         * TLS 포트
+         */
+        private final int port;
+
+        /**
+         * SNI 호스트명 (null이면 SNI 미전송)
+         */
+        private final String serverName;
+
+        /**
+         * 배포한 인증서 PEM
+         */
+        private final String expectedCertificatePem;
+
+        /**
+         * 인증서 도메인을 SNI 호스트명으로 변환
+         *
+         * 와일드카드는 상위 도메인(apex)을 포함하지 않으므로 와일드카드가 포함하는 구체적인 이름을 사용
+         * (설정된 검증 호스트 우선, 없으면 인증서의 다른 SAN)
+         *
+         * @param domain 인증서 도메인
+         * @param dnsNames 인증서 SAN DNS 이름
+         * @param probeHosts 와일드카드 인증서 검증용 호스트명 목록
+         * @return SNI 호스트명 (와일드카드에 해당하는 이름이 없으면 null)
+         */
+        public static String serverNameOf(String domain, Collection<String> dnsNames, Collection<String> probeHosts) {
+            if (domain == null) {
+                return null;
+            }
+            String name = domain.toLowerCase(Locale.ROOT);
+            if (!name.startsWith("*.")) {
+                return name;
+            }
+            String zone = name.substring(1);
+            return Stream.concat(probeHosts.stream(), dnsNames.stream())
+                    .map(host -> host.toLowerCase(Locale.ROOT))
+                    .filter(host -> !host.startsWith("*.") && host.endsWith(zone)
+                            && host.length() > zone.length()
+                            && host.indexOf('.') == host.length() - zone.length())
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
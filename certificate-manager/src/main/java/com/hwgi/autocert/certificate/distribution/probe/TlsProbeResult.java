@@ -0,0 +1,45 @@
+package com.hwgi.autocert.certificate.distribution.probe;
+
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * TLS 핸드셰이크 검증 결과
+ */
+@Getter
+@Builder
+public class TlsProbeResult {
+
+    /**
+     * 검증 상태
+     */
+    private DeploymentVerificationStatus status;
+
+    /**
+     * 서버가 제공한 리프 인증서 시리얼 (16진수)
+     */
+    private String servedSerial;
+
+    /**
+     * 서버가 제공한 리프 인증서 SHA-256 지문 (16진수)
+     */
+    private String servedFingerprint;
+
+    /**
+     * TCP 연결 + TLS 핸드셰이크 소요 시간 (밀리초)
+     */
+    private Long handshakeMs;
+
+    /**
+     * 결과 메시지
+     */
+    private String message;
+
+    /**
+     * 서버가 배포한 인증서를 제공 중인지 여부
+     */
+    public boolean isVerified() {
+        return status == DeploymentVerificationStatus.VERIFIED;
+    }
+}
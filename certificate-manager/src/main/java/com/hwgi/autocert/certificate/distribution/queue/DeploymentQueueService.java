@@ -0,0 +1,281 @@
+package com.hwgi.autocert.certificate.distribution.queue;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.health.ServerHealthMonitor;
+import com.hwgi.autocert.certificate.distribution.service.CertificateDistributionService;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.DeploymentJob;
+import com.hwgi.autocert.domain.model.DeploymentJobStatus;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.DeploymentJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배포 작업 큐 서비스
+ *
+ * 인증서 생성/갱신 시 배포 작업을 DB 큐에 등록하고, 워커 스레드가 서버 단위로 처리
+ * - 같은 서버의 작업은 동시에 실행되지 않음 (재기동 중복 방지)
+ * - 서버가 다르면 워커 수만큼 병렬 처리
+ * - 같은 서버의 대기 작업은 한 번의 업로드-재기동 사이클로 합쳐서 처리
+ * - 도달성 모니터가 DOWN으로 확인한 서버의 작업은 다시 연결될 때까지 보류
+ * - 워커는 선점 토큰으로 선점한 작업만 처리하므로 여러 인스턴스가 같은 큐를 처리해도 작업이 섞이지 않음
+ * - 실패한 작업은 최대 시도 횟수까지 지수 백오프로 재시도하고, 임대 시간이 지난 처리 중 작업은 대기 상태로 복구
+ * - 풀 모드 서버(에이전트 토큰 발급)는 SSH로 접속하지 않으므로 도달성/SSH 계정 확인 없이 바로 완료 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeploymentQueueService {
+
+    private static final String PULL_MODE_MESSAGE = "Pull-mode server, delivered on next agent poll";
+
+    private final DeploymentJobRepository deploymentJobRepository;
+    private final CertificateRepository certificateRepository;
+    private final CertificateDistributionService distributionService;
+    private final CertificateEncryptionUtil encryptionUtil;
+    private final DistributionProperties properties;
+    private final ServerDeploymentLock serverLock;
+    private final ServerHealthMonitor healthMonitor;
+
+    private ExecutorService executor;
+
+    /**
+     * 워커 스레드 풀 생성
+     */
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(properties.getQueue().getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "deploy-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 워커 스레드 풀 종료
+     */
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 배포 작업 등록
+     *
+     * 호출한 트랜잭션과 함께 커밋되므로 인증서 저장이 롤백되면 작업도 등록되지 않음
+     *
+     * @param certificate 배포할 인증서
+     * @return 등록된 배포 작업
+     */
+    @Transactional
+    public DeploymentJob enqueue(Certificate certificate) {
+        DeploymentJob job = DeploymentJob.builder()
+                .certificate(certificate)
+                .server(certificate.getServer())
+                .status(DeploymentJobStatus.PENDING)
+                .build();
+
+        DeploymentJob saved = deploymentJobRepository.save(job);
+        log.info("Deployment job {} queued for certificate {} on server {}",
+                saved.getId(), certificate.getId(), certificate.getServer().getId());
+        return saved;
+    }
+
+    /**
+     * 대기 작업이 있는 서버를 워커에 할당
+     *
+     * 이미 처리 중인 서버(큐 워커 또는 롤아웃)나 연결 불가 서버는 건너뛰고, 다음 주기에 남은 작업을 다시 할당
+     */
+    @Scheduled(fixedDelayString = "${autocert.distribution.queue.poll-interval:2000}")
+    public void dispatch() {
+        List<Long> serverIds;
+        try {
+            // 임대 시간이 지나도록 처리 중인 작업은 워커가 죽은 것으로 보고 복구 (다른 인스턴스의 처리 중 작업은 유지)
+            LocalDateTime now = LocalDateTime.now();
+            int recovered = deploymentJobRepository.resetExpiredJobs(
+                now.minus(Duration.ofMillis(properties.getQueue().getLease())));
+            if (recovered > 0) {
+                log.warn("Recovered {} deployment job(s) whose lease expired in RUNNING state", recovered);
+            }
+
+            // 풀 모드 서버는 방화벽 안쪽이라 도달성 확인에서 항상 DOWN이므로 보류하지 않고 먼저 완료 처리
+            int delivered = deploymentJobRepository.completePullModeJobs(PULL_MODE_MESSAGE, now);
+            if (delivered > 0) {
+                log.info("Completed {} deployment job(s) for pull-mode server(s)", delivered);
+            }
+            serverIds = deploymentJobRepository.findDispatchableServerIds(now);
+        } catch (Exception e) {
+            log.error("Failed to poll deployment queue: {}", e.getMessage(), e);
+            return;
+        }
+
+        for (Long serverId : serverIds) {
+            // 연결 불가로 확인된 서버는 다시 연결될 때까지 대기 작업 보류
+            if (!healthMonitor.isReachable(serverId)) {
+                log.debug("Server {} is unreachable, deferring deployment jobs", serverId);
+                continue;
+            }
+            if (serverLock.tryAcquire(serverId)) {
+                executor.execute(() -> process(serverId));
+            }
+        }
+    }
+
+    /**
+     * 서버 단위 배포 처리 (워커 스레드)
+     *
+     * SSH 연결(재시도 대기 포함)을 기다리는 동안에는 워커를 반환하고, 연결된 뒤 워커에서 배포를 이어서 수행
+     * (서버 잠금은 배포가 끝날 때 해제)
+     *
+     * @param serverId 서버 ID
+     */
+    void process(Long serverId) {
+        String claimToken = UUID.randomUUID().toString();
+        List<DeploymentJob> jobs = new ArrayList<>();
+        List<Long> jobIds = new ArrayList<>();
+        boolean handedOff = false;
+        try {
+            // 1. 서버의 대기 작업을 선점 토큰으로 일괄 선점 (재시도 대기 작업도 새 작업과 합쳐서 처리,
+            //    다른 인스턴스가 임대 시간 안에 처리 중인 서버는 선점하지 않음)
+            LocalDateTime now = LocalDateTime.now();
+            deploymentJobRepository.claimPendingJobs(serverId, claimToken, now,
+                now.minus(Duration.ofMillis(properties.getQueue().getLease())));
+            jobs.addAll(deploymentJobRepository.findByClaimToken(claimToken));
+
+            if (jobs.isEmpty()) {
+                return;
+            }
+
+            jobs.forEach(job -> jobIds.add(job.getId()));
+
+            // 2. 중복 인증서 제거 (같은 인증서는 최신 내용으로 한 번만 배포)
+            List<Long> certificateIds = jobs.stream()
+                    .map(job -> job.getCertificate().getId())
+                    .distinct()
+                    .toList();
+
+            log.info("Processing {} deployment job(s) for server {} ({} certificate(s))",
+                    jobs.size(), serverId, certificateIds.size());
+
+            // 3. 배포 대상 준비 (서버가 변경되었거나 배포 준비가 안 된 인증서는 제외)
+            List<Certificate> candidates = certificateRepository.findAllWithServerByIdIn(certificateIds).stream()
+                    .filter(certificate -> serverId.equals(certificate.getServer().getId()))
+                    .toList();
+
+            // 4. 풀 모드 서버는 에이전트가 다음 조회 시 번들을 가져감 (SSH 계정 확인 불필요)
+            if (!candidates.isEmpty() && candidates.get(0).getServer().getAgentTokenHash() != null) {
+                deploymentJobRepository.completeJobs(jobIds, claimToken, DeploymentJobStatus.COMPLETED,
+                    PULL_MODE_MESSAGE, LocalDateTime.now());
+                return;
+            }
+
+            Server server = null;
+            Map<Certificate, String> certificates = new LinkedHashMap<>();
+            for (Certificate certificate : candidates) {
+                if (!distributionService.isReadyForDeployment(certificate)) {
+                    log.warn("Certificate {} is not ready for deployment to server {}, skipping",
+                            certificate.getId(), serverId);
+                    continue;
+                }
+                server = certificate.getServer();
+                certificates.put(certificate, encryptionUtil.decryptPrivateKey(certificate));
+            }
+
+            if (certificates.isEmpty()) {
+                // 인증서/서버 정보 문제는 재시도해도 같으므로 바로 실패 처리
+                deploymentJobRepository.completeJobs(jobIds, claimToken, DeploymentJobStatus.FAILED,
+                    "No certificate ready for deployment", LocalDateTime.now());
+                return;
+            }
+
+            // 5. 단일 업로드-재기동 사이클로 배포 (연결 후 워커에서 이어서 수행)
+            int certificateCount = certificates.size();
+            distributionService.deployAllAsync(server, certificates, executor)
+                .whenComplete((success, error) -> {
+                    try {
+                        if (error == null && Boolean.TRUE.equals(success)) {
+                            deploymentJobRepository.completeJobs(jobIds, claimToken, DeploymentJobStatus.COMPLETED,
+                                "Deployed with " + certificateCount + " certificate(s)", LocalDateTime.now());
+                        } else if (error != null) {
+                            log.error("Deployment worker failed for server {}: {}", serverId, error.getMessage(), error);
+                            failOrRetry(jobs, claimToken, "Deployment worker error: " + error.getMessage());
+                        } else {
+                            failOrRetry(jobs, claimToken, "Deployment failed");
+                        }
+                    } catch (Exception e) {
+                        log.error("Failed to update deployment jobs for server {}: {}", serverId, e.getMessage(), e);
+                    } finally {
+                        serverLock.release(serverId);
+                    }
+                });
+            handedOff = true;
+
+        } catch (Exception e) {
+            log.error("Deployment worker failed for server {}: {}", serverId, e.getMessage(), e);
+            if (!jobs.isEmpty()) {
+                failOrRetry(jobs, claimToken, "Deployment worker error: " + e.getMessage());
+            }
+        } finally {
+            if (!handedOff) {
+                serverLock.release(serverId);
+            }
+        }
+    }
+
+    /**
+     * 배포 실패 처리
+     *
+     * 연결 실패, 재기동 실패 등 일시적일 수 있으므로 최대 시도 횟수까지 지수 백오프로 재시도하고,
+     * 시도 횟수를 모두 쓴 작업만 실패 처리
+     */
+    private void failOrRetry(List<DeploymentJob> jobs, String claimToken, String message) {
+        DistributionProperties.Queue queue = properties.getQueue();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> failed = new ArrayList<>();
+        Map<Integer, List<Long>> retries = new TreeMap<>();
+        for (DeploymentJob job : jobs) {
+            if (job.getAttempts() >= queue.getMaxAttempts()) {
+                failed.add(job.getId());
+            } else {
+                retries.computeIfAbsent(job.getAttempts(), attempts -> new ArrayList<>()).add(job.getId());
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            deploymentJobRepository.completeJobs(failed, claimToken, DeploymentJobStatus.FAILED,
+                message + " (attempts: " + queue.getMaxAttempts() + ")", now);
+        }
+        retries.forEach((attempts, ids) -> {
+            long backoff = queue.getRetryBackoff() << Math.min(attempts - 1, 16);
+            LocalDateTime nextAttemptAt = now.plus(Duration.ofMillis(backoff));
+            log.warn("Retrying {} deployment job(s) at {} (attempt {}/{})",
+                    ids.size(), nextAttemptAt, attempts + 1, queue.getMaxAttempts());
+            deploymentJobRepository.retryJobs(ids, claimToken,
+                message + " (retry " + attempts + "/" + (queue.getMaxAttempts() - 1) + ")", nextAttemptAt);
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.hwgi.autocert.certificate.distribution.queue;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 단위 배포 잠금
+ *
+ * 배포 큐와 롤아웃이 같은 서버에 동시에 업로드-재기동하지 않도록 서버 ID별 단일 허가를 관리
+ */
+@Component
+public class ServerDeploymentLock {
+
+    private final ConcurrentMap<Long, Semaphore> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     *
+     * @param serverId 서버 ID
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(Long serverId) {
+        return semaphore(serverId).tryAcquire();
+    }
+
+    /**
+     * 잠금 획득 (최대 timeout까지 대기)
+     *
+     * @param serverId 서버 ID
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @return 획득 여부
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public boolean acquire(Long serverId, long timeout, TimeUnit unit) throws InterruptedException {
+        return semaphore(serverId).tryAcquire(timeout, unit);
+    }
+
+    /**
+     * 잠금 해제
+     *
+     * @param serverId 서버 ID
+     */
+    public void release(Long serverId) {
+        semaphore(serverId).release();
+    }
+
+    private Semaphore semaphore(Long serverId) {
+        return locks.computeIfAbsent(serverId, id -> new Semaphore(1));
+    }
+}
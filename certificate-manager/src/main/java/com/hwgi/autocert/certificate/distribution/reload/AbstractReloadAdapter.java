@@ -0,0 +1,45 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.Server;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+/**
+ * 재기동 어댑터 기본 구현
+ *
+ * 설정(autocert.distribution.reload.{type})에 명령이 지정되면 기본 명령 대신 사용
+ */
+@RequiredArgsConstructor
+public abstract class AbstractReloadAdapter implements ReloadAdapter {
+
+    private final DistributionProperties properties;
+
+    @Override
+    public String getValidateCommand(Server server) {
+        DistributionProperties.Reload override = properties.getReload().get(getWebServerType());
+        if (override != null && StringUtils.hasText(override.getValidateCommand())) {
+            return override.getValidateCommand();
+        }
+        return getDefaultValidateCommand();
+    }
+
+    @Override
+    public String getReloadCommand(Server server) {
+        DistributionProperties.Reload override = properties.getReload().get(getWebServerType());
+        if (override != null && StringUtils.hasText(override.getReloadCommand())) {
+            return override.getReloadCommand();
+        }
+        return getDefaultReloadCommand();
+    }
+
+    /**
+     * 기본 설정 검증 명령 (검증 단계가 없으면 null)
+     */
+    protected abstract String getDefaultValidateCommand();
+
+    /**
+     * 기본 재기동 명령
+     */
+    protected abstract String getDefaultReloadCommand();
+}
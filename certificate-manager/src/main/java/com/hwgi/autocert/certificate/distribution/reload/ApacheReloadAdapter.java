@@ -0,0 +1,31 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Apache HTTP Server 재기동 어댑터 (configtest 후 graceful 재시작)
+ */
+@Component
+public class ApacheReloadAdapter extends AbstractReloadAdapter {
+
+    public ApacheReloadAdapter(DistributionProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected String getDefaultValidateCommand() {
+        return "apachectl configtest";
+    }
+
+    @Override
+    protected String getDefaultReloadCommand() {
+        return "apachectl graceful";
+    }
+
+    @Override
+    public WebServerType getWebServerType() {
+        return WebServerType.APACHE;
+    }
+}
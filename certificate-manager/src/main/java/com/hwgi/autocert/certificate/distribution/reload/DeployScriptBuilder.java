@@ -0,0 +1,135 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.domain.model.Server;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+import static com.hwgi.autocert.certificate.distribution.ssh.SshClient.quote;
+
+/**
+ * 원자적 배포 스크립트 생성기
+ *
+ * 스테이징 파일 교체, 설정 검증, 재기동, 실패 시 복구를 하나의 셸 스크립트로 구성
+ * 1. 기존 파일을 백업 파일(.autocert-bak)로 복사
+ * 2. 스테이징 파일(.autocert-new)을 rename으로 교체 (같은 디렉토리 내 원자적 교체)
+ * 3. 설정 검증 → 재기동
+ * 4. 백업/교체/검증/재기동 중 어느 단계든 실패하면 이미 교체한 파일만 백업으로 복구 후 {@link #ROLLBACK_EXIT_CODE}로 종료
+ *
+ * 원격 셸이 POSIX sh일 수 있으므로 ERR trap 대신 단계마다 실패 시 복구를 붙임
+ */
+@Component
+public class DeployScriptBuilder {
+
+    /**
+     * 스테이징 업로드 파일 접미사
+     */
+    public static final String STAGING_SUFFIX = ".autocert-new";
+
+    /**
+     * 백업 파일 접미사 (다음 배포 전까지 유지되어 수동/자동 롤백에 사용)
+     */
+    public static final String BACKUP_SUFFIX = ".autocert-bak";
+
+    /**
+     * 복구를 마친 뒤 스크립트가 반환하는 종료 코드
+     */
+    public static final int ROLLBACK_EXIT_CODE = 75;
+
+    /**
+     * 배포 스크립트 생성
+     *
+     * @param targetPaths 교체할 원격 파일 경로 (각 경로에 STAGING_SUFFIX 파일이 업로드되어 있어야 함)
+     * @param adapter 재기동 어댑터 (없으면 파일 교체만 수행)
+     * @param server 대상 서버
+     * @return 원격 셸 스크립트
+     */
+    public String buildDeployScript(List<String> targetPaths, ReloadAdapter adapter, Server server) {
+        StringBuilder script = new StringBuilder("set -e\n");
+        appendRestoreFunction(script, targetPaths, true);
+        String onFailure = " || { autocert_restore; exit " + ROLLBACK_EXIT_CODE + "; }\n";
+
+        // 1. 기존 파일 백업 (아직 교체한 파일이 없으므로 실패하면 복구할 파일 없이 종료)
+        for (String path : targetPaths) {
+            script.append("{ if [ -f ").append(quote(path)).append(" ]; then cp -p ")
+                  .append(quote(path)).append(' ').append(quote(path + BACKUP_SUFFIX))
+                  .append("; else rm -f ").append(quote(path + BACKUP_SUFFIX)).append("; fi; }")
+                  .append(onFailure);
+        }
+
+        // 2. 스테이징 파일 교체 (교체에 성공한 파일만 복구 대상으로 표시)
+        for (int i = 0; i < targetPaths.size(); i++) {
+            String path = targetPaths.get(i);
+            script.append("mv -f ").append(quote(path + STAGING_SUFFIX)).append(' ')
+                  .append(quote(path)).append(onFailure)
+                  .append("autocert_swapped_").append(i).append("=1\n");
+        }
+
+        if (adapter == null) {
+            return script.toString();
+        }
+
+        // 3. 설정 검증 (실패 시 복구, 재기동하지 않음)
+        String validateCommand = adapter.getValidateCommand(server);
+        if (StringUtils.hasText(validateCommand)) {
+            script.append("( ").append(validateCommand).append(" ) || { autocert_restore; exit ")
+                  .append(ROLLBACK_EXIT_CODE).append("; }\n");
+        }
+
+        // 4. 재기동 (실패 시 복구 후 이전 파일로 다시 재기동)
+        String reloadCommand = adapter.getReloadCommand(server);
+        script.append("( ").append(reloadCommand).append(" ) || { autocert_restore; ( ")
+              .append(reloadCommand).append(" ) || true; exit ").append(ROLLBACK_EXIT_CODE).append("; }\n");
+
+        return script.toString();
+    }
+
+    /**
+     * 롤백 스크립트 생성
+     *
+     * 배포 후 검증(프로브)에 실패한 경우 백업 파일을 복구하고 재기동
+     *
+     * @param targetPaths 복구할 원격 파일 경로
+     * @param adapter 재기동 어댑터 (없으면 파일 복구만 수행)
+     * @param server 대상 서버
+     * @return 원격 셸 스크립트
+     */
+    public String buildRollbackScript(List<String> targetPaths, ReloadAdapter adapter, Server server) {
+        StringBuilder script = new StringBuilder("set -e\n");
+        appendRestoreFunction(script, targetPaths, false);
+        script.append("autocert_restore\n");
+
+        if (adapter == null) {
+            return script.toString();
+        }
+
+        String validateCommand = adapter.getValidateCommand(server);
+        if (StringUtils.hasText(validateCommand)) {
+            script.append(validateCommand).append('\n');
+        }
+        script.append(adapter.getReloadCommand(server)).append('\n');
+
+        return script.toString();
+    }
+
+    /**
+     * 백업 복구 함수 정의 (백업이 없는 파일은 새로 배포된 파일 삭제)
+     *
+     * @param swappedOnly true면 이번 스크립트에서 교체한 파일만 복구 (이전 배포의 백업으로 덮어쓰지 않도록)
+     */
+    private void appendRestoreFunction(StringBuilder script, List<String> targetPaths, boolean swappedOnly) {
+        script.append("autocert_restore() {\n");
+        for (int i = 0; i < targetPaths.size(); i++) {
+            String path = targetPaths.get(i);
+            script.append("  ");
+            if (swappedOnly) {
+                script.append("[ -z \"${autocert_swapped_").append(i).append(":-}\" ] || ");
+            }
+            script.append("if [ -f ").append(quote(path + BACKUP_SUFFIX)).append(" ]; then mv -f ")
+                  .append(quote(path + BACKUP_SUFFIX)).append(' ').append(quote(path))
+                  .append("; else rm -f ").append(quote(path)).append("; fi\n");
+        }
+        script.append("  :\n}\n");
+    }
+}
@@ -0,0 +1,31 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import org.springframework.stereotype.Component;
+
+/**
+ * JEUS 재기동 어댑터 (설정 검증 단계 없음, 서비스 재시작)
+ */
+@Component
+public class JeusReloadAdapter extends AbstractReloadAdapter {
+
+    public JeusReloadAdapter(DistributionProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected String getDefaultValidateCommand() {
+        return null;
+    }
+
+    @Override
+    protected String getDefaultReloadCommand() {
+        return "systemctl restart jeus";
+    }
+
+    @Override
+    public WebServerType getWebServerType() {
+        return WebServerType.JEUS;
+    }
+}
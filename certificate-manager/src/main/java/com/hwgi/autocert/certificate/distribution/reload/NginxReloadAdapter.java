@@ -0,0 +1,31 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nginx 재기동 어댑터 (nginx -t 후 nginx -s reload)
+ */
+@Component
+public class NginxReloadAdapter extends AbstractReloadAdapter {
+
+    public NginxReloadAdapter(DistributionProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected String getDefaultValidateCommand() {
+        return "nginx -t";
+    }
+
+    @Override
+    protected String getDefaultReloadCommand() {
+        return "nginx -s reload";
+    }
+
+    @Override
+    public WebServerType getWebServerType() {
+        return WebServerType.NGINX;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.model.Server;
+
+/**
+ * 웹서버 재기동 어댑터 인터페이스
+ *
+ * 웹서버 타입별 설정 검증 명령과 재기동 명령을 제공하며,
+ * 배포 스크립트가 이를 파일 교체/롤백 절차와 묶어 한 번의 SSH exec로 실행
+ */
+public interface ReloadAdapter {
+
+    /**
+     * 설정 검증 명령
+     *
+     * @param server 대상 서버
+     * @return 검증 명령 (검증 단계가 없으면 null)
+     */
+    String getValidateCommand(Server server);
+
+    /**
+     * 재기동 명령
+     *
+     * @param server 대상 서버
+     * @return 재기동 명령
+     */
+    String getReloadCommand(Server server);
+
+    /**
+     * 지원하는 웹서버 타입 반환
+     *
+     * @return 웹서버 타입
+     */
+    WebServerType getWebServerType();
+}
@@ -0,0 +1,56 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 재기동 어댑터 팩토리
+ *
+ * 웹서버 타입에 따라 적절한 재기동 어댑터 반환
+ */
+@Slf4j
+@Component
+public class ReloadAdapterFactory {
+
+    /**
+     * 생성 시 한 번만 채우고 이후 읽기 전용 (동시 조회에 동기화 불필요)
+     */
+    private final Map<WebServerType, ReloadAdapter> adapterMap;
+
+    public ReloadAdapterFactory(List<ReloadAdapter> reloadAdapters) {
+        Map<WebServerType, ReloadAdapter> adapters = new EnumMap<>(WebServerType.class);
+        for (ReloadAdapter adapter : reloadAdapters) {
+            adapters.put(adapter.getWebServerType(), adapter);
+            log.info("Registered reload adapter: {}", adapter.getWebServerType());
+        }
+        this.adapterMap = Collections.unmodifiableMap(adapters);
+    }
+
+    /**
+     * 웹서버 타입에 맞는 어댑터 반환
+     *
+     * @param webServerType 웹서버 타입
+     * @return 재기동 어댑터 (지원하지 않는 타입이면 empty)
+     */
+    public Optional<ReloadAdapter> getAdapter(WebServerType webServerType) {
+        if (webServerType == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(adapterMap.get(webServerType));
+    }
+
+    /**
+     * 지원하는 웹서버 타입 목록 반환
+     */
+    public WebServerType[] getSupportedTypes() {
+        return adapterMap.keySet().toArray(new WebServerType[0]);
+    }
+}
@@ -0,0 +1,47 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import static com.hwgi.autocert.certificate.distribution.ssh.SshClient.quote;
+
+/**
+ * Tomcat 재기동 어댑터 (configtest 후 Manager sslReload로 커넥터 TLS 설정만 재적재)
+ *
+ * sslReload는 manager-script 인증이 필요하므로 autocert.distribution.tomcat-manager 설정이 없으면
+ * reload-command 재정의 없이는 배포를 시작하지 않음
+ */
+@Component
+public class TomcatReloadAdapter extends AbstractReloadAdapter {
+
+    private final DistributionProperties properties;
+
+    public TomcatReloadAdapter(DistributionProperties properties) {
+        super(properties);
+        this.properties = properties;
+    }
+
+    @Override
+    protected String getDefaultValidateCommand() {
+        return "/opt/tomcat/bin/configtest.sh";
+    }
+
+    @Override
+    protected String getDefaultReloadCommand() {
+        DistributionProperties.TomcatManager manager = properties.getTomcatManager();
+        if (!StringUtils.hasText(manager.getUsername()) || !StringUtils.hasText(manager.getPassword())) {
+            throw new IllegalStateException("Tomcat Manager 인증 정보가 없습니다: "
+                + "autocert.distribution.tomcat-manager.username/password 또는 "
+                + "autocert.distribution.reload.tomcat.reload-command를 설정하세요");
+        }
+        return "curl -fsS -u " + quote(manager.getUsername() + ":" + manager.getPassword()) + " "
+            + quote(StringUtils.trimTrailingCharacter(manager.getUrl(), '/') + "/sslReload");
+    }
+
+    @Override
+    public WebServerType getWebServerType() {
+        return WebServerType.TOMCAT;
+    }
+}
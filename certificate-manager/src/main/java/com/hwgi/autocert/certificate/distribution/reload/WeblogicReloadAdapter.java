@@ -0,0 +1,31 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebLogic 재기동 어댑터 (설정 검증 단계 없음, 서비스 재시작)
+ */
+@Component
+public class WeblogicReloadAdapter extends AbstractReloadAdapter {
+
+    public WeblogicReloadAdapter(DistributionProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected String getDefaultValidateCommand() {
+        return null;
+    }
+
+    @Override
+    protected String getDefaultReloadCommand() {
+        return "systemctl restart weblogic";
+    }
+
+    @Override
+    public WebServerType getWebServerType() {
+        return WebServerType.WEBLOGIC;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebtoB 재기동 어댑터 (wscfl 설정 컴파일 후 재기동)
+ */
+@Component
+public class WebtobReloadAdapter extends AbstractReloadAdapter {
+
+    public WebtobReloadAdapter(DistributionProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected String getDefaultValidateCommand() {
+        return "wscfl -i http.m";
+    }
+
+    @Override
+    protected String getDefaultReloadCommand() {
+        return "wsdown -i && wsboot";
+    }
+
+    @Override
+    public WebServerType getWebServerType() {
+        return WebServerType.WEBTOB;
+    }
+}
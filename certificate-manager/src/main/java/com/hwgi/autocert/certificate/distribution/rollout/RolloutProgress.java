@@ -0,0 +1,52 @@
+package com.hwgi.autocert.certificate.distribution.rollout;
+
+import com.hwgi.autocert.domain.model.RolloutStatus;
+import com.hwgi.autocert.domain.model.RolloutTargetStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 롤아웃 진행 현황
+ */
+@Getter
+@Builder
+public class RolloutProgress {
+
+    private final Long rolloutId;
+
+    private final RolloutStatus status;
+
+    /**
+     * 현재 웨이브 번호 (0 = 카나리)
+     */
+    private final int currentWave;
+
+    private final int totalWaves;
+
+    private final long totalTargets;
+
+    /**
+     * 대상 상태별 서버 수
+     */
+    private final Map<RolloutTargetStatus, Long> targetCounts;
+
+    private final String message;
+
+    public long count(RolloutTargetStatus status) {
+        return targetCounts.getOrDefault(status, 0L);
+    }
+
+    /**
+     * 처리 완료 비율 (성공/실패/건너뜀, %)
+     */
+    public int getPercentComplete() {
+        if (totalTargets == 0) {
+            return 100;
+        }
+        long done = count(RolloutTargetStatus.SUCCEEDED) + count(RolloutTargetStatus.FAILED)
+                + count(RolloutTargetStatus.SKIPPED);
+        return (int) (done * 100 / totalTargets);
+    }
+}
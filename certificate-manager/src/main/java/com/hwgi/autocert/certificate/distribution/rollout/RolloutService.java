@@ -0,0 +1,496 @@
+package com.hwgi.autocert.certificate.distribution.rollout;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.health.ServerHealthMonitor;
+import com.hwgi.autocert.certificate.distribution.queue.ServerDeploymentLock;
+import com.hwgi.autocert.certificate.distribution.service.CertificateDistributionService;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.common.exception.ResourceNotFoundException;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Deployment;
+import com.hwgi.autocert.domain.model.Rollout;
+import com.hwgi.autocert.domain.model.RolloutStatus;
+import com.hwgi.autocert.domain.model.RolloutTarget;
+import com.hwgi.autocert.domain.model.RolloutTargetStatus;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.DeploymentRepository;
+import com.hwgi.autocert.domain.repository.RolloutRepository;
+import com.hwgi.autocert.domain.repository.RolloutTargetRepository;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단계적 배포(롤아웃) 서비스
+ *
+ * 하나의 인증서를 여러 서버에 카나리 → 웨이브 순서로 배포
+ * - 웨이브 0(카나리)에서 하나라도 실패하면 즉시 중단
+ * - 이후 웨이브는 시도한 대상 중 실패 비율이 임계치를 넘으면 중단
+ * - 일시정지/중단은 DB 상태로 기록되며, 실행 중인 롤아웃은 대상 배포 전마다 상태를 다시 확인
+ * - 서버 잠금을 배포 큐와 공유하여 같은 서버에 동시 배포하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RolloutService {
+
+    private static final List<RolloutStatus> ACTIVE_STATUSES =
+        List.of(RolloutStatus.PENDING, RolloutStatus.RUNNING, RolloutStatus.PAUSED);
+
+    private final RolloutRepository rolloutRepository;
+    private final RolloutTargetRepository rolloutTargetRepository;
+    private final CertificateRepository certificateRepository;
+    private final ServerRepository serverRepository;
+    private final DeploymentRepository deploymentRepository;
+    private final CertificateDistributionService distributionService;
+    private final CertificateEncryptionUtil encryptionUtil;
+    private final DistributionProperties properties;
+    private final ServerDeploymentLock serverLock;
+    private final ServerHealthMonitor healthMonitor;
+
+    /**
+     * 실행 스레드가 할당된 롤아웃 ID
+     */
+    private final Set<Long> activeRunners = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService orchestrator;
+
+    /**
+     * 실행 스레드 풀 생성 및 재시작 전 진행 중이던 롤아웃 일시정지
+     */
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        orchestrator = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "rollout-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (Rollout rollout : rolloutRepository.findByStatus(RolloutStatus.RUNNING)) {
+            rolloutRepository.updateStatus(rollout.getId(), List.of(RolloutStatus.RUNNING),
+                RolloutStatus.PAUSED, "Paused by application restart");
+            log.warn("Rollout {} was running before restart, paused", rollout.getId());
+        }
+    }
+
+    /**
+     * 실행 스레드 풀 종료
+     */
+    @PreDestroy
+    public void stop() {
+        if (orchestrator != null) {
+            orchestrator.shutdownNow();
+        }
+    }
+
+    /**
+     * 롤아웃 생성 (시작하지 않음)
+     *
+     * null인 옵션은 설정 기본값 사용
+     *
+     * @param certificateId 배포할 인증서 ID
+     * @param serverIds 대상 서버 ID (순서대로 웨이브에 배정)
+     * @param canarySize 카나리 웨이브 서버 수
+     * @param waveGrowthFactor 웨이브 크기 증가 배율
+     * @param maxWaveSize 최대 웨이브 크기
+     * @param concurrency 웨이브 내 동시 배포 수
+     * @param failureThresholdPercent 중단 임계치 (%)
+     * @return 생성된 롤아웃
+     */
+    @Transactional
+    public Rollout create(Long certificateId, List<Long> serverIds, Integer canarySize, Double waveGrowthFactor,
+                          Integer maxWaveSize, Integer concurrency, Integer failureThresholdPercent) {
+        DistributionProperties.Rollout defaults = properties.getRollout();
+
+        Certificate certificate = certificateRepository.findById(certificateId)
+                .orElseThrow(() -> new ResourceNotFoundException("인증서를 찾을 수 없습니다: " + certificateId));
+        if (certificate.getCertificatePem() == null || certificate.getPrivateKeyPem() == null) {
+            throw new IllegalStateException("배포할 인증서 또는 개인키가 없습니다: " + certificateId);
+        }
+
+        List<Long> distinctIds = serverIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            throw new IllegalArgumentException("대상 서버가 없습니다");
+        }
+        Map<Long, Server> servers = new HashMap<>();
+        serverRepository.findAllById(distinctIds).forEach(server -> servers.put(server.getId(), server));
+        for (Long serverId : distinctIds) {
+            if (!servers.containsKey(serverId)) {
+                throw new ResourceNotFoundException("서버를 찾을 수 없습니다: " + serverId);
+            }
+        }
+
+        int canary = canarySize != null ? canarySize : defaults.getCanarySize();
+        double growth = waveGrowthFactor != null ? waveGrowthFactor : defaults.getWaveGrowthFactor();
+        int maxWave = maxWaveSize != null ? maxWaveSize : defaults.getMaxWaveSize();
+        int workers = concurrency != null ? concurrency : defaults.getConcurrency();
+        int threshold = failureThresholdPercent != null ? failureThresholdPercent : defaults.getFailureThresholdPercent();
+
+        if (canary < 1 || maxWave < 1 || workers < 1 || growth < 1.0 || threshold < 0 || threshold > 100) {
+            throw new IllegalArgumentException("잘못된 롤아웃 설정입니다");
+        }
+
+        List<Integer> waveSizes = planWaves(distinctIds.size(), canary, growth, maxWave);
+
+        Rollout rollout = rolloutRepository.save(Rollout.builder()
+                .certificate(certificate)
+                .status(RolloutStatus.PENDING)
+                .canarySize(canary)
+                .waveGrowthFactor(growth)
+                .maxWaveSize(maxWave)
+                .concurrency(workers)
+                .failureThresholdPercent(threshold)
+                .totalWaves(waveSizes.size())
+                .currentWave(0)
+                .build());
+
+        List<RolloutTarget> targets = new ArrayList<>(distinctIds.size());
+        int index = 0;
+        for (int wave = 0; wave < waveSizes.size(); wave++) {
+            for (int i = 0; i < waveSizes.get(wave); i++) {
+                targets.add(RolloutTarget.builder()
+                        .rollout(rollout)
+                        .server(servers.get(distinctIds.get(index++)))
+                        .waveNumber(wave)
+                        .status(RolloutTargetStatus.PENDING)
+                        .build());
+            }
+        }
+        rolloutTargetRepository.saveAll(targets);
+
+        log.info("Rollout {} created for certificate {}: {} server(s) in {} wave(s) {}",
+                rollout.getId(), certificateId, distinctIds.size(), waveSizes.size(), waveSizes);
+        return rollout;
+    }
+
+    /**
+     * 롤아웃 시작
+     *
+     * @param rolloutId 롤아웃 ID
+     */
+    public void start(Long rolloutId) {
+        transition(rolloutId, RolloutStatus.PENDING, RolloutStatus.RUNNING, "Started");
+        rolloutRepository.markStarted(rolloutId, LocalDateTime.now());
+        submit(rolloutId);
+    }
+
+    /**
+     * 롤아웃 일시정지
+     *
+     * 진행 중인 대상 배포는 마무리되고, 이후 대상은 대기 상태로 유지
+     *
+     * @param rolloutId 롤아웃 ID
+     */
+    public void pause(Long rolloutId) {
+        transition(rolloutId, RolloutStatus.RUNNING, RolloutStatus.PAUSED, "Paused");
+    }
+
+    /**
+     * 롤아웃 재개 (현재 웨이브의 남은 대상부터 계속)
+     *
+     * @param rolloutId 롤아웃 ID
+     */
+    public void resume(Long rolloutId) {
+        transition(rolloutId, RolloutStatus.PAUSED, RolloutStatus.RUNNING, "Resumed");
+        submit(rolloutId);
+    }
+
+    /**
+     * 롤아웃 중단 (대기 중인 대상은 건너뜀 처리)
+     *
+     * @param rolloutId 롤아웃 ID
+     */
+    public void abort(Long rolloutId) {
+        getRollout(rolloutId);
+        if (!abort(rolloutId, "Aborted by user")) {
+            throw new IllegalStateException("이미 종료된 롤아웃입니다: " + rolloutId);
+        }
+    }
+
+    /**
+     * 롤아웃 조회
+     */
+    @Transactional(readOnly = true)
+    public Rollout getRollout(Long rolloutId) {
+        return rolloutRepository.findWithCertificateById(rolloutId)
+                .orElseThrow(() -> new ResourceNotFoundException("롤아웃을 찾을 수 없습니다: " + rolloutId));
+    }
+
+    /**
+     * 롤아웃 대상 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<RolloutTarget> getTargets(Long rolloutId, Pageable pageable) {
+        getRollout(rolloutId);
+        return rolloutTargetRepository.findPageByRolloutId(rolloutId, pageable);
+    }
+
+    /**
+     * 롤아웃 진행 현황 조회
+     */
+    @Transactional(readOnly = true)
+    public RolloutProgress getProgress(Long rolloutId) {
+        Rollout rollout = getRollout(rolloutId);
+        Map<RolloutTargetStatus, Long> counts = countTargets(rolloutId);
+
+        return RolloutProgress.builder()
+                .rolloutId(rolloutId)
+                .status(rollout.getStatus())
+                .currentWave(rollout.getCurrentWave())
+                .totalWaves(rollout.getTotalWaves())
+                .totalTargets(counts.values().stream().mapToLong(Long::longValue).sum())
+                .targetCounts(counts)
+                .message(rollout.getMessage())
+                .build();
+    }
+
+    /**
+     * 웨이브 크기 계획
+     *
+     * 카나리 크기로 시작하여 웨이브마다 증가 배율만큼 키우되 최대 웨이브 크기를 넘지 않음
+     * 예: 대상 20대, 카나리 1, 배율 2.0, 최대 8 → [1, 2, 4, 8, 5]
+     *
+     * @param total 전체 대상 수
+     * @param canarySize 카나리 웨이브 크기
+     * @param growthFactor 증가 배율 (1.0 이상)
+     * @param maxWaveSize 최대 웨이브 크기
+     * @return 웨이브별 대상 수
+     */
+    static List<Integer> planWaves(int total, int canarySize, double growthFactor, int maxWaveSize) {
+        List<Integer> sizes = new ArrayList<>();
+        int remaining = total;
+        double size = Math.min(canarySize, maxWaveSize);
+
+        while (remaining > 0) {
+            int wave = (int) Math.min(Math.max(1, Math.round(size)), remaining);
+            sizes.add(wave);
+            remaining -= wave;
+            size = Math.min(size * growthFactor, maxWaveSize);
+        }
+        return sizes;
+    }
+
+    /**
+     * 웨이브 종료 후 중단 여부 판단
+     *
+     * @param wave 종료된 웨이브 번호
+     * @param counts 대상 상태별 수 (롤아웃 전체 누적)
+     * @param thresholdPercent 중단 임계치 (%)
+     * @return 중단 사유 (계속 진행하면 null)
+     */
+    static String evaluateWave(int wave, Map<RolloutTargetStatus, Long> counts, int thresholdPercent) {
+        long failed = counts.getOrDefault(RolloutTargetStatus.FAILED, 0L);
+        long succeeded = counts.getOrDefault(RolloutTargetStatus.SUCCEEDED, 0L);
+
+        if (wave == 0 && failed > 0) {
+            return "Canary wave failed on " + failed + " server(s)";
+        }
+
+        long attempted = failed + succeeded;
+        if (attempted > 0 && failed * 100 > (long) thresholdPercent * attempted) {
+            return String.format("Failure rate %d%% exceeded threshold %d%% (%d/%d)",
+                    failed * 100 / attempted, thresholdPercent, failed, attempted);
+        }
+        return null;
+    }
+
+    /**
+     * 롤아웃 실행 (오케스트레이터 스레드)
+     */
+    void run(Long rolloutId) {
+        try {
+            Rollout rollout = getRollout(rolloutId);
+            Certificate certificate = rollout.getCertificate();
+            String privateKey = encryptionUtil.decryptPrivateKey(certificate);
+
+            for (int wave = rollout.getCurrentWave(); wave < rollout.getTotalWaves(); wave++) {
+                if (!isRunning(rolloutId)) {
+                    return;
+                }
+                rolloutRepository.updateCurrentWave(rolloutId, wave);
+
+                List<RolloutTarget> targets = rolloutTargetRepository.findByWave(
+                    rolloutId, wave, RolloutTargetStatus.PENDING);
+                log.info("Rollout {} wave {}/{}: deploying to {} server(s)",
+                        rolloutId, wave, rollout.getTotalWaves() - 1, targets.size());
+
+                runWave(rollout, certificate, privateKey, targets);
+
+                // 일시정지/중단된 경우 남은 대상은 재개 시 처리
+                if (!isRunning(rolloutId)) {
+                    return;
+                }
+
+                String abortReason = evaluateWave(wave, countTargets(rolloutId), rollout.getFailureThresholdPercent());
+                if (abortReason != null) {
+                    log.warn("Rollout {} aborted after wave {}: {}", rolloutId, wave, abortReason);
+                    abort(rolloutId, abortReason);
+                    return;
+                }
+            }
+
+            rolloutRepository.finish(rolloutId, List.of(RolloutStatus.RUNNING), RolloutStatus.COMPLETED,
+                "Completed", LocalDateTime.now());
+            log.info("Rollout {} completed", rolloutId);
+
+        } catch (Exception e) {
+            log.error("Rollout {} failed: {}", rolloutId, e.getMessage(), e);
+            abort(rolloutId, "Rollout error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 웨이브 내 대상을 동시 배포 수만큼 병렬 배포
+     */
+    private void runWave(Rollout rollout, Certificate certificate, String privateKey, List<RolloutTarget> targets) {
+        int workers = Math.min(rollout.getConcurrency(), Math.max(1, targets.size()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        try (ExecutorService pool = Executors.newFixedThreadPool(workers, runnable ->
+                new Thread(runnable, "rollout-" + rollout.getId() + "-worker-" + threadNumber.incrementAndGet()))) {
+            for (RolloutTarget target : targets) {
+                pool.execute(() -> deployTarget(rollout.getId(), certificate, privateKey, target));
+            }
+        }
+    }
+
+    /**
+     * 대상 서버 배포
+     */
+    void deployTarget(Long rolloutId, Certificate certificate, String privateKey, RolloutTarget target) {
+        if (!isRunning(rolloutId)) {
+            return;
+        }
+
+        Server server = target.getServer();
+
+        // 연결 불가로 확인된 서버는 SSH 타임아웃을 기다리지 않고 건너뜀 (카나리는 검증이 필요하므로 실패 처리)
+        if (!healthMonitor.isReachable(server.getId())) {
+            boolean canary = target.getWaveNumber() != null && target.getWaveNumber() == 0;
+            log.warn("Rollout {}: server {} is unreachable, marking as {}", rolloutId, server.getId(),
+                    canary ? "failed" : "skipped");
+            target.setStatus(canary ? RolloutTargetStatus.FAILED : RolloutTargetStatus.SKIPPED);
+            rolloutTargetRepository.save(target);
+            return;
+        }
+
+        boolean locked = false;
+        try {
+            locked = serverLock.acquire(server.getId(), properties.getRollout().getLockTimeout(), TimeUnit.MILLISECONDS);
+            if (!locked) {
+                log.warn("Rollout {}: server {} is busy, marking as failed", rolloutId, server.getId());
+                target.setStatus(RolloutTargetStatus.FAILED);
+                rolloutTargetRepository.save(target);
+                return;
+            }
+
+            target.setStatus(RolloutTargetStatus.IN_PROGRESS);
+            rolloutTargetRepository.save(target);
+
+            boolean success = distributionService.deployAll(server, Map.of(certificate, privateKey));
+
+            List<Deployment> latest = deploymentRepository.findLatestDeployment(
+                certificate.getId(), server.getId(), PageRequest.of(0, 1));
+            if (!latest.isEmpty()) {
+                target.setDeployment(latest.get(0));
+            }
+            target.setStatus(success ? RolloutTargetStatus.SUCCEEDED : RolloutTargetStatus.FAILED);
+            rolloutTargetRepository.save(target);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            target.setStatus(RolloutTargetStatus.PENDING);
+            rolloutTargetRepository.save(target);
+        } catch (Exception e) {
+            log.error("Rollout {}: deployment to server {} failed: {}", rolloutId, server.getId(), e.getMessage(), e);
+            target.setStatus(RolloutTargetStatus.FAILED);
+            rolloutTargetRepository.save(target);
+        } finally {
+            if (locked) {
+                serverLock.release(server.getId());
+            }
+        }
+    }
+
+    /**
+     * 상태 전이 (허용되지 않으면 예외)
+     */
+    private void transition(Long rolloutId, RolloutStatus expected, RolloutStatus status, String message) {
+        getRollout(rolloutId);
+        if (rolloutRepository.updateStatus(rolloutId, List.of(expected), status, message) == 0) {
+            throw new IllegalStateException(
+                String.format("롤아웃 %d 상태가 %s가 아니므로 %s로 변경할 수 없습니다", rolloutId, expected, status));
+        }
+        log.info("Rollout {} {} -> {}", rolloutId, expected, status);
+    }
+
+    /**
+     * 롤아웃 중단 및 대기 대상 건너뜀 처리
+     *
+     * @return 중단 여부 (이미 종료된 경우 false)
+     */
+    private boolean abort(Long rolloutId, String reason) {
+        int updated = rolloutRepository.finish(rolloutId, ACTIVE_STATUSES, RolloutStatus.ABORTED,
+            reason, LocalDateTime.now());
+        if (updated > 0) {
+            rolloutTargetRepository.updateStatusByRollout(rolloutId,
+                RolloutTargetStatus.PENDING, RolloutTargetStatus.SKIPPED);
+        }
+        return updated > 0;
+    }
+
+    /**
+     * 실행 스레드 할당
+     *
+     * 이전 실행 스레드가 아직 종료 중이면 그 스레드가 종료 직전에 다시 할당
+     */
+    private void submit(Long rolloutId) {
+        if (activeRunners.add(rolloutId)) {
+            orchestrator.execute(() -> {
+                try {
+                    run(rolloutId);
+                } finally {
+                    activeRunners.remove(rolloutId);
+                    if (isRunning(rolloutId)) {
+                        submit(rolloutId);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean isRunning(Long rolloutId) {
+        return rolloutRepository.findStatusById(rolloutId)
+                .map(status -> status == RolloutStatus.RUNNING)
+                .orElse(false);
+    }
+
+    private Map<RolloutTargetStatus, Long> countTargets(Long rolloutId) {
+        Map<RolloutTargetStatus, Long> counts = new EnumMap<>(RolloutTargetStatus.class);
+        for (Object[] row : rolloutTargetRepository.countByStatus(rolloutId)) {
+            counts.put((RolloutTargetStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -1,19 +1,42 @@
 package com.hwgi.autocert.certificate.distribution.service;
 
 import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.keystore.KeystoreService;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentMetrics;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentPhase;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentTimer;
+import com.hwgi.autocert.certificate.distribution.probe.TlsProbe;
+import com.hwgi.autocert.certificate.distribution.probe.TlsProbeResult;
+import com.hwgi.autocert.certificate.distribution.reload.DeployScriptBuilder;
+import com.hwgi.autocert.certificate.distribution.reload.ReloadAdapter;
+import com.hwgi.autocert.certificate.distribution.reload.ReloadAdapterFactory;
+import com.hwgi.autocert.certificate.distribution.ssh.CircuitOpenException;
+import com.hwgi.autocert.certificate.distribution.ssh.RemoteCommandException;
 import com.hwgi.autocert.certificate.distribution.ssh.SshClient;
+import com.hwgi.autocert.certificate.distribution.ssh.SshConnector;
+import com.hwgi.autocert.certificate.distribution.ssh.TarBundle;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
 import com.hwgi.autocert.domain.model.Certificate;
 import com.hwgi.autocert.domain.model.Deployment;
 import com.hwgi.autocert.domain.model.DeploymentStatus;
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
 import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
 import com.hwgi.autocert.domain.repository.DeploymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.schmizz.sshj.SSHClient;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * 인증서 배포 서비스
@@ -25,121 +48,368 @@ import java.time.LocalDateTime;
 public class CertificateDistributionService {
 
     private final SshClient sshClient;
+    private final SshConnector sshConnector;
     private final DeploymentRepository deploymentRepository;
     private final DistributionProperties properties;
+    private final ReloadAdapterFactory reloadAdapterFactory;
+    private final DeployScriptBuilder deployScriptBuilder;
+    private final TlsProbe tlsProbe;
+    private final DeploymentMetrics deploymentMetrics;
+    private final KeystoreService keystoreService;
+    private final IntermediateCertificateStore intermediateCertificateStore;
 
     /**
-     * 서버에 인증서 배포
+     * 한 서버에 여러 인증서를 배포 (단일 SSH 연결, 업로드 후 재기동 1회)
      *
-     * @param certificate 배포할 인증서
-     * @param decryptedPrivateKey 복호화된 개인키
+     * 파일은 스테이징 경로로 업로드한 뒤 원격 스크립트에서 백업 후 rename으로 교체하며,
+     * 설정 검증 또는 재기동이 실패하면 백업을 복구하고 ROLLED_BACK으로 기록
+     *
+     * 배포 큐 워커가 같은 서버의 대기 작업을 모아 트랜잭션 밖에서 호출하므로
+     * 인증서와 서버 정보는 미리 로딩된 상태여야 함
+     *
+     * @param server 배포 대상 서버
+     * @param certificates 배포할 인증서와 복호화된 개인키
      * @return 배포 성공 여부
      */
-    @Transactional
-    public boolean deploy(Certificate certificate, String decryptedPrivateKey) {
-        Server server = certificate.getServer();
+    public boolean deployAll(Server server, Map<Certificate, String> certificates) {
+        DeploymentRun run = startRun(server, certificates);
 
-        if (server == null) {
-            log.error("Certificate {} has no associated server", certificate.getId());
-            return false;
+        // 1. SSH 연결 (서킷 브레이커가 열린 서버는 즉시 실패)
+        SSHClient ssh = null;
+        Exception connectError = null;
+        try {
+            ssh = sshConnector.connect(server, run.timer());
+        } catch (Exception e) {
+            connectError = e;
         }
+        return deployConnected(server, certificates, run, ssh, connectError);
+    }
 
-        log.info("Starting deployment of certificate {} to server {} ({}:{})",
-                certificate.getId(),
+    /**
+     * 한 서버에 여러 인증서를 비동기로 배포
+     *
+     * SSH 연결(재시도 대기 포함)은 호출 스레드를 점유하지 않고, 연결된 뒤 업로드-재기동-검증을 executor에서 이어서 수행
+     * (연결 대기 중인 서버가 배포 워커를 차지하지 않도록 배포 큐에서 사용, 트랜잭션 밖에서 호출해야 함)
+     *
+     * @param server 배포 대상 서버
+     * @param certificates 배포할 인증서와 복호화된 개인키
+     * @param executor 연결 후 배포를 이어서 수행할 실행기
+     * @return 배포 성공 여부 (실패도 false로 완료)
+     */
+    public CompletableFuture<Boolean> deployAllAsync(Server server, Map<Certificate, String> certificates,
+                                                     Executor executor) {
+        DeploymentRun run = startRun(server, certificates);
+
+        // 1. SSH 연결 (서킷 브레이커가 열린 서버는 즉시 실패)
+        return sshConnector.connectAsync(server, run.timer()).handleAsync((ssh, error) -> deployConnected(
+                server, certificates, run, ssh,
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error),
+            executor);
+    }
+
+    /**
+     * 배포 시작 시각과 배포 이력(IN_PROGRESS)
+     */
+    private record DeploymentRun(List<Deployment> deployments, DeploymentTimer timer, long startTime,
+                                 long startNanos) {
+    }
+
+    private DeploymentRun startRun(Server server, Map<Certificate, String> certificates) {
+        log.info("Starting deployment of {} certificate(s) {} to server {} ({}:{})",
+                certificates.size(),
+                certificates.keySet().stream().map(Certificate::getId).toList(),
                 server.getName(),
                 server.getIpAddress(),
                 server.getPort());
 
         long startTime = System.currentTimeMillis();
-        Deployment deployment = createDeployment(certificate, server, DeploymentStatus.IN_PROGRESS);
+        long startNanos = System.nanoTime();
+        List<Deployment> deployments = new ArrayList<>();
+        for (Certificate certificate : certificates.keySet()) {
+            deployments.add(createDeployment(certificate, server, DeploymentStatus.IN_PROGRESS));
+        }
+        return new DeploymentRun(deployments, new DeploymentTimer(), startTime, startNanos);
+    }
 
-        SSHClient ssh = null;
+    /**
+     * 연결된 서버에 업로드-교체-재기동-검증 수행 (연결 실패도 여기서 기록)
+     */
+    private boolean deployConnected(Server server, Map<Certificate, String> certificates, DeploymentRun run,
+                                    SSHClient ssh, Throwable connectError) {
+        List<Deployment> deployments = run.deployments();
+        DeploymentTimer timer = run.timer();
+        long startTime = run.startTime();
         try {
-            // 1. SSH 연결
-            ssh = connectWithRetry(server);
+            if (connectError != null) {
+                throw connectError instanceof Exception exception
+                    ? exception
+                    : new IOException(connectError.getMessage(), connectError);
+            }
 
             // 2. 배포 경로 결정
             String deployPath = server.getDeployPath() != null
                 ? server.getDeployPath()
                 : properties.getSsh().getDefaultCertPath();
 
-            String certPath = deployPath + "/" + certificate.getDomain() + ".crt";
-            String keyPath = deployPath + "/" + certificate.getDomain() + ".key";
-            String chainPath = deployPath + "/" + certificate.getDomain() + "-chain.crt";
+            // 3. 인증서 파일을 스테이징 경로로 업로드 (기존 파일은 아직 변경하지 않음)
+            long uploadStart = System.nanoTime();
+            TarBundle bundle = new TarBundle();
+            for (Map.Entry<Certificate, String> entry : certificates.entrySet()) {
+                addCertificateFiles(bundle, server, deployPath, entry.getKey(), entry.getValue());
+            }
+            List<String> targetPaths = stageFiles(ssh, deployPath, bundle);
+            timer.record(DeploymentPhase.UPLOAD, System.nanoTime() - uploadStart);
+
+            // 4. 백업 → 원자적 교체 → 설정 검증 → 재기동 (실패 시 원격에서 즉시 복구)
+            ReloadAdapter adapter = reloadAdapterFactory.getAdapter(server.getWebServerType()).orElse(null);
+            if (adapter == null) {
+                log.debug("No reload adapter for server {} (type: {}), swapping files without reload",
+                    server.getName(), server.getWebServerType());
+            }
+
+            String script = deployScriptBuilder.buildDeployScript(targetPaths, adapter, server);
+            long reloadStart = System.nanoTime();
+            String result;
+            try {
+                result = sshClient.executeSudoScript(ssh, script, server.getPassword());
+            } finally {
+                timer.record(DeploymentPhase.RELOAD, System.nanoTime() - reloadStart);
+            }
+            log.debug("Deploy script output on server {}: {}", server.getName(), result);
 
-            // 3. 인증서 파일 업로드
-            log.info("Uploading certificate files to {} - Certificate ID: {}, Domain: {}, IssuedAt: {}, ExpiresAt: {}", 
-                deployPath, certificate.getId(), certificate.getDomain(), 
-                certificate.getIssuedAt(), certificate.getExpiresAt());
-            sshClient.uploadContent(ssh, certificate.getCertificatePem(), certPath);
-            sshClient.uploadContent(ssh, decryptedPrivateKey, keyPath);
+            // 5. 배포 성공 기록
+            long duration = System.currentTimeMillis() - startTime;
+            for (Deployment deployment : deployments) {
+                updateDeploymentStatus(deployment, DeploymentStatus.SUCCESS, deployPath,
+                    "Successfully deployed certificate files", duration);
+            }
+
+            log.info("{} certificate(s) deployed successfully to server {} in {}ms",
+                    certificates.size(), server.getName(), duration);
 
-            if (certificate.getChainPem() != null && !certificate.getChainPem().isEmpty()) {
-                sshClient.uploadContent(ssh, certificate.getChainPem(), chainPath);
+            // 6. 배포 후 TLS 검증 (다른 인증서가 제공되거나 재기동 후 응답이 없으면 롤백)
+            long verifyStart = System.nanoTime();
+            try {
+                return verifyDeployment(ssh, server, deployments, targetPaths, adapter);
+            } finally {
+                timer.record(DeploymentPhase.VERIFY, System.nanoTime() - verifyStart);
             }
 
-            // 4. 배포 성공 기록
+        } catch (CircuitOpenException e) {
+            // 연속 연결 실패로 차단된 서버 - 연결을 시도하지 않음
+            log.warn("Skipping deployment to server {}: {}", server.getName(), e.getMessage());
+            markFailed(deployments, e, System.currentTimeMillis() - startTime);
+            return false;
+
+        } catch (RemoteCommandException e) {
             long duration = System.currentTimeMillis() - startTime;
-            updateDeploymentStatus(deployment, DeploymentStatus.SUCCESS, deployPath,
-                "Successfully deployed certificate files", duration);
 
-            log.info("Certificate {} deployed successfully to server {} in {}ms",
-                    certificate.getId(), server.getName(), duration);
+            if (e.getExitStatus() != DeployScriptBuilder.ROLLBACK_EXIT_CODE) {
+                log.error("Failed to deploy certificate(s) to server {}: {}",
+                        server.getName(), e.getMessage(), e);
+                markFailed(deployments, e, duration);
+                return false;
+            }
 
-            // 5. Nginx 재기동 (서버 타입이 NGINX인 경우)
-            reloadNginxIfNeeded(ssh, server);
+            // 교체/검증/재기동 실패 - 원격 스크립트가 이전 파일로 복구함
+            log.error("Swap, validation or reload failed on server {}, previous files restored: {}",
+                    server.getName(), e.getMessage());
+            for (Deployment deployment : deployments) {
+                updateDeploymentStatus(deployment, DeploymentStatus.ROLLED_BACK, null,
+                    "Swap, validation or reload failed, previous files restored: " + e.getMessage(), duration);
+            }
 
-            return true;
+            return false;
 
         } catch (Exception e) {
-            log.error("Failed to deploy certificate {} to server {}: {}",
-                    certificate.getId(), server.getName(), e.getMessage(), e);
+            log.error("Failed to deploy certificate(s) to server {}: {}",
+                    server.getName(), e.getMessage(), e);
 
             long duration = System.currentTimeMillis() - startTime;
-            updateDeploymentStatus(deployment, DeploymentStatus.FAILED, null,
-                "Deployment failed: " + e.getMessage(), duration);
+            markFailed(deployments, e, duration);
 
             return false;
 
         } finally {
             sshClient.disconnect(ssh);
+            recordTimings(server, deployments, timer, System.nanoTime() - run.startNanos());
         }
     }
 
     /**
-     * 재시도 로직을 포함한 SSH 연결
+     * 단계별 소요 시간을 배포 이력에 저장하고 메트릭으로 내보냄
+     */
+    private void recordTimings(Server server, List<Deployment> deployments, DeploymentTimer timer, long totalNanos) {
+        try {
+            Map<String, Long> phaseTimings = timer.toMillis();
+            for (Deployment deployment : deployments) {
+                deployment.setPhaseTimings(phaseTimings);
+            }
+            deploymentRepository.saveAll(deployments);
+
+            String outcome = deployments.isEmpty()
+                ? "unknown"
+                : deployments.get(0).getStatus().name().toLowerCase();
+            deploymentMetrics.record(server, timer, totalNanos, outcome);
+
+            log.debug("Deployment phase timings for server {}: {}", server.getName(), phaseTimings);
+        } catch (Exception e) {
+            log.warn("Failed to record deployment timings for server {}: {}", server.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 인증서 파일을 번들에 추가 (인증서, 개인키, 체인, Java 애플리케이션 서버는 키스토어)
      *
-     * @param server 서버
-     * @return SSH 클라이언트
+     * @param bundle 업로드 번들
+     * @param server 배포 대상 서버
+     * @param deployPath 배포 경로
+     * @param certificate 인증서
+     * @param decryptedPrivateKey 복호화된 개인키
      */
-    private SSHClient connectWithRetry(Server server) throws Exception {
-        int maxRetries = properties.getSsh().getMaxRetries();
-        int retryDelay = properties.getSsh().getRetryDelay();
+    private void addCertificateFiles(TarBundle bundle, Server server, String deployPath, Certificate certificate,
+                                     String decryptedPrivateKey) {
+        String certPath = deployPath + "/" + certificate.getDomain() + ".crt";
+        String keyPath = deployPath + "/" + certificate.getDomain() + ".key";
+        String chainPath = deployPath + "/" + certificate.getDomain() + "-chain.crt";
+
+        log.info("Uploading certificate files to {} - Certificate ID: {}, Domain: {}, IssuedAt: {}, ExpiresAt: {}", 
+            deployPath, certificate.getId(), certificate.getDomain(), 
+            certificate.getIssuedAt(), certificate.getExpiresAt());
+
+        bundle.add(certPath, certificate.getCertificatePem(), 0600);
+        bundle.add(keyPath, decryptedPrivateKey, 0600);
+
+        // 리프만 저장된 인증서도 저장된 중간 인증서로 체인 파일을 완성 (네트워크 조회 없음)
+        String chainPem = intermediateCertificateStore.completeChainPem(
+            certificate.getCertificatePem(), certificate.getChainPem());
+        if (chainPem != null && !chainPem.isEmpty()) {
+            bundle.add(chainPath, chainPem, 0600);
+        }
 
-        Exception lastException = null;
+        keystoreService.getFormat(server).ifPresent(format -> bundle.add(
+            deployPath + "/" + certificate.getDomain() + "." + format.getExtension(),
+            keystoreService.getKeystore(server, certificate, decryptedPrivateKey, format),
+            0600));
+    }
 
-        for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            try {
-                log.debug("SSH connection attempt {}/{} to {}", attempt, maxRetries, server.getIpAddress());
-
-                return sshClient.connect(
-                    server.getIpAddress(),
-                    server.getPort(),
-                    server.getUsername(),
-                    server.getPassword()
-                );
-
-            } catch (Exception e) {
-                lastException = e;
-                log.warn("SSH connection attempt {}/{} failed: {}", attempt, maxRetries, e.getMessage());
-
-                if (attempt < maxRetries) {
-                    Thread.sleep(retryDelay * attempt); // Exponential backoff
-                }
+    /**
+     * 번들 파일을 스테이징 경로(.autocert-new)로 업로드
+     *
+     * 기본은 tar 단일 스트림 업로드(원격 체크섬 검증 포함)이며,
+     * bundle-upload가 꺼져 있으면 파일별 SFTP 업로드
+     *
+     * @return 교체할 원격 파일 경로
+     */
+    private List<String> stageFiles(SSHClient ssh, String deployPath, TarBundle bundle) throws Exception {
+        if (properties.getSsh().isBundleUpload()) {
+            sshClient.uploadBundle(ssh, bundle, deployPath + "/.autocert-staging",
+                DeployScriptBuilder.STAGING_SUFFIX);
+        } else {
+            for (TarBundle.Entry entry : bundle.getEntries()) {
+                sshClient.uploadContent(ssh, entry.getContent(),
+                    entry.getRemotePath() + DeployScriptBuilder.STAGING_SUFFIX);
+            }
+        }
+
+        List<String> targetPaths = new ArrayList<>();
+        for (TarBundle.Entry entry : bundle.getEntries()) {
+            targetPaths.add(entry.getRemotePath());
+        }
+        return targetPaths;
+    }
+
+    /**
+     * 배포 후 TLS 핸드셰이크 검증
+     *
+     * 배포한 인증서마다 SNI로 접속하여 제공되는 인증서를 확인하고 결과를 배포 이력에 기록
+     * 다른 인증서가 제공되거나, 배포 전 HTTPS 포트가 열려 있던(UP) 서버가 재기동 후 응답하지 않으면
+     * 백업 파일을 복구하고 ROLLED_BACK으로 기록
+     *
+     * @return 검증 통과(또는 검증 생략) 여부
+     */
+    private boolean verifyDeployment(SSHClient ssh, Server server, List<Deployment> deployments,
+                                     List<String> targetPaths, ReloadAdapter adapter) {
+        DistributionProperties.Probe probe = properties.getProbe();
+        if (!probe.isEnabled()) {
+            return true;
+        }
+
+        // 와일드카드가 포함하는 구체적인 이름이 없는 인증서는 지문 비교를 생략 (apex는 다른 vhost일 수 있음)
+        List<Deployment> probed = new ArrayList<>();
+        List<TlsProbe.Target> targets = new ArrayList<>();
+        for (Deployment deployment : deployments) {
+            Certificate certificate = deployment.getCertificate();
+            Optional<String> serverName = tlsProbe.serverNameFor(certificate.getDomain(), certificate.getCertificatePem());
+            if (serverName.isEmpty()) {
+                log.info("Skipping TLS probe of {} on server {}: no concrete host name under the wildcard",
+                    certificate.getDomain(), server.getName());
+                continue;
+            }
+            probed.add(deployment);
+            targets.add(new TlsProbe.Target(server.getIpAddress(), probe.getPort(), serverName.get(),
+                certificate.getCertificatePem()));
+        }
+        List<TlsProbeResult> results = tlsProbe.probeAll(targets);
+
+        // 배포 전 HTTPS 포트가 열려 있었다면 연결 실패는 네트워크가 아니라 재기동 문제로 판단
+        boolean rollbackOnUnreachable = probe.isRollbackOnUnreachable()
+                && server.getHealthStatus() == ServerHealthStatus.UP;
+
+        String failureMessage = null;
+        for (int i = 0; i < probed.size(); i++) {
+            Deployment deployment = probed.get(i);
+            TlsProbeResult result = results.get(i);
+
+            deployment.setVerificationStatus(result.getStatus());
+            deployment.setServedSerial(result.getServedSerial());
+            deployment.setServedFingerprint(result.getServedFingerprint());
+            deployment.setHandshakeMs(result.getHandshakeMs());
+            deployment.setVerifiedAt(LocalDateTime.now());
+            deploymentRepository.save(deployment);
+
+            boolean failed = (result.getStatus() == DeploymentVerificationStatus.MISMATCH && probe.isRollbackOnMismatch())
+                    || (result.getStatus() == DeploymentVerificationStatus.UNREACHABLE && rollbackOnUnreachable);
+            if (failed && failureMessage == null) {
+                failureMessage = deployment.getCertificate().getDomain() + ": " + result.getMessage();
+            }
+        }
+
+        if (failureMessage == null) {
+            return true;
+        }
+
+        log.error("Post-deploy TLS probe failed on server {}, rolling back: {}", server.getName(), failureMessage);
+        try {
+            sshClient.executeSudoScript(ssh,
+                deployScriptBuilder.buildRollbackScript(targetPaths, adapter, server), server.getPassword());
+
+            for (Deployment deployment : deployments) {
+                deployment.setStatus(DeploymentStatus.ROLLED_BACK);
+                deployment.setMessage("Post-deploy TLS probe failed, previous files restored: " + failureMessage);
+                deploymentRepository.save(deployment);
+            }
+        } catch (Exception e) {
+            log.error("Rollback failed on server {}: {}", server.getName(), e.getMessage(), e);
+            for (Deployment deployment : deployments) {
+                deployment.setStatus(DeploymentStatus.FAILED);
+                deployment.setMessage("Post-deploy TLS probe failed (" + failureMessage
+                    + ") and rollback failed: " + e.getMessage());
+                deploymentRepository.save(deployment);
             }
         }
 
-        throw new Exception("Failed to connect after " + maxRetries + " attempts", lastException);
+        return false;
+    }
+
+    /**
+     * 배포 이력 실패 처리
+     */
+    private void markFailed(List<Deployment> deployments, Exception e, long duration) {
+        for (Deployment deployment : deployments) {
+            updateDeploymentStatus(deployment, DeploymentStatus.FAILED, null,
+                "Deployment failed: " + e.getMessage(), duration);
+        }
     }
 
     /**
@@ -179,41 +449,6 @@ public class CertificateDistributionService {
         deploymentRepository.save(deployment);
     }
 
-    /**
-     * Nginx 재기동 (서버 타입이 NGINX인 경우에만)
-     *
-     * @param ssh SSH 클라이언트
-     * @param server 서버
-     */
-    private void reloadNginxIfNeeded(SSHClient ssh, Server server) {
-        // Nginx 서버가 아닌 경우 스킵
-        if (!"nginx".equalsIgnoreCase(server.getWebServerType().getCode())) {
-            log.debug("Server {} is not Nginx type, skipping reload", server.getName());
-            return;
-        }
-
-        try {
-            log.info("Starting Nginx reload for server {}", server.getName());
-
-            // 1. Nginx 설정 테스트 (sudo 비밀번호 자동 입력)
-            log.debug("Testing Nginx configuration");
-            String testResult = sshClient.executeSudoCommand(ssh, "nginx -t", server.getPassword());
-            log.info("Nginx configuration test passed: {}", testResult);
-
-            // 2. Nginx 재기동 (graceful reload with sudo)
-            log.debug("Reloading Nginx service");
-            String reloadResult = sshClient.executeSudoCommand(ssh, "nginx -s reload", server.getPassword());
-            log.info("Nginx reloaded successfully: {}", reloadResult);
-
-        } catch (Exception e) {
-            // Nginx 재기동 실패는 배포 전체를 실패시키지 않음
-            // 인증서는 이미 배포되었으므로 수동 재기동 가능
-            log.error("Failed to reload Nginx on server {}: {}", 
-                server.getName(), e.getMessage(), e);
-            log.warn("Certificate files are deployed, but Nginx reload failed. Manual reload required.");
-        }
-    }
-
     /**
      * 배포 준비 상태 확인
      *
@@ -252,8 +487,9 @@ public class CertificateDistributionService {
             return false;
         }
 
-        if (server.getPassword() == null || server.getPassword().isEmpty()) {
-            log.warn("Server {} has no password", server.getId());
+        // SSH 키가 등록된 서버는 비밀번호 없이 키 인증 + sudo -n으로 배포
+        if (server.getSshKey() == null && (server.getPassword() == null || server.getPassword().isEmpty())) {
+            log.warn("Server {} has neither an SSH key nor a password", server.getId());
             return false;
         }
 
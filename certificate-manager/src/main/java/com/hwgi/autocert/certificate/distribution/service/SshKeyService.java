@@ -0,0 +1,146 @@
+package com.hwgi.autocert.certificate.distribution.service;
+
+import com.hwgi.autocert.certificate.distribution.ssh.KnownHostsVerifier;
+import com.hwgi.autocert.certificate.distribution.ssh.SshKeyProviderCache;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.common.exception.ResourceNotFoundException;
+import com.hwgi.autocert.domain.model.KnownHost;
+import com.hwgi.autocert.domain.model.SshKey;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import com.hwgi.autocert.domain.repository.SshKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * SSH 인증 키/호스트 키 관리 서비스
+ *
+ * 개인키와 암호는 암호화하여 저장하고, 키를 교체하면 해당 키를 쓰는 모든 서버에 다음 연결부터 적용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SshKeyService {
+
+    private final SshKeyRepository sshKeyRepository;
+    private final ServerRepository serverRepository;
+    private final CertificateEncryptionUtil encryptionUtil;
+    private final SshKeyProviderCache keyProviderCache;
+    private final KnownHostsVerifier knownHostsVerifier;
+
+    /**
+     * 모든 SSH 키 조회
+     */
+    public List<SshKey> findAll() {
+        return sshKeyRepository.findAll();
+    }
+
+    /**
+     * ID로 SSH 키 조회
+     */
+    public SshKey findById(Long id) {
+        return sshKeyRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("SSH 키를 찾을 수 없습니다: " + id));
+    }
+
+    /**
+     * SSH 키 등록
+     *
+     * @param name 키 이름
+     * @param privateKey 개인키 (OpenSSH, PKCS#8, PEM)
+     * @param passphrase 개인키 암호 (없으면 null)
+     * @return 등록된 SSH 키
+     */
+    @Transactional
+    public SshKey create(String name, String privateKey, String passphrase) {
+        if (sshKeyRepository.existsByName(name)) {
+            throw new IllegalArgumentException("이미 존재하는 SSH 키 이름입니다: " + name);
+        }
+
+        SshKey sshKey = SshKey.builder().name(name).build();
+        applyKey(sshKey, privateKey, passphrase);
+
+        SshKey saved = sshKeyRepository.save(sshKey);
+        log.info("SSH key created: id={}, name={}, fingerprint={}", saved.getId(), name, saved.getFingerprint());
+        return saved;
+    }
+
+    /**
+     * SSH 키 교체 (키를 사용하는 모든 서버에 적용)
+     *
+     * @param id SSH 키 ID
+     * @param privateKey 새 개인키
+     * @param passphrase 새 개인키 암호 (없으면 null)
+     * @return 교체된 SSH 키
+     */
+    @Transactional
+    public SshKey rotate(Long id, String privateKey, String passphrase) {
+        SshKey sshKey = findById(id);
+        applyKey(sshKey, privateKey, passphrase);
+
+        SshKey saved = sshKeyRepository.save(sshKey);
+        keyProviderCache.invalidate(id);
+        log.info("SSH key rotated: id={}, fingerprint={}", id, saved.getFingerprint());
+        return saved;
+    }
+
+    /**
+     * SSH 키 삭제 (사용 중인 서버가 없어야 함)
+     */
+    @Transactional
+    public void delete(Long id) {
+        SshKey sshKey = findById(id);
+        if (serverRepository.existsBySshKeyId(id)) {
+            throw new IllegalStateException("SSH 키를 사용하는 서버가 있습니다: " + sshKey.getName());
+        }
+
+        sshKeyRepository.delete(sshKey);
+        keyProviderCache.invalidate(id);
+        log.info("SSH key deleted: id={}", id);
+    }
+
+    /**
+     * 호스트에 등록된 SSH 호스트 키 조회
+     */
+    public List<KnownHost> getHostKeys(String host, int port) {
+        return knownHostsVerifier.getKnownHosts(host, port);
+    }
+
+    /**
+     * 호스트 키 삭제 (서버 호스트 키 교체 후 다음 접속에서 다시 등록)
+     *
+     * @return 삭제된 키 수
+     */
+    @Transactional
+    public int forgetHostKeys(String host, int port) {
+        return knownHostsVerifier.forget(host, port);
+    }
+
+    /**
+     * 개인키 검증 후 암호화하여 설정 (공개키와 지문은 개인키에서 추출)
+     */
+    private void applyKey(SshKey sshKey, String privateKey, String passphrase) {
+        String normalizedPassphrase = StringUtils.hasText(passphrase) ? passphrase : null;
+
+        PublicKey publicKey;
+        try {
+            KeyProvider keyProvider = SshKeyProviderCache.parse(privateKey, normalizedPassphrase);
+            publicKey = keyProvider.getPublic();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("SSH 개인키를 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        sshKey.setPrivateKey(encryptionUtil.encrypt(privateKey));
+        sshKey.setPassphrase(normalizedPassphrase != null ? encryptionUtil.encrypt(normalizedPassphrase) : null);
+        sshKey.setPublicKey(SshKeyProviderCache.toAuthorizedKey(publicKey));
+        sshKey.setFingerprint(SshKeyProviderCache.fingerprint(publicKey));
+    }
+}
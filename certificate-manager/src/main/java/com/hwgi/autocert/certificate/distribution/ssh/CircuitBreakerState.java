@@ -0,0 +1,51 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서버별 SSH 서킷 브레이커 상태 스냅샷
+ */
+@Getter
+@Builder
+public class CircuitBreakerState {
+
+    public enum Status {
+        /**
+         * 정상 (연결 허용)
+         */
+        CLOSED,
+
+        /**
+         * 차단 (retryAt까지 연결 시도하지 않음)
+         */
+        OPEN,
+
+        /**
+         * 시험 연결 중 (한 번의 연결만 허용)
+         */
+        HALF_OPEN
+    }
+
+    private final Long serverId;
+
+    private final Status status;
+
+    /**
+     * 연속 연결 실패 횟수
+     */
+    private final int consecutiveFailures;
+
+    /**
+     * 연속 차단 횟수 (차단 시간 증가에 사용)
+     */
+    private final int tripCount;
+
+    private final Instant openedAt;
+
+    private final Instant retryAt;
+
+    private final String lastError;
+}
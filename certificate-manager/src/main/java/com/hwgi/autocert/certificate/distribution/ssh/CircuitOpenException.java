@@ -0,0 +1,23 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 서버 서킷 브레이커가 열려 있어 SSH 연결을 시도하지 않은 경우 발생하는 예외
+ */
+@Getter
+public class CircuitOpenException extends IOException {
+
+    /**
+     * 다음 연결 시도 가능 시각
+     */
+    private final Instant retryAt;
+
+    public CircuitOpenException(String message, Instant retryAt) {
+        super(message);
+        this.retryAt = retryAt;
+    }
+}
@@ -0,0 +1,140 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.KnownHost;
+import com.hwgi.autocert.domain.repository.KnownHostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.schmizz.sshj.common.KeyType;
+import net.schmizz.sshj.transport.verification.HostKeyVerifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DB 기반 SSH 호스트 키 검증기
+ *
+ * 등록된 호스트 키를 시작 시 메모리에 로딩하여 연결마다 디스크/DB 조회 없이 검증
+ * - 등록된 키와 다르면 항상 거부 (중간자 공격 또는 서버 키 교체, {@link #forget}으로 재등록)
+ * - 미등록 호스트는 정책에 따라 등록(ACCEPT_NEW) 또는 거부(STRICT)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnownHostsVerifier implements HostKeyVerifier {
+
+    private final KnownHostRepository knownHostRepository;
+    private final DistributionProperties properties;
+
+    /**
+     * "host:port" → (키 타입 → 와이어 형식 Base64 공개키)
+     */
+    private final Map<String, Map<String, String>> hostKeys = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        hostKeys.clear();
+        for (KnownHost knownHost : knownHostRepository.findAll()) {
+            hostKeys.computeIfAbsent(hostKey(knownHost.getHost(), knownHost.getPort()),
+                    key -> new ConcurrentHashMap<>())
+                    .put(knownHost.getKeyType(), knownHost.getPublicKey());
+        }
+        log.info("Loaded SSH host keys for {} host(s)", hostKeys.size());
+    }
+
+    @Override
+    public boolean verify(String hostname, int port, PublicKey key) {
+        String keyType = KeyType.fromKey(key).toString();
+        String encoded = Base64.getEncoder().encodeToString(SshKeyProviderCache.encode(key));
+
+        // 등록된 키가 있는 호스트는 다른 타입의 새 키도 거부 (알고리즘 다운그레이드 방지)
+        Map<String, String> known = hostKeys.getOrDefault(hostKey(hostname, port), Map.of());
+        if (!known.isEmpty()) {
+            if (encoded.equals(known.get(keyType))) {
+                return true;
+            }
+            log.error("SSH host key mismatch for {}:{} ({}), presented {}",
+                    hostname, port, keyType, SshKeyProviderCache.fingerprint(key));
+            return false;
+        }
+
+        if (properties.getSsh().getHostKeyPolicy() == DistributionProperties.HostKeyPolicy.STRICT) {
+            log.error("Unknown SSH host key for {}:{} ({} {}), rejected by STRICT policy",
+                    hostname, port, keyType, SshKeyProviderCache.fingerprint(key));
+            return false;
+        }
+
+        return register(hostname, port, keyType, encoded, SshKeyProviderCache.fingerprint(key));
+    }
+
+    @Override
+    public List<String> findExistingAlgorithms(String hostname, int port) {
+        return new ArrayList<>(hostKeys.getOrDefault(hostKey(hostname, port), Map.of()).keySet());
+    }
+
+    /**
+     * 호스트의 등록된 키 조회
+     *
+     * @param host 호스트
+     * @param port 포트
+     * @return 등록된 호스트 키 목록
+     */
+    public List<KnownHost> getKnownHosts(String host, int port) {
+        return knownHostRepository.findByHostAndPort(host, port);
+    }
+
+    /**
+     * 호스트 키 삭제 (서버 키 교체 후 다음 접속에서 다시 등록)
+     *
+     * @param host 호스트
+     * @param port 포트
+     * @return 삭제된 키 수
+     */
+    public int forget(String host, int port) {
+        int deleted = knownHostRepository.deleteByHostAndPort(host, port);
+        hostKeys.remove(hostKey(host, port));
+        log.info("Removed {} SSH host key(s) for {}:{}", deleted, host, port);
+        return deleted;
+    }
+
+    /**
+     * 최초 접속 호스트 키 등록 (동시 등록 시 먼저 저장된 키와 비교)
+     */
+    private boolean register(String hostname, int port, String keyType, String encoded, String fingerprint) {
+        try {
+            knownHostRepository.save(KnownHost.builder()
+                    .host(hostname)
+                    .port(port)
+                    .keyType(keyType)
+                    .publicKey(encoded)
+                    .fingerprint(fingerprint)
+                    .build());
+            log.info("Registered SSH host key for {}:{} ({} {})", hostname, port, keyType, fingerprint);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("SSH host key for {}:{} registered concurrently", hostname, port);
+            String stored = knownHostRepository.findByHostAndPort(hostname, port).stream()
+                    .filter(knownHost -> knownHost.getKeyType().equals(keyType))
+                    .map(KnownHost::getPublicKey)
+                    .findFirst()
+                    .orElse(null);
+            if (!encoded.equals(stored)) {
+                log.error("SSH host key mismatch for {}:{} ({}), presented {}", hostname, port, keyType, fingerprint);
+                return false;
+            }
+        }
+
+        hostKeys.computeIfAbsent(hostKey(hostname, port), key -> new ConcurrentHashMap<>()).put(keyType, encoded);
+        return true;
+    }
+
+    private static String hostKey(String host, int port) {
+        return host + ":" + port;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 원격 명령이 0이 아닌 종료 코드로 끝난 경우 발생하는 예외
+ */
+@Getter
+public class RemoteCommandException extends IOException {
+
+    /**
+     * 원격 명령 종료 코드
+     */
+    private final int exitStatus;
+
+    public RemoteCommandException(String message, int exitStatus) {
+        super(message);
+        this.exitStatus = exitStatus;
+    }
+}
@@ -0,0 +1,181 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.ssh.CircuitBreakerState.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 서버별 SSH 서킷 브레이커
+ *
+ * - CLOSED: 연속 연결 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 차단 시간 동안 연결 시도 없이 즉시 실패 (다운된 서버가 배포 워커를 점유하지 않도록)
+ * - HALF_OPEN: 차단 시간이 지나면 한 번의 시험 연결 허용, 성공 시 CLOSED / 실패 시 차단 시간을 두 배로 늘려 OPEN
+ */
+@Slf4j
+@Component
+public class SshCircuitBreaker {
+
+    private final DistributionProperties properties;
+    private final Clock clock;
+    private final ConcurrentMap<Long, Circuit> circuits = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SshCircuitBreaker(DistributionProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    SshCircuitBreaker(DistributionProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 연결 허용 여부 확인
+     *
+     * 차단 시간이 지난 OPEN 상태는 HALF_OPEN으로 전환하고 이 호출에만 시험 연결 허용
+     *
+     * @param serverId 서버 ID
+     * @return 연결 허용 여부
+     */
+    public boolean tryAcquire(Long serverId) {
+        Circuit circuit = circuits.get(serverId);
+        if (circuit == null) {
+            return true;
+        }
+        synchronized (circuit) {
+            return switch (circuit.status) {
+                case CLOSED -> true;
+                case HALF_OPEN -> false;
+                case OPEN -> {
+                    if (clock.instant().isBefore(circuit.retryAt)) {
+                        yield false;
+                    }
+                    circuit.status = Status.HALF_OPEN;
+                    log.info("SSH circuit for server {} half-open, allowing trial connection", serverId);
+                    yield true;
+                }
+            };
+        }
+    }
+
+    /**
+     * 연결 재시도 허용 여부 (OPEN/HALF_OPEN이면 재시도하지 않음)
+     */
+    public boolean allowsRetry(Long serverId) {
+        Circuit circuit = circuits.get(serverId);
+        if (circuit == null) {
+            return true;
+        }
+        synchronized (circuit) {
+            return circuit.status == Status.CLOSED;
+        }
+    }
+
+    /**
+     * 연결 성공 기록 (CLOSED로 초기화)
+     */
+    public void recordSuccess(Long serverId) {
+        Circuit circuit = circuits.remove(serverId);
+        if (circuit != null && circuit.status != Status.CLOSED) {
+            log.info("SSH circuit for server {} closed after successful connection", serverId);
+        }
+    }
+
+    /**
+     * 연결 실패 기록
+     *
+     * @param serverId 서버 ID
+     * @param error 실패 원인
+     */
+    public void recordFailure(Long serverId, Exception error) {
+        DistributionProperties.CircuitBreaker config = properties.getCircuitBreaker();
+        Circuit circuit = circuits.computeIfAbsent(serverId, id -> new Circuit());
+
+        synchronized (circuit) {
+            circuit.consecutiveFailures++;
+            circuit.lastError = error != null ? error.getMessage() : null;
+
+            boolean trip = circuit.status == Status.HALF_OPEN
+                || (circuit.status == Status.CLOSED && circuit.consecutiveFailures >= config.getFailureThreshold());
+            if (!trip) {
+                return;
+            }
+
+            long openMillis = Math.min(
+                config.getOpenDuration() * (1L << Math.min(circuit.tripCount, 20)),
+                config.getMaxOpenDuration());
+            circuit.tripCount++;
+            circuit.status = Status.OPEN;
+            circuit.openedAt = clock.instant();
+            circuit.retryAt = circuit.openedAt.plus(Duration.ofMillis(openMillis));
+
+            log.warn("SSH circuit for server {} opened after {} consecutive failure(s), retry at {}: {}",
+                serverId, circuit.consecutiveFailures, circuit.retryAt, circuit.lastError);
+        }
+    }
+
+    /**
+     * 서버 브레이커 초기화 (수동 복구)
+     */
+    public void reset(Long serverId) {
+        circuits.remove(serverId);
+        log.info("SSH circuit for server {} reset", serverId);
+    }
+
+    /**
+     * 서버 브레이커 상태 조회
+     */
+    public CircuitBreakerState getState(Long serverId) {
+        Circuit circuit = circuits.get(serverId);
+        if (circuit == null) {
+            return CircuitBreakerState.builder().serverId(serverId).status(Status.CLOSED).build();
+        }
+        synchronized (circuit) {
+            return circuit.snapshot(serverId);
+        }
+    }
+
+    /**
+     * 실패 이력이 있는 서버의 브레이커 상태 목록
+     */
+    public List<CircuitBreakerState> getTrackedStates() {
+        return circuits.keySet().stream()
+                .sorted(Comparator.naturalOrder())
+                .map(this::getState)
+                .toList();
+    }
+
+    /**
+     * 서버별 브레이커 상태 (circuits 맵에 없으면 CLOSED)
+     */
+    private static class Circuit {
+        private Status status = Status.CLOSED;
+        private int consecutiveFailures;
+        private int tripCount;
+        private Instant openedAt;
+        private Instant retryAt;
+        private String lastError;
+
+        private CircuitBreakerState snapshot(Long serverId) {
+            return CircuitBreakerState.builder()
+                    .serverId(serverId)
+                    .status(status)
+                    .consecutiveFailures(consecutiveFailures)
+                    .tripCount(tripCount)
+                    .openedAt(openedAt)
+                    .retryAt(retryAt)
+                    .lastError(lastError)
+                    .build();
+        }
+    }
+}
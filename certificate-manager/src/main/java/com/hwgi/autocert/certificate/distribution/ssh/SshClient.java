@@ -1,17 +1,24 @@
 package com.hwgi.autocert.certificate.distribution.ssh;
 
 import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentPhase;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentTimer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.schmizz.sshj.SSHClient;
 import net.schmizz.sshj.sftp.SFTPClient;
-import net.schmizz.sshj.transport.verification.PromiscuousVerifier;
 import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
 import net.schmizz.sshj.xfer.FileSystemFile;
 import org.springframework.stereotype.Component;
 
+import javax.net.SocketFactory;
 import java.io.File;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -24,6 +31,7 @@ import java.nio.file.Path;
 public class SshClient {
 
     private final DistributionProperties properties;
+    private final KnownHostsVerifier knownHostsVerifier;
 
     /**
      * SSH 연결 생성
@@ -35,14 +43,71 @@ public class SshClient {
      * @return SSH 클라이언트
      */
     public SSHClient connect(String host, int port, String username, String password) throws IOException {
+        return connect(host, port, username, password, null);
+    }
+
+    /**
+     * SSH 연결 생성 (단계별 소요 시간 기록)
+     *
+     * TCP 연결은 소켓 팩토리에서 측정하고, 나머지 연결 시간은 키 교환으로 기록
+     *
+     * @param host 호스트
+     * @param port 포트
+     * @param username 사용자명
+     * @param password 비밀번호
+     * @param timer 단계별 소요 시간 기록기 (null이면 기록하지 않음)
+     * @return SSH 클라이언트
+     */
+    public SSHClient connect(String host, int port, String username, String password,
+                             DeploymentTimer timer) throws IOException {
+        return connect(host, port, username, null, password, timer);
+    }
+
+    /**
+     * SSH 연결 생성 (공개키 또는 비밀번호 인증, 단계별 소요 시간 기록)
+     *
+     * 호스트 키는 DB 기반 known-hosts로 검증하며, KeyProvider가 있으면 공개키로 인증
+     *
+     * @param host 호스트
+     * @param port 포트
+     * @param username 사용자명
+     * @param keyProvider 인증 키 (null이면 비밀번호 인증)
+     * @param password 비밀번호
+     * @param timer 단계별 소요 시간 기록기 (null이면 기록하지 않음)
+     * @return SSH 클라이언트
+     */
+    public SSHClient connect(String host, int port, String username, KeyProvider keyProvider, String password,
+                             DeploymentTimer timer) throws IOException {
         log.debug("Connecting to SSH server: {}@{}:{}", username, host, port);
 
         SSHClient ssh = new SSHClient();
-        ssh.addHostKeyVerifier(new PromiscuousVerifier()); // Production에서는 실제 호스트 키 검증 필요
+        ssh.addHostKeyVerifier(knownHostsVerifier);
         ssh.setTimeout(properties.getSsh().getTimeout());
 
+        TimedSocketFactory socketFactory = new TimedSocketFactory();
+        ssh.setSocketFactory(socketFactory);
+
+        long start = System.nanoTime();
         ssh.connect(host, port);
-        ssh.authPassword(username, password);
+        long connected = System.nanoTime();
+        if (timer != null) {
+            timer.record(DeploymentPhase.TCP_CONNECT, socketFactory.connectNanos);
+            timer.record(DeploymentPhase.KEY_EXCHANGE, connected - start - socketFactory.connectNanos);
+        }
+
+        try {
+            if (keyProvider != null) {
+                ssh.authPublickey(username, keyProvider);
+            } else {
+                ssh.authPassword(username, password);
+            }
+        } catch (IOException e) {
+            disconnect(ssh);
+            throw e;
+        }
+        if (timer != null) {
+            timer.record(DeploymentPhase.AUTH, System.nanoTime() - connected);
+        }
 
         log.info("SSH connection established: {}@{}:{}", username, host, port);
         return ssh;
@@ -81,12 +146,23 @@ public class SshClient {
      * @param remoteFilePath 원격 파일 경로
      */
     public void uploadContent(SSHClient ssh, String content, String remoteFilePath) throws IOException {
+        uploadContent(ssh, content.getBytes(StandardCharsets.UTF_8), remoteFilePath);
+    }
+
+    /**
+     * 바이너리 내용을 원격 파일로 업로드 (키스토어 등)
+     *
+     * @param ssh SSH 클라이언트
+     * @param content 파일 내용
+     * @param remoteFilePath 원격 파일 경로
+     */
+    public void uploadContent(SSHClient ssh, byte[] content, String remoteFilePath) throws IOException {
         log.debug("Uploading content to: {}", remoteFilePath);
 
         // 임시 파일 생성
         Path tempFile = Files.createTempFile("autocert-", ".tmp");
         try {
-            Files.writeString(tempFile, content);
+            Files.write(tempFile, content);
             uploadFile(ssh, tempFile.toString(), remoteFilePath);
         } finally {
             Files.deleteIfExists(tempFile);
@@ -95,6 +171,50 @@ public class SshClient {
         log.info("Content uploaded successfully: {}", remoteFilePath);
     }
 
+    /**
+     * tar 번들 업로드 (단일 exec 채널)
+     *
+     * 번들을 원격 tar의 stdin으로 스트리밍하여 스테이징 디렉토리에 추출하고,
+     * 원격에서 체크섬을 검증한 뒤 각 파일을 스테이징 경로로 이동
+     * 파일별 SFTP 왕복 대신 서버당 스트림 하나로 전송
+     *
+     * @param ssh SSH 클라이언트
+     * @param bundle 업로드할 번들
+     * @param stagingBase 스테이징 디렉토리 기준 경로
+     * @param stagingSuffix 스테이징 파일 접미사
+     * @throws RemoteCommandException 추출 또는 체크섬 검증 실패
+     */
+    public void uploadBundle(SSHClient ssh, TarBundle bundle, String stagingBase, String stagingSuffix)
+            throws IOException {
+        log.debug("Uploading bundle of {} file(s) via {}", bundle.getEntries().size(), stagingBase);
+
+        String script = bundle.buildExtractScript(stagingBase, stagingSuffix);
+        try (var session = ssh.startSession();
+             var cmd = session.exec("sh -c " + quote(script))) {
+
+            try (var outputStream = cmd.getOutputStream()) {
+                bundle.writeTo(outputStream);
+            }
+
+            cmd.getInputStream().readAllBytes();
+            String error = new String(cmd.getErrorStream().readAllBytes());
+
+            cmd.join(properties.getSsh().getTimeout(), java.util.concurrent.TimeUnit.MILLISECONDS);
+
+            Integer exitStatus = cmd.getExitStatus();
+            if (exitStatus == null || exitStatus != 0) {
+                log.warn("Bundle upload failed with exit code {}: {}", exitStatus, error);
+                throw new RemoteCommandException(
+                    exitStatus != null && exitStatus == TarBundle.CHECKSUM_EXIT_CODE
+                        ? "Bundle checksum verification failed: " + error
+                        : "Bundle upload failed: " + error,
+                    exitStatus != null ? exitStatus : -1);
+            }
+        }
+
+        log.info("Bundle uploaded successfully: {} file(s)", bundle.getEntries().size());
+    }
+
     /**
      * 원격 디렉토리 생성
      *
@@ -133,7 +253,7 @@ public class SshClient {
 
             if (exitStatus != 0) {
                 log.warn("Command failed with exit code {}: {}", exitStatus, error);
-                throw new IOException("Command execution failed: " + error);
+                throw new RemoteCommandException("Command execution failed: " + error, exitStatus);
             }
 
             log.info("Command executed successfully: {}", command);
@@ -144,21 +264,26 @@ public class SshClient {
     /**
      * sudo 명령 실행 (비밀번호 자동 입력)
      *
+     * 비밀번호가 없으면(공개키 인증 서버) sudo -n으로 실행하므로 NOPASSWD 설정이 필요
+     *
      * @param ssh SSH 클라이언트
      * @param command 실행할 명령 (sudo 제외)
-     * @param password sudo 비밀번호
+     * @param password sudo 비밀번호 (없으면 null)
      * @return 명령 출력
      */
     public String executeSudoCommand(SSHClient ssh, String command, String password) throws IOException {
         log.debug("Executing sudo command: {}", command);
 
+        boolean withPassword = password != null && !password.isEmpty();
         try (var session = ssh.startSession();
-             var cmd = session.exec("sudo -S " + command)) {
+             var cmd = session.exec((withPassword ? "sudo -S " : "sudo -n ") + command)) {
 
             // sudo 비밀번호 입력 (stdin으로 전달)
-            var outputStream = cmd.getOutputStream();
-            outputStream.write((password + "\n").getBytes());
-            outputStream.flush();
+            if (withPassword) {
+                var outputStream = cmd.getOutputStream();
+                outputStream.write((password + "\n").getBytes());
+                outputStream.flush();
+            }
 
             // 명령 출력 읽기
             String output = new String(cmd.getInputStream().readAllBytes());
@@ -170,7 +295,7 @@ public class SshClient {
 
             if (exitStatus != 0) {
                 log.warn("Sudo command failed with exit code {}: {}", exitStatus, error);
-                throw new IOException("Sudo command execution failed: " + error);
+                throw new RemoteCommandException("Sudo command execution failed: " + error, exitStatus);
             }
 
             log.info("Sudo command executed successfully: {}", command);
@@ -178,6 +303,31 @@ public class SshClient {
         }
     }
 
+    /**
+     * sudo 스크립트 실행 (단일 exec 세션)
+     *
+     * 여러 명령을 sh -c로 묶어 한 번의 세션에서 실행하므로
+     * sudo 비밀번호도 한 번만 전달됨
+     *
+     * @param ssh SSH 클라이언트
+     * @param script 실행할 셸 스크립트
+     * @param password sudo 비밀번호
+     * @return 스크립트 출력
+     */
+    public String executeSudoScript(SSHClient ssh, String script, String password) throws IOException {
+        return executeSudoCommand(ssh, "sh -c " + quote(script), password);
+    }
+
+    /**
+     * 셸 인자로 전달할 수 있도록 작은따옴표로 감싸기
+     *
+     * @param value 원본 문자열
+     * @return 작은따옴표로 감싼 문자열
+     */
+    public static String quote(String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+
     /**
      * 연결 종료
      *
@@ -193,4 +343,58 @@ public class SshClient {
             }
         }
     }
+
+    /**
+     * TCP 연결 시간을 측정하는 소켓 팩토리
+     */
+    private static class TimedSocketFactory extends SocketFactory {
+
+        private volatile long connectNanos;
+
+        @Override
+        public Socket createSocket() {
+            return new Socket() {
+                @Override
+                public void connect(SocketAddress endpoint, int timeout) throws IOException {
+                    long start = System.nanoTime();
+                    try {
+                        super.connect(endpoint, timeout);
+                    } finally {
+                        connectNanos = System.nanoTime() - start;
+                    }
+                }
+            };
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            Socket socket = createSocket();
+            socket.connect(new InetSocketAddress(host, port));
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            Socket socket = createSocket();
+            socket.bind(new InetSocketAddress(localHost, localPort));
+            socket.connect(new InetSocketAddress(host, port));
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            Socket socket = createSocket();
+            socket.connect(new InetSocketAddress(host, port));
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+                throws IOException {
+            Socket socket = createSocket();
+            socket.bind(new InetSocketAddress(localAddress, localPort));
+            socket.connect(new InetSocketAddress(address, port));
+            return socket;
+        }
+    }
 }
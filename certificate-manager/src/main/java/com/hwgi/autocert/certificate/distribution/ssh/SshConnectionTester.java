@@ -0,0 +1,85 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.server.importer.ConnectionTestResult;
+import com.hwgi.autocert.server.importer.ServerConnectionTester;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버 일괄 등록용 SSH 로그인 테스트
+ *
+ * - 재시도와 서킷 브레이커 없이 한 번만 연결/인증 (등록 직후 설정 오류 확인 목적)
+ * - 호스트 키는 배포와 같은 known-hosts 정책으로 검증 (ACCEPT_NEW면 이때 등록됨)
+ * - sshj는 블로킹 I/O이므로 크기가 제한된 플랫폼 스레드 풀에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SshConnectionTester implements ServerConnectionTester {
+
+    private final SshClient sshClient;
+    private final SshKeyProviderCache keyProviderCache;
+    private final DistributionProperties properties;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(properties.getSsh().getConnectionTestConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "ssh-connection-test-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public CompletableFuture<ConnectionTestResult> test(Server server) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            SSHClient ssh = null;
+            try {
+                KeyProvider keyProvider = server.getSshKey() != null
+                        ? keyProviderCache.get(server.getSshKey().getId())
+                        : null;
+                ssh = sshClient.connect(server.getIpAddress(), server.getPort(), server.getUsername(),
+                        keyProvider, server.getPassword(), null);
+                return ConnectionTestResult.builder()
+                        .success(true)
+                        .latencyMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                        .build();
+            } catch (Exception e) {
+                log.debug("SSH connection test to {} failed: {}", server.getIpAddress(), e.getMessage());
+                return ConnectionTestResult.builder()
+                        .success(false)
+                        .latencyMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                        .message(e.getMessage())
+                        .build();
+            } finally {
+                if (ssh != null) {
+                    sshClient.disconnect(ssh);
+                }
+            }
+        }, executor);
+    }
+}
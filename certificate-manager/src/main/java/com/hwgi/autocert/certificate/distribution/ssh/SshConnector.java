@@ -0,0 +1,195 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentPhase;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentTimer;
+import com.hwgi.autocert.domain.model.Server;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.userauth.UserAuthException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서킷 브레이커와 재시도를 적용한 SSH 연결
+ *
+ * - SSH 키가 지정된 서버는 캐시된 KeyProvider로 공개키 인증, 그 외에는 비밀번호 인증
+ * - 브레이커가 열린 서버는 연결을 시도하지 않고 즉시 실패
+ * - 재시도 대기는 스케줄러에 예약 (full jitter 지수 백오프: 0 ~ min(최대, 기본 × 2^(n-1)) 사이 임의 값)
+ * - 다른 배포에서 브레이커가 열리면 남은 재시도를 중단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SshConnector {
+
+    private final SshClient sshClient;
+    private final SshCircuitBreaker circuitBreaker;
+    private final SshKeyProviderCache keyProviderCache;
+    private final DistributionProperties properties;
+
+    /**
+     * 재시도 예약 전용 스케줄러 (연결은 수행하지 않음)
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 블로킹 연결 시도용 가상 스레드 실행기 (연결 대기 중인 서버가 많아도 플랫폼 스레드를 점유하지 않음)
+     */
+    private ExecutorService connectExecutor;
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ssh-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        connectExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ssh-connect-", 0).factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (connectExecutor != null) {
+            connectExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 서버 연결 (완료될 때까지 대기)
+     *
+     * @param server 서버
+     * @return SSH 클라이언트
+     * @throws CircuitOpenException 브레이커가 열려 있는 경우
+     * @throws IOException 재시도 후에도 연결하지 못한 경우
+     */
+    public SSHClient connect(Server server) throws IOException, InterruptedException {
+        return connect(server, null);
+    }
+
+    /**
+     * 서버 연결 (완료될 때까지 대기, 단계별 소요 시간 기록)
+     *
+     * @param server 서버
+     * @param timer 단계별 소요 시간 기록기 (null이면 기록하지 않음)
+     * @return SSH 클라이언트
+     * @throws CircuitOpenException 브레이커가 열려 있는 경우
+     * @throws IOException 재시도 후에도 연결하지 못한 경우
+     */
+    public SSHClient connect(Server server, DeploymentTimer timer) throws IOException, InterruptedException {
+        try {
+            return connectAsync(server, timer).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 서버 비동기 연결
+     *
+     * 재시도한 경우 이전 시도와 대기 시간을 CONNECT_RETRY 단계로 기록
+     *
+     * @param server 서버
+     * @param timer 단계별 소요 시간 기록기 (null이면 기록하지 않음)
+     * @return 연결 결과
+     */
+    public CompletableFuture<SSHClient> connectAsync(Server server, DeploymentTimer timer) {
+        if (!circuitBreaker.tryAcquire(server.getId())) {
+            return CompletableFuture.failedFuture(circuitOpen(server));
+        }
+
+        CompletableFuture<SSHClient> result = new CompletableFuture<>();
+        attempt(server, 1, System.nanoTime(), timer, result);
+        return result;
+    }
+
+    /**
+     * full jitter 백오프 대기 시간 계산
+     *
+     * @param attempt 실패한 시도 번호 (1부터)
+     * @param baseDelay 기본 대기 시간 (밀리초)
+     * @param maxDelay 최대 대기 시간 (밀리초)
+     * @return 0 이상 min(maxDelay, baseDelay × 2^(attempt-1)) 이하의 임의 대기 시간
+     */
+    static long fullJitterDelay(int attempt, long baseDelay, long maxDelay) {
+        long ceiling = Math.min(maxDelay, baseDelay * (1L << Math.min(attempt - 1, 30)));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void attempt(Server server, int attempt, long firstAttemptNanos, DeploymentTimer timer,
+                         CompletableFuture<SSHClient> result) {
+        int maxRetries = properties.getSsh().getMaxRetries();
+
+        connectExecutor.execute(() -> {
+            long attemptNanos = System.nanoTime();
+            try {
+                log.debug("SSH connection attempt {}/{} to {}", attempt, maxRetries, server.getIpAddress());
+                SSHClient ssh = sshClient.connect(
+                    server.getIpAddress(),
+                    server.getPort(),
+                    server.getUsername(),
+                    server.getSshKey() != null ? keyProviderCache.get(server.getSshKey().getId()) : null,
+                    server.getPassword(),
+                    timer
+                );
+                circuitBreaker.recordSuccess(server.getId());
+                if (timer != null && attempt > 1) {
+                    timer.record(DeploymentPhase.CONNECT_RETRY, attemptNanos - firstAttemptNanos);
+                }
+                if (!result.complete(ssh)) {
+                    sshClient.disconnect(ssh);
+                }
+
+            } catch (Exception e) {
+                log.warn("SSH connection attempt {}/{} to {} failed: {}",
+                    attempt, maxRetries, server.getIpAddress(), e.getMessage());
+                circuitBreaker.recordFailure(server.getId(), e);
+                if (e instanceof UserAuthException && server.getSshKey() != null) {
+                    // 키 교체 직후 이전 키가 캐시에 남은 경우 다음 시도에서 다시 로딩
+                    keyProviderCache.invalidate(server.getSshKey().getId());
+                }
+
+                if (attempt >= maxRetries) {
+                    result.completeExceptionally(
+                        new IOException("Failed to connect after " + maxRetries + " attempts", e));
+                    return;
+                }
+                if (!circuitBreaker.allowsRetry(server.getId())) {
+                    result.completeExceptionally(circuitOpen(server));
+                    return;
+                }
+
+                long delay = fullJitterDelay(attempt, properties.getSsh().getRetryDelay(),
+                    properties.getSsh().getMaxRetryDelay());
+                scheduler.schedule(() -> attempt(server, attempt + 1, firstAttemptNanos, timer, result),
+                    delay, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    private CircuitOpenException circuitOpen(Server server) {
+        CircuitBreakerState state = circuitBreaker.getState(server.getId());
+        return new CircuitOpenException(
+            String.format("SSH circuit open for server %s (%s), retry after %s: %s",
+                server.getName(), server.getIpAddress(), state.getRetryAt(), state.getLastError()),
+            state.getRetryAt());
+    }
+}
@@ -0,0 +1,137 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.domain.model.SshKey;
+import com.hwgi.autocert.domain.repository.SshKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.schmizz.sshj.DefaultConfig;
+import net.schmizz.sshj.common.Buffer;
+import net.schmizz.sshj.common.Factory;
+import net.schmizz.sshj.common.KeyType;
+import net.schmizz.sshj.userauth.keyprovider.FileKeyProvider;
+import net.schmizz.sshj.userauth.keyprovider.KeyFormat;
+import net.schmizz.sshj.userauth.keyprovider.KeyPairWrapper;
+import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
+import net.schmizz.sshj.userauth.keyprovider.KeyProviderUtil;
+import net.schmizz.sshj.userauth.password.PasswordUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SSH 인증 키 캐시
+ *
+ * 복호화와 키 파일 파싱은 키당 한 번만 수행하고, 파싱된 KeyProvider를 메모리에 보관
+ * 키 변경/삭제 시 {@link #invalidate(Long)}로 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SshKeyProviderCache {
+
+    private static final DefaultConfig CONFIG = new DefaultConfig();
+
+    private final SshKeyRepository sshKeyRepository;
+    private final CertificateEncryptionUtil encryptionUtil;
+
+    private final Map<Long, KeyProvider> providers = new ConcurrentHashMap<>();
+
+    /**
+     * 키 ID의 KeyProvider 조회 (없으면 DB에서 로딩 후 캐시)
+     *
+     * @param sshKeyId SSH 키 ID
+     * @return 파싱된 KeyProvider
+     * @throws IOException 키를 찾을 수 없거나 파싱할 수 없는 경우
+     */
+    public KeyProvider get(Long sshKeyId) throws IOException {
+        KeyProvider cached = providers.get(sshKeyId);
+        if (cached != null) {
+            return cached;
+        }
+
+        SshKey sshKey = sshKeyRepository.findById(sshKeyId)
+                .orElseThrow(() -> new IOException("SSH key not found: " + sshKeyId));
+        KeyProvider provider = parse(
+                encryptionUtil.decrypt(sshKey.getPrivateKey()),
+                sshKey.getPassphrase() != null ? encryptionUtil.decrypt(sshKey.getPassphrase()) : null);
+
+        log.debug("SSH key {} loaded into cache ({})", sshKeyId, sshKey.getFingerprint());
+        KeyProvider existing = providers.putIfAbsent(sshKeyId, provider);
+        return existing != null ? existing : provider;
+    }
+
+    /**
+     * 캐시 제거
+     *
+     * @param sshKeyId SSH 키 ID
+     */
+    public void invalidate(Long sshKeyId) {
+        providers.remove(sshKeyId);
+    }
+
+    /**
+     * 개인키 파싱 (OpenSSH, PKCS#8, PEM 등 sshj가 지원하는 형식)
+     *
+     * 키 파일은 지연 파싱되므로 여기서 개인키/공개키를 모두 읽어 고정된 KeyProvider로 반환
+     *
+     * @param privateKey 개인키 내용
+     * @param passphrase 개인키 암호 (없으면 null)
+     * @return 파싱된 KeyProvider
+     * @throws IOException 지원하지 않는 형식이거나 암호가 맞지 않는 경우
+     */
+    public static KeyProvider parse(String privateKey, String passphrase) throws IOException {
+        KeyFormat format = KeyProviderUtil.detectKeyFileFormat(privateKey, false);
+        FileKeyProvider fileKeyProvider = Factory.Named.Util.create(
+                CONFIG.getFileKeyProviderFactories(), format.toString());
+        if (fileKeyProvider == null) {
+            throw new IOException("Unsupported SSH key format: " + format);
+        }
+
+        if (passphrase != null) {
+            fileKeyProvider.init(privateKey, null, PasswordUtils.createOneOff(passphrase.toCharArray()));
+        } else {
+            fileKeyProvider.init(privateKey, null);
+        }
+        return new KeyPairWrapper(new KeyPair(fileKeyProvider.getPublic(), fileKeyProvider.getPrivate()));
+    }
+
+    /**
+     * OpenSSH authorized_keys 형식 공개키
+     *
+     * @param publicKey 공개키
+     * @return "키타입 Base64" 문자열
+     */
+    public static String toAuthorizedKey(PublicKey publicKey) {
+        return KeyType.fromKey(publicKey) + " " + Base64.getEncoder().encodeToString(encode(publicKey));
+    }
+
+    /**
+     * OpenSSH 형식 공개키 지문
+     *
+     * @param publicKey 공개키
+     * @return "SHA256:" + Base64(패딩 제외)
+     */
+    public static String fingerprint(PublicKey publicKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(encode(publicKey));
+            return "SHA256:" + Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * SSH 와이어 형식 공개키 인코딩
+     */
+    static byte[] encode(PublicKey publicKey) {
+        return new Buffer.PlainBuffer().putPublicKey(publicKey).getCompactData();
+    }
+}
@@ -0,0 +1,215 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.hwgi.autocert.certificate.distribution.ssh.SshClient.quote;
+
+/**
+ * 단일 스트림 업로드용 tar 번들
+ *
+ * 여러 파일을 하나의 ustar 아카이브로 묶어 exec 채널 하나로 전송
+ * - 아카이브 내부 이름은 순번(0, 1, ...)을 사용하고 원격 경로는 추출 스크립트에서 지정
+ * - SHA256SUMS 매니페스트를 함께 담아 원격에서 추출 후 체크섬 검증
+ */
+public class TarBundle {
+
+    /**
+     * 원격 체크섬 검증 실패 시 추출 스크립트가 반환하는 종료 코드
+     */
+    public static final int CHECKSUM_EXIT_CODE = 65;
+
+    /**
+     * 체크섬 매니페스트 파일명
+     */
+    static final String MANIFEST_NAME = "SHA256SUMS";
+
+    private static final int BLOCK_SIZE = 512;
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * 번들에 담을 파일
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        /**
+         * 아카이브 내부 이름
+         */
+        private final String name;
+
+        /**
+         * 최종 원격 경로
+         */
+        private final String remotePath;
+
+        private final byte[] content;
+
+        private final int mode;
+
+        /**
+         * SHA-256 (hex)
+         */
+        private final String sha256;
+    }
+
+    /**
+     * 파일 추가
+     *
+     * @param remotePath 원격 경로
+     * @param content 파일 내용
+     * @param mode 파일 권한 (예: 0600)
+     * @return 현재 번들
+     */
+    public TarBundle add(String remotePath, String content, int mode) {
+        return add(remotePath, content.getBytes(StandardCharsets.UTF_8), mode);
+    }
+
+    /**
+     * 바이너리 파일 추가 (키스토어 등)
+     *
+     * @param remotePath 원격 경로
+     * @param content 파일 내용
+     * @param mode 파일 권한 (예: 0600)
+     * @return 현재 번들
+     */
+    public TarBundle add(String remotePath, byte[] content, int mode) {
+        entries.add(new Entry(String.valueOf(entries.size()), remotePath, content, mode, sha256(content)));
+        return this;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 체크섬 매니페스트 내용 (sha256sum -c 형식)
+     */
+    String manifest() {
+        StringBuilder manifest = new StringBuilder();
+        for (Entry entry : entries) {
+            manifest.append(entry.getSha256()).append("  ").append(entry.getName()).append('\n');
+        }
+        return manifest.toString();
+    }
+
+    /**
+     * ustar 아카이브 쓰기 (파일 → 매니페스트 → 종료 블록 순)
+     *
+     * @param out 출력 스트림 (exec 채널 stdin)
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        for (Entry entry : entries) {
+            writeEntry(out, entry.getName(), entry.getContent(), entry.getMode());
+        }
+        writeEntry(out, MANIFEST_NAME, manifest().getBytes(StandardCharsets.UTF_8), 0600);
+        out.write(new byte[BLOCK_SIZE * 2]);
+        out.flush();
+    }
+
+    /**
+     * 원격 추출 스크립트 생성
+     *
+     * stdin의 아카이브를 스테이징 디렉토리에 추출하고 체크섬을 검증한 뒤
+     * 각 파일을 최종 경로 옆의 스테이징 경로(원격 경로 + stagingSuffix)로 이동
+     * 스테이징 디렉토리는 성공/실패와 관계없이 삭제됨
+     *
+     * @param stagingBase 스테이징 디렉토리 기준 경로 (대상 파일과 같은 파일시스템)
+     * @param stagingSuffix 이동할 스테이징 파일 접미사
+     * @return 원격 셸 스크립트
+     */
+    public String buildExtractScript(String stagingBase, String stagingSuffix) {
+        StringBuilder script = new StringBuilder("set -e\numask 077\n");
+        script.append("d=").append(quote(stagingBase)).append(".$$\n");
+        script.append("trap 'cd /; rm -rf \"$d\"' EXIT\n");
+        script.append("rm -rf \"$d\"\nmkdir -p \"$d\"\n");
+        script.append("tar -xf - -C \"$d\"\n");
+        script.append("cd \"$d\"\n");
+        script.append("if command -v sha256sum >/dev/null 2>&1; then sha256sum -c ").append(MANIFEST_NAME)
+              .append(" >/dev/null; else shasum -a 256 -c ").append(MANIFEST_NAME)
+              .append(" >/dev/null; fi || { echo 'checksum mismatch' >&2; exit ")
+              .append(CHECKSUM_EXIT_CODE).append("; }\n");
+
+        for (Entry entry : entries) {
+            String target = entry.getRemotePath() + stagingSuffix;
+            int slash = target.lastIndexOf('/');
+            if (slash > 0) {
+                script.append("mkdir -p ").append(quote(target.substring(0, slash))).append('\n');
+            }
+            script.append("mv -f ").append(quote(entry.getName())).append(' ').append(quote(target)).append('\n');
+        }
+        return script.toString();
+    }
+
+    private static void writeEntry(OutputStream out, String name, byte[] content, int mode) throws IOException {
+        byte[] header = new byte[BLOCK_SIZE];
+        putString(header, 0, 100, name);
+        putOctal(header, 100, 8, mode);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, content.length);
+        putOctal(header, 136, 12, System.currentTimeMillis() / 1000);
+        header[156] = '0';
+        putString(header, 257, 6, "ustar");
+        putString(header, 263, 2, "00");
+
+        // 체크섬 필드를 공백으로 채운 상태에서 헤더 바이트 합 계산
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xFF;
+        }
+        putOctal(header, 148, 7, checksum);
+        header[155] = ' ';
+
+        out.write(header);
+        out.write(content);
+        int padding = (BLOCK_SIZE - content.length % BLOCK_SIZE) % BLOCK_SIZE;
+        out.write(new byte[padding]);
+    }
+
+    private static void putString(byte[] header, int offset, int length, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > length) {
+            throw new IllegalArgumentException("Tar header field too long: " + value);
+        }
+        System.arraycopy(bytes, 0, header, offset, bytes.length);
+    }
+
+    /**
+     * 0으로 채운 8진수 + NUL 종료
+     */
+    private static void putOctal(byte[] header, int offset, int length, long value) {
+        String octal = Long.toOctalString(value);
+        if (octal.length() > length - 1) {
+            throw new IllegalArgumentException("Tar header value too large: " + value);
+        }
+        putString(header, offset, length - 1, "0".repeat(length - 1 - octal.length()) + octal);
+        header[offset + length - 1] = 0;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.hwgi.autocert.certificate.index;
+
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.domain.repository.CertificatePemView;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인증서 도메인 색인
+ *
+ * 저장된 모든 인증서의 SAN(와일드카드 포함)을 레이블 역순 트라이로 색인
+ * - "호스트 X를 포함하는 인증서"와 "영역 Y 아래에서 포함되는 이름"을 레이블 수만큼의 탐색으로 조회
+ * - 발급/갱신/수정/삭제가 커밋된 뒤 해당 인증서만 갱신하고, 누락을 보정하기 위해 주기적으로 DB에서 다시 생성
+ * - 처음 조회할 때 DB에서 생성 (생성 중 들어온 변경은 생성이 끝난 뒤 다시 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CertificateDomainIndex {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateCodec certificateCodec;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Trie trie;
+
+    /**
+     * 다시 생성하는 동안 들어온 변경 (인증서 ID → PEM, 삭제는 null)
+     */
+    private Map<Long, String> pending;
+
+    /**
+     * 레이블 노드
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(2);
+        private Set<Long> exact;
+        private Set<Long> wildcard;
+
+        private boolean isEmpty() {
+            return children.isEmpty() && exact == null && wildcard == null;
+        }
+    }
+
+    /**
+     * 트라이와 인증서별 색인 이름
+     */
+    private static final class Trie {
+        private final Node root = new Node();
+        private final Map<Long, List<String>> namesById = new HashMap<>();
+
+        private void put(Long certificateId, List<String> names) {
+            remove(certificateId);
+            if (names.isEmpty()) {
+                return;
+            }
+            for (String name : names) {
+                boolean wildcard = name.startsWith("*.");
+                Node node = root;
+                String[] labels = labels(wildcard ? name.substring(2) : name);
+                for (int i = labels.length - 1; i >= 0; i--) {
+                    node = node.children.computeIfAbsent(labels[i], label -> new Node());
+                }
+                if (wildcard) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new TreeSet<>();
+                    }
+                    node.wildcard.add(certificateId);
+                } else {
+                    if (node.exact == null) {
+                        node.exact = new TreeSet<>();
+                    }
+                    node.exact.add(certificateId);
+                }
+            }
+            namesById.put(certificateId, names);
+        }
+
+        private void remove(Long certificateId) {
+            List<String> names = namesById.remove(certificateId);
+            if (names == null) {
+                return;
+            }
+            for (String name : names) {
+                boolean wildcard = name.startsWith("*.");
+                String[] labels = labels(wildcard ? name.substring(2) : name);
+                removeFrom(root, labels, labels.length - 1, certificateId, wildcard);
+            }
+        }
+
+        /**
+         * 인증서 ID를 제거하고 비어 있는 노드는 정리
+         */
+        private static void removeFrom(Node node, String[] labels, int index, Long certificateId, boolean wildcard) {
+            if (index < 0) {
+                Set<Long> ids = wildcard ? node.wildcard : node.exact;
+                if (ids != null && ids.remove(certificateId) && ids.isEmpty()) {
+                    if (wildcard) {
+                        node.wildcard = null;
+                    } else {
+                        node.exact = null;
+                    }
+                }
+                return;
+            }
+            Node child = node.children.get(labels[index]);
+            if (child == null) {
+                return;
+            }
+            removeFrom(child, labels, index - 1, certificateId, wildcard);
+            if (child.isEmpty()) {
+                node.children.remove(labels[index]);
+            }
+        }
+    }
+
+    /**
+     * 호스트를 포함하는 인증서 조회 (정확히 일치 + 와일드카드)
+     *
+     * @param host 호스트명
+     * @return 인증서 ID (오름차순)
+     */
+    public List<Long> findCovering(String host) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return covering(trie.root, host);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 호스트를 포함하는 인증서 일괄 조회
+     *
+     * @param hosts 호스트명 목록
+     * @return 호스트 → 인증서 ID (입력 순서, 포함하는 인증서가 없으면 빈 목록)
+     */
+    public Map<String, List<Long>> findCovering(List<String> hosts) {
+        ensureLoaded();
+        Map<String, List<Long>> result = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            Node root = trie.root;
+            for (String host : hosts) {
+                result.computeIfAbsent(host, key -> covering(root, key));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 영역 아래에서 인증서가 포함하는 이름 조회 (영역 자신 포함)
+     *
+     * @param zone 영역 (예: example.com)
+     * @return 이름(와일드카드는 *.으로 시작) → 인증서 ID (이름순)
+     */
+    public Map<String, List<Long>> findNamesUnder(String zone) {
+        if (zone == null || zone.isBlank()) {
+            throw new IllegalArgumentException("영역을 입력해야 합니다");
+        }
+        String normalized = DomainNames.normalize(zone);
+        String[] labels = labels(normalized);
+        Map<String, List<Long>> names = new TreeMap<>();
+
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Node node = trie.root;
+            for (int i = labels.length - 1; i >= 0 && node != null; i--) {
+                node = node.children.get(labels[i]);
+            }
+            if (node != null) {
+                collect(node, normalized, names);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return names;
+    }
+
+    /**
+     * 인증서 색인 갱신 (발급/갱신/수정 시)
+     *
+     * @param certificateId 인증서 ID
+     * @param certificatePem 인증서 PEM (null이면 색인에서 제거)
+     */
+    public void put(Long certificateId, String certificatePem) {
+        List<String> names = names(certificateId, certificatePem);
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.put(certificateId, certificatePem);
+            }
+            if (trie != null) {
+                trie.put(certificateId, names);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인증서 색인 제거 (삭제 시)
+     */
+    public void remove(Long certificateId) {
+        put(certificateId, null);
+    }
+
+    /**
+     * 색인된 인증서 수
+     */
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return trie.namesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB에서 색인 다시 생성
+     */
+    @Scheduled(fixedDelayString = "${autocert.certificate.domain-index.rebuild-interval:3600000}",
+               initialDelayString = "${autocert.certificate.domain-index.rebuild-interval:3600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pending = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie rebuilt = new Trie();
+        try {
+            Long afterId = 0L;
+            List<CertificatePemView> batch;
+            do {
+                batch = certificateRepository.findPemsAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+                for (CertificatePemView view : batch) {
+                    rebuilt.put(view.id(), names(view.id(), view.certificatePem()));
+                    afterId = view.id();
+                }
+            } while (batch.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 생성하는 동안 들어온 변경을 다시 적용
+            for (Map.Entry<Long, String> change : pending.entrySet()) {
+                rebuilt.put(change.getKey(), names(change.getKey(), change.getValue()));
+            }
+            pending = null;
+            trie = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed domain names of {} certificate(s) in {}ms",
+                rebuilt.namesById.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 아직 생성되지 않았으면 DB에서 생성
+     */
+    private void ensureLoaded() {
+        if (trie == null) {
+            synchronized (this) {
+                if (trie == null) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /**
+     * 호스트를 포함하는 인증서 ID (읽기 잠금을 잡은 상태에서 호출)
+     */
+    private static List<Long> covering(Node root, String host) {
+        String[] labels = labels(DomainNames.normalize(host));
+        Set<Long> covering = new TreeSet<>();
+        Node node = root;
+        for (int i = labels.length - 1; i >= 0 && node != null; i--) {
+            if (i == 0 && node.wildcard != null) {
+                // 가장 왼쪽 레이블 하나는 부모 노드의 와일드카드가 대신함
+                covering.addAll(node.wildcard);
+            }
+            node = node.children.get(labels[i]);
+        }
+        if (node != null && node.exact != null) {
+            covering.addAll(node.exact);
+        }
+        return List.copyOf(covering);
+    }
+
+    private List<String> names(Long certificateId, String certificatePem) {
+        if (certificatePem == null || certificatePem.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(DomainNames.of(certificateCodec.parseCertificate(certificatePem)));
+        } catch (Exception e) {
+            log.warn("Skipping certificate {} in domain index: {}", certificateId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static void collect(Node node, String name, Map<String, List<Long>> names) {
+        if (node.exact != null) {
+            names.put(name, List.copyOf(node.exact));
+        }
+        if (node.wildcard != null) {
+            names.put("*." + name, List.copyOf(node.wildcard));
+        }
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            collect(child.getValue(), child.getKey() + "." + name, names);
+        }
+    }
+
+    private static String[] labels(String name) {
+        return name.isEmpty() ? new String[0] : name.split("\\.");
+    }
+}
@@ -0,0 +1,96 @@
+package com.hwgi.autocert.certificate.index;
+
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1String;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x500.style.IETFUtils;
+
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 인증서 도메인 이름 유틸리티
+ *
+ * SAN DNS 이름(없으면 CN)을 소문자로 한 번만 정규화하고, 와일드카드는 가장 왼쪽 한 레이블만 대신함
+ * - *.example.com은 foo.example.com과 일치하지만 example.com, foo.bar.example.com과는 일치하지 않음
+ */
+public final class DomainNames {
+
+    private static final int SAN_DNS_NAME = 2;
+
+    private DomainNames() {
+    }
+
+    /**
+     * 인증서가 포함하는 도메인 이름 (SAN DNS 이름, 없으면 CN)
+     *
+     * @return 정규화된 이름 (입력 순서, 없으면 빈 목록)
+     */
+    public static List<String> of(X509Certificate certificate) {
+        List<String> names = new ArrayList<>();
+        try {
+            Collection<List<?>> sanCollection = certificate.getSubjectAlternativeNames();
+            if (sanCollection != null) {
+                for (List<?> san : sanCollection) {
+                    if ((Integer) san.get(0) == SAN_DNS_NAME) {
+                        names.add(normalize((String) san.get(1)));
+                    }
+                }
+            }
+        } catch (CertificateParsingException e) {
+            // SAN 확장이 잘못된 인증서는 CN 사용
+        }
+
+        if (names.isEmpty()) {
+            String commonName = commonName(certificate);
+            if (commonName != null) {
+                names.add(normalize(commonName));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 주체 CN (여러 개면 첫 번째, 없으면 null)
+     *
+     * DN 문자열을 쉼표로 나누지 않고 RDN 단위로 읽어 이스케이프된 값도 그대로 처리
+     */
+    public static String commonName(X509Certificate certificate) {
+        RDN[] rdns = X500Name.getInstance(certificate.getSubjectX500Principal().getEncoded()).getRDNs(BCStyle.CN);
+        if (rdns.length == 0) {
+            return null;
+        }
+        ASN1Encodable value = rdns[0].getFirst().getValue();
+        return value instanceof ASN1String string ? string.getString() : IETFUtils.valueToString(value);
+    }
+
+    /**
+     * 호스트/패턴 정규화 (공백 제거, 소문자, 끝의 점 제거)
+     */
+    public static String normalize(String name) {
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        return normalized.endsWith(".") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    /**
+     * 정규화된 호스트가 정규화된 이름(와일드카드 포함)과 일치하는지 확인
+     */
+    public static boolean matches(String host, String pattern) {
+        if (host.equals(pattern)) {
+            return true;
+        }
+        if (!pattern.startsWith("*.")) {
+            return false;
+        }
+        // 와일드카드는 레이블 하나만 대신함
+        int firstDot = host.indexOf('.');
+        return firstDot > 0 && host.regionMatches(firstDot + 1, pattern, 2, pattern.length() - 2)
+                && host.length() - firstDot - 1 == pattern.length() - 2;
+    }
+}
@@ -2,8 +2,12 @@ package com.hwgi.autocert.certificate.service;
 
 import com.hwgi.autocert.certificate.acme.challenge.ChallengeType;
 import com.hwgi.autocert.certificate.acme.service.AcmeOrderService;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
 import com.hwgi.autocert.certificate.config.AcmeProperties;
+import com.hwgi.autocert.certificate.distribution.queue.DeploymentQueueService;
+import com.hwgi.autocert.certificate.distribution.queue.ServerDeploymentLock;
 import com.hwgi.autocert.certificate.distribution.service.CertificateDistributionService;
+import com.hwgi.autocert.certificate.index.CertificateDomainIndex;
 import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
 import com.hwgi.autocert.common.exception.ResourceNotFoundException;
 import com.hwgi.autocert.domain.model.Certificate;
@@ -21,15 +25,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
-import java.io.ByteArrayInputStream;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
 import static com.hwgi.autocert.domain.model.CertificateStatus.*;
 
@@ -53,6 +59,10 @@ public class CertificateService {
     private final CertificateEncryptionUtil encryptionUtil;
     private final AcmeProperties acmeProperties;
     private final CertificateDistributionService distributionService;
+    private final DeploymentQueueService deploymentQueueService;
+    private final ServerDeploymentLock serverLock;
+    private final CertificateCodec certificateCodec;
+    private final CertificateDomainIndex domainIndex;
 
     @Autowired(required = false)
     private java.util.Optional<EmailService> emailService;
@@ -152,7 +162,7 @@ public class CertificateService {
             );
 
             // 3. 인증서 정보 파싱
-            X509Certificate x509Cert = parseCertificate(result.getCertificatePem());
+            X509Certificate x509Cert = certificateCodec.parseCertificate(result.getCertificatePem());
             LocalDateTime issuedAt = x509Cert.getNotBefore()
                 .toInstant()
                 .atZone(ZoneId.systemDefault())
@@ -178,6 +188,7 @@ public class CertificateService {
             certificate.setUpdatedAt(LocalDateTime.now());
 
             Certificate saved = certificateRepository.save(certificate);
+            indexAfterCommit(saved);
             log.info("Certificate issued and saved successfully for domain: {}, expires at: {}",
                 domain, expiresAt);
 
@@ -239,7 +250,7 @@ public class CertificateService {
             );
 
             // 3. 인증서 정보 파싱
-            X509Certificate x509Cert = parseCertificate(result.getCertificatePem());
+            X509Certificate x509Cert = certificateCodec.parseCertificate(result.getCertificatePem());
             LocalDateTime issuedAt = x509Cert.getNotBefore()
                 .toInstant()
                 .atZone(ZoneId.systemDefault())
@@ -265,6 +276,7 @@ public class CertificateService {
             certificate.setUpdatedAt(LocalDateTime.now());
 
             Certificate renewed = certificateRepository.save(certificate);
+            indexAfterCommit(renewed);
             log.info("Certificate renewed successfully for domain: {}, new expiry: {}",
                 domain, expiresAt);
 
@@ -394,6 +406,9 @@ public class CertificateService {
         certificate.setUpdatedAt(LocalDateTime.now());
         
         Certificate updated = certificateRepository.save(certificate);
+        if (certificatePem != null) {
+            indexAfterCommit(updated);
+        }
         log.info("Certificate updated: {}", id);
         
         return updated;
@@ -426,6 +441,7 @@ public class CertificateService {
         
         // 3. 인증서 삭제
         certificateRepository.delete(certificate);
+        afterCommit(() -> domainIndex.remove(id));
 
         // 4. 이메일 알림 발송
         emailService.ifPresent(service -> service.sendCertificateDeleted(domain));
@@ -444,88 +460,48 @@ public class CertificateService {
     }
 
     /**
-     * 개인키 복호화
-     *
-     * @param certificate 인증서
-     * @return 복호화된 개인키 PEM
-     */
-    public String decryptPrivateKey(Certificate certificate) {
-        String privateKeyPem = certificate.getPrivateKeyPem();
-
-        if (privateKeyPem == null || privateKeyPem.isEmpty()) {
-            throw new IllegalStateException("개인키가 없습니다");
-        }
-
-        // 이미 복호화된 상태인지 확인
-        if (!encryptionUtil.isEncrypted(privateKeyPem)) {
-            log.debug("Private key is already decrypted");
-            return privateKeyPem;
-        }
-
-        // 복호화
-        return encryptionUtil.decrypt(privateKeyPem);
-    }
-
-    /**
-     * PEM 문자열에서 X509Certificate 객체 파싱
-     */
-    private X509Certificate parseCertificate(String certificatePem) throws Exception {
-        CertificateFactory factory = CertificateFactory.getInstance("X.509");
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(certificatePem.getBytes());
-        return (X509Certificate) factory.generateCertificate(inputStream);
-    }
-
-    /**
-     * 서버에 인증서 배포
+     * 서버 배포 작업 등록
+     * 
+     * SSH 배포는 배포 큐 워커가 트랜잭션 밖에서 수행하므로
+     * 느리거나 응답 없는 서버가 생성/갱신 트랜잭션을 지연시키지 않음
+     * 
+     * 작업 등록은 생성/갱신 트랜잭션에 참여하므로 등록 실패는 잡지 않고 생성/갱신과 함께 롤백
+     * (잡더라도 트랜잭션이 이미 롤백 전용으로 표시되어 커밋 시 UnexpectedRollbackException 발생)
      * 
      * @param certificate 배포할 인증서
      */
     private void deployToServer(Certificate certificate) {
-        try {
-            log.info("Starting deployment for certificate: {}", certificate.getId());
-            
-            // 배포 준비 상태 확인
-            if (!distributionService.isReadyForDeployment(certificate)) {
-                log.warn("Certificate {} is not ready for deployment", certificate.getId());
-                return;
-            }
-
-            // 개인키 복호화
-            String decryptedPrivateKey = decryptPrivateKey(certificate);
-
-            // 배포 실행
-            boolean deploymentSuccess = distributionService.deploy(certificate, decryptedPrivateKey);
-            
-            if (deploymentSuccess) {
-                log.info("Certificate {} deployed successfully to server {}", 
-                    certificate.getId(), 
-                    certificate.getServer().getName());
-            } else {
-                log.error("Failed to deploy certificate {} to server {}", 
-                    certificate.getId(), 
-                    certificate.getServer().getName());
-            }
-            
-        } catch (Exception e) {
-            log.error("Error during certificate deployment for certificate: {}", 
-                certificate.getId(), e);
-            // 배포 실패는 인증서 생성/갱신을 실패시키지 않음
-            // 나중에 수동으로 재배포 가능
+        // 배포 준비 상태 확인 (준비가 안 된 인증서는 나중에 수동으로 재배포)
+        if (!distributionService.isReadyForDeployment(certificate)) {
+            log.warn("Certificate {} is not ready for deployment", certificate.getId());
+            return;
         }
+
+        // 배포 작업 등록
+        deploymentQueueService.enqueue(certificate);
+        log.info("Deployment queued for certificate {} to server {}", 
+            certificate.getId(), 
+            certificate.getServer().getName());
     }
 
     /**
      * 저장된 인증서를 서버에 수동 배포
      * 
+     * SSH 배포는 트랜잭션 밖에서 수행하여 배포하는 동안 DB 연결을 점유하지 않고,
+     * 배포 큐 워커/롤아웃과 같은 서버 잠금을 사용하여 같은 서버에 동시에 업로드-재기동하지 않음
+     * 
      * @param certificateId 배포할 인증서 ID
      * @return 배포 결과
+     * @throws IllegalStateException 배포 준비가 안 되었거나 서버에 다른 배포가 진행 중인 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Deployment deployManually(Long certificateId) {
         log.info("Manual deployment requested for certificate ID: {}", certificateId);
         
-        // 인증서 조회
-        Certificate certificate = findById(certificateId);
+        // 인증서 조회 (트랜잭션 밖에서 배포하므로 서버 정보 함께 로딩)
+        Certificate certificate = certificateRepository.findAllWithServerByIdIn(List.of(certificateId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("인증서를 찾을 수 없습니다: " + certificateId));
         
         // 배포 준비 상태 확인
         if (!distributionService.isReadyForDeployment(certificate)) {
@@ -533,13 +509,21 @@ public class CertificateService {
         }
 
         // 개인키 복호화
-        String decryptedPrivateKey = decryptPrivateKey(certificate);
+        String decryptedPrivateKey = encryptionUtil.decryptPrivateKey(certificate);
 
         // 배포 실행 전 배포 이력 조회를 위한 서버 정보
         Server server = certificate.getServer();
         
-        // 배포 실행
-        boolean deploymentSuccess = distributionService.deploy(certificate, decryptedPrivateKey);
+        // 배포 실행 (다른 배포가 진행 중인 서버는 기다리지 않고 거부)
+        if (!serverLock.tryAcquire(server.getId())) {
+            throw new IllegalStateException("서버에 다른 배포가 진행 중입니다. 잠시 후 다시 시도하세요: " + server.getName());
+        }
+        boolean deploymentSuccess;
+        try {
+            deploymentSuccess = distributionService.deployAll(server, Map.of(certificate, decryptedPrivateKey));
+        } finally {
+            serverLock.release(server.getId());
+        }
         
         if (!deploymentSuccess) {
             throw new RuntimeException("인증서 배포에 실패했습니다. 서버 연결 및 로그를 확인하세요.");
@@ -576,4 +560,28 @@ public class CertificateService {
             .orElse(null);
     }
 
+    /**
+     * 커밋 후 도메인 색인 갱신 (저장 시점의 PEM 사용)
+     */
+    private void indexAfterCommit(Certificate certificate) {
+        Long id = certificate.getId();
+        String certificatePem = certificate.getCertificatePem();
+        afterCommit(() -> domainIndex.put(id, certificatePem));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (롤백되면 실행하지 않음, 트랜잭션 밖이면 즉시 실행)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -1,5 +1,6 @@
 package com.hwgi.autocert.certificate.util;
 
+import com.hwgi.autocert.domain.model.Certificate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -136,6 +137,29 @@ public class CertificateEncryptionUtil {
         }
     }
 
+    /**
+     * 인증서 개인키 복호화 (암호화되지 않은 PEM은 그대로 반환)
+     *
+     * @param certificate 인증서
+     * @return 복호화된 개인키 PEM
+     * @throws IllegalStateException 개인키가 없는 경우
+     */
+    public String decryptPrivateKey(Certificate certificate) {
+        String privateKeyPem = certificate.getPrivateKeyPem();
+
+        if (privateKeyPem == null || privateKeyPem.isEmpty()) {
+            throw new IllegalStateException("개인키가 없습니다");
+        }
+
+        // 이미 복호화된 상태인지 확인
+        if (!isEncrypted(privateKeyPem)) {
+            log.debug("Private key is already decrypted");
+            return privateKeyPem;
+        }
+
+        return decrypt(privateKeyPem);
+    }
+
     /**
      * 암호화 키 로드
      */
@@ -0,0 +1,35 @@
+package com.hwgi.autocert.certificate.validation;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 검증 인증서별 결과
+ */
+@Getter
+@Builder
+public class BulkValidationItem {
+
+    private final Long certificateId;
+
+    private final String domain;
+
+    /**
+     * 전체 검증 통과 여부
+     */
+    private final boolean valid;
+
+    /**
+     * 실패한 검증 항목의 에러 코드
+     */
+    private final List<String> errorCodes;
+
+    private final List<String> errors;
+
+    private final List<String> warnings;
+
+    private final LocalDateTime validatedAt;
+}
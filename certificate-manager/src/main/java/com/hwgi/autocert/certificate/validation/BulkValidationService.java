@@ -0,0 +1,141 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.history.ValidationHistoryService;
+import com.hwgi.autocert.domain.model.CertificateStatus;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import com.hwgi.autocert.domain.repository.CertificatePemView;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 인증서 일괄 검증 서비스
+ *
+ * DB의 인증서 PEM을 커서로 하나씩 읽어 병렬로 검증하고 결과를 즉시 전달
+ * - 엔티티 대신 PEM 프로젝션만 읽고, 동시에 검증 중인 인증서 수를 제한하여 메모리 사용량이 인증서 수와 무관
+ * - 결과 수신 중 오류(클라이언트 연결 종료 등)가 나면 더 이상 읽지 않고 중단
+ * - 인증서별 실행은 검증 이력에 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkValidationService {
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateValidationService validationService;
+    private final ValidationHistoryService historyService;
+    private final ValidationProperties properties;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("bulk-validation-", 0).factory());
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 일괄 검증 결과 요약
+     */
+    public record Summary(int total, int valid, int invalid) {
+    }
+
+    /**
+     * 저장된 인증서 일괄 검증
+     *
+     * @param status 검증할 인증서 상태 (null이면 전체)
+     * @param sink 인증서별 결과 수신 (호출은 직렬화되지만 ID 순서와 다를 수 있음)
+     * @return 결과 요약
+     */
+    @Transactional(readOnly = true)
+    public Summary validateAll(CertificateStatus status, Consumer<BulkValidationItem> sink) {
+        long start = System.currentTimeMillis();
+        int concurrency = Math.max(1, properties.getBulk().getConcurrency());
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger valid = new AtomicInteger();
+        AtomicInteger invalid = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Object sinkLock = new Object();
+
+        try (Stream<CertificatePemView> pems = certificateRepository.streamPems(status)) {
+            var iterator = pems.iterator();
+            while (iterator.hasNext() && failure.get() == null) {
+                permits.acquire();
+                CertificatePemView pem = iterator.next();
+                executor.execute(() -> {
+                    try {
+                        BulkValidationItem item = validate(pem);
+                        (item.isValid() ? valid : invalid).incrementAndGet();
+                        synchronized (sinkLock) {
+                            if (failure.get() == null) {
+                                sink.accept(item);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            // 진행 중인 검증이 모두 끝날 때까지 대기
+            permits.acquire(concurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk validation interrupted", e);
+        }
+
+        if (failure.get() != null) {
+            log.warn("Bulk validation aborted after {} certificate(s): {}",
+                    valid.get() + invalid.get(), failure.get().getMessage());
+            throw failure.get();
+        }
+
+        Summary summary = new Summary(valid.get() + invalid.get(), valid.get(), invalid.get());
+        log.info("Bulk validation finished: {} in {}ms", summary, System.currentTimeMillis() - start);
+        return summary;
+    }
+
+    private BulkValidationItem validate(CertificatePemView pem) {
+        CertificateValidationResult result = validationService.validateCertificatePem(
+                pem.certificatePem(), pem.chainPem());
+        try {
+            historyService.record(pem.id(), pem.updatedAt(), result);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record validation of certificate {}: {}", pem.id(), e.getMessage());
+        }
+
+        List<String> errorCodes = Stream.of(result.getSignatureCheck(), result.getValidityCheck(),
+                        result.getChainCheck(), result.getRevocationCheck(), result.getDomainCheck(),
+                        result.getKeyUsageCheck(), result.getTransparencyCheck())
+                .filter(check -> check != null && !check.isValid())
+                .map(ValidationCheckResult::getErrorCode)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return BulkValidationItem.builder()
+                .certificateId(pem.id())
+                .domain(pem.domain())
+                .valid(result.isValid())
+                .errorCodes(errorCodes)
+                .errors(result.getErrors())
+                .warnings(result.getWarnings())
+                .validatedAt(result.getValidatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.codec.CertificateInfo;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.ct.CtLog;
+import com.hwgi.autocert.certificate.validation.ct.CtLogStore;
+import com.hwgi.autocert.certificate.validation.ct.SignedCertificateTimestamp;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Certificate Transparency 검증 (포함된 SCT)
+ * - 인증서에 포함된 SCT의 서명을 CT 로그 공개키로 확인
+ * - 로그 공개키는 CtLogStore의 메모리 색인만 사용하므로 검증 중 CT 로그/로그 목록 네트워크 호출 없음
+ * - 검증 결과는 인증서 지문별로 캐시하고, 로그 구성이 바뀌면 다시 검증
+ * - 알려진 로그의 서명이 맞지 않으면 실패, 확인된 SCT가 최소 개수보다 적으면 필수 설정일 때만 실패 (아니면 경고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CertificateTransparencyValidator implements CertificateValidator {
+
+    /**
+     * 로그와 로컬 시계 차이 허용 범위
+     */
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private final CtLogStore ctLogStore;
+    private final IntermediateCertificateStore intermediateCertificateStore;
+    private final ValidationProperties properties;
+
+    /**
+     * 인증서 지문 → 캐시된 검증 결과
+     */
+    private final Map<String, CachedVerification> cache = new ConcurrentHashMap<>();
+
+    private record CachedVerification(long logsVersion, ValidationCheckResult result) {
+    }
+
+    @Override
+    public ValidationCheckResult validate(X509Certificate certificate, List<X509Certificate> certificateChain) {
+        ValidationProperties.Ct ct = properties.getCt();
+        if (!ct.isEnabled()) {
+            return ValidationCheckResult.success(
+                    "No Certificate Transparency check performed (disabled)",
+                    "CtCheckSkipped: disabled"
+            );
+        }
+
+        try {
+            String fingerprint = CertificateInfo.fingerprint(certificate);
+            long logsVersion = ctLogStore.version();
+            CachedVerification cached = cache.get(fingerprint);
+            if (cached != null && cached.logsVersion() == logsVersion) {
+                log.debug("SCT verification cache hit: {}", fingerprint);
+                return cached.result();
+            }
+
+            X509Certificate issuer = findIssuer(certificate, certificateChain);
+            ValidationCheckResult result = verify(certificate, issuer, ct);
+            if (issuer != null) {
+                // 발급자를 찾지 못한 결과는 체인이 보완되면 달라지므로 캐시하지 않음
+                put(fingerprint, new CachedVerification(logsVersion, result));
+            }
+            return result;
+
+        } catch (Exception e) {
+            log.error("Certificate Transparency validation error: {}", e.getMessage());
+            return ValidationCheckResult.failure(
+                    "Certificate Transparency validation failed: " + e.getMessage(),
+                    "CT_VALIDATION_ERROR",
+                    e.getClass().getSimpleName()
+            );
+        }
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    private ValidationCheckResult verify(X509Certificate certificate, X509Certificate issuer, ValidationProperties.Ct ct)
+            throws Exception {
+        List<SignedCertificateTimestamp> timestamps = SignedCertificateTimestamp.fromCertificate(certificate);
+        if (timestamps.isEmpty()) {
+            if (ct.isRequired()) {
+                return ValidationCheckResult.failure("Certificate has no embedded SCTs", "NO_SCTS");
+            }
+            return ValidationCheckResult.success(
+                    "No embedded SCTs (Certificate Transparency not required)",
+                    "SCTs: 0"
+            );
+        }
+        if (issuer == null) {
+            String message = "SCTs not fully verified: issuer certificate not available";
+            return ct.isRequired()
+                    ? ValidationCheckResult.failure(message, "CT_ISSUER_NOT_FOUND", "SCTs: " + timestamps.size())
+                    : ValidationCheckResult.success(message, "SCTs: " + timestamps.size());
+        }
+
+        byte[] issuerKeyHash = MessageDigest.getInstance("SHA-256").digest(issuer.getPublicKey().getEncoded());
+        byte[] tbs = SignedCertificateTimestamp.precertificateTbs(certificate);
+        Instant latest = Instant.now().plus(CLOCK_SKEW);
+
+        List<String> verified = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        int unknown = 0;
+        for (SignedCertificateTimestamp timestamp : timestamps) {
+            CtLog ctLog = ctLogStore.find(timestamp.getLogIdBase64());
+            if (ctLog == null) {
+                unknown++;
+                continue;
+            }
+            if (!verifySignature(timestamp, ctLog, issuerKeyHash, tbs)) {
+                invalid.add(ctLog.getDescription());
+            } else if (timestamp.getIssuedAt().isAfter(latest)
+                    || (ctLog.getRetiredAt() != null && !timestamp.getIssuedAt().isBefore(ctLog.getRetiredAt()))) {
+                // 서명은 맞지만 미래 시각이거나 로그 폐기 후 발급된 SCT는 인정하지 않음
+                log.debug("SCT from {} issued at {} not counted", ctLog.getDescription(), timestamp.getIssuedAt());
+            } else {
+                verified.add(ctLog.getDescription());
+            }
+        }
+
+        String details = String.format("SCTs: %d, Verified: %d, UnknownLogs: %d, Logs: %s",
+                timestamps.size(), verified.size(), unknown, String.join(", ", verified));
+        if (!invalid.isEmpty()) {
+            return ValidationCheckResult.failure(
+                    "Invalid SCT signature from " + String.join(", ", invalid),
+                    "INVALID_SCT",
+                    details);
+        }
+        if (verified.size() >= ct.getMinScts()) {
+            return ValidationCheckResult.success(
+                    verified.size() + " of " + timestamps.size() + " SCT(s) verified", details);
+        }
+
+        String message = "SCTs not fully verified: " + verified.size() + " of " + timestamps.size()
+                + " from known logs (minimum " + ct.getMinScts() + ")";
+        return ct.isRequired()
+                ? ValidationCheckResult.failure(message, "INSUFFICIENT_SCTS", details)
+                : ValidationCheckResult.success(message, details);
+    }
+
+    private static boolean verifySignature(SignedCertificateTimestamp timestamp, CtLog ctLog,
+                                           byte[] issuerKeyHash, byte[] tbs) {
+        String algorithm = timestamp.getJcaAlgorithm();
+        if (algorithm == null) {
+            return false;
+        }
+        try {
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initVerify(ctLog.getPublicKey());
+            signature.update(timestamp.signedData(issuerKeyHash, tbs));
+            return signature.verify(timestamp.getSignature());
+        } catch (GeneralSecurityException e) {
+            log.debug("SCT signature from {} could not be verified: {}", ctLog.getDescription(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 발급자 인증서 검색 (체인 우선, 없으면 저장된 중간 인증서, 네트워크 조회 없음)
+     */
+    private X509Certificate findIssuer(X509Certificate certificate, List<X509Certificate> certificateChain) {
+        if (certificateChain != null) {
+            for (X509Certificate candidate : certificateChain) {
+                if (candidate.equals(certificate)
+                        || !candidate.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
+                    continue;
+                }
+                try {
+                    certificate.verify(candidate.getPublicKey());
+                    return candidate;
+                } catch (Exception e) {
+                    log.debug("Chain certificate {} did not sign the certificate", candidate.getSubjectX500Principal());
+                }
+            }
+        }
+        return intermediateCertificateStore.findIssuer(certificate);
+    }
+
+    private void put(String fingerprint, CachedVerification verification) {
+        if (cache.size() >= properties.getCt().getMaxCacheEntries()) {
+            // 이전 로그 구성으로 검증한 항목부터 제거하고, 그래도 가득 차면 임의의 항목 제거
+            cache.values().removeIf(cached -> cached.logsVersion() != verification.logsVersion());
+            Iterator<String> keys = cache.keySet().iterator();
+            if (cache.size() >= properties.getCt().getMaxCacheEntries() && keys.hasNext()) {
+                cache.remove(keys.next());
+            }
+        }
+        cache.put(fingerprint, verification);
+    }
+}
@@ -1,24 +1,40 @@
 package com.hwgi.autocert.certificate.validation;
 
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.history.ValidationHistoryService;
 import com.hwgi.autocert.domain.model.Certificate;
 import com.hwgi.autocert.domain.model.CertificateValidationResult;
 import com.hwgi.autocert.domain.model.ValidationCheckResult;
 import com.hwgi.autocert.domain.repository.CertificateRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayInputStream;
-import java.security.cert.CertificateFactory;
+import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 인증서 검증 서비스
  * 모든 검증 항목을 종합하여 인증서의 유효성을 판단
+ * - 검증 항목은 서로 독립적이므로 가상 스레드에서 동시에 실행
+ * - 항목별/전체 제한 시간을 넘긴 항목은 중단하고 CHECK_TIMED_OUT 결과로 대체
+ * - 같은 리프 + 체인은 판정이 바뀔 수 있는 시각까지 캐시된 결과를 반환
  */
 @Slf4j
 @Service
@@ -32,21 +48,47 @@ public class CertificateValidationService {
     private final RevocationValidator revocationValidator;
     private final DomainValidator domainValidator;
     private final KeyUsageValidator keyUsageValidator;
+    private final CertificateTransparencyValidator transparencyValidator;
+    private final ValidationProperties properties;
+    private final ValidationResultCache resultCache;
+    private final ValidationHistoryService historyService;
+    private final CertificateCodec certificateCodec;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("certificate-validation-", 0).factory());
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
     
     /**
-     * 데이터베이스에 저장된 인증서 검증
+     * 데이터베이스에 저장된 인증서 검증 (저장된 체인 포함, 실행 이력 기록)
+     * 이력 기록에 실패해도 검증 결과는 반환
+     *
+     * OCSP/CRL/AIA 조회 동안 DB 연결을 점유하지 않도록 트랜잭션 없이 실행
+     * (인증서 조회와 이력 기록은 각각 짧은 트랜잭션)
      *
      * @param certificateId 인증서 ID
      * @return 검증 결과
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CertificateValidationResult validateCertificate(Long certificateId) {
         log.info("Validating certificate with ID: {}", certificateId);
         
+        // 인증서 조회 (조회 트랜잭션은 바로 종료)
         Certificate certificate = certificateRepository.findById(certificateId)
                 .orElseThrow(() -> new IllegalArgumentException("Certificate not found: " + certificateId));
         
-        return validateCertificatePem(certificate.getCertificatePem(), null);
+        CertificateValidationResult result = validateCertificatePem(
+                certificate.getCertificatePem(), certificate.getChainPem());
+        try {
+            historyService.record(certificate.getId(), certificate.getUpdatedAt(), result);
+        } catch (RuntimeException e) {
+            // 이력 기록 실패로 검증 결과를 잃지 않음 (일괄 검증과 동일)
+            log.warn("Failed to record validation of certificate {}: {}", certificate.getId(), e.getMessage());
+        }
+        return result;
     }
     
     /**
@@ -58,12 +100,12 @@ public class CertificateValidationService {
      */
     public CertificateValidationResult validateCertificatePem(String certificatePem, String chainPem) {
         try {
-            // PEM을 X509Certificate로 변환
-            X509Certificate x509Cert = parseCertificate(certificatePem);
+            // PEM을 X509Certificate로 변환 (같은 PEM은 코덱 캐시에서 재사용)
+            X509Certificate x509Cert = certificateCodec.parseCertificate(certificatePem);
             List<X509Certificate> chain = null;
             
             if (chainPem != null && !chainPem.trim().isEmpty()) {
-                chain = parseCertificateChain(chainPem);
+                chain = certificateCodec.parseChain(chainPem);
             }
             
             return performValidation(x509Cert, chain);
@@ -83,10 +125,36 @@ public class CertificateValidationService {
         }
     }
     
+    /**
+     * 이미 디코딩된 인증서 체인 검증 (TLS 핸드셰이크에서 받은 체인 등)
+     *
+     * @param chain 리프가 첫 번째인 체인
+     * @return 검증 결과
+     */
+    public CertificateValidationResult validateChain(List<X509Certificate> chain) {
+        if (chain == null || chain.isEmpty()) {
+            throw new IllegalArgumentException("Certificate chain is empty");
+        }
+        try {
+            return performValidation(chain.get(0), chain);
+        } catch (CertificateEncodingException e) {
+            log.error("Failed to encode certificate: {}", e.getMessage());
+            
+            CertificateValidationResult result = CertificateValidationResult.builder()
+                    .valid(false)
+                    .validatedAt(LocalDateTime.now())
+                    .errors(new ArrayList<>())
+                    .build();
+            result.addError("Failed to encode certificate: " + e.getMessage());
+            return result;
+        }
+    }
+    
     /**
      * 모든 검증 수행
      */
-    private CertificateValidationResult performValidation(X509Certificate certificate, List<X509Certificate> chain) {
+    private CertificateValidationResult performValidation(X509Certificate certificate, List<X509Certificate> chain)
+            throws CertificateEncodingException {
         log.debug("Performing validation on certificate: {}", certificate.getSubjectX500Principal());
         
         // 체인이 없는 경우 단일 인증서로 체인 생성
@@ -101,13 +169,23 @@ public class CertificateValidationService {
             chain = fullChain;
         }
         
-        // 각 검증 항목 실행
-        ValidationCheckResult signatureCheck = signatureValidator.validate(certificate, chain);
-        ValidationCheckResult validityCheck = validityPeriodValidator.validate(certificate, chain);
-        ValidationCheckResult chainCheck = chainValidator.validate(certificate, chain);
-        ValidationCheckResult revocationCheck = revocationValidator.validate(certificate, chain);
-        ValidationCheckResult domainCheck = domainValidator.validate(certificate, chain);
-        ValidationCheckResult keyUsageCheck = keyUsageValidator.validate(certificate, chain);
+        // 같은 리프 + 체인의 캐시된 결과가 아직 유효하면 재사용
+        String fingerprint = ValidationResultCache.fingerprint(chain);
+        CertificateValidationResult cached = resultCache.get(fingerprint);
+        if (cached != null) {
+            log.debug("Validation result cache hit: {}", fingerprint);
+            return cached;
+        }
+        
+        // 각 검증 항목 동시 실행
+        Map<String, ValidationCheckResult> checks = runChecks(certificate, chain);
+        ValidationCheckResult signatureCheck = checks.get("signature");
+        ValidationCheckResult validityCheck = checks.get("validity");
+        ValidationCheckResult chainCheck = checks.get("chain");
+        ValidationCheckResult revocationCheck = checks.get("revocation");
+        ValidationCheckResult domainCheck = checks.get("domain");
+        ValidationCheckResult keyUsageCheck = checks.get("keyUsage");
+        ValidationCheckResult transparencyCheck = checks.get("transparency");
         
         // 결과 종합
         CertificateValidationResult result = CertificateValidationResult.builder()
@@ -118,21 +196,28 @@ public class CertificateValidationService {
                 .revocationCheck(revocationCheck)
                 .domainCheck(domainCheck)
                 .keyUsageCheck(keyUsageCheck)
+                .transparencyCheck(transparencyCheck)
                 .warnings(new ArrayList<>())
                 .errors(new ArrayList<>())
                 .build();
         
         // 전체 유효성 판단
         boolean isValid = result.isAllValid();
+        Instant expiresAt = ValidationResultCache.isTransient(result)
+                ? null
+                : ValidationResultCache.verdictExpiresAt(chain, result, Instant.now());
         result = CertificateValidationResult.builder()
                 .valid(isValid)
                 .validatedAt(result.getValidatedAt())
+                .fingerprint(fingerprint)
+                .expiresAt(expiresAt)
                 .signatureCheck(result.getSignatureCheck())
                 .validityCheck(result.getValidityCheck())
                 .chainCheck(result.getChainCheck())
                 .revocationCheck(result.getRevocationCheck())
                 .domainCheck(result.getDomainCheck())
                 .keyUsageCheck(result.getKeyUsageCheck())
+                .transparencyCheck(result.getTransparencyCheck())
                 .warnings(result.getWarnings())
                 .errors(result.getErrors())
                 .build();
@@ -144,6 +229,7 @@ public class CertificateValidationService {
         collectWarningsAndErrors(result, revocationCheck, "Revocation");
         collectWarningsAndErrors(result, domainCheck, "Domain");
         collectWarningsAndErrors(result, keyUsageCheck, "KeyUsage");
+        collectWarningsAndErrors(result, transparencyCheck, "Transparency");
         
         // Staging 인증서 특별 경고 추가
         if (chainCheck != null && !chainCheck.isValid() && 
@@ -156,9 +242,73 @@ public class CertificateValidationService {
         
         log.info("Validation completed. Overall result: {}", isValid ? "VALID" : "INVALID");
         
+        resultCache.put(fingerprint, chain, result);
+        
         return result;
     }
     
+    /**
+     * 검증 항목 동시 실행
+     *
+     * @return 항목 이름 → 결과 (제한 시간을 넘긴 항목은 CHECK_TIMED_OUT 실패 결과)
+     */
+    private Map<String, ValidationCheckResult> runChecks(X509Certificate certificate, List<X509Certificate> chain) {
+        Map<String, CertificateValidator> validators = new LinkedHashMap<>();
+        validators.put("signature", signatureValidator);
+        validators.put("validity", validityPeriodValidator);
+        validators.put("chain", chainValidator);
+        validators.put("revocation", revocationValidator);
+        validators.put("domain", domainValidator);
+        validators.put("keyUsage", keyUsageValidator);
+        validators.put("transparency", transparencyValidator);
+
+        ValidationProperties.Timeout timeout = properties.getTimeout();
+        long start = System.nanoTime();
+        long totalDeadline = start + TimeUnit.MILLISECONDS.toNanos(timeout.getTotal());
+
+        Map<String, Future<ValidationCheckResult>> futures = new LinkedHashMap<>();
+        validators.forEach((name, validator) ->
+                futures.put(name, executor.submit(() -> validator.validate(certificate, chain))));
+
+        Map<String, ValidationCheckResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<ValidationCheckResult>> entry : futures.entrySet()) {
+            long deadline = Math.min(start + TimeUnit.MILLISECONDS.toNanos(timeout.getCheck(entry.getKey())),
+                    totalDeadline);
+            results.put(entry.getKey(), await(entry.getKey(), entry.getValue(), start, deadline));
+        }
+        return results;
+    }
+
+    /**
+     * 검증 항목 결과 대기 (제한 시간 초과 시 작업을 중단하고 시간 초과 결과 반환)
+     */
+    private ValidationCheckResult await(String name, Future<ValidationCheckResult> future, long start, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.warn("Validation check '{}' timed out after {}ms", name, elapsed);
+            return ValidationCheckResult.failure(
+                    "Check timed out after " + elapsed + "ms",
+                    "CHECK_TIMED_OUT",
+                    "TimedOut: " + name
+            );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("Validation check '{}' failed: {}", name, cause.getMessage());
+            return ValidationCheckResult.failure(
+                    "Check failed: " + cause.getMessage(),
+                    "VALIDATION_ERROR",
+                    cause.getClass().getSimpleName()
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return ValidationCheckResult.failure("Check interrupted", "CHECK_INTERRUPTED");
+        }
+    }
+    
     /**
      * 경고 및 에러 메시지 수집
      */
@@ -180,35 +330,4 @@ public class CertificateValidationService {
             result.addWarning(checkName + ": " + check.getMessage());
         }
     }
-    
-    /**
-     * PEM 문자열을 X509Certificate로 파싱
-     */
-    private X509Certificate parseCertificate(String pem) throws Exception {
-        CertificateFactory cf = CertificateFactory.getInstance("X.509");
-        ByteArrayInputStream bis = new ByteArrayInputStream(pem.getBytes());
-        return (X509Certificate) cf.generateCertificate(bis);
-    }
-    
-    /**
-     * PEM 체인 문자열을 X509Certificate 리스트로 파싱
-     */
-    private List<X509Certificate> parseCertificateChain(String chainPem) throws Exception {
-        List<X509Certificate> chain = new ArrayList<>();
-        
-        // PEM 체인을 개별 인증서로 분리
-        String[] certPems = chainPem.split("-----END CERTIFICATE-----");
-        
-        for (String certPem : certPems) {
-            if (certPem.trim().isEmpty()) {
-                continue;
-            }
-            
-            String fullPem = certPem.trim() + "\n-----END CERTIFICATE-----";
-            X509Certificate cert = parseCertificate(fullPem);
-            chain.add(cert);
-        }
-        
-        return chain;
-    }
 }
@@ -1,65 +1,69 @@
 package com.hwgi.autocert.certificate.validation;
 
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.certificate.validation.trust.TrustAnchorStore;
 import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import javax.net.ssl.TrustManagerFactory;
-import javax.net.ssl.X509TrustManager;
-import java.security.KeyStore;
+import java.security.GeneralSecurityException;
 import java.security.cert.*;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 /**
  * 인증서 체인 검증
  * - 인증서 체인이 신뢰할 수 있는 루트 CA까지 유효한지 확인
+ * - 신뢰 앵커는 TrustAnchorStore 색인에서 체인 최상위 인증서의 발급자로 찾아 PKIX 검증에 사용
+ * - 체인이 신뢰 앵커까지 이어지지 않으면 IntermediateCertificateStore로 누락된 중간 인증서를 덧붙여 검증
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ChainValidator implements CertificateValidator {
     
-    private final X509TrustManager trustManager;
+    /**
+     * X.509 팩토리 (CertPath 생성은 상태가 없으므로 공유)
+     */
+    private static final CertificateFactory CERTIFICATE_FACTORY = createCertificateFactory();
     
-    public ChainValidator() {
-        try {
-            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            tmf.init((KeyStore) null); // null로 초기화하면 시스템 기본 truststore 사용
-            this.trustManager = (X509TrustManager) tmf.getTrustManagers()[0];
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to initialize TrustManager", e);
-        }
-    }
+    private final TrustAnchorStore trustAnchorStore;
+    private final IntermediateCertificateStore intermediateCertificateStore;
     
     @Override
     public ValidationCheckResult validate(X509Certificate certificate, List<X509Certificate> certificateChain) {
         try {
-            // 체인이 제공되지 않은 경우
-            if (certificateChain == null || certificateChain.isEmpty()) {
+            // 누락된 중간 인증서 보완 (저장소 우선, 없으면 AIA caIssuers)
+            boolean chainProvided = certificateChain != null && !certificateChain.isEmpty();
+            List<X509Certificate> provided = chainProvided ? certificateChain : List.of(certificate);
+            List<X509Certificate> completed = intermediateCertificateStore.completeChain(provided);
+            int added = completed.size() - provided.size();
+            
+            // 체인이 제공되지 않았고 보완하지도 못한 경우
+            if (!chainProvided && added == 0) {
                 log.warn("No certificate chain provided, attempting to validate single certificate");
                 return validateSingleCertificate(certificate);
             }
             
             // 체인 검증
-            X509Certificate[] chain = certificateChain.toArray(new X509Certificate[0]);
+            X509Certificate[] chain = completed.toArray(new X509Certificate[0]);
             
             // Let's Encrypt Staging 인증서 여부 확인
             boolean isStagingCert = isLetsEncryptStagingCertificate(certificate);
             
-            // TrustManager를 사용한 체인 검증 시도
+            // 신뢰 앵커까지 체인 검증 (PKIX)
             try {
-                trustManager.checkServerTrusted(chain, "RSA");
-                
-                // 추가 체인 검증 (PKIX)
-                CertPath certPath = validateCertPath(chain);
+                validateCertPath(chain);
                 
                 String environment = isStagingCert ? " (Staging)" : " (Production)";
                 String details = String.format(
-                        "ChainLength: %d, Environment: %s, RootCA: %s",
+                        "ChainLength: %d, Environment: %s, RootCA: %s%s",
                         chain.length,
                         isStagingCert ? "Staging" : "Production",
-                        chain[chain.length - 1].getSubjectX500Principal()
+                        chain[chain.length - 1].getSubjectX500Principal(),
+                        added > 0 ? ", CompletedIntermediates: " + added : ""
                 );
                 
                 return ValidationCheckResult.success(
@@ -123,71 +127,83 @@ public class ChainValidator implements CertificateValidator {
      * 단일 인증서 검증 (체인 없이)
      */
     private ValidationCheckResult validateSingleCertificate(X509Certificate certificate) {
-        try {
-            // 신뢰할 수 있는 CA 목록에 있는지 확인
-            X509Certificate[] acceptedIssuers = trustManager.getAcceptedIssuers();
-            
-            for (X509Certificate issuer : acceptedIssuers) {
-                if (issuer.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
-                    // 발급자를 찾았으므로 서명 검증
-                    certificate.verify(issuer.getPublicKey());
-                    
-                    return ValidationCheckResult.success(
-                            "Certificate is issued by a trusted CA: " + issuer.getSubjectX500Principal(),
-                            "TrustedIssuer: " + issuer.getSubjectX500Principal()
-                    );
-                }
-            }
-            
+        List<TrustAnchor> candidates = trustAnchorStore.findIssuers(certificate);
+        if (candidates.isEmpty()) {
             // 신뢰할 수 있는 발급자를 찾지 못함
             log.warn("Certificate issuer not found in system trust store");
             return ValidationCheckResult.success(
                     "Certificate chain not fully verified (issuer not in trust store)",
                     "PartialValidation: Issuer not found in system trust store"
             );
-            
-        } catch (Exception e) {
-            log.error("Single certificate validation error: {}", e.getMessage());
-            return ValidationCheckResult.failure(
-                    "Certificate validation failed: " + e.getMessage(),
-                    "SINGLE_CERT_VALIDATION_ERROR",
-                    e.getClass().getSimpleName()
-            );
         }
+        
+        // 신뢰할 수 있는 CA 중 서명이 일치하는 발급자 검색
+        Exception lastError = null;
+        for (TrustAnchor candidate : candidates) {
+            X509Certificate issuer = candidate.getTrustedCert();
+            try {
+                certificate.verify(issuer.getPublicKey());
+                return ValidationCheckResult.success(
+                        "Certificate is issued by a trusted CA: " + issuer.getSubjectX500Principal(),
+                        "TrustedIssuer: " + issuer.getSubjectX500Principal()
+                );
+            } catch (Exception e) {
+                lastError = e;
+            }
+        }
+        
+        log.error("Single certificate validation error: {}", lastError.getMessage());
+        return ValidationCheckResult.failure(
+                "Certificate validation failed: " + lastError.getMessage(),
+                "SINGLE_CERT_VALIDATION_ERROR",
+                lastError.getClass().getSimpleName()
+        );
     }
     
     /**
      * PKIX 알고리즘을 사용한 인증서 경로 검증
+     *
+     * 체인 마지막이 신뢰 앵커이면 경로에서 제외하고, 최상위 인증서의 발급자 앵커만 사용
      */
-    private CertPath validateCertPath(X509Certificate[] chain) throws Exception {
-        CertificateFactory cf = CertificateFactory.getInstance("X.509");
-        CertPath certPath = cf.generateCertPath(Arrays.asList(chain));
-        
-        // PKIX 파라미터 설정
-        PKIXParameters params = new PKIXParameters(trustManager.getAcceptedIssuers()
-                .length > 0 ? createTrustStore() : KeyStore.getInstance(KeyStore.getDefaultType()));
-        params.setRevocationEnabled(false); // 폐기 확인은 별도의 Validator에서 수행
+    private void validateCertPath(X509Certificate[] chain) throws CertificateException {
+        int length = chain.length;
+        if (trustAnchorStore.isTrustAnchor(chain[length - 1])) {
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
         
-        // 인증서 경로 검증
-        CertPathValidator validator = CertPathValidator.getInstance("PKIX");
-        validator.validate(certPath, params);
+        X509Certificate top = chain[length - 1];
+        List<TrustAnchor> anchors = trustAnchorStore.findIssuers(top);
+        if (anchors.isEmpty()) {
+            throw new CertificateException("No trusted root CA found for issuer: " + top.getIssuerX500Principal());
+        }
         
-        return certPath;
+        try {
+            CertPath certPath = CERTIFICATE_FACTORY.generateCertPath(Arrays.asList(chain).subList(0, length));
+            
+            // PKIX 파라미터 설정
+            PKIXParameters params = new PKIXParameters(new HashSet<>(anchors));
+            params.setRevocationEnabled(false); // 폐기 확인은 별도의 Validator에서 수행
+            
+            // 인증서 경로 검증
+            CertPathValidator.getInstance("PKIX").validate(certPath, params);
+        } catch (CertPathValidatorException e) {
+            throw new CertificateException("Certificate path validation failed: " + e.getMessage(), e);
+        } catch (CertificateException e) {
+            throw e;
+        } catch (GeneralSecurityException e) {
+            throw new CertificateException(e.getMessage(), e);
+        }
     }
     
-    /**
-     * 시스템 신뢰 저장소 생성
-     */
-    private KeyStore createTrustStore() throws Exception {
-        KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
-        trustStore.load(null, null);
-        
-        X509Certificate[] acceptedIssuers = trustManager.getAcceptedIssuers();
-        for (int i = 0; i < acceptedIssuers.length; i++) {
-            trustStore.setCertificateEntry("ca-" + i, acceptedIssuers[i]);
+    private static CertificateFactory createCertificateFactory() {
+        try {
+            return CertificateFactory.getInstance("X.509");
+        } catch (CertificateException e) {
+            throw new IllegalStateException("X.509 CertificateFactory not available", e);
         }
-        
-        return trustStore;
     }
     
     /**
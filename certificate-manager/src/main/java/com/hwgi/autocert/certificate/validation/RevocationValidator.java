@@ -1,56 +1,77 @@
 package com.hwgi.autocert.certificate.validation;
 
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.revocation.CrlCache;
+import com.hwgi.autocert.certificate.validation.revocation.CrlResult;
+import com.hwgi.autocert.certificate.validation.revocation.OcspClient;
+import com.hwgi.autocert.certificate.validation.revocation.OcspResult;
 import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.security.cert.*;
-import java.time.Duration;
+import java.security.cert.X509Certificate;
 import java.util.List;
 
 /**
  * 인증서 폐기 검증 (CRL/OCSP)
  * - 인증서가 폐기되지 않았는지 확인
+ * - OCSP 응답(GOOD/REVOKED)이 있으면 그 결과를 사용하고, 응답이 없거나 UNKNOWN이면 CRL 확인
+ * - 응답자/배포 지점이 있는데 둘 다 확인하지 못하면 REVOCATION_UNAVAILABLE (일시 오류, 결과 캐시 안 함)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RevocationValidator implements CertificateValidator {
     
-    private static final Duration OCSP_TIMEOUT = Duration.ofSeconds(10);
-    private final HttpClient httpClient;
-    
-    public RevocationValidator() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(OCSP_TIMEOUT)
-                .build();
-    }
+    private final OcspClient ocspClient;
+    private final CrlCache crlCache;
+    private final ValidationProperties properties;
     
     @Override
     public ValidationCheckResult validate(X509Certificate certificate, List<X509Certificate> certificateChain) {
         try {
-            // OCSP 검증 시도
-            ValidationCheckResult ocspResult = checkOCSP(certificate, certificateChain);
-            if (ocspResult != null && ocspResult.isValid()) {
+            // OCSP 검증 시도 (폐기 응답은 CRL 확인 없이 즉시 실패)
+            X509Certificate issuer = findIssuer(certificate, certificateChain);
+            ValidationCheckResult ocspResult = checkOCSP(certificate, issuer);
+            if (ocspResult != null) {
                 return ocspResult;
             }
             
             // OCSP 실패 시 CRL 검증 시도
-            ValidationCheckResult crlResult = checkCRL(certificate);
-            if (crlResult != null && crlResult.isValid()) {
+            ValidationCheckResult crlResult = checkCRL(certificate, issuer);
+            if (crlResult != null) {
                 return crlResult;
             }
             
-            // 두 방법 모두 실패하거나 정보가 없는 경우
-            log.warn("No revocation information available for certificate");
-            return ValidationCheckResult.success(
-                    "No revocation check performed (OCSP/CRL not available)",
-                    "RevocationCheckSkipped: No OCSP or CRL endpoints found"
+            // 확인할 응답자/배포 지점이 없거나 발급자를 알 수 없으면 확인하지 않고 통과
+            boolean ocspAvailable = properties.getOcsp().isEnabled() && OcspClient.getResponderUrl(certificate) != null;
+            boolean crlAvailable = properties.getCrl().isEnabled()
+                    && !CrlCache.getDistributionPoints(certificate).isEmpty();
+            if (!ocspAvailable && !crlAvailable) {
+                log.warn("No revocation information available for certificate");
+                return ValidationCheckResult.success(
+                        "No revocation check performed (OCSP/CRL not available)",
+                        "RevocationCheckSkipped: No OCSP or CRL endpoints found"
+                );
+            }
+            if (issuer == null) {
+                log.warn("Issuer certificate not in chain, revocation status not checked");
+                return ValidationCheckResult.success(
+                        "No revocation check performed (issuer certificate not available)",
+                        "RevocationCheckSkipped: Issuer certificate not in chain"
+                );
+            }
+
+            // 응답자/배포 지점이 있는데 모두 확인하지 못한 경우 (통신 실패, UNKNOWN 등) 일시 오류로 처리하여 캐시하지 않음
+            log.warn("Revocation status unavailable for certificate {}: OCSP and CRL checks both failed",
+                    certificate.getSubjectX500Principal());
+            return ValidationCheckResult.failure(
+                    "Revocation status could not be determined (OCSP/CRL checks failed)",
+                    "REVOCATION_UNAVAILABLE",
+                    String.format("OCSP: %s, CRL: %s",
+                            ocspAvailable ? OcspClient.getResponderUrl(certificate) : "-",
+                            crlAvailable ? CrlCache.getDistributionPoints(certificate) : "-")
             );
             
         } catch (Exception e) {
@@ -65,78 +86,114 @@ public class RevocationValidator implements CertificateValidator {
     
     /**
      * OCSP를 통한 폐기 확인
+     *
+     * @return GOOD이면 성공, REVOKED이면 실패, 확인할 수 없으면(응답자 없음, 통신 실패, UNKNOWN) null
      */
-    private ValidationCheckResult checkOCSP(X509Certificate certificate, List<X509Certificate> certificateChain) {
+    private ValidationCheckResult checkOCSP(X509Certificate certificate, X509Certificate issuer) {
+        if (!properties.getOcsp().isEnabled()) {
+            return null;
+        }
+        if (issuer == null) {
+            log.debug("Issuer certificate not in chain, skipping OCSP check");
+            return null;
+        }
+
         try {
-            // OCSP 응답자 URL 추출
-            byte[] ocspExtension = certificate.getExtensionValue("1.3.6.1.5.5.7.1.1"); // Authority Info Access
-            if (ocspExtension == null) {
-                log.debug("No OCSP extension found in certificate");
+            OcspResult result = ocspClient.check(certificate, issuer);
+            if (result == null) {
+                log.debug("No OCSP responder found in certificate");
                 return null;
             }
-            
-            // 실제 OCSP 검증은 복잡하므로 여기서는 간단히 확장이 있는지만 확인
-            // 실제 구현 시 Bouncy Castle의 OCSP 라이브러리 사용 권장
-            
-            return ValidationCheckResult.success(
-                    "OCSP endpoint found (detailed check requires Bouncy Castle)",
-                    "OCSPExtensionPresent: true"
-            );
+
+            String details = String.format("OCSP: %s, Responder: %s, ThisUpdate: %s, NextUpdate: %s",
+                    result.getStatus(), result.getResponderUrl(), result.getThisUpdate(), result.getNextUpdate());
+            return switch (result.getStatus()) {
+                case GOOD -> ValidationCheckResult.builder()
+                        .valid(true)
+                        .message("Certificate is not revoked (OCSP)")
+                        .details(details)
+                        .expiresAt(result.getNextUpdate())
+                        .build();
+                case REVOKED -> ValidationCheckResult.failure(
+                        "Certificate has been revoked at " + result.getRevocationTime()
+                                + (result.getRevocationReason() != null
+                                    ? " (reason: " + result.getRevocationReason() + ")" : ""),
+                        "CERTIFICATE_REVOKED",
+                        details);
+                case UNKNOWN -> {
+                    log.debug("OCSP responder does not know the certificate");
+                    yield null;
+                }
+            };
             
         } catch (Exception e) {
             log.warn("OCSP check failed: {}", e.getMessage());
             return null;
         }
     }
+
+    /**
+     * 체인에서 발급자 인증서 검색 (자체 서명이거나 없으면 null)
+     */
+    private X509Certificate findIssuer(X509Certificate certificate, List<X509Certificate> certificateChain) {
+        if (certificateChain == null) {
+            return null;
+        }
+        for (X509Certificate candidate : certificateChain) {
+            if (candidate.equals(certificate)
+                    || !candidate.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
+                continue;
+            }
+            try {
+                certificate.verify(candidate.getPublicKey());
+                return candidate;
+            } catch (Exception e) {
+                log.debug("Chain certificate {} did not sign the certificate", candidate.getSubjectX500Principal());
+            }
+        }
+        return null;
+    }
     
     /**
      * CRL을 통한 폐기 확인
+     *
+     * @return 폐기 여부 결과, 확인할 수 없으면(배포 지점 없음, 다운로드/검증 실패) null
      */
-    private ValidationCheckResult checkCRL(X509Certificate certificate) {
+    private ValidationCheckResult checkCRL(X509Certificate certificate, X509Certificate issuer) {
+        if (!properties.getCrl().isEnabled()) {
+            return null;
+        }
+        if (issuer == null) {
+            log.debug("Issuer certificate not in chain, skipping CRL check");
+            return null;
+        }
+
         try {
-            // CRL Distribution Points 확장 추출
-            byte[] crlExtension = certificate.getExtensionValue("2.5.29.31"); // CRL Distribution Points
-            if (crlExtension == null) {
-                log.debug("No CRL extension found in certificate");
+            CrlResult result = crlCache.check(certificate, issuer);
+            if (result == null) {
+                log.debug("No CRL distribution point found in certificate");
                 return null;
             }
-            
-            // CRL URL 파싱 및 다운로드는 복잡하므로 간단히 확장 존재 여부만 확인
-            // 실제 구현 시 CRL 다운로드 및 파싱 필요
-            
-            return ValidationCheckResult.success(
-                    "CRL endpoint found (detailed check requires CRL download)",
-                    "CRLExtensionPresent: true"
-            );
+
+            String details = String.format("CRL: %s, Entries: %d, ThisUpdate: %s, NextUpdate: %s",
+                    result.getDistributionPoint(), result.getRevokedCount(),
+                    result.getThisUpdate(), result.getNextUpdate());
+            if (result.isRevoked()) {
+                return ValidationCheckResult.failure(
+                        "Certificate has been revoked at " + result.getRevocationTime() + " (CRL)",
+                        "CERTIFICATE_REVOKED",
+                        details);
+            }
+            return ValidationCheckResult.builder()
+                    .valid(true)
+                    .message("Certificate is not revoked (CRL)")
+                    .details(details)
+                    .expiresAt(result.getNextUpdate())
+                    .build();
             
         } catch (Exception e) {
             log.warn("CRL check failed: {}", e.getMessage());
             return null;
         }
     }
-    
-    /**
-     * CRL 다운로드 및 검증 (실제 구현 예시)
-     */
-    private boolean checkCertificateInCRL(X509Certificate certificate, String crlUrl) throws Exception {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(crlUrl))
-                .timeout(Duration.ofSeconds(10))
-                .GET()
-                .build();
-        
-        HttpResponse<InputStream> response = httpClient.send(
-                request,
-                HttpResponse.BodyHandlers.ofInputStream()
-        );
-        
-        if (response.statusCode() != 200) {
-            throw new Exception("Failed to download CRL: HTTP " + response.statusCode());
-        }
-        
-        CertificateFactory cf = CertificateFactory.getInstance("X.509");
-        X509CRL crl = (X509CRL) cf.generateCRL(response.body());
-        
-        return crl.isRevoked(certificate);
-    }
 }
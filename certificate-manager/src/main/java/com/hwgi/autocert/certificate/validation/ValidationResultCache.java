@@ -0,0 +1,212 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 인증서 검증 결과 캐시
+ *
+ * 리프 + 체인 인증서(DER)의 SHA-256 지문별로 검증 결과를 보관
+ * - 결과는 판정이 바뀔 수 있는 가장 이른 시각까지 사용:
+ *   체인 내 인증서의 notBefore/notAfter, 만료 경고 시작 시점, OCSP/CRL nextUpdate, 최대 캐시 시간
+ * - 시간 초과/예외처럼 일시적인 실패가 포함된 결과는 캐시하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValidationResultCache {
+
+    /**
+     * 일시적인 실패 에러 코드 (다시 검증하면 결과가 달라질 수 있음)
+     */
+    private static final Set<String> TRANSIENT_ERROR_CODES = Set.of(
+            "CHECK_TIMED_OUT",
+            "CHECK_INTERRUPTED",
+            "VALIDATION_ERROR",
+            "CHAIN_VALIDATION_ERROR",
+            "REVOCATION_VALIDATION_ERROR",
+            "REVOCATION_UNAVAILABLE",
+            "CT_VALIDATION_ERROR"
+    );
+
+    private final ValidationProperties properties;
+
+    /**
+     * 지문 → 캐시된 결과
+     */
+    private final Map<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+    private record CachedResult(CertificateValidationResult result, Instant expiresAt) {
+    }
+
+    /**
+     * 캐시된 결과 조회
+     *
+     * @param fingerprint 리프 + 체인 지문
+     * @return 만료되지 않은 결과 (없으면 null)
+     */
+    public CertificateValidationResult get(String fingerprint) {
+        if (!properties.getResultCache().isEnabled()) {
+            return null;
+        }
+        CachedResult cached = cache.get(fingerprint);
+        if (cached == null) {
+            return null;
+        }
+        if (!Instant.now().isBefore(cached.expiresAt())) {
+            cache.remove(fingerprint, cached);
+            return null;
+        }
+        return cached.result();
+    }
+
+    /**
+     * 검증 결과 저장
+     *
+     * @param fingerprint 리프 + 체인 지문
+     * @param chain 검증한 체인 (리프 포함)
+     * @param result 검증 결과
+     */
+    public void put(String fingerprint, List<X509Certificate> chain, CertificateValidationResult result) {
+        ValidationProperties.ResultCache config = properties.getResultCache();
+        if (!config.isEnabled() || isTransient(result)) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Instant expiresAt = expiresAt(chain, result, now, Duration.ofMillis(config.getMaxTtl()));
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+
+        if (!cache.containsKey(fingerprint) && cache.size() >= config.getMaxEntries()) {
+            cache.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+            if (cache.size() >= config.getMaxEntries()) {
+                // 만료 항목이 없으면 가장 먼저 만료될 항목 제거
+                cache.entrySet().stream()
+                        .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                        .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+            }
+        }
+        cache.put(fingerprint, new CachedResult(result, expiresAt));
+        log.debug("Cached validation result {} until {}", fingerprint, expiresAt);
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * 리프 + 체인 지문 (SHA-256, 체인 순서 포함)
+     *
+     * @param chain 리프가 첫 번째인 체인
+     */
+    public static String fingerprint(List<X509Certificate> chain) throws CertificateEncodingException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (X509Certificate certificate : chain) {
+                // 각 인증서 길이를 앞에 넣어 경계를 모호하지 않게 함
+                byte[] encoded = certificate.getEncoded();
+                digest.update(new byte[]{(byte) (encoded.length >>> 24), (byte) (encoded.length >>> 16),
+                        (byte) (encoded.length >>> 8), (byte) encoded.length});
+                digest.update(encoded);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 판정이 바뀔 수 있는 가장 이른 시각 (최대 캐시 시간 적용)
+     */
+    static Instant expiresAt(List<X509Certificate> chain, CertificateValidationResult result,
+                             Instant now, Duration maxTtl) {
+        Instant verdictExpiresAt = verdictExpiresAt(chain, result, now);
+        Instant capped = now.plus(maxTtl);
+        return verdictExpiresAt != null && verdictExpiresAt.isBefore(capped) ? verdictExpiresAt : capped;
+    }
+
+    /**
+     * 판정이 바뀔 수 있는 가장 이른 시각
+     *
+     * @return 시각 (시간이 지나도 판정이 바뀌지 않으면 null)
+     */
+    public static Instant verdictExpiresAt(List<X509Certificate> chain, CertificateValidationResult result,
+                                           Instant now) {
+        Instant earliest = Instant.MAX;
+        for (X509Certificate certificate : chain) {
+            earliest = earliestAfter(earliest, now,
+                    certificate.getNotBefore().toInstant(),
+                    certificate.getNotAfter().toInstant());
+        }
+
+        // ValidityPeriodValidator는 남은 일수(내림)가 WARNING_DAYS 이하이면 경고
+        Instant leafNotAfter = chain.get(0).getNotAfter().toInstant();
+        earliest = earliestAfter(earliest, now,
+                leafNotAfter.minus(Duration.ofDays(ValidityPeriodValidator.WARNING_DAYS + 1)));
+
+        // 검증 항목이 알려준 시각 (이미 지났으면 지금 바로 바뀔 수 있음)
+        List<Instant> checkExpiries = Stream.of(result.getSignatureCheck(), result.getValidityCheck(),
+                        result.getChainCheck(), result.getRevocationCheck(), result.getDomainCheck(),
+                        result.getKeyUsageCheck(), result.getTransparencyCheck())
+                .filter(check -> check != null && check.getExpiresAt() != null)
+                .map(ValidationCheckResult::getExpiresAt)
+                .toList();
+        for (Instant checkExpiry : checkExpiries) {
+            if (!checkExpiry.isAfter(now)) {
+                return now;
+            }
+        }
+        earliest = earliestAfter(earliest, now, checkExpiries.toArray(Instant[]::new));
+        return Instant.MAX.equals(earliest) ? null : earliest;
+    }
+
+    private static Instant earliestAfter(Instant earliest, Instant now, Instant... candidates) {
+        for (Instant candidate : candidates) {
+            if (candidate.isAfter(now) && candidate.isBefore(earliest)) {
+                earliest = candidate;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * 일시적인 실패(시간 초과/예외)가 포함된 결과인지 확인
+     */
+    public static boolean isTransient(CertificateValidationResult result) {
+        return Stream.of(result.getSignatureCheck(), result.getValidityCheck(), result.getChainCheck(),
+                        result.getRevocationCheck(), result.getDomainCheck(), result.getKeyUsageCheck(),
+                        result.getTransparencyCheck())
+                .anyMatch(check -> check == null
+                        || (check.getErrorCode() != null && TRANSIENT_ERROR_CODES.contains(check.getErrorCode())));
+    }
+}
@@ -23,7 +23,7 @@ import java.util.List;
 public class ValidityPeriodValidator implements CertificateValidator {
     
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final int WARNING_DAYS = 30;
+    static final int WARNING_DAYS = 30;
     
     @Override
     public ValidationCheckResult validate(X509Certificate certificate, List<X509Certificate> certificateChain) {
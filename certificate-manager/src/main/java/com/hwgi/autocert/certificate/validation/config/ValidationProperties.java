@@ -0,0 +1,340 @@
+package com.hwgi.autocert.certificate.validation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증서 검증 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "autocert.validation")
+@Getter
+@Setter
+public class ValidationProperties {
+
+    private Timeout timeout = new Timeout();
+    private TrustStore trustStore = new TrustStore();
+    private ResultCache resultCache = new ResultCache();
+    private Bulk bulk = new Bulk();
+    private Revalidation revalidation = new Revalidation();
+    private Scan scan = new Scan();
+    private Aia aia = new Aia();
+    private Ocsp ocsp = new Ocsp();
+    private Crl crl = new Crl();
+    private Ct ct = new Ct();
+
+    @Getter
+    @Setter
+    public static class Timeout {
+        /**
+         * 검증 항목별 기본 제한 시간 (밀리초)
+         */
+        private long check = 20000;
+
+        /**
+         * 항목별 제한 시간 (signature, validity, chain, revocation, domain, keyUsage, transparency → 밀리초)
+         */
+        private Map<String, Long> checks = new HashMap<>();
+
+        /**
+         * 전체 검증 제한 시간 (밀리초)
+         */
+        private long total = 30000;
+
+        public long getCheck(String name) {
+            return checks.getOrDefault(name, check);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class TrustStore {
+        /**
+         * 신뢰 저장소 파일 경로 (비어 있으면 JVM 기본 cacerts/javax.net.ssl.trustStore)
+         */
+        private String path;
+
+        /**
+         * 신뢰 저장소 형식 (path 지정 시)
+         */
+        private String type = "PKCS12";
+
+        /**
+         * 신뢰 저장소 비밀번호 (path 지정 시)
+         */
+        private String password = "";
+
+        /**
+         * 신뢰 저장소 파일 변경 확인 주기 (밀리초)
+         */
+        private long checkInterval = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class ResultCache {
+        /**
+         * 검증 결과 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 캐시 항목 수
+         */
+        private int maxEntries = 10000;
+
+        /**
+         * 최대 캐시 시간 (밀리초, 신뢰 저장소 변경 등 시각으로 알 수 없는 변화 반영)
+         */
+        private long maxTtl = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulk {
+        /**
+         * 일괄 검증 동시 실행 수 (동시에 메모리에 올라가는 인증서 수)
+         */
+        private int concurrency = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Revalidation {
+        /**
+         * 주기적 재검증 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 재검증 대상 조회 주기 (밀리초)
+         */
+        private long interval = 300000;
+
+        /**
+         * 한 번에 조회할 재검증 대상 수
+         */
+        private int batchSize = 200;
+
+        /**
+         * 동시 재검증 수
+         */
+        private int concurrency = 8;
+
+        /**
+         * 최대 재검증 간격 (밀리초, 신뢰 저장소 변경 등 시각으로 알 수 없는 변화 반영)
+         */
+        private long maxInterval = 86400000;
+
+        /**
+         * 일시적인 실패 후 재시도 간격 (밀리초)
+         */
+        private long retryDelay = 900000;
+
+        /**
+         * 이력 보관 기간 (인증서별 최근 실행은 유지)
+         */
+        private int retentionDays = 90;
+    }
+
+    @Getter
+    @Setter
+    public static class Scan {
+        /**
+         * 주기적 TLS 엔드포인트 스캔 사용 여부 (API 스캔은 항상 가능)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 주기적 스캔 간격 (밀리초)
+         */
+        private long interval = 3600000;
+
+        /**
+         * 서버 TLS 포트
+         */
+        private int port = 443;
+
+        /**
+         * 연결/핸드셰이크 제한 시간 (밀리초)
+         */
+        private int timeout = 3000;
+
+        /**
+         * 동시 핸드셰이크 수 (가상 스레드)
+         */
+        private int concurrency = 512;
+
+        /**
+         * 추가 스캔 대상 (host 또는 host:port, 호스트명은 SNI로 사용)
+         */
+        private List<String> endpoints = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Aia {
+        /**
+         * 누락된 중간 인증서를 AIA caIssuers URL에서 가져올지 여부 (저장된 중간 인증서는 항상 사용)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 연결/다운로드 타임아웃 (밀리초)
+         */
+        private int timeout = 5000;
+
+        /**
+         * 다운로드할 최대 응답 크기 (바이트)
+         */
+        private long maxSize = 1024 * 1024;
+
+        /**
+         * 가져오기에 실패한 URL을 다시 시도하기까지 대기 시간 (밀리초)
+         */
+        private long failureBackoff = 600000;
+
+        /**
+         * 따라갈 최대 리다이렉트 횟수
+         */
+        private int maxRedirects = 3;
+
+        /**
+         * 사설/루프백/링크 로컬 주소로 해석되어도 접속을 허용할 호스트 (내부 CA, 기본은 공인 주소만 접속)
+         */
+        private List<String> allowedHosts = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Ocsp {
+        /**
+         * OCSP 조회 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 연결/응답 타임아웃 (밀리초)
+         */
+        private int timeout = 10000;
+
+        /**
+         * nextUpdate가 없는 응답의 캐시 시간 (밀리초)
+         */
+        private long defaultTtl = 3600000;
+
+        /**
+         * 최대 캐시 항목 수
+         */
+        private int maxCacheEntries = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Crl {
+        /**
+         * CRL 폐기 확인 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 연결/다운로드 타임아웃 (밀리초)
+         */
+        private int timeout = 15000;
+
+        /**
+         * nextUpdate가 없는 CRL의 캐시 시간 (밀리초)
+         */
+        private long defaultTtl = 3600000;
+
+        /**
+         * nextUpdate 이전 백그라운드 갱신 시점 (밀리초)
+         */
+        private long refreshAhead = 600000;
+
+        /**
+         * 백그라운드 갱신 확인 주기 (밀리초)
+         */
+        private long refreshInterval = 60000;
+
+        /**
+         * 캐시할 최대 배포 지점 수
+         */
+        private int maxEntries = 500;
+
+        /**
+         * 다운로드할 최대 CRL 크기 (바이트)
+         */
+        private long maxSize = 50L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Ct {
+        /**
+         * Certificate Transparency(포함된 SCT) 확인 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 확인된 SCT가 최소 개수보다 적으면 실패로 처리할지 여부 (false면 경고만)
+         */
+        private boolean required = false;
+
+        /**
+         * 확인되어야 하는 최소 SCT 수 (서로 다른 로그 기준이 아닌 SCT 수)
+         */
+        private int minScts = 2;
+
+        /**
+         * CT 로그 목록 URL (v3 JSON, 비어 있으면 설정된 로그만 사용)
+         */
+        private String logListUrl = "https://www.gstatic.com/ct/log_list/v3/log_list.json";
+
+        /**
+         * 추가 CT 로그 (사설 로그 등, 목록보다 우선)
+         */
+        private List<Log> logs = new ArrayList<>();
+
+        /**
+         * 로그 목록 갱신 주기 (밀리초)
+         */
+        private long refreshInterval = 3600000;
+
+        /**
+         * 연결/다운로드 타임아웃 (밀리초)
+         */
+        private int timeout = 10000;
+
+        /**
+         * 다운로드할 최대 로그 목록 크기 (바이트)
+         */
+        private long maxSize = 5L * 1024 * 1024;
+
+        /**
+         * 인증서별 SCT 검증 결과 최대 캐시 항목 수
+         */
+        private int maxCacheEntries = 10000;
+
+        @Getter
+        @Setter
+        public static class Log {
+            /**
+             * 로그 이름
+             */
+            private String description;
+
+            /**
+             * 로그 공개키 (DER SubjectPublicKeyInfo, Base64)
+             */
+            private String key;
+        }
+    }
+}
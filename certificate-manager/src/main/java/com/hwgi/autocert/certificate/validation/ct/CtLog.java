@@ -0,0 +1,31 @@
+package com.hwgi.autocert.certificate.validation.ct;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.security.PublicKey;
+import java.time.Instant;
+
+/**
+ * CT 로그 (SCT 서명 검증용 공개키)
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public class CtLog {
+
+    /**
+     * 로그 ID (공개키 SHA-256, Base64)
+     */
+    private final String logId;
+
+    private final String description;
+
+    private final PublicKey publicKey;
+
+    /**
+     * 로그 폐기 시각 (이후 발급된 SCT는 인정하지 않음, 운영 중이면 null)
+     */
+    private final Instant retiredAt;
+}
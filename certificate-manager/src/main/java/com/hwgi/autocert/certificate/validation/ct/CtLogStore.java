@@ -0,0 +1,200 @@
+package com.hwgi.autocert.certificate.validation.ct;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CT 로그 저장소
+ *
+ * 설정된 로그와 CT 로그 목록(v3 JSON)의 공개키를 로그 ID로 색인
+ * - 로그 목록은 스케줄러 스레드에서만 내려받으므로 검증 요청은 네트워크를 기다리지 않음 (내려받기 전에는 설정된 로그만 사용)
+ * - 로그 ID는 목록의 log_id를 믿지 않고 공개키에서 다시 계산
+ * - 로그 구성이 바뀌면 버전이 올라가 버전별로 캐시된 SCT 검증 결과가 무효화됨 (실패 시 기존 색인 유지)
+ */
+@Slf4j
+@Component
+public class CtLogStore {
+
+    private final ValidationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    private final AtomicLong versions = new AtomicLong();
+    private final List<CtLog> configuredLogs;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 불변 색인
+     */
+    private record Snapshot(Map<String, CtLog> byLogId, long version) {
+    }
+
+    public CtLogStore(ValidationProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.getCt().getTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        List<CtLog> logs = new ArrayList<>();
+        for (ValidationProperties.Ct.Log configured : properties.getCt().getLogs()) {
+            try {
+                logs.add(log(configured.getDescription(), Base64.getDecoder().decode(configured.getKey()), null));
+            } catch (RuntimeException | IOException e) {
+                throw new IllegalStateException("Invalid CT log key for " + configured.getDescription(), e);
+            }
+        }
+        this.configuredLogs = List.copyOf(logs);
+        this.snapshot = new Snapshot(index(List.of()), versions.incrementAndGet());
+    }
+
+    /**
+     * 로그 ID로 로그 조회
+     *
+     * @param logId 로그 ID (Base64)
+     * @return 로그 (알 수 없으면 null)
+     */
+    public CtLog find(String logId) {
+        return snapshot.byLogId().get(logId);
+    }
+
+    /**
+     * 현재 로그 구성 버전 (구성이 바뀔 때마다 증가)
+     */
+    public long version() {
+        return snapshot.version();
+    }
+
+    /**
+     * 알고 있는 로그 수
+     */
+    public int size() {
+        return snapshot.byLogId().size();
+    }
+
+    /**
+     * CT 로그 목록 갱신 (시작 직후와 이후 주기마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${autocert.validation.ct.refresh-interval:3600000}")
+    public synchronized void refresh() {
+        ValidationProperties.Ct ct = properties.getCt();
+        if (!ct.isEnabled() || !StringUtils.hasText(ct.getLogListUrl())) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, CtLog> byLogId = index(fetch(ct.getLogListUrl()));
+            if (!byLogId.equals(snapshot.byLogId())) {
+                snapshot = new Snapshot(byLogId, versions.incrementAndGet());
+            }
+            log.info("Loaded {} CT log(s) from {} in {}ms",
+                    byLogId.size(), ct.getLogListUrl(), System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to refresh CT log list from {}, keeping {} known log(s): {}",
+                    ct.getLogListUrl(), size(), e.getMessage());
+        }
+    }
+
+    private List<CtLog> fetch(String url) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofMillis(properties.getCt().getTimeout()))
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CT log list download interrupted", e);
+        }
+
+        byte[] encoded;
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Failed to download CT log list: HTTP " + response.statusCode());
+            }
+            long maxSize = properties.getCt().getMaxSize();
+            encoded = body.readNBytes((int) Math.min(maxSize + 1, Integer.MAX_VALUE - 8));
+            if (encoded.length > maxSize) {
+                throw new IOException("CT log list exceeds maximum size of " + maxSize + " bytes");
+            }
+        }
+
+        List<CtLog> logs = new ArrayList<>();
+        JsonNode root = objectMapper.readTree(encoded);
+        for (JsonNode operator : root.path("operators")) {
+            for (String field : List.of("logs", "tiled_logs")) {
+                for (JsonNode node : operator.path(field)) {
+                    JsonNode state = node.path("state");
+                    if (state.has("pending") || state.has("rejected")) {
+                        continue;
+                    }
+                    try {
+                        JsonNode retired = state.path("retired").path("timestamp");
+                        logs.add(log(node.path("description").asText(),
+                                Base64.getDecoder().decode(node.path("key").asText()),
+                                retired.isTextual() ? Instant.parse(retired.asText()) : null));
+                    } catch (RuntimeException | IOException e) {
+                        log.debug("Skipping CT log {}: {}", node.path("description").asText(), e.getMessage());
+                    }
+                }
+            }
+        }
+        if (logs.isEmpty()) {
+            throw new IOException("No usable CT log in list");
+        }
+        return logs;
+    }
+
+    private Map<String, CtLog> index(List<CtLog> fetched) {
+        Map<String, CtLog> byLogId = new HashMap<>();
+        fetched.forEach(ctLog -> byLogId.put(ctLog.getLogId(), ctLog));
+        // 설정된 로그가 목록보다 우선
+        configuredLogs.forEach(ctLog -> byLogId.put(ctLog.getLogId(), ctLog));
+        return Map.copyOf(byLogId);
+    }
+
+    private static CtLog log(String description, byte[] subjectPublicKeyInfo, Instant retiredAt) throws IOException {
+        try {
+            return CtLog.builder()
+                    .logId(Base64.getEncoder().encodeToString(
+                            MessageDigest.getInstance("SHA-256").digest(subjectPublicKeyInfo)))
+                    .description(description)
+                    .publicKey(new JcaPEMKeyConverter().getPublicKey(
+                            SubjectPublicKeyInfo.getInstance(subjectPublicKeyInfo)))
+                    .retiredAt(retiredAt)
+                    .build();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
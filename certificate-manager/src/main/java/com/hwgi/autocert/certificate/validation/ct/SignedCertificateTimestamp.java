@@ -0,0 +1,205 @@
+package com.hwgi.autocert.certificate.validation.ct;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.ASN1TaggedObject;
+import org.bouncycastle.asn1.DERSequence;
+import org.bouncycastle.asn1.DERTaggedObject;
+import org.bouncycastle.asn1.x509.Extensions;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 인증서에 포함된 SCT (RFC 6962 v1 SignedCertificateTimestamp)
+ *
+ * - SCT 목록 확장(1.3.6.1.4.1.11129.2.4.2)의 TLS 인코딩을 직접 읽음
+ * - 포함된 SCT는 사전 인증서(precertificate)에 대해 서명되므로, 서명 대상은 SCT 목록 확장을 뺀 TBSCertificate
+ */
+@Getter
+@Builder
+public class SignedCertificateTimestamp {
+
+    /**
+     * SCT 목록 확장 OID
+     */
+    public static final ASN1ObjectIdentifier SCT_LIST_OID = new ASN1ObjectIdentifier("1.3.6.1.4.1.11129.2.4.2");
+
+    private static final int VERSION_V1 = 0;
+    private static final int SIGNATURE_TYPE_CERTIFICATE_TIMESTAMP = 0;
+    private static final int ENTRY_TYPE_PRECERT = 1;
+    private static final int HASH_SHA256 = 4;
+    private static final int SIGNATURE_RSA = 1;
+    private static final int SIGNATURE_ECDSA = 3;
+
+    /**
+     * CT 로그 ID (로그 공개키 SHA-256)
+     */
+    private final byte[] logId;
+
+    /**
+     * 로그가 SCT를 발급한 시각 (밀리초)
+     */
+    private final long timestamp;
+
+    private final byte[] extensions;
+
+    private final int hashAlgorithm;
+
+    private final int signatureAlgorithm;
+
+    private final byte[] signature;
+
+    /**
+     * 인증서에 포함된 v1 SCT 목록
+     *
+     * @return SCT 목록 (확장이 없으면 빈 목록, 알 수 없는 버전은 제외)
+     * @throws IOException 확장 형식이 잘못된 경우
+     */
+    public static List<SignedCertificateTimestamp> fromCertificate(X509Certificate certificate) throws IOException {
+        byte[] extension = certificate.getExtensionValue(SCT_LIST_OID.getId());
+        if (extension == null) {
+            return List.of();
+        }
+
+        byte[] encoded;
+        try {
+            // 확장 값(OCTET STRING) 안에 다시 OCTET STRING으로 감싼 TLS 인코딩 목록
+            encoded = ASN1OctetString.getInstance(ASN1OctetString.getInstance(extension).getOctets()).getOctets();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed SCT list extension: " + e.getMessage(), e);
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(encoded);
+            if (readLength(buffer, 2) != buffer.remaining()) {
+                throw new IOException("SCT list length mismatch");
+            }
+            List<SignedCertificateTimestamp> timestamps = new ArrayList<>();
+            while (buffer.hasRemaining()) {
+                ByteBuffer sct = ByteBuffer.wrap(readBytes(buffer, readLength(buffer, 2)));
+                if ((sct.get() & 0xff) != VERSION_V1) {
+                    continue;
+                }
+                SignedCertificateTimestamp timestamp = SignedCertificateTimestamp.builder()
+                        .logId(readBytes(sct, 32))
+                        .timestamp(sct.getLong())
+                        .extensions(readBytes(sct, readLength(sct, 2)))
+                        .hashAlgorithm(sct.get() & 0xff)
+                        .signatureAlgorithm(sct.get() & 0xff)
+                        .signature(readBytes(sct, readLength(sct, 2)))
+                        .build();
+                if (sct.hasRemaining()) {
+                    throw new IOException("Trailing data in SCT");
+                }
+                timestamps.add(timestamp);
+            }
+            return timestamps;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated SCT list", e);
+        }
+    }
+
+    /**
+     * SCT 목록 확장을 뺀 TBSCertificate (사전 인증서의 서명 대상)
+     */
+    public static byte[] precertificateTbs(X509Certificate certificate)
+            throws IOException, CertificateEncodingException {
+        ASN1Sequence tbs = ASN1Sequence.getInstance(certificate.getTBSCertificate());
+        ASN1EncodableVector fields = new ASN1EncodableVector();
+        for (ASN1Encodable field : tbs) {
+            if (field instanceof ASN1TaggedObject tagged && tagged.getTagNo() == 3) {
+                // [3] extensions: 순서를 유지하고 SCT 목록만 제거
+                Extensions extensions = Extensions.getInstance(tagged, true);
+                ASN1EncodableVector kept = new ASN1EncodableVector();
+                for (ASN1ObjectIdentifier oid : extensions.getExtensionOIDs()) {
+                    if (!SCT_LIST_OID.equals(oid)) {
+                        kept.add(extensions.getExtension(oid));
+                    }
+                }
+                field = new DERTaggedObject(true, 3, new DERSequence(kept));
+            }
+            fields.add(field);
+        }
+        return new DERSequence(fields).getEncoded(ASN1Encoding.DER);
+    }
+
+    /**
+     * 서명 대상 (RFC 6962 3.2 digitally-signed 구조, precert_entry)
+     *
+     * @param issuerKeyHash 발급자 공개키(SubjectPublicKeyInfo) SHA-256
+     * @param precertificateTbs {@link #precertificateTbs(X509Certificate)}
+     */
+    public byte[] signedData(byte[] issuerKeyHash, byte[] precertificateTbs) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 1 + 8 + 2 + issuerKeyHash.length
+                + 3 + precertificateTbs.length + 2 + extensions.length);
+        buffer.put((byte) VERSION_V1);
+        buffer.put((byte) SIGNATURE_TYPE_CERTIFICATE_TIMESTAMP);
+        buffer.putLong(timestamp);
+        buffer.putShort((short) ENTRY_TYPE_PRECERT);
+        buffer.put(issuerKeyHash);
+        buffer.put((byte) (precertificateTbs.length >>> 16));
+        buffer.putShort((short) precertificateTbs.length);
+        buffer.put(precertificateTbs);
+        buffer.putShort((short) extensions.length);
+        buffer.put(extensions);
+        return buffer.array();
+    }
+
+    /**
+     * JCA 서명 알고리즘 이름
+     *
+     * @return 알고리즘 (RFC 6962에서 허용하지 않는 조합이면 null)
+     */
+    public String getJcaAlgorithm() {
+        if (hashAlgorithm != HASH_SHA256) {
+            return null;
+        }
+        return switch (signatureAlgorithm) {
+            case SIGNATURE_ECDSA -> "SHA256withECDSA";
+            case SIGNATURE_RSA -> "SHA256withRSA";
+            default -> null;
+        };
+    }
+
+    /**
+     * 로그 ID (Base64, 로그 목록의 log_id 형식)
+     */
+    public String getLogIdBase64() {
+        return Base64.getEncoder().encodeToString(logId);
+    }
+
+    /**
+     * 로그가 SCT를 발급한 시각
+     */
+    public Instant getIssuedAt() {
+        return Instant.ofEpochMilli(timestamp);
+    }
+
+    private static int readLength(ByteBuffer buffer, int bytes) {
+        int length = 0;
+        for (int i = 0; i < bytes; i++) {
+            length = (length << 8) | (buffer.get() & 0xff);
+        }
+        return length;
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,116 @@
+package com.hwgi.autocert.certificate.validation.history;
+
+import com.hwgi.autocert.certificate.validation.CertificateValidationService;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.repository.CertificateValidationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증서 증분 재검증 작업
+ *
+ * 판정이 바뀌었을 수 있는 인증서만 재검증하여 실행 이력에 기록
+ * - 실행 이력이 없는 인증서
+ * - 마지막 실행 이후 수정된 인증서 (입력 변경)
+ * - 재검증 예정 시각(유효기간 경계, 만료 경고 시작, OCSP/CRL nextUpdate, 최대 간격)이 지난 인증서
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CertificateRevalidationJob {
+
+    private final CertificateValidationRepository validationRepository;
+    private final CertificateValidationService validationService;
+    private final ValidationHistoryService historyService;
+    private final ValidationProperties properties;
+
+    private volatile LocalDateTime lastCleanupAt;
+
+    /**
+     * 주기적 재검증
+     */
+    @Scheduled(fixedDelayString = "${autocert.validation.revalidation.interval:300000}",
+               initialDelayString = "${autocert.validation.revalidation.interval:300000}")
+    public void revalidateDue() {
+        if (!properties.getRevalidation().isEnabled()) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            int count = revalidateDue(LocalDateTime.now());
+            if (count > 0) {
+                log.info("Revalidated {} certificate(s) in {}ms",
+                        count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            purgeHistory();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Certificate revalidation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기준 시각에 재검증 대상인 인증서를 모두 재검증
+     *
+     * @param now 기준 시각
+     * @return 재검증한 인증서 수
+     */
+    public int revalidateDue(LocalDateTime now) throws InterruptedException {
+        ValidationProperties.Revalidation revalidation = properties.getRevalidation();
+        Semaphore permits = new Semaphore(Math.max(1, revalidation.getConcurrency()));
+        AtomicInteger count = new AtomicInteger();
+
+        long afterId = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                // 실패한 인증서가 다음 조회를 막지 않도록 ID 키셋으로 진행
+                List<Long> ids = validationRepository.findCertificateIdsDueForValidation(
+                        now, afterId, PageRequest.of(0, revalidation.getBatchSize()));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (Long id : ids) {
+                    permits.acquire();
+                    executor.execute(() -> {
+                        try {
+                            validationService.validateCertificate(id);
+                            count.incrementAndGet();
+                        } catch (Exception e) {
+                            log.warn("Revalidation of certificate {} failed: {}", id, e.getMessage());
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+        }
+        return count.get();
+    }
+
+    private void purgeHistory() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastCleanupAt != null && lastCleanupAt.isAfter(now.minusHours(1))) {
+            return;
+        }
+        lastCleanupAt = now;
+
+        int deleted = historyService.purge(now.minusDays(properties.getRevalidation().getRetentionDays()));
+        if (deleted > 0) {
+            log.info("Purged {} certificate validation record(s)", deleted);
+        }
+    }
+}
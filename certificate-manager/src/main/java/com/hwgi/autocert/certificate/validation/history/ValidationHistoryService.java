@@ -0,0 +1,182 @@
+package com.hwgi.autocert.certificate.validation.history;
+
+import com.hwgi.autocert.certificate.validation.ValidationResultCache;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.CertificateValidation;
+import com.hwgi.autocert.domain.model.CertificateValidationCheck;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.CertificateValidationCheckRepository;
+import com.hwgi.autocert.domain.repository.CertificateValidationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 인증서 검증 실행 이력 서비스
+ *
+ * 실행마다 항목별 결과와 지문을 저장하고, 직전 실행 대비 통과 여부가 바뀐 항목을 표시
+ * - 재검증 예정 시각: 판정이 시간에 따라 바뀔 수 있는 가장 이른 시각 (최대 재검증 간격 적용)
+ * - 일시적인 실패(시간 초과 등)가 포함된 실행은 재시도 간격 후 다시 검증
+ * - 같은 인증서의 동시 기록은 인증서 행 잠금으로 직렬화 (최근 실행 유일 인덱스 위반 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValidationHistoryService {
+
+    /**
+     * 검증 항목 이름
+     */
+    public static final List<String> CHECK_NAMES =
+            List.of("signature", "validity", "chain", "revocation", "domain", "keyUsage", "transparency");
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateValidationRepository validationRepository;
+    private final CertificateValidationCheckRepository checkRepository;
+    private final ValidationProperties properties;
+
+    /**
+     * 검증 실행 기록 (호출한 트랜잭션과 별도로 커밋)
+     *
+     * 최근 실행이 아직 없는 첫 기록도 직렬화해야 하므로 최근 실행 행이 아닌 인증서 행을 잠근 뒤
+     * 직전 실행 조회 → 표시 해제 → 저장 순서로 처리
+     *
+     * @param certificateId 인증서 ID
+     * @param certificateUpdatedAt 검증한 인증서의 수정 시각
+     * @param result 검증 결과
+     * @return 저장된 실행
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CertificateValidation record(Long certificateId, LocalDateTime certificateUpdatedAt,
+                                        CertificateValidationResult result) {
+        Certificate certificate = certificateRepository.findByIdForUpdate(certificateId)
+                .orElseThrow(() -> new IllegalStateException("Certificate not found: " + certificateId));
+        Map<String, Boolean> previous = validationRepository.findFirstByCertificateIdAndLatestTrue(certificateId)
+                .map(validation -> checkRepository.findByValidationIdIn(List.of(validation.getId())).stream()
+                        .collect(Collectors.toMap(CertificateValidationCheck::getName,
+                                CertificateValidationCheck::getValid, (a, b) -> b)))
+                .orElse(Map.of());
+        validationRepository.clearLatest(certificateId);
+
+        LocalDateTime now = LocalDateTime.now();
+        CertificateValidation validation = validationRepository.save(CertificateValidation.builder()
+                .certificate(certificate)
+                .fingerprint(result.getFingerprint())
+                .valid(result.isValid())
+                .latest(true)
+                .certificateUpdatedAt(certificateUpdatedAt)
+                .nextValidationAt(nextValidationAt(result, now))
+                .validatedAt(now)
+                .build());
+
+        List<CertificateValidationCheck> checks = new ArrayList<>();
+        checks(result).forEach((name, check) -> {
+            if (check == null) {
+                return;
+            }
+            Boolean previousValid = previous.get(name);
+            checks.add(CertificateValidationCheck.builder()
+                    .validation(validation)
+                    .name(name)
+                    .valid(check.isValid())
+                    .changed(previousValid == null ? !check.isValid() : previousValid != check.isValid())
+                    .errorCode(check.getErrorCode())
+                    .message(check.getMessage())
+                    .build());
+        });
+        checkRepository.saveAll(checks);
+
+        log.debug("Recorded validation {} for certificate {} (next at {})",
+                validation.getId(), certificateId, validation.getNextValidationAt());
+        return validation;
+    }
+
+    /**
+     * 인증서별 실행 이력 조회 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public Page<CertificateValidation> getHistory(Long certificateId, Pageable pageable) {
+        return validationRepository.findByCertificateIdOrderByValidatedAtDesc(certificateId, pageable);
+    }
+
+    /**
+     * 실행별 항목 결과 조회
+     *
+     * @return 실행 ID → 항목 결과
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<CertificateValidationCheck>> getChecks(List<Long> validationIds) {
+        if (validationIds.isEmpty()) {
+            return Map.of();
+        }
+        return checkRepository.findByValidationIdIn(validationIds).stream()
+                .collect(Collectors.groupingBy(check -> check.getValidation().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 특정 시각 이후 새로 실패하기 시작한 항목 조회
+     *
+     * @param check 검증 항목 (signature, validity, chain, revocation, domain, keyUsage, transparency)
+     * @param since 기준 시각
+     */
+    @Transactional(readOnly = true)
+    public List<CertificateValidationCheck> findNewlyFailing(String check, LocalDateTime since) {
+        if (!CHECK_NAMES.contains(check)) {
+            throw new IllegalArgumentException("Unknown validation check: " + check);
+        }
+        return checkRepository.findNewlyFailingSince(check, since);
+    }
+
+    /**
+     * 보관 기간이 지난 이력 삭제 (인증서별 최근 실행은 유지)
+     */
+    public int purge(LocalDateTime before) {
+        return validationRepository.deleteHistoryBefore(before);
+    }
+
+    private LocalDateTime nextValidationAt(CertificateValidationResult result, LocalDateTime now) {
+        ValidationProperties.Revalidation revalidation = properties.getRevalidation();
+        LocalDateTime latest = now.plus(Duration.ofMillis(revalidation.getMaxInterval()));
+        if (result.getFingerprint() == null) {
+            // 파싱 실패는 인증서가 수정될 때까지 바뀌지 않음
+            return latest;
+        }
+        if (ValidationResultCache.isTransient(result)) {
+            return now.plus(Duration.ofMillis(revalidation.getRetryDelay()));
+        }
+        if (result.getExpiresAt() == null) {
+            return latest;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(result.getExpiresAt(), ZoneId.systemDefault());
+        return expiresAt.isBefore(latest) ? expiresAt : latest;
+    }
+
+    private static Map<String, ValidationCheckResult> checks(CertificateValidationResult result) {
+        Map<String, ValidationCheckResult> checks = new LinkedHashMap<>();
+        checks.put("signature", result.getSignatureCheck());
+        checks.put("validity", result.getValidityCheck());
+        checks.put("chain", result.getChainCheck());
+        checks.put("revocation", result.getRevocationCheck());
+        checks.put("domain", result.getDomainCheck());
+        checks.put("keyUsage", result.getKeyUsageCheck());
+        checks.put("transparency", result.getTransparencyCheck());
+        return checks;
+    }
+}
@@ -0,0 +1,372 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.TBSCertList;
+import org.bouncycastle.cert.CertException;
+import org.bouncycastle.cert.X509CRLHolder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CRL 캐시
+ *
+ * 배포 지점(URL)별로 CRL을 한 번 내려받아 폐기 일련번호 색인만 보관
+ * - 다운로드한 CRL은 발급자 키로 서명을 검증한 뒤 색인을 만들고 원본/항목 객체는 버림
+ * - nextUpdate까지 캐시하고 (없으면 기본 TTL), 최근 사용된 CRL은 nextUpdate 전에 백그라운드에서 미리 갱신
+ * - 갱신은 ETag/Last-Modified 조건부 요청으로 하여 바뀌지 않았으면(304) 색인을 그대로 사용
+ * - 같은 배포 지점의 동시 다운로드는 하나로 합침
+ */
+@Slf4j
+@Component
+public class CrlCache {
+
+    private final ValidationProperties properties;
+    private final HttpClient httpClient;
+
+    /**
+     * 배포 지점 URL → 캐시된 CRL
+     */
+    private final Map<String, CachedCrl> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 배포 지점별 다운로드 잠금
+     */
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private static final class CachedCrl {
+        private final X500Principal issuer;
+        private final PublicKey issuerKey;
+        private final RevokedSerialIndex index;
+        private final Instant thisUpdate;
+        private final Instant nextUpdate;
+        private final Instant expiresAt;
+        private final Instant fetchedAt;
+        private final String etag;
+        private final String lastModified;
+        private volatile Instant lastAccessedAt;
+
+        private CachedCrl(X500Principal issuer, PublicKey issuerKey, RevokedSerialIndex index,
+                          Instant thisUpdate, Instant nextUpdate, Instant expiresAt, Instant fetchedAt,
+                          String etag, String lastModified) {
+            this.issuer = issuer;
+            this.issuerKey = issuerKey;
+            this.index = index;
+            this.thisUpdate = thisUpdate;
+            this.nextUpdate = nextUpdate;
+            this.expiresAt = expiresAt;
+            this.fetchedAt = fetchedAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.lastAccessedAt = fetchedAt;
+        }
+    }
+
+    public CrlCache(ValidationProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.getCrl().getTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 인증서 폐기 여부 조회 (캐시 우선)
+     *
+     * @param certificate 대상 인증서
+     * @param issuer 발급자 인증서 (CRL 서명 검증에 사용)
+     * @return 조회 결과 (CRL 배포 지점이 없으면 null)
+     * @throws IOException 모든 배포 지점에서 CRL을 가져오거나 검증하지 못한 경우
+     */
+    public CrlResult check(X509Certificate certificate, X509Certificate issuer) throws IOException {
+        List<String> distributionPoints = getDistributionPoints(certificate);
+        if (distributionPoints.isEmpty()) {
+            return null;
+        }
+
+        IOException failure = null;
+        for (String url : distributionPoints) {
+            try {
+                CachedCrl crl = get(url, issuer);
+                long revocationTime = crl.index.getRevocationTime(certificate.getSerialNumber());
+                return CrlResult.builder()
+                        .revoked(revocationTime >= 0)
+                        .revocationTime(revocationTime >= 0 ? Instant.ofEpochMilli(revocationTime) : null)
+                        .distributionPoint(url)
+                        .thisUpdate(crl.thisUpdate)
+                        .nextUpdate(crl.nextUpdate)
+                        .revokedCount(crl.index.size())
+                        .build();
+            } catch (IOException e) {
+                log.debug("CRL from {} not available: {}", url, e.getMessage());
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * nextUpdate가 가까운 CRL 백그라운드 갱신
+     *
+     * 마지막 다운로드 이후 사용되지 않은 CRL은 갱신하지 않고 만료되면 제거
+     */
+    @Scheduled(fixedDelayString = "${autocert.validation.crl.refresh-interval:60000}",
+               initialDelayString = "${autocert.validation.crl.refresh-interval:60000}")
+    public void refreshExpiring() {
+        if (!properties.getCrl().isEnabled() || cache.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Instant refreshBefore = now.plusMillis(properties.getCrl().getRefreshAhead());
+        for (Map.Entry<String, CachedCrl> entry : cache.entrySet()) {
+            CachedCrl cached = entry.getValue();
+            if (cached.expiresAt.isAfter(refreshBefore)) {
+                continue;
+            }
+            if (!cached.lastAccessedAt.isAfter(cached.fetchedAt)) {
+                if (!now.isBefore(cached.expiresAt)) {
+                    cache.remove(entry.getKey(), cached);
+                    locks.remove(entry.getKey());
+                }
+                continue;
+            }
+
+            try {
+                synchronized (lock(entry.getKey())) {
+                    put(entry.getKey(), fetch(entry.getKey(), cached.issuer, cached.issuerKey, cached));
+                }
+            } catch (IOException e) {
+                log.warn("Background CRL refresh failed for {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 캐시된 배포 지점 수
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clearCache() {
+        cache.clear();
+        locks.clear();
+    }
+
+    /**
+     * CRL 배포 지점 확장의 HTTP(S) URL 목록
+     *
+     * @return URL 목록 (없거나 확장 형식이 잘못되었으면 빈 목록)
+     */
+    public static List<String> getDistributionPoints(X509Certificate certificate) {
+        byte[] extension = certificate.getExtensionValue(Extension.cRLDistributionPoints.getId());
+        if (extension == null) {
+            return List.of();
+        }
+
+        CRLDistPoint distPoint;
+        try {
+            distPoint = CRLDistPoint.getInstance(
+                    ASN1Primitive.fromByteArray(DEROctetString.getInstance(extension).getOctets()));
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Malformed CRL distribution points extension: {}", e.getMessage());
+            return List.of();
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (DistributionPoint point : distPoint.getDistributionPoints()) {
+            DistributionPointName name = point.getDistributionPoint();
+            if (name == null || name.getType() != DistributionPointName.FULL_NAME) {
+                continue;
+            }
+            for (GeneralName generalName : ((GeneralNames) name.getName()).getNames()) {
+                if (generalName.getTagNo() != GeneralName.uniformResourceIdentifier) {
+                    continue;
+                }
+                String url = generalName.getName().toString();
+                if (url.startsWith("http://") || url.startsWith("https://")) {
+                    urls.add(url);
+                }
+            }
+        }
+        return urls;
+    }
+
+    private CachedCrl get(String url, X509Certificate issuer) throws IOException {
+        X500Principal issuerName = issuer.getSubjectX500Principal();
+        CachedCrl cached = cache.get(url);
+        if (isUsable(cached, issuerName)) {
+            cached.lastAccessedAt = Instant.now();
+            return cached;
+        }
+
+        synchronized (lock(url)) {
+            // 대기하는 동안 다른 요청이 받아 왔으면 그대로 사용
+            cached = cache.get(url);
+            if (isUsable(cached, issuerName)) {
+                cached.lastAccessedAt = Instant.now();
+                return cached;
+            }
+            CachedCrl fetched = fetch(url, issuerName, issuer.getPublicKey(),
+                    cached != null && cached.issuer.equals(issuerName) ? cached : null);
+            fetched.lastAccessedAt = Instant.now();
+            put(url, fetched);
+            return fetched;
+        }
+    }
+
+    private static boolean isUsable(CachedCrl cached, X500Principal issuerName) {
+        return cached != null && cached.issuer.equals(issuerName) && Instant.now().isBefore(cached.expiresAt);
+    }
+
+    /**
+     * CRL 다운로드 (previous가 있으면 조건부 요청)
+     */
+    private CachedCrl fetch(String url, X500Principal issuerName, PublicKey issuerKey, CachedCrl previous)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofMillis(properties.getCrl().getTimeout()))
+                .GET();
+        if (previous != null && previous.etag != null) {
+            request.header("If-None-Match", previous.etag);
+        }
+        if (previous != null && previous.lastModified != null) {
+            request.header("If-Modified-Since", previous.lastModified);
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CRL download interrupted", e);
+        }
+
+        Instant now = Instant.now();
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == 304 && previous != null) {
+                log.debug("CRL {} not modified", url);
+                return new CachedCrl(previous.issuer, previous.issuerKey, previous.index,
+                        previous.thisUpdate, previous.nextUpdate, expiresAt(previous.nextUpdate, now), now,
+                        previous.etag, previous.lastModified);
+            }
+            if (response.statusCode() != 200) {
+                throw new IOException("Failed to download CRL: HTTP " + response.statusCode());
+            }
+
+            long maxSize = properties.getCrl().getMaxSize();
+            if (response.headers().firstValueAsLong("Content-Length").orElse(0) > maxSize) {
+                throw new IOException("CRL exceeds maximum size of " + maxSize + " bytes");
+            }
+            byte[] encoded = body.readNBytes((int) Math.min(maxSize + 1, Integer.MAX_VALUE - 8));
+            if (encoded.length > maxSize) {
+                throw new IOException("CRL exceeds maximum size of " + maxSize + " bytes");
+            }
+
+            X509CRLHolder crl = parse(encoded, issuerName, issuerKey);
+            RevokedSerialIndex index = index(crl);
+            Instant thisUpdate = crl.getThisUpdate().toInstant();
+            Instant nextUpdate = crl.getNextUpdate() != null ? crl.getNextUpdate().toInstant() : null;
+            if (nextUpdate != null && nextUpdate.isBefore(now)) {
+                log.warn("CRL {} is past its nextUpdate ({})", url, nextUpdate);
+            }
+
+            log.info("Loaded CRL {} with {} revoked serial(s) ({} bytes, index {} bytes) in {}ms",
+                    url, index.size(), encoded.length, index.getMemoryBytes(), System.currentTimeMillis() - start);
+            return new CachedCrl(issuerName, issuerKey, index, thisUpdate, nextUpdate,
+                    expiresAt(nextUpdate, now), now,
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null));
+        }
+    }
+
+    /**
+     * CRL 파싱 및 발급자/서명 검증
+     */
+    private static X509CRLHolder parse(byte[] encoded, X500Principal issuerName, PublicKey issuerKey)
+            throws IOException {
+        X509CRLHolder crl = new X509CRLHolder(encoded);
+        if (!crl.getIssuer().equals(X500Name.getInstance(issuerName.getEncoded()))) {
+            throw new IOException("CRL issuer " + crl.getIssuer() + " does not match certificate issuer");
+        }
+        if (crl.getExtension(Extension.deltaCRLIndicator) != null) {
+            throw new IOException("Delta CRLs are not supported");
+        }
+        try {
+            if (!crl.isSignatureValid(new JcaContentVerifierProviderBuilder().build(issuerKey))) {
+                throw new IOException("CRL signature is not valid");
+            }
+        } catch (CertException | OperatorCreationException e) {
+            throw new IOException("CRL signature verification failed: " + e.getMessage(), e);
+        }
+        return crl;
+    }
+
+    /**
+     * 폐기 항목을 X509CRLEntry 객체 없이 순회하여 색인 생성
+     */
+    private static RevokedSerialIndex index(X509CRLHolder crl) {
+        RevokedSerialIndex.Builder builder = new RevokedSerialIndex.Builder();
+        Enumeration<?> entries = crl.toASN1Structure().getRevokedCertificateEnumeration();
+        while (entries.hasMoreElements()) {
+            TBSCertList.CRLEntry entry = (TBSCertList.CRLEntry) entries.nextElement();
+            builder.add(entry.getUserCertificate().getValue(), entry.getRevocationDate().getDate().getTime());
+        }
+        return builder.build();
+    }
+
+    private Instant expiresAt(Instant nextUpdate, Instant now) {
+        return nextUpdate != null && nextUpdate.isAfter(now)
+                ? nextUpdate
+                : now.plusMillis(properties.getCrl().getDefaultTtl());
+    }
+
+    private Object lock(String url) {
+        return locks.computeIfAbsent(url, key -> new Object());
+    }
+
+    private void put(String url, CachedCrl crl) {
+        if (!cache.containsKey(url) && cache.size() >= properties.getCrl().getMaxEntries()) {
+            // 가장 오래 사용되지 않은 배포 지점 제거
+            cache.entrySet().stream()
+                    .min(Comparator.comparing(entry -> entry.getValue().lastAccessedAt))
+                    .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+        }
+        cache.put(url, crl);
+    }
+}
@@ -0,0 +1,35 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * CRL 조회 결과
+ */
+@Getter
+@Builder
+public class CrlResult {
+
+    private final boolean revoked;
+
+    /**
+     * 폐기 시각 (폐기된 경우)
+     */
+    private final Instant revocationTime;
+
+    private final String distributionPoint;
+
+    private final Instant thisUpdate;
+
+    /**
+     * 다음 갱신 시각 (CRL에 없으면 null)
+     */
+    private final Instant nextUpdate;
+
+    /**
+     * CRL 폐기 항목 수
+     */
+    private final int revokedCount;
+}
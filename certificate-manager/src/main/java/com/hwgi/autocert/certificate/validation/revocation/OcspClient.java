@@ -0,0 +1,309 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPException;
+import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OCSP 클라이언트
+ *
+ * - 요청/응답은 BouncyCastle bcpkix로 생성/파싱하고, 응답 서명은 발급자 또는 발급자가 위임한 OCSP 서명 인증서로 검증
+ * - 응답은 발급자(이름/키 해시) + 일련번호별로 nextUpdate까지 캐시 (nextUpdate가 없으면 기본 TTL)
+ * - HttpClient 하나를 공유하여 응답자별 keep-alive 연결을 재사용
+ * - 응답자 부하를 고려해 nonce는 사용하지 않음 (RFC 5019 경량 프로필)
+ */
+@Slf4j
+@Component
+public class OcspClient {
+
+    private static final String OCSP_REQUEST_TYPE = "application/ocsp-request";
+    private static final String OCSP_RESPONSE_TYPE = "application/ocsp-response";
+
+    /**
+     * 응답자와 로컬 시계 차이 허용 범위
+     */
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private final ValidationProperties properties;
+    private final HttpClient httpClient;
+
+    /**
+     * 발급자 이름 해시:발급자 키 해시:일련번호 → 캐시된 응답
+     */
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    private record CachedResponse(OcspResult result, Instant expiresAt) {
+    }
+
+    public OcspClient(ValidationProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getOcsp().getTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 인증서 OCSP 상태 조회 (캐시 우선)
+     *
+     * @param certificate 대상 인증서
+     * @param issuer 발급자 인증서
+     * @return 조회 결과 (AIA에 OCSP 응답자가 없으면 null)
+     * @throws IOException 응답자 연결 실패 또는 응답 검증 실패
+     */
+    public OcspResult check(X509Certificate certificate, X509Certificate issuer) throws IOException {
+        String responderUrl = getResponderUrl(certificate);
+        if (responderUrl == null) {
+            return null;
+        }
+
+        try {
+            CertificateID certificateId = new CertificateID(
+                    new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1),
+                    new JcaX509CertificateHolder(issuer),
+                    certificate.getSerialNumber());
+            String cacheKey = cacheKey(certificateId);
+
+            CachedResponse cached = cache.get(cacheKey);
+            Instant now = Instant.now();
+            if (cached != null && now.isBefore(cached.expiresAt())) {
+                log.debug("OCSP cache hit for serial {}", certificate.getSerialNumber().toString(16));
+                return cached.result();
+            }
+
+            OcspResult result = fetch(responderUrl, certificateId, issuer);
+            Instant expiresAt = result.getNextUpdate() != null
+                    ? result.getNextUpdate()
+                    : now.plusMillis(properties.getOcsp().getDefaultTtl());
+            if (expiresAt.isAfter(now)) {
+                put(cacheKey, new CachedResponse(result, expiresAt));
+            }
+            return result;
+
+        } catch (OCSPException | OperatorCreationException | GeneralSecurityException e) {
+            throw new IOException("OCSP check failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * AIA 확장의 OCSP 응답자 URL
+     *
+     * @return 첫 번째 HTTP(S) 응답자 URL (없거나 확장 형식이 잘못되었으면 null)
+     */
+    public static String getResponderUrl(X509Certificate certificate) {
+        byte[] extension = certificate.getExtensionValue(Extension.authorityInfoAccess.getId());
+        if (extension == null) {
+            return null;
+        }
+
+        AuthorityInformationAccess access;
+        try {
+            access = AuthorityInformationAccess.getInstance(
+                    ASN1Primitive.fromByteArray(DEROctetString.getInstance(extension).getOctets()));
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Malformed AIA extension: {}", e.getMessage());
+            return null;
+        }
+        for (AccessDescription description : access.getAccessDescriptions()) {
+            GeneralName location = description.getAccessLocation();
+            if (AccessDescription.id_ad_ocsp.equals(description.getAccessMethod())
+                    && location.getTagNo() == GeneralName.uniformResourceIdentifier) {
+                String url = location.getName().toString();
+                if (url.startsWith("http://") || url.startsWith("https://")) {
+                    return url;
+                }
+            }
+        }
+        return null;
+    }
+
+    private OcspResult fetch(String responderUrl, CertificateID certificateId, X509Certificate issuer)
+            throws IOException, OCSPException, OperatorCreationException, GeneralSecurityException {
+        byte[] request = new OCSPReqBuilder().addRequest(certificateId).build().getEncoded();
+
+        HttpRequest httpRequest = HttpRequest.newBuilder()
+                .uri(URI.create(responderUrl))
+                .timeout(Duration.ofMillis(properties.getOcsp().getTimeout()))
+                .header("Content-Type", OCSP_REQUEST_TYPE)
+                .header("Accept", OCSP_RESPONSE_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(request))
+                .build();
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("OCSP request interrupted", e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("OCSP responder returned HTTP " + response.statusCode());
+        }
+
+        OCSPResp ocspResponse = new OCSPResp(response.body());
+        if (ocspResponse.getStatus() != OCSPResp.SUCCESSFUL) {
+            throw new OCSPException("OCSP responder status " + ocspResponse.getStatus());
+        }
+        BasicOCSPResp basic = (BasicOCSPResp) ocspResponse.getResponseObject();
+        verifySignature(basic, issuer);
+
+        SingleResp single = null;
+        for (SingleResp candidate : basic.getResponses()) {
+            if (candidate.getCertID().equals(certificateId)) {
+                single = candidate;
+                break;
+            }
+        }
+        if (single == null) {
+            throw new OCSPException("OCSP response does not contain the requested certificate");
+        }
+
+        Instant thisUpdate = single.getThisUpdate().toInstant();
+        Instant nextUpdate = single.getNextUpdate() != null ? single.getNextUpdate().toInstant() : null;
+        Instant now = Instant.now();
+        if (thisUpdate.isAfter(now.plus(CLOCK_SKEW))) {
+            throw new OCSPException("OCSP response thisUpdate is in the future: " + thisUpdate);
+        }
+        if (nextUpdate != null && nextUpdate.isBefore(now.minus(CLOCK_SKEW))) {
+            throw new OCSPException("OCSP response is stale, nextUpdate: " + nextUpdate);
+        }
+
+        OcspResult.OcspResultBuilder result = OcspResult.builder()
+                .thisUpdate(thisUpdate)
+                .nextUpdate(nextUpdate)
+                .responderUrl(responderUrl);
+
+        Object status = single.getCertStatus();
+        if (status == CertificateStatus.GOOD) {
+            result.status(OcspResult.Status.GOOD);
+        } else if (status instanceof RevokedStatus revoked) {
+            result.status(OcspResult.Status.REVOKED)
+                    .revocationTime(revoked.getRevocationTime().toInstant())
+                    .revocationReason(revoked.hasRevocationReason() ? revoked.getRevocationReason() : null);
+        } else {
+            result.status(OcspResult.Status.UNKNOWN);
+        }
+
+        log.debug("OCSP response from {}: {} (nextUpdate: {})", responderUrl, result.build().getStatus(), nextUpdate);
+        return result.build();
+    }
+
+    /**
+     * 응답 서명 검증 (발급자 키 또는 발급자가 서명한 OCSPSigning 위임 인증서)
+     *
+     * 위임 응답자의 키 유형이 발급자와 다르면(RSA 응답자, ECDSA 발급자 등) 발급자 키로는 서명 알고리즘을
+     * 검증할 수 없어 예외가 발생하므로 실패로 보고 위임 인증서로 계속 확인
+     */
+    private static void verifySignature(BasicOCSPResp basic, X509Certificate issuer)
+            throws OCSPException, GeneralSecurityException {
+        JcaContentVerifierProviderBuilder verifierBuilder = new JcaContentVerifierProviderBuilder();
+        if (isSignedBy(basic, issuer.getPublicKey(), verifierBuilder)) {
+            return;
+        }
+
+        JcaX509CertificateConverter converter = new JcaX509CertificateConverter();
+        for (X509CertificateHolder holder : basic.getCerts()) {
+            X509Certificate responder = converter.getCertificate(holder);
+            List<String> extendedKeyUsage = responder.getExtendedKeyUsage();
+            if (!responder.getIssuerX500Principal().equals(issuer.getSubjectX500Principal())
+                    || extendedKeyUsage == null
+                    || !extendedKeyUsage.contains(KeyPurposeId.id_kp_OCSPSigning.getId())) {
+                continue;
+            }
+            try {
+                responder.verify(issuer.getPublicKey());
+                responder.checkValidity();
+            } catch (GeneralSecurityException e) {
+                continue;
+            }
+            if (isSignedBy(basic, responder.getPublicKey(), verifierBuilder)) {
+                return;
+            }
+        }
+        throw new OCSPException("OCSP response signature is not valid");
+    }
+
+    private static boolean isSignedBy(BasicOCSPResp basic, PublicKey key,
+                                      JcaContentVerifierProviderBuilder verifierBuilder) {
+        try {
+            return basic.isSignatureValid(verifierBuilder.build(key));
+        } catch (OCSPException | OperatorCreationException e) {
+            log.debug("OCSP response signature could not be verified with {} key: {}",
+                    key.getAlgorithm(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void put(String cacheKey, CachedResponse response) {
+        if (cache.size() >= properties.getOcsp().getMaxCacheEntries()) {
+            Instant now = Instant.now();
+            cache.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+            if (cache.size() >= properties.getOcsp().getMaxCacheEntries()) {
+                // 만료 항목이 없으면 가장 먼저 만료될 항목 제거
+                cache.entrySet().stream()
+                        .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                        .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+            }
+        }
+        cache.put(cacheKey, response);
+    }
+
+    private static String cacheKey(CertificateID certificateId) {
+        HexFormat hex = HexFormat.of();
+        return hex.formatHex(certificateId.getIssuerNameHash()) + ":"
+                + hex.formatHex(certificateId.getIssuerKeyHash()) + ":"
+                + certificateId.getSerialNumber().toString(16);
+    }
+}
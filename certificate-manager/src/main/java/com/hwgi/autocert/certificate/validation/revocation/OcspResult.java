@@ -0,0 +1,47 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * OCSP 조회 결과
+ */
+@Getter
+@Builder
+public class OcspResult {
+
+    /**
+     * 인증서 상태
+     */
+    public enum Status {
+        GOOD,
+        REVOKED,
+        /**
+         * 응답자가 인증서를 알지 못함
+         */
+        UNKNOWN
+    }
+
+    private final Status status;
+
+    private final Instant thisUpdate;
+
+    /**
+     * 다음 갱신 시각 (응답에 없으면 null)
+     */
+    private final Instant nextUpdate;
+
+    /**
+     * 폐기 시각 (REVOKED인 경우)
+     */
+    private final Instant revocationTime;
+
+    /**
+     * 폐기 사유 코드 (RFC 5280 CRLReason, 없으면 null)
+     */
+    private final Integer revocationReason;
+
+    private final String responderUrl;
+}
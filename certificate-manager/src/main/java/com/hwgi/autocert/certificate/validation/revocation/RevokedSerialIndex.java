@@ -0,0 +1,188 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * 폐기된 일련번호 색인
+ *
+ * CRL 항목(X509CRLEntry)을 보관하지 않고 일련번호와 폐기 시각만 정렬된 기본형 배열로 저장
+ * - 모든 일련번호가 63비트 이하이면 long[]에 저장하여 Arrays.binarySearch로 조회
+ * - 그보다 크면 가장 긴 일련번호 길이로 0을 채운 고정 폭 big-endian 바이트를 byte[] 하나에 이어 붙여 저장
+ *   (같은 폭의 부호 없는 바이트 사전순 = 숫자 순서이므로 이진 탐색 가능)
+ */
+public final class RevokedSerialIndex {
+
+    private static final RevokedSerialIndex EMPTY = new RevokedSerialIndex(new long[0], null, 0, new long[0]);
+
+    /**
+     * 63비트 이하 일련번호 (packed가 null일 때 사용)
+     */
+    private final long[] serials;
+
+    /**
+     * 고정 폭 일련번호 (63비트를 넘는 일련번호가 있을 때 사용)
+     */
+    private final byte[] packed;
+    private final int width;
+
+    /**
+     * 일련번호 순서와 같은 폐기 시각 (epoch 밀리초)
+     */
+    private final long[] revocationTimes;
+
+    private RevokedSerialIndex(long[] serials, byte[] packed, int width, long[] revocationTimes) {
+        this.serials = serials;
+        this.packed = packed;
+        this.width = width;
+        this.revocationTimes = revocationTimes;
+    }
+
+    public static RevokedSerialIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 폐기 항목 수
+     */
+    public int size() {
+        return revocationTimes.length;
+    }
+
+    /**
+     * 폐기 시각 조회
+     *
+     * @param serialNumber 인증서 일련번호
+     * @return 폐기 시각 (epoch 밀리초, 폐기되지 않았으면 -1)
+     */
+    public long getRevocationTime(BigInteger serialNumber) {
+        int index = indexOf(serialNumber);
+        return index >= 0 ? revocationTimes[index] : -1;
+    }
+
+    public boolean contains(BigInteger serialNumber) {
+        return indexOf(serialNumber) >= 0;
+    }
+
+    /**
+     * 색인이 차지하는 대략적인 바이트 수
+     */
+    public long getMemoryBytes() {
+        return (packed != null ? packed.length : (long) serials.length * Long.BYTES)
+                + (long) revocationTimes.length * Long.BYTES;
+    }
+
+    private int indexOf(BigInteger serialNumber) {
+        if (serialNumber.signum() < 0) {
+            return -1;
+        }
+        if (packed == null) {
+            return serialNumber.bitLength() < Long.SIZE
+                    ? Arrays.binarySearch(serials, serialNumber.longValue())
+                    : -1;
+        }
+
+        byte[] key = toFixedWidth(serialNumber, width);
+        if (key == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = revocationTimes.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = Arrays.compareUnsigned(packed, mid * width, (mid + 1) * width, key, 0, width);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 부호 없는 big-endian 고정 폭 바이트 (폭보다 길면 null)
+     */
+    private static byte[] toFixedWidth(BigInteger value, int width) {
+        byte[] magnitude = value.toByteArray();
+        int offset = magnitude.length > 1 && magnitude[0] == 0 ? 1 : 0;
+        int length = magnitude.length - offset;
+        if (length > width) {
+            return null;
+        }
+        byte[] fixed = new byte[width];
+        System.arraycopy(magnitude, offset, fixed, width - length, length);
+        return fixed;
+    }
+
+    /**
+     * 색인 생성기 (추가 순서와 무관하게 build 시 정렬)
+     */
+    public static final class Builder {
+
+        private BigInteger[] serialNumbers = new BigInteger[64];
+        private long[] times = new long[64];
+        private int count;
+        private int maxBitLength;
+
+        /**
+         * 폐기 항목 추가 (음수 일련번호는 RFC 5280 위반이므로 무시)
+         */
+        public Builder add(BigInteger serialNumber, long revocationTime) {
+            if (serialNumber.signum() < 0) {
+                return this;
+            }
+            if (count == serialNumbers.length) {
+                serialNumbers = Arrays.copyOf(serialNumbers, count * 2);
+                times = Arrays.copyOf(times, count * 2);
+            }
+            serialNumbers[count] = serialNumber;
+            times[count] = revocationTime;
+            count++;
+            maxBitLength = Math.max(maxBitLength, serialNumber.bitLength());
+            return this;
+        }
+
+        public RevokedSerialIndex build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> serialNumbers[a].compareTo(serialNumbers[b]));
+
+            // 중복 일련번호는 하나만 유지
+            int unique = 0;
+            for (int i = 0; i < count; i++) {
+                if (unique == 0 || !serialNumbers[order[i]].equals(serialNumbers[order[unique - 1]])) {
+                    order[unique++] = order[i];
+                }
+            }
+
+            long[] revocationTimes = new long[unique];
+            for (int i = 0; i < unique; i++) {
+                revocationTimes[i] = times[order[i]];
+            }
+
+            if (maxBitLength < Long.SIZE) {
+                long[] serials = new long[unique];
+                for (int i = 0; i < unique; i++) {
+                    serials[i] = serialNumbers[order[i]].longValue();
+                }
+                return new RevokedSerialIndex(serials, null, 0, revocationTimes);
+            }
+
+            int width = (maxBitLength + 7) / 8;
+            byte[] packed = new byte[unique * width];
+            for (int i = 0; i < unique; i++) {
+                System.arraycopy(toFixedWidth(serialNumbers[order[i]], width), 0, packed, i * width, width);
+            }
+            return new RevokedSerialIndex(null, packed, width, revocationTimes);
+        }
+    }
+}
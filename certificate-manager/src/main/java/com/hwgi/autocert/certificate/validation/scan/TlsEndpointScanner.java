@@ -0,0 +1,316 @@
+package com.hwgi.autocert.certificate.validation.scan;
+
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.codec.CertificateInfo;
+import com.hwgi.autocert.certificate.distribution.probe.TlsProbe;
+import com.hwgi.autocert.certificate.validation.CertificateValidationService;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.ServerCertificateView;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * TLS 엔드포인트 스캐너
+ *
+ * 모든 서버(서버에 배포된 인증서 도메인별 SNI)와 설정된 추가 엔드포인트에 TLS 핸드셰이크를 수행하여
+ * 실제로 제공되는 체인을 검증하고 저장된 인증서와 다르면 MISMATCH로 표시
+ * - 가상 스레드에서 동시 핸드셰이크 수를 제한하여 수행 (5,000개 엔드포인트 기준 1분 이내)
+ * - 제공된 체인은 CertificateValidationService로 검증 (같은 체인은 결과 캐시 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TlsEndpointScanner {
+
+    private static final Pattern IP_LITERAL = Pattern.compile("^[0-9.]+$|:");
+
+    private final ServerRepository serverRepository;
+    private final CertificateRepository certificateRepository;
+    private final CertificateValidationService validationService;
+    private final CertificateCodec certificateCodec;
+    private final TlsProbe tlsProbe;
+    private final ValidationProperties properties;
+
+    private volatile SSLContext sslContext;
+
+    /**
+     * 주기적 스캔 (불일치/실패 엔드포인트는 경고 로그)
+     */
+    @Scheduled(fixedDelayString = "${autocert.validation.scan.interval:3600000}",
+               initialDelayString = "${autocert.validation.scan.interval:3600000}")
+    public void scheduledScan() {
+        if (!properties.getScan().isEnabled()) {
+            return;
+        }
+
+        try {
+            scan(result -> {
+                if (result.isFlagged()) {
+                    log.warn("TLS endpoint {}:{} (SNI: {}) flagged: {} - {}", result.getHost(), result.getPort(),
+                            result.getServerName(), result.getStatus(), result.getMessage());
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("TLS endpoint scan failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 대상 스캔
+     *
+     * @param sink 대상별 결과 수신 (호출은 직렬화되지만 대상 순서와 다를 수 있음)
+     * @return 상태별 대상 수
+     */
+    public Map<TlsScanResult.Status, Integer> scan(Consumer<TlsScanResult> sink) throws InterruptedException {
+        return scan(targets(), sink);
+    }
+
+    /**
+     * 지정한 대상 스캔
+     */
+    public Map<TlsScanResult.Status, Integer> scan(List<TlsScanTarget> targets, Consumer<TlsScanResult> sink)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        ValidationProperties.Scan config = properties.getScan();
+        int concurrency = Math.max(1, config.getConcurrency());
+        Semaphore permits = new Semaphore(concurrency);
+        Map<TlsScanResult.Status, Integer> counts = new EnumMap<>(TlsScanResult.Status.class);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TlsScanTarget target : targets) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    // 결과 수신 실패(클라이언트 연결 종료 등) 후에는 새 핸드셰이크를 시작하지 않음
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        TlsScanResult result = scan(target);
+                        synchronized (counts) {
+                            counts.merge(result.getStatus(), 1, Integer::sum);
+                            if (failure.get() == null) {
+                                sink.accept(result);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        log.info("TLS endpoint scan finished: {} target(s) {} in {}ms", targets.size(), counts,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return counts;
+    }
+
+    /**
+     * 단일 대상 스캔
+     */
+    public TlsScanResult scan(TlsScanTarget target) {
+        int timeout = properties.getScan().getTimeout();
+        long startTime = System.nanoTime();
+
+        List<X509Certificate> chain;
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(target.host(), target.port()), timeout);
+            socket.setSoTimeout(timeout);
+
+            try (SSLSocket sslSocket = (SSLSocket) sslContext().getSocketFactory()
+                    .createSocket(socket, target.host(), target.port(), true)) {
+                SSLParameters parameters = sslSocket.getSSLParameters();
+                if (target.serverName() != null) {
+                    parameters.setServerNames(List.of(new SNIHostName(target.serverName())));
+                }
+                sslSocket.setSSLParameters(parameters);
+                sslSocket.startHandshake();
+
+                Certificate[] peerCertificates = sslSocket.getSession().getPeerCertificates();
+                chain = new ArrayList<>(peerCertificates.length);
+                for (Certificate certificate : peerCertificates) {
+                    chain.add((X509Certificate) certificate);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("TLS scan of {}:{} (SNI: {}) failed: {}",
+                    target.host(), target.port(), target.serverName(), e.getMessage());
+            return result(target)
+                    .status(TlsScanResult.Status.UNREACHABLE)
+                    .handshakeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                    .message("TLS handshake failed: " + e.getMessage())
+                    .build();
+        }
+        long handshakeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        CertificateInfo served = CertificateInfo.from(chain.get(0));
+        CertificateValidationResult validation = validationService.validateChain(chain);
+        TlsScanResult.TlsScanResultBuilder builder = result(target)
+                .servedSerial(served.serialNumber())
+                .servedFingerprint(served.fingerprint())
+                .chainLength(chain.size())
+                .valid(validation.isValid())
+                .errors(validation.getErrors())
+                .warnings(validation.getWarnings())
+                .handshakeMs(handshakeMs);
+
+        if (target.expectedCertificatePem() == null) {
+            return builder.status(TlsScanResult.Status.UNMANAGED)
+                    .message("No stored certificate to compare")
+                    .build();
+        }
+
+        String expectedFingerprint;
+        try {
+            expectedFingerprint = certificateCodec.describe(target.expectedCertificatePem()).fingerprint();
+        } catch (Exception e) {
+            return builder.status(TlsScanResult.Status.UNMANAGED)
+                    .message("Stored certificate could not be parsed: " + e.getMessage())
+                    .build();
+        }
+
+        boolean matches = expectedFingerprint.equals(served.fingerprint());
+        if (!matches) {
+            log.warn("TLS endpoint {}:{} (SNI: {}) serves serial {} instead of stored certificate {}",
+                    target.host(), target.port(), target.serverName(), served.serialNumber(), target.certificateId());
+        }
+        return builder.status(matches ? TlsScanResult.Status.MATCH : TlsScanResult.Status.MISMATCH)
+                .expectedFingerprint(expectedFingerprint)
+                .message(matches
+                        ? "Endpoint serves the stored certificate"
+                        : "Endpoint serves a different certificate than the stored one")
+                .build();
+    }
+
+    /**
+     * 스캔 대상 목록 (서버 × 배포된 인증서, 추가 엔드포인트, 중복 제거)
+     */
+    public List<TlsScanTarget> targets() {
+        ValidationProperties.Scan config = properties.getScan();
+        Map<String, TlsScanTarget> targets = new LinkedHashMap<>();
+
+        for (ServerCertificateView view : serverRepository.findAllWithCertificates()) {
+            // 배포 검증과 같은 SNI 선택 (와일드카드는 영역 아래의 구체적인 이름, 없으면 스캔 생략)
+            String serverName = null;
+            if (view.domain() != null) {
+                serverName = tlsProbe.serverNameFor(view.domain(), view.certificatePem()).orElse(null);
+                if (serverName == null) {
+                    log.debug("Skipping scan of {} on server {}: no concrete host for wildcard",
+                            view.domain(), view.serverId());
+                    continue;
+                }
+            }
+            TlsScanTarget target = new TlsScanTarget(view.ipAddress(), config.getPort(), serverName,
+                    view.serverId(), view.certificateId(), view.certificatePem());
+            targets.putIfAbsent(key(target), target);
+        }
+
+        for (String endpoint : config.getEndpoints()) {
+            TlsScanTarget parsed = parseEndpoint(endpoint, config.getPort());
+            if (parsed == null) {
+                log.warn("Ignoring invalid scan endpoint: {}", endpoint);
+                continue;
+            }
+            if (targets.containsKey(key(parsed))) {
+                continue;
+            }
+            // 호스트명과 같은 도메인의 저장된 인증서가 있으면 비교 대상으로 사용
+            TlsScanTarget target = parsed.serverName() == null ? parsed
+                    : certificateRepository.findByDomain(parsed.serverName())
+                            .map(certificate -> new TlsScanTarget(parsed.host(), parsed.port(), parsed.serverName(),
+                                    null, certificate.getId(), certificate.getCertificatePem()))
+                            .orElse(parsed);
+            targets.put(key(target), target);
+        }
+        return new ArrayList<>(targets.values());
+    }
+
+    /**
+     * 추가 엔드포인트 파싱 (host, host:port, [IPv6]:port)
+     */
+    static TlsScanTarget parseEndpoint(String endpoint, int defaultPort) {
+        if (endpoint == null || endpoint.isBlank()) {
+            return null;
+        }
+        String value = endpoint.trim();
+        String host = value;
+        int port = defaultPort;
+
+        int separator = value.lastIndexOf(':');
+        boolean bracketed = value.startsWith("[");
+        if (separator > 0 && (bracketed ? value.lastIndexOf(']') < separator : value.indexOf(':') == separator)) {
+            host = value.substring(0, separator);
+            try {
+                port = Integer.parseInt(value.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (bracketed) {
+            host = host.substring(1, host.length() - 1);
+        }
+        if (host.isEmpty() || port < 1 || port > 65535) {
+            return null;
+        }
+
+        String serverName = IP_LITERAL.matcher(host).find() ? null : host.toLowerCase();
+        return new TlsScanTarget(host, port, serverName, null, null, null);
+    }
+
+    private static TlsScanResult.TlsScanResultBuilder result(TlsScanTarget target) {
+        return TlsScanResult.builder()
+                .host(target.host())
+                .port(target.port())
+                .serverName(target.serverName())
+                .serverId(target.serverId())
+                .certificateId(target.certificateId());
+    }
+
+    private static String key(TlsScanTarget target) {
+        return target.host() + ":" + target.port() + "/" + target.serverName();
+    }
+
+    private SSLContext sslContext() throws GeneralSecurityException {
+        SSLContext context = sslContext;
+        if (context == null) {
+            // 제공된 체인을 그대로 받아 별도로 검증하므로 핸드셰이크에서는 신뢰 검증을 하지 않음
+            context = TlsProbe.trustAllContext();
+            sslContext = context;
+        }
+        return context;
+    }
+}
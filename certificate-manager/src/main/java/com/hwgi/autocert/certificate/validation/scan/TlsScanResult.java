@@ -0,0 +1,90 @@
+package com.hwgi.autocert.certificate.validation.scan;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * TLS 엔드포인트 스캔 결과
+ */
+@Getter
+@Builder
+public class TlsScanResult {
+
+    /**
+     * 스캔 상태
+     */
+    public enum Status {
+        /**
+         * 저장된 인증서를 제공
+         */
+        MATCH,
+        /**
+         * 저장된 인증서와 다른 인증서를 제공
+         */
+        MISMATCH,
+        /**
+         * 비교할 저장된 인증서가 없음
+         */
+        UNMANAGED,
+        /**
+         * 연결 또는 핸드셰이크 실패
+         */
+        UNREACHABLE
+    }
+
+    private final String host;
+
+    private final int port;
+
+    private final String serverName;
+
+    private final Long serverId;
+
+    private final Long certificateId;
+
+    private final Status status;
+
+    /**
+     * 제공된 리프 인증서 일련번호 (16진수)
+     */
+    private final String servedSerial;
+
+    /**
+     * 제공된 리프 인증서 SHA-256 지문
+     */
+    private final String servedFingerprint;
+
+    /**
+     * 저장된 인증서 SHA-256 지문
+     */
+    private final String expectedFingerprint;
+
+    /**
+     * 제공된 체인의 인증서 수
+     */
+    private final Integer chainLength;
+
+    /**
+     * 제공된 체인 검증 통과 여부 (연결 실패 시 null)
+     */
+    private final Boolean valid;
+
+    private final List<String> errors;
+
+    private final List<String> warnings;
+
+    private final Long handshakeMs;
+
+    private final String message;
+
+    /**
+     * 조치가 필요한 결과 (불일치, 연결 실패, 검증 실패)
+     */
+    @JsonIgnore
+    public boolean isFlagged() {
+        return status == Status.MISMATCH || status == Status.UNREACHABLE || Boolean.FALSE.equals(valid);
+    }
+}
@@ -0,0 +1,21 @@
+package com.hwgi.autocert.certificate.validation.scan;
+
+/**
+ * TLS 엔드포인트 스캔 대상
+ *
+ * @param host 접속 호스트 (IP 또는 호스트명)
+ * @param port TLS 포트
+ * @param serverName SNI 호스트명 (null이면 SNI 미전송)
+ * @param serverId 서버 ID (추가 엔드포인트면 null)
+ * @param certificateId 저장된 인증서 ID (없으면 null)
+ * @param expectedCertificatePem 저장된 인증서 PEM (없으면 null)
+ */
+public record TlsScanTarget(
+        String host,
+        int port,
+        String serverName,
+        Long serverId,
+        Long certificateId,
+        String expectedCertificatePem
+) {
+}
@@ -0,0 +1,232 @@
+package com.hwgi.autocert.certificate.validation.trust;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AIA caIssuers 클라이언트
+ *
+ * 인증서의 AIA caIssuers URL에서 발급자 인증서를 내려받음
+ * - 응답은 DER 인증서, PKCS#7(.p7c) 묶음, PEM 모두 CertificateFactory로 한 번에 읽음
+ * - HTTP(S) URL만 사용하고 최대 응답 크기를 넘으면 읽기를 중단
+ * - 인증서에 적힌 URL로 내부망에 접속하지 않도록 공인 주소로 해석되는 호스트만 접속 (허용 호스트 제외)
+ * - 리다이렉트는 직접 따라가면서 매번 대상 주소를 다시 확인
+ */
+@Slf4j
+@Component
+public class CaIssuersClient {
+
+    /**
+     * X.509 팩토리 (generateCertificates는 상태가 없으므로 공유)
+     */
+    private static final CertificateFactory CERTIFICATE_FACTORY = createCertificateFactory();
+
+    private final ValidationProperties properties;
+    private final HttpClient httpClient;
+
+    public CaIssuersClient(ValidationProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.getAia().getTimeout()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * caIssuers URL의 인증서 다운로드
+     *
+     * @param url caIssuers URL
+     * @return 응답에 포함된 인증서 (입력 순서)
+     * @throws IOException 다운로드/파싱에 실패했거나 크기 제한을 넘은 경우
+     */
+    public List<X509Certificate> fetch(String url) throws IOException {
+        long start = System.currentTimeMillis();
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid caIssuers URL: " + url, e);
+        }
+        HttpResponse<InputStream> response = send(uri);
+
+        byte[] encoded;
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Failed to download issuer certificate: HTTP " + response.statusCode());
+            }
+            long maxSize = properties.getAia().getMaxSize();
+            if (response.headers().firstValueAsLong("Content-Length").orElse(0) > maxSize) {
+                throw new IOException("Issuer certificate exceeds maximum size of " + maxSize + " bytes");
+            }
+            encoded = body.readNBytes((int) Math.min(maxSize + 1, Integer.MAX_VALUE - 8));
+            if (encoded.length > maxSize) {
+                throw new IOException("Issuer certificate exceeds maximum size of " + maxSize + " bytes");
+            }
+        }
+
+        List<X509Certificate> certificates = new ArrayList<>();
+        try {
+            for (Certificate certificate : CERTIFICATE_FACTORY.generateCertificates(new ByteArrayInputStream(encoded))) {
+                if (certificate instanceof X509Certificate x509) {
+                    certificates.add(x509);
+                }
+            }
+        } catch (CertificateException e) {
+            throw new IOException("Malformed issuer certificate from " + url + ": " + e.getMessage(), e);
+        }
+        if (certificates.isEmpty()) {
+            throw new IOException("No certificate found at " + url);
+        }
+
+        log.info("Fetched {} issuer certificate(s) from {} ({} bytes) in {}ms",
+                certificates.size(), url, encoded.length, System.currentTimeMillis() - start);
+        return certificates;
+    }
+
+    /**
+     * 요청 전송 (리다이렉트는 대상 주소를 확인한 뒤 최대 횟수까지 따라감)
+     */
+    private HttpResponse<InputStream> send(URI uri) throws IOException {
+        for (int redirects = 0; ; redirects++) {
+            checkTarget(uri);
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(uri)
+                    .timeout(Duration.ofMillis(properties.getAia().getTimeout()))
+                    .GET()
+                    .build();
+
+            HttpResponse<InputStream> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("caIssuers download interrupted", e);
+            }
+
+            int status = response.statusCode();
+            if (status != 301 && status != 302 && status != 303 && status != 307 && status != 308) {
+                return response;
+            }
+            response.body().close();
+            if (redirects >= properties.getAia().getMaxRedirects()) {
+                throw new IOException("Too many redirects from caIssuers URL " + uri);
+            }
+            String location = response.headers().firstValue("Location").orElse(null);
+            if (location == null) {
+                throw new IOException("Redirect without Location from " + uri);
+            }
+            try {
+                uri = uri.resolve(location);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid redirect location from " + uri + ": " + location, e);
+            }
+        }
+    }
+
+    /**
+     * 접속 대상 확인 (HTTP(S)이고 허용 호스트가 아니면 모든 해석 주소가 공인 주소여야 함)
+     */
+    private void checkTarget(URI uri) throws IOException {
+        String scheme = uri.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            throw new IOException("Unsupported caIssuers URL scheme: " + uri);
+        }
+        String host = uri.getHost();
+        if (host == null) {
+            throw new IOException("caIssuers URL has no host: " + uri);
+        }
+        if (properties.getAia().getAllowedHosts().stream().anyMatch(host::equalsIgnoreCase)) {
+            return;
+        }
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+            if (!isPublicAddress(address)) {
+                throw new IOException("caIssuers URL " + uri + " resolves to non-public address "
+                        + address.getHostAddress());
+            }
+        }
+    }
+
+    /**
+     * 공인 주소 여부 (루프백, 링크 로컬, 사설, 공유(CGNAT), 고유 로컬(IPv6), 멀티캐스트, 미지정 주소 제외)
+     */
+    static boolean isPublicAddress(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            // 100.64.0.0/10 (공유 주소), 0.0.0.0/8
+            return !((bytes[0] == 100 && (bytes[1] & 0xc0) == 64) || bytes[0] == 0);
+        }
+        // fc00::/7 (고유 로컬)
+        return !(address instanceof Inet6Address && (bytes[0] & 0xfe) == 0xfc);
+    }
+
+    /**
+     * AIA 확장의 caIssuers URL 목록
+     *
+     * @return HTTP(S) URL 목록 (없거나 확장 형식이 잘못되었으면 빈 목록)
+     */
+    public static List<String> getCaIssuersUrls(X509Certificate certificate) {
+        byte[] extension = certificate.getExtensionValue(Extension.authorityInfoAccess.getId());
+        if (extension == null) {
+            return List.of();
+        }
+
+        AuthorityInformationAccess access;
+        try {
+            access = AuthorityInformationAccess.getInstance(
+                    ASN1Primitive.fromByteArray(DEROctetString.getInstance(extension).getOctets()));
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Malformed AIA extension: {}", e.getMessage());
+            return List.of();
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (AccessDescription description : access.getAccessDescriptions()) {
+            GeneralName location = description.getAccessLocation();
+            if (AccessDescription.id_ad_caIssuers.equals(description.getAccessMethod())
+                    && location.getTagNo() == GeneralName.uniformResourceIdentifier) {
+                String url = location.getName().toString();
+                if (url.startsWith("http://") || url.startsWith("https://")) {
+                    urls.add(url);
+                }
+            }
+        }
+        return urls;
+    }
+
+    private static CertificateFactory createCertificateFactory() {
+        try {
+            return CertificateFactory.getInstance("X.509");
+        } catch (CertificateException e) {
+            throw new IllegalStateException("X.509 CertificateFactory not available", e);
+        }
+    }
+}
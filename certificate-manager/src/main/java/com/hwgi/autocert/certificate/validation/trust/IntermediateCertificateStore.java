@@ -0,0 +1,416 @@
+package com.hwgi.autocert.certificate.validation.trust;
+
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.codec.CertificateInfo;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.IntermediateCertificate;
+import com.hwgi.autocert.domain.repository.IntermediateCertificateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 중간 CA 인증서 저장소
+ *
+ * 체인이 신뢰 앵커까지 이어지지 않으면 저장된 중간 인증서로 먼저 완성하고,
+ * 없으면 최상위 인증서의 AIA caIssuers URL에서 가져와 DB에 지문 기준으로 한 번만 저장
+ * - 가져온 중간 인증서는 완성된 체인이 신뢰 앵커까지 PKIX 검증될 때만 저장 (아니면 이번 요청에서만 사용)
+ * - 저장된 중간 인증서는 처음 사용할 때 한 번 읽어 키 식별자(SKI)와 주체 이름으로 색인 (추가 시 색인만 교체)
+ * - 배포용 fullchain 완성은 저장소만 사용하고 네트워크 조회를 하지 않음
+ * - 가져오기에 실패한 URL은 대기 시간이 지날 때까지 다시 시도하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntermediateCertificateStore {
+
+    /**
+     * 체인에 덧붙일 최대 인증서 수
+     */
+    private static final int MAX_DEPTH = 5;
+
+    /**
+     * 다운로드 잠금 수 (URL 해시로 나눔)
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * X.509 팩토리 (CertPath 생성은 상태가 없으므로 공유)
+     */
+    private static final CertificateFactory CERTIFICATE_FACTORY = createCertificateFactory();
+
+    private final IntermediateCertificateRepository repository;
+    private final TrustAnchorStore trustAnchorStore;
+    private final CaIssuersClient caIssuersClient;
+    private final CertificateCodec certificateCodec;
+    private final ValidationProperties properties;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * caIssuers URL → 다시 시도할 수 있는 시각
+     */
+    private final Map<String, Instant> failedUntil = new ConcurrentHashMap<>();
+
+    /**
+     * caIssuers URL 다운로드 잠금 (URL 수와 관계없이 고정 개수)
+     */
+    private final Object[] locks = IntStream.range(0, LOCK_STRIPES).mapToObj(i -> new Object()).toArray();
+
+    /**
+     * 불변 색인
+     */
+    private record Snapshot(Map<String, List<X509Certificate>> byKeyId,
+                            Map<X500Principal, List<X509Certificate>> bySubject,
+                            Set<String> fingerprints) {
+    }
+
+    /**
+     * caIssuers에서 가져온 발급자 (sourceUrl이 null이면 대기 중 다른 요청이 이미 저장한 인증서)
+     */
+    private record Fetched(X509Certificate certificate, String sourceUrl) {
+    }
+
+    /**
+     * 체인 완성 (저장소 우선, 없으면 AIA caIssuers에서 가져옴)
+     *
+     * @param chain 리프가 첫 번째인 체인
+     * @return 신뢰 앵커 또는 자체 서명 인증서 직전까지 덧붙인 체인 (덧붙인 것이 없으면 입력 그대로)
+     */
+    public List<X509Certificate> completeChain(List<X509Certificate> chain) {
+        return complete(chain, properties.getAia().isEnabled());
+    }
+
+    /**
+     * 저장소만 사용하여 체인 완성 (네트워크 조회 없음)
+     */
+    public List<X509Certificate> completeChainLocally(List<X509Certificate> chain) {
+        return complete(chain, false);
+    }
+
+    /**
+     * 배포용 체인 PEM (저장된 중간 인증서로 누락된 부분을 덧붙임)
+     *
+     * 루트(자체 서명) 인증서는 덧붙이지 않으며, 덧붙일 것이 없거나 파싱에 실패하면 입력 체인을 그대로 반환
+     *
+     * @param certificatePem 리프 PEM
+     * @param chainPem 저장된 체인 PEM (없으면 null)
+     */
+    public String completeChainPem(String certificatePem, String chainPem) {
+        if (certificatePem == null || certificatePem.isBlank()) {
+            return chainPem;
+        }
+        try {
+            List<X509Certificate> chain = new ArrayList<>();
+            chain.add(certificateCodec.parseCertificate(certificatePem));
+            chain.addAll(certificateCodec.parseChain(chainPem));
+
+            List<X509Certificate> completed = completeChainLocally(chain);
+            if (completed.size() == chain.size() || isSelfIssued(completed.get(chain.size()))) {
+                return chainPem;
+            }
+
+            StringBuilder pem = new StringBuilder(chainPem != null ? chainPem : "");
+            for (X509Certificate certificate : completed.subList(chain.size(), completed.size())) {
+                if (isSelfIssued(certificate)) {
+                    break;
+                }
+                if (!pem.isEmpty() && pem.charAt(pem.length() - 1) != '\n') {
+                    pem.append('\n');
+                }
+                pem.append(CertificateCodec.toPem(certificate));
+            }
+            return pem.toString();
+        } catch (Exception e) {
+            log.warn("Failed to complete certificate chain from intermediate store: {}", e.getMessage());
+            return chainPem;
+        }
+    }
+
+    /**
+     * 저장된 중간 인증서 중 인증서를 발급한 인증서 조회
+     *
+     * 기관 키 식별자(AKI)로 먼저 찾고, 없으면 발급자 이름으로 찾은 뒤 서명을 확인
+     *
+     * @return 발급자 (서명이 맞는 후보 중 가장 늦게 만료되는 인증서, 없으면 null)
+     */
+    public X509Certificate findIssuer(X509Certificate certificate) {
+        Snapshot current = snapshot();
+        List<X509Certificate> candidates = null;
+        String keyId = TrustAnchorStore.authorityKeyId(certificate);
+        if (keyId != null) {
+            candidates = current.byKeyId().get(keyId);
+        }
+        if (candidates == null) {
+            candidates = current.bySubject().getOrDefault(certificate.getIssuerX500Principal(), List.of());
+        }
+        return candidates.stream()
+                .filter(candidate -> isIssuedBy(certificate, candidate))
+                .max(Comparator.comparing(X509Certificate::getNotAfter))
+                .orElse(null);
+    }
+
+    /**
+     * 저장된 중간 인증서 수
+     */
+    public int size() {
+        return snapshot().fingerprints().size();
+    }
+
+    private List<X509Certificate> complete(List<X509Certificate> chain, boolean fetch) {
+        List<X509Certificate> completed = new ArrayList<>(chain);
+        Map<X509Certificate, String> fetched = new LinkedHashMap<>();
+        while (completed.size() < chain.size() + MAX_DEPTH) {
+            X509Certificate top = completed.get(completed.size() - 1);
+            if (isSelfIssued(top) || isIssuedByTrustAnchor(top)) {
+                break;
+            }
+            X509Certificate issuer = findIssuer(top);
+            if (issuer == null && fetch) {
+                Fetched result = fetchIssuer(top);
+                if (result != null) {
+                    issuer = result.certificate();
+                    if (result.sourceUrl() != null) {
+                        fetched.putIfAbsent(issuer, result.sourceUrl());
+                    }
+                }
+            }
+            if (issuer == null || completed.contains(issuer)) {
+                break;
+            }
+            completed.add(issuer);
+        }
+        if (!fetched.isEmpty()) {
+            storeIfTrusted(completed, fetched);
+        }
+        if (completed.size() == chain.size()) {
+            return chain;
+        }
+        log.debug("Completed chain of {} with {} stored intermediate(s)",
+                chain.get(0).getSubjectX500Principal(), completed.size() - chain.size());
+        return List.copyOf(completed);
+    }
+
+    /**
+     * AIA caIssuers에서 발급자를 가져옴 (저장은 체인 검증 후)
+     */
+    private Fetched fetchIssuer(X509Certificate certificate) {
+        for (String url : CaIssuersClient.getCaIssuersUrls(certificate)) {
+            Instant retryAt = failedUntil.get(url);
+            if (retryAt != null && Instant.now().isBefore(retryAt)) {
+                continue;
+            }
+
+            synchronized (lock(url)) {
+                // 대기하는 동안 다른 요청이 가져와 저장했으면 그대로 사용
+                X509Certificate stored = findIssuer(certificate);
+                if (stored != null) {
+                    return new Fetched(stored, null);
+                }
+                try {
+                    for (X509Certificate candidate : caIssuersClient.fetch(url)) {
+                        if (candidate.getBasicConstraints() >= 0 && isIssuedBy(certificate, candidate)) {
+                            failedUntil.remove(url);
+                            return new Fetched(candidate, url);
+                        }
+                    }
+                    throw new IOException("No CA certificate at " + url + " issued "
+                            + certificate.getSubjectX500Principal());
+                } catch (IOException e) {
+                    log.warn("Failed to fetch issuer of {} from {}: {}",
+                            certificate.getSubjectX500Principal(), url, e.getMessage());
+                    Instant now = Instant.now();
+                    failedUntil.values().removeIf(until -> !now.isBefore(until));
+                    failedUntil.put(url, now.plusMillis(properties.getAia().getFailureBackoff()));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 가져온 중간 인증서 저장 (가져온 인증서부터 위쪽 체인이 신뢰 앵커까지 PKIX 검증될 때만)
+     *
+     * 검증되지 않으면 저장하지 않으므로 임의의 caIssuers 응답이 다른 인증서의 체인 완성/배포에 쓰이지 않음
+     */
+    private void storeIfTrusted(List<X509Certificate> completed, Map<X509Certificate, String> fetched) {
+        int first = completed.indexOf(fetched.keySet().iterator().next());
+        if (first < 0) {
+            return;
+        }
+        List<X509Certificate> path = completed.subList(first, completed.size());
+        if (!isTrusted(path)) {
+            log.warn("Not storing {} intermediate certificate(s) fetched for {}: chain does not validate to a trust anchor",
+                    fetched.size(), completed.get(0).getSubjectX500Principal());
+            return;
+        }
+        fetched.forEach(this::add);
+    }
+
+    /**
+     * 체인(아래쪽이 첫 번째)이 신뢰 앵커까지 PKIX 검증되는지 확인 (폐기 확인 제외)
+     */
+    private boolean isTrusted(List<X509Certificate> path) {
+        List<X509Certificate> certificates = path;
+        if (trustAnchorStore.isTrustAnchor(certificates.get(certificates.size() - 1))) {
+            certificates = certificates.subList(0, certificates.size() - 1);
+        }
+        if (certificates.isEmpty()) {
+            return true;
+        }
+
+        List<TrustAnchor> anchors = trustAnchorStore.findIssuers(certificates.get(certificates.size() - 1));
+        if (anchors.isEmpty()) {
+            return false;
+        }
+        try {
+            PKIXParameters params = new PKIXParameters(new HashSet<>(anchors));
+            params.setRevocationEnabled(false);
+            CertPathValidator.getInstance("PKIX").validate(CERTIFICATE_FACTORY.generateCertPath(certificates), params);
+            return true;
+        } catch (GeneralSecurityException e) {
+            log.debug("Fetched intermediate chain is not trusted: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 중간 인증서 저장 (이미 있는 지문이면 색인만 확인)
+     */
+    synchronized void add(X509Certificate certificate, String sourceUrl) {
+        Snapshot current = snapshot();
+        String fingerprint = CertificateInfo.fingerprint(certificate);
+        if (current.fingerprints().contains(fingerprint)) {
+            return;
+        }
+
+        try {
+            if (!repository.existsByFingerprint(fingerprint)) {
+                repository.save(IntermediateCertificate.builder()
+                        .fingerprint(fingerprint)
+                        .subjectKeyId(TrustAnchorStore.subjectKeyId(certificate))
+                        .subject(certificate.getSubjectX500Principal().getName())
+                        .issuer(certificate.getIssuerX500Principal().getName())
+                        .certificatePem(CertificateCodec.toPem(certificate))
+                        .sourceUrl(sourceUrl)
+                        .notAfter(LocalDateTime.ofInstant(certificate.getNotAfter().toInstant(), ZoneId.systemDefault()))
+                        .build());
+                log.info("Stored intermediate certificate {} from {}", certificate.getSubjectX500Principal(), sourceUrl);
+            }
+        } catch (Exception e) {
+            // 저장에 실패해도 이번 프로세스에서는 색인으로 사용
+            log.warn("Failed to persist intermediate certificate {}: {}",
+                    certificate.getSubjectX500Principal(), e.getMessage());
+        }
+
+        List<X509Certificate> certificates = new ArrayList<>();
+        current.bySubject().values().forEach(certificates::addAll);
+        certificates.add(certificate);
+        snapshot = index(certificates);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        List<X509Certificate> certificates = new ArrayList<>();
+        for (IntermediateCertificate stored : repository.findAll()) {
+            try {
+                certificates.add(certificateCodec.parseCertificate(stored.getCertificatePem()));
+            } catch (Exception e) {
+                log.warn("Skipping malformed intermediate certificate {}: {}", stored.getId(), e.getMessage());
+            }
+        }
+        log.info("Loaded {} intermediate certificate(s)", certificates.size());
+        return index(certificates);
+    }
+
+    private static Snapshot index(List<X509Certificate> certificates) {
+        Map<String, List<X509Certificate>> byKeyId = new HashMap<>();
+        Map<X500Principal, List<X509Certificate>> bySubject = new HashMap<>();
+        Set<String> fingerprints = new HashSet<>();
+        for (X509Certificate certificate : certificates) {
+            if (!fingerprints.add(CertificateInfo.fingerprint(certificate))) {
+                continue;
+            }
+            bySubject.computeIfAbsent(certificate.getSubjectX500Principal(), key -> new ArrayList<>()).add(certificate);
+            String keyId = TrustAnchorStore.subjectKeyId(certificate);
+            if (keyId != null) {
+                byKeyId.computeIfAbsent(keyId, key -> new ArrayList<>()).add(certificate);
+            }
+        }
+        byKeyId.replaceAll((key, list) -> List.copyOf(list));
+        bySubject.replaceAll((key, list) -> List.copyOf(list));
+        return new Snapshot(Map.copyOf(byKeyId), Map.copyOf(bySubject), Set.copyOf(fingerprints));
+    }
+
+    private boolean isIssuedByTrustAnchor(X509Certificate certificate) {
+        for (TrustAnchor anchor : trustAnchorStore.findIssuers(certificate)) {
+            if (isIssuedBy(certificate, anchor.getTrustedCert())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSelfIssued(X509Certificate certificate) {
+        return certificate.getSubjectX500Principal().equals(certificate.getIssuerX500Principal());
+    }
+
+    private static boolean isIssuedBy(X509Certificate certificate, X509Certificate issuer) {
+        if (!certificate.getIssuerX500Principal().equals(issuer.getSubjectX500Principal())) {
+            return false;
+        }
+        try {
+            certificate.verify(issuer.getPublicKey());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Object lock(String url) {
+        return locks[Math.floorMod(url.hashCode(), locks.length)];
+    }
+
+    private static CertificateFactory createCertificateFactory() {
+        try {
+            return CertificateFactory.getInstance("X.509");
+        } catch (CertificateException e) {
+            throw new IllegalStateException("X.509 CertificateFactory not available", e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.hwgi.autocert.certificate.validation.trust;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import javax.security.auth.x500.X500Principal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 신뢰 앵커 저장소
+ *
+ * 신뢰 저장소를 한 번 읽어 TrustAnchor를 만들고 주체 이름과 키 식별자(SKI)로 색인
+ * - 검증할 때마다 KeyStore/PKIXParameters를 새로 만들지 않고 색인 조회만 수행
+ * - 신뢰 저장소 파일의 수정 시각/크기가 바뀌면 주기 확인에서 색인을 다시 생성 (조회 중인 색인은 교체만 됨)
+ */
+@Slf4j
+@Component
+public class TrustAnchorStore {
+
+    private final ValidationProperties properties;
+
+    private volatile Snapshot snapshot;
+    private volatile SourceState loadedFrom;
+
+    /**
+     * 불변 색인
+     */
+    private record Snapshot(Map<X500Principal, List<TrustAnchor>> bySubject,
+                            Map<String, List<TrustAnchor>> byKeyId,
+                            int size) {
+    }
+
+    /**
+     * 신뢰 저장소 파일 상태 (변경 감지용)
+     */
+    private record SourceState(Path path, long lastModified, long size) {
+    }
+
+    public TrustAnchorStore(ValidationProperties properties) {
+        this.properties = properties;
+        reload();
+    }
+
+    /**
+     * 인증서를 발급했을 수 있는 신뢰 앵커 조회
+     *
+     * 기관 키 식별자(AKI)가 있으면 키 식별자로, 없거나 일치하는 앵커가 없으면 발급자 이름으로 조회
+     *
+     * @param certificate 인증서
+     * @return 후보 신뢰 앵커 (서명은 확인하지 않음)
+     */
+    public List<TrustAnchor> findIssuers(X509Certificate certificate) {
+        Snapshot current = snapshot;
+        String keyId = authorityKeyId(certificate);
+        if (keyId != null) {
+            List<TrustAnchor> anchors = current.byKeyId().get(keyId);
+            if (anchors != null) {
+                return anchors;
+            }
+        }
+        return current.bySubject().getOrDefault(certificate.getIssuerX500Principal(), List.of());
+    }
+
+    /**
+     * 인증서 자체가 신뢰 앵커인지 확인
+     */
+    public boolean isTrustAnchor(X509Certificate certificate) {
+        for (TrustAnchor anchor : snapshot.bySubject().getOrDefault(certificate.getSubjectX500Principal(), List.of())) {
+            if (certificate.equals(anchor.getTrustedCert())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 신뢰 앵커 수
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * 신뢰 저장소 파일 변경 확인 (바뀌었으면 다시 로드)
+     */
+    @Scheduled(fixedDelayString = "${autocert.validation.trust-store.check-interval:60000}",
+               initialDelayString = "${autocert.validation.trust-store.check-interval:60000}")
+    public void checkForChanges() {
+        if (!sourceState().equals(loadedFrom)) {
+            log.info("Trust store {} changed, reloading trust anchors", loadedFrom.path());
+            reload();
+        }
+    }
+
+    /**
+     * 신뢰 저장소 로드 및 색인 생성 (실패 시 기존 색인 유지)
+     *
+     * 생성자에서 호출하므로 하위 클래스에서 재정의할 수 없음
+     */
+    public final synchronized void reload() {
+        SourceState state = sourceState();
+        try {
+            List<X509Certificate> certificates = load();
+
+            Map<X500Principal, List<TrustAnchor>> bySubject = new HashMap<>();
+            Map<String, List<TrustAnchor>> byKeyId = new HashMap<>();
+            for (X509Certificate certificate : certificates) {
+                TrustAnchor anchor = new TrustAnchor(certificate, null);
+                bySubject.computeIfAbsent(certificate.getSubjectX500Principal(), key -> new ArrayList<>()).add(anchor);
+                String keyId = subjectKeyId(certificate);
+                if (keyId != null) {
+                    byKeyId.computeIfAbsent(keyId, key -> new ArrayList<>()).add(anchor);
+                }
+            }
+            bySubject.replaceAll((key, anchors) -> Collections.unmodifiableList(anchors));
+            byKeyId.replaceAll((key, anchors) -> Collections.unmodifiableList(anchors));
+
+            snapshot = new Snapshot(bySubject, byKeyId, certificates.size());
+            loadedFrom = state;
+            log.info("Loaded {} trust anchor(s) from {}", certificates.size(), state.path());
+        } catch (Exception e) {
+            if (snapshot == null) {
+                throw new IllegalStateException("Failed to load trust store: " + e.getMessage(), e);
+            }
+            // 다음 주기에 다시 시도하도록 상태는 갱신하지 않음
+            log.error("Failed to reload trust store {}, keeping previous anchors: {}", state.path(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주체 키 식별자 (hex, 확장이 없거나 형식이 잘못되었으면 null)
+     */
+    public static String subjectKeyId(X509Certificate certificate) {
+        byte[] extension = certificate.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+        if (extension == null) {
+            return null;
+        }
+        try {
+            return HexFormat.of().formatHex(SubjectKeyIdentifier.getInstance(
+                    ASN1OctetString.getInstance(extension).getOctets()).getKeyIdentifier());
+        } catch (IllegalArgumentException e) {
+            log.debug("Malformed subject key identifier in {}", certificate.getSubjectX500Principal());
+            return null;
+        }
+    }
+
+    /**
+     * 기관 키 식별자 (hex, 확장이나 keyIdentifier가 없거나 형식이 잘못되었으면 null)
+     */
+    public static String authorityKeyId(X509Certificate certificate) {
+        byte[] extension = certificate.getExtensionValue(Extension.authorityKeyIdentifier.getId());
+        if (extension == null) {
+            return null;
+        }
+        try {
+            byte[] keyId = AuthorityKeyIdentifier.getInstance(
+                    ASN1OctetString.getInstance(extension).getOctets()).getKeyIdentifier();
+            return keyId != null ? HexFormat.of().formatHex(keyId) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Malformed authority key identifier in {}", certificate.getSubjectX500Principal());
+            return null;
+        }
+    }
+
+    private List<X509Certificate> load() throws Exception {
+        ValidationProperties.TrustStore trustStore = properties.getTrustStore();
+        if (!StringUtils.hasText(trustStore.getPath())) {
+            // JVM 기본 신뢰 저장소
+            TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            tmf.init((KeyStore) null);
+            return List.of(((X509TrustManager) tmf.getTrustManagers()[0]).getAcceptedIssuers());
+        }
+
+        KeyStore keyStore = KeyStore.getInstance(trustStore.getType());
+        try (InputStream in = Files.newInputStream(Path.of(trustStore.getPath()))) {
+            keyStore.load(in, trustStore.getPassword() != null ? trustStore.getPassword().toCharArray() : null);
+        }
+        List<X509Certificate> certificates = new ArrayList<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (keyStore.isCertificateEntry(alias) && certificate instanceof X509Certificate x509) {
+                certificates.add(x509);
+            }
+        }
+        return certificates;
+    }
+
+    private SourceState sourceState() {
+        Path path = sourcePath();
+        try {
+            return new SourceState(path, Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+        } catch (IOException e) {
+            return new SourceState(path, -1, -1);
+        }
+    }
+
+    private Path sourcePath() {
+        String configured = properties.getTrustStore().getPath();
+        if (StringUtils.hasText(configured)) {
+            return Path.of(configured);
+        }
+        String system = System.getProperty("javax.net.ssl.trustStore");
+        if (StringUtils.hasText(system) && !"NONE".equals(system)) {
+            return Path.of(system);
+        }
+        Path security = Path.of(System.getProperty("java.home"), "lib", "security");
+        Path jssecacerts = security.resolve("jssecacerts");
+        return Files.exists(jssecacerts) ? jssecacerts : security.resolve("cacerts");
+    }
+}
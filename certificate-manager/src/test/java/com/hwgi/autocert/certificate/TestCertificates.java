@@ -0,0 +1,179 @@
+package com.hwgi.autocert.certificate;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 테스트용 인증서 생성 유틸리티
+ */
+public final class TestCertificates {
+
+    private TestCertificates() {
+    }
+
+    /**
+     * EC 키페어 생성
+     */
+    public static KeyPair keyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        return generator.generateKeyPair();
+    }
+
+    /**
+     * 자체 서명 CA 인증서 생성
+     */
+    public static X509Certificate selfSignedCa(String commonName, KeyPair keyPair) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                new X500Name("CN=" + commonName),
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(1, ChronoUnit.DAYS)),
+                Date.from(Instant.now().plus(90, ChronoUnit.DAYS)),
+                new X500Name("CN=" + commonName),
+                keyPair.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+        builder.addExtension(Extension.subjectKeyIdentifier, false,
+                new JcaX509ExtensionUtils().createSubjectKeyIdentifier(keyPair.getPublic()));
+        return sign(builder, keyPair);
+    }
+
+    /**
+     * 중간 CA 인증서 생성 (SKI/AKI 포함)
+     */
+    public static X509Certificate intermediateCa(String commonName, KeyPair keyPair,
+                                                 X509Certificate issuer, KeyPair issuerKeyPair) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                issuer,
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(1, ChronoUnit.DAYS)),
+                Date.from(Instant.now().plus(90, ChronoUnit.DAYS)),
+                new X500Name("CN=" + commonName),
+                keyPair.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(0));
+        builder.addExtension(Extension.subjectKeyIdentifier, false,
+                new JcaX509ExtensionUtils().createSubjectKeyIdentifier(keyPair.getPublic()));
+        builder.addExtension(Extension.authorityKeyIdentifier, false,
+                new JcaX509ExtensionUtils().createAuthorityKeyIdentifier(issuer));
+        return sign(builder, issuerKeyPair);
+    }
+
+    /**
+     * 리프 인증서 생성 (SAN에 도메인 포함)
+     */
+    public static X509Certificate leaf(String domain, KeyPair keyPair,
+                                       X509Certificate issuer, KeyPair issuerKeyPair) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                issuer,
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(1, ChronoUnit.DAYS)),
+                Date.from(Instant.now().plus(90, ChronoUnit.DAYS)),
+                new X500Name("CN=" + domain),
+                keyPair.getPublic());
+        builder.addExtension(Extension.subjectAlternativeName, false,
+                new GeneralNames(new GeneralName(GeneralName.dNSName, domain)));
+        builder.addExtension(Extension.authorityKeyIdentifier, false,
+                new JcaX509ExtensionUtils().createAuthorityKeyIdentifier(issuer));
+        return sign(builder, issuerKeyPair);
+    }
+
+    /**
+     * 리프 인증서 생성 (AIA OCSP 응답자 / CRL 배포 지점 포함, null이면 생략)
+     */
+    public static X509Certificate leaf(String domain, KeyPair keyPair, X509Certificate issuer, KeyPair issuerKeyPair,
+                                       String ocspUrl, String crlUrl) throws Exception {
+        return leaf(domain, keyPair, issuer, issuerKeyPair, ocspUrl, crlUrl, null);
+    }
+
+    /**
+     * 리프 인증서 생성 (AIA OCSP 응답자 / caIssuers / CRL 배포 지점 포함, null이면 생략)
+     */
+    public static X509Certificate leaf(String domain, KeyPair keyPair, X509Certificate issuer, KeyPair issuerKeyPair,
+                                       String ocspUrl, String crlUrl, String caIssuersUrl) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                issuer,
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(1, ChronoUnit.DAYS)),
+                Date.from(Instant.now().plus(90, ChronoUnit.DAYS)),
+                new X500Name("CN=" + domain),
+                keyPair.getPublic());
+        builder.addExtension(Extension.subjectAlternativeName, false,
+                new GeneralNames(new GeneralName(GeneralName.dNSName, domain)));
+        builder.addExtension(Extension.authorityKeyIdentifier, false,
+                new JcaX509ExtensionUtils().createAuthorityKeyIdentifier(issuer));
+        List<AccessDescription> access = new ArrayList<>();
+        if (ocspUrl != null) {
+            access.add(new AccessDescription(AccessDescription.id_ad_ocsp,
+                    new GeneralName(GeneralName.uniformResourceIdentifier, ocspUrl)));
+        }
+        if (caIssuersUrl != null) {
+            access.add(new AccessDescription(AccessDescription.id_ad_caIssuers,
+                    new GeneralName(GeneralName.uniformResourceIdentifier, caIssuersUrl)));
+        }
+        if (!access.isEmpty()) {
+            builder.addExtension(Extension.authorityInfoAccess, false,
+                    new AuthorityInformationAccess(access.toArray(AccessDescription[]::new)));
+        }
+        if (crlUrl != null) {
+            builder.addExtension(Extension.cRLDistributionPoints, false, new CRLDistPoint(new DistributionPoint[]{
+                    new DistributionPoint(new DistributionPointName(new GeneralNames(
+                            new GeneralName(GeneralName.uniformResourceIdentifier, crlUrl))), null, null)}));
+        }
+        return sign(builder, issuerKeyPair);
+    }
+
+    /**
+     * 자체 서명 리프 인증서 생성
+     */
+    public static X509Certificate selfSigned(String domain, KeyPair keyPair) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                new X500Name("CN=" + domain),
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(1, ChronoUnit.DAYS)),
+                Date.from(Instant.now().plus(90, ChronoUnit.DAYS)),
+                new X500Name("CN=" + domain),
+                keyPair.getPublic());
+        builder.addExtension(Extension.subjectAlternativeName, false,
+                new GeneralNames(new GeneralName(GeneralName.dNSName, domain)));
+        return sign(builder, keyPair);
+    }
+
+    /**
+     * 인증서를 PEM 문자열로 변환
+     */
+    public static String toPem(Object object) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(object);
+        }
+        return writer.toString();
+    }
+
+    private static X509Certificate sign(JcaX509v3CertificateBuilder builder, KeyPair signerKeyPair) throws Exception {
+        return new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(signerKeyPair.getPrivate())));
+    }
+}
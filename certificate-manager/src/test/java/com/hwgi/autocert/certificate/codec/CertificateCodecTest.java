@@ -0,0 +1,82 @@
+package com.hwgi.autocert.certificate.codec;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증서 PEM 코덱 테스트
+ */
+@DisplayName("CertificateCodec 테스트")
+class CertificateCodecTest {
+
+    private CertificateCodec codec;
+
+    private X509Certificate ca;
+    private X509Certificate leaf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        codec = new CertificateCodec(2);
+
+        KeyPair caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        leaf = TestCertificates.leaf("Example.com", TestCertificates.keyPair(), ca, caKeyPair);
+    }
+
+    @Test
+    @DisplayName("체인 PEM을 한 번에 순서대로 읽고 같은 PEM은 캐시된 객체를 반환한다")
+    void parsesChainOnceAndCaches() throws Exception {
+        String chainPem = TestCertificates.toPem(leaf) + "\n\n" + TestCertificates.toPem(ca);
+
+        List<X509Certificate> chain = codec.parseChain(chainPem);
+
+        assertThat(chain).containsExactly(leaf, ca);
+        assertThat(codec.parseChain(chainPem)).isSameAs(chain);
+        assertThat(codec.parseCertificate(chainPem)).isSameAs(chain.get(0));
+        assertThat(codec.size()).isEqualTo(1);
+        assertThat(codec.parseChain("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SAN, 키 종류, 일련번호 등 메타데이터를 제공한다")
+    void describesCertificate() throws Exception {
+        CertificateInfo info = codec.describe(TestCertificates.toPem(leaf));
+
+        assertThat(info.dnsNames()).containsExactly("example.com");
+        assertThat(info.serialNumber()).isEqualTo(leaf.getSerialNumber().toString(16));
+        assertThat(info.keyType()).isEqualTo(leaf.getPublicKey().getAlgorithm());
+        assertThat(info.keySize()).isPositive();
+        assertThat(info.issuer()).contains("CN=Test CA");
+        assertThat(info.notAfter()).isEqualTo(leaf.getNotAfter().toInstant());
+        assertThat(info.fingerprint()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래 사용하지 않은 항목을 제거하고 잘못된 PEM은 예외가 발생한다")
+    void evictsLeastRecentlyUsedAndRejectsInvalidPem() throws Exception {
+        String leafPem = TestCertificates.toPem(leaf);
+        String caPem = TestCertificates.toPem(ca);
+        X509Certificate cachedLeaf = codec.parseCertificate(leafPem);
+        codec.parseCertificate(caPem);
+        codec.parseCertificate(leafPem);
+
+        codec.parseCertificate(TestCertificates.toPem(TestCertificates.selfSigned("other.example.com",
+                TestCertificates.keyPair())));
+
+        assertThat(codec.size()).isEqualTo(2);
+        assertThat(codec.parseCertificate(leafPem)).isSameAs(cachedLeaf);
+        assertThatThrownBy(() -> codec.parseCertificate("-----BEGIN CERTIFICATE-----\nnot base64\n-----END CERTIFICATE-----"))
+                .isInstanceOf(CertificateException.class);
+        assertThatThrownBy(() -> codec.parseCertificate(null)).isInstanceOf(CertificateException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.hwgi.autocert.certificate.distribution.health;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
+import com.hwgi.autocert.domain.repository.ServerHealthCheckRepository;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 서버 도달성 모니터 테스트
+ *
+ * 로컬 ServerSocket으로 열린 포트/닫힌 포트를 만들어 검사
+ */
+@DisplayName("ServerHealthMonitor 테스트")
+class ServerHealthMonitorTest {
+
+    private ServerSocket openSocket;
+    private int openPort;
+    private int closedPort;
+
+    private ServerRepository serverRepository;
+    private ServerHealthCheckRepository healthCheckRepository;
+    private DistributionProperties properties;
+    private ServerHealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        openSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        openPort = openSocket.getLocalPort();
+        try (ServerSocket socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            closedPort = socket.getLocalPort();
+        }
+
+        serverRepository = mock(ServerRepository.class);
+        healthCheckRepository = mock(ServerHealthCheckRepository.class);
+        properties = new DistributionProperties();
+        properties.getHealth().setTimeout(1000);
+        monitor = new ServerHealthMonitor(serverRepository, healthCheckRepository, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        openSocket.close();
+    }
+
+    @Test
+    @DisplayName("SSH/HTTPS 포트 연결 여부로 UP, DEGRADED, DOWN 판정")
+    void checkAll_ClassifiesStatus() throws Exception {
+        properties.getHealth().setHttpsPort(openPort);
+        Server up = server(1L, openPort);
+        Server down = server(2L, closedPort);
+
+        List<ReachabilityResult> results = monitor.checkAll(List.of(up, down));
+
+        assertThat(results).extracting(ReachabilityResult::getStatus)
+                .containsExactly(ServerHealthStatus.UP, ServerHealthStatus.DOWN);
+        assertThat(results.get(0).getSshLatencyMs()).isNotNull();
+        assertThat(results.get(1).getError()).contains("ssh:" + closedPort);
+
+        properties.getHealth().setHttpsPort(closedPort);
+        assertThat(monitor.check(up).getStatus()).isEqualTo(ServerHealthStatus.DEGRADED);
+    }
+
+    @Test
+    @DisplayName("DOWN 서버는 배포 불가, 미검사 서버는 배포 가능")
+    void isReachable_DownServerBlocked() throws Exception {
+        monitor.checkAll(List.of(server(2L, closedPort)));
+
+        assertThat(monitor.isReachable(2L)).isFalse();
+        assertThat(monitor.isReachable(99L)).isTrue();
+
+        properties.getHealth().setEnabled(false);
+        assertThat(monitor.isReachable(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("상태 변경이 없으면 샘플 주기 전까지 이력을 다시 기록하지 않음")
+    void checkAll_RecordsHistoryOnChangeOrSample() throws Exception {
+        properties.getHealth().setHttpsPort(openPort);
+        Server server = server(1L, openPort);
+
+        monitor.checkAll(List.of(server));
+        monitor.checkAll(List.of(server));
+        verify(serverRepository, times(1)).updateHealth(eq(1L), eq(ServerHealthStatus.UP), any(), any(), any());
+        verify(healthCheckRepository, times(1)).saveAll(anyList());
+
+        openSocket.close();
+        monitor.checkAll(List.of(server));
+        verify(serverRepository).updateHealth(eq(1L), eq(ServerHealthStatus.DOWN), isNull(), isNull(), any());
+        verify(healthCheckRepository, times(2)).saveAll(anyList());
+    }
+
+    private Server server(Long id, int sshPort) {
+        return Server.builder().id(id).name("web-" + id).ipAddress("127.0.0.1").port(sshPort).build();
+    }
+}
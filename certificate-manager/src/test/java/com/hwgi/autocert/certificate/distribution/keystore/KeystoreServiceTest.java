@@ -0,0 +1,217 @@
+package com.hwgi.autocert.certificate.distribution.keystore;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties.KeystoreFormat;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.ByteArrayInputStream;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 키스토어 생성 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("KeystoreService 테스트")
+class KeystoreServiceTest {
+
+    @Mock
+    private ServerRepository serverRepository;
+
+    @Mock
+    private CertificateEncryptionUtil encryptionUtil;
+
+    @Spy
+    private DistributionProperties properties;
+
+    @Mock
+    private IntermediateCertificateStore intermediateCertificateStore;
+
+    @InjectMocks
+    private KeystoreService keystoreService;
+
+    private KeyPair caKeyPair;
+    private X509Certificate ca;
+    private KeyPair leafKeyPair;
+    private Certificate certificate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        leafKeyPair = TestCertificates.keyPair();
+        certificate = certificate(TestCertificates.leaf("example.com", leafKeyPair, ca, caKeyPair));
+
+        when(encryptionUtil.encrypt(anyString())).thenAnswer(invocation -> "enc:" + invocation.getArgument(0));
+        when(encryptionUtil.decrypt(anyString())).thenAnswer(invocation ->
+            invocation.<String>getArgument(0).substring("enc:".length()));
+        when(serverRepository.initKeystorePassword(anyLong(), anyString())).thenReturn(1);
+        when(intermediateCertificateStore.completeChainPem(any(), any()))
+            .thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("PKCS12와 JKS 모두 서버 비밀번호로 열리고 개인키와 체인을 포함한다")
+    void buildsLoadableKeystores() throws Exception {
+        Server server = server(WebServerType.TOMCAT);
+        String privateKeyPem = TestCertificates.toPem(leafKeyPair.getPrivate());
+
+        for (KeystoreFormat format : KeystoreFormat.values()) {
+            byte[] content = keystoreService.getKeystore(server, certificate, privateKeyPem, format);
+
+            char[] password = keystoreService.getPassword(server).toCharArray();
+            KeyStore keyStore = KeyStore.getInstance(format.getType());
+            keyStore.load(new ByteArrayInputStream(content), password);
+
+            assertThat(keyStore.isKeyEntry("example.com")).isTrue();
+            assertThat(keyStore.getKey("example.com", password).getEncoded())
+                .isEqualTo(leafKeyPair.getPrivate().getEncoded());
+            assertThat(keyStore.getCertificateChain("example.com")).hasSize(2);
+            assertThat(keyStore.getCertificateChain("example.com")[1]).isEqualTo(ca);
+        }
+
+        // 비밀번호는 서버당 한 번만 생성
+        verify(serverRepository, times(1)).initKeystorePassword(eq(1L), startsWith("enc:"));
+    }
+
+    @Test
+    @DisplayName("같은 인증서 버전은 캐시된 파일을 재사용하고 갱신되면 다시 생성한다")
+    void cachesPerCertificateVersion() throws Exception {
+        Server server = server(WebServerType.JEUS);
+        String privateKeyPem = TestCertificates.toPem(leafKeyPair.getPrivate());
+
+        byte[] first = keystoreService.getKeystore(server, certificate, privateKeyPem, KeystoreFormat.JKS);
+        byte[] second = keystoreService.getKeystore(server, certificate, privateKeyPem, KeystoreFormat.JKS);
+        assertThat(second).isSameAs(first);
+
+        certificate.setCertificatePem(TestCertificates.toPem(
+            TestCertificates.leaf("example.com", leafKeyPair, ca, caKeyPair)));
+        byte[] renewed = keystoreService.getKeystore(server, certificate, privateKeyPem, KeystoreFormat.JKS);
+        assertThat(renewed).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 비밀번호를 교체하면 캐시된 파일 대신 새 비밀번호로 다시 생성한다")
+    void rebuildsAfterPasswordRotatedElsewhere() throws Exception {
+        Server server = server(WebServerType.TOMCAT);
+        server.setKeystorePassword("enc:old-password");
+        String privateKeyPem = TestCertificates.toPem(leafKeyPair.getPrivate());
+
+        byte[] first = keystoreService.getKeystore(server, certificate, privateKeyPem, KeystoreFormat.PKCS12);
+
+        // 다른 인스턴스의 교체로 DB에서 새 비밀번호를 읽어온 서버
+        Server reloaded = server(WebServerType.TOMCAT);
+        reloaded.setKeystorePassword("enc:new-password");
+        byte[] rebuilt = keystoreService.getKeystore(reloaded, certificate, privateKeyPem, KeystoreFormat.PKCS12);
+
+        assertThat(rebuilt).isNotSameAs(first);
+        KeyStore keyStore = KeyStore.getInstance(KeystoreFormat.PKCS12.getType());
+        keyStore.load(new ByteArrayInputStream(rebuilt), "new-password".toCharArray());
+        assertThat(keyStore.isKeyEntry("example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 가장 오래전에 생성한 키스토어부터 제거한다")
+    void boundsCache() throws Exception {
+        properties.getKeystore().setMaxCacheEntries(2);
+        String privateKeyPem = TestCertificates.toPem(leafKeyPair.getPrivate());
+        Server first = server(WebServerType.JEUS);
+        Server second = server(WebServerType.JEUS);
+        second.setId(2L);
+        Server third = server(WebServerType.JEUS);
+        third.setId(3L);
+
+        byte[] firstKeystore = keystoreService.getKeystore(first, certificate, privateKeyPem, KeystoreFormat.JKS);
+        byte[] secondKeystore = keystoreService.getKeystore(second, certificate, privateKeyPem, KeystoreFormat.JKS);
+        keystoreService.getKeystore(third, certificate, privateKeyPem, KeystoreFormat.JKS);
+
+        assertThat(keystoreService.getCacheSize()).isEqualTo(2);
+        assertThat(keystoreService.getKeystore(second, certificate, privateKeyPem, KeystoreFormat.JKS))
+            .isSameAs(secondKeystore);
+        assertThat(keystoreService.getKeystore(first, certificate, privateKeyPem, KeystoreFormat.JKS))
+            .isNotSameAs(firstKeystore);
+    }
+
+    @Test
+    @DisplayName("리프만 저장된 인증서는 저장된 중간 인증서로 체인을 완성한다")
+    void completesLeafOnlyChainFromIntermediateStore() throws Exception {
+        Server server = server(WebServerType.TOMCAT);
+        String privateKeyPem = TestCertificates.toPem(leafKeyPair.getPrivate());
+        certificate.setChainPem(null);
+        when(intermediateCertificateStore.completeChainPem(certificate.getCertificatePem(), null))
+            .thenReturn(TestCertificates.toPem(ca));
+
+        byte[] content = keystoreService.getKeystore(server, certificate, privateKeyPem, KeystoreFormat.PKCS12);
+
+        KeyStore keyStore = KeyStore.getInstance(KeystoreFormat.PKCS12.getType());
+        keyStore.load(new ByteArrayInputStream(content), keystoreService.getPassword(server).toCharArray());
+        assertThat(keyStore.getCertificateChain("example.com")).hasSize(2);
+        assertThat(keyStore.getCertificateChain("example.com")[1]).isEqualTo(ca);
+    }
+
+    @Test
+    @DisplayName("동시에 다른 배포가 먼저 비밀번호를 저장하면 저장된 값을 사용한다")
+    void usesConcurrentlyStoredPassword() {
+        Server server = server(WebServerType.WEBLOGIC);
+        Server stored = server(WebServerType.WEBLOGIC);
+        stored.setKeystorePassword("enc:stored-password");
+        when(serverRepository.initKeystorePassword(anyLong(), anyString())).thenReturn(0);
+        when(serverRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        assertThat(keystoreService.getPassword(server)).isEqualTo("stored-password");
+        assertThat(server.getKeystorePassword()).isEqualTo("enc:stored-password");
+    }
+
+    @Test
+    @DisplayName("키스토어 형식은 웹서버 타입별 설정을 따른다")
+    void formatByWebServerType() {
+        assertThat(keystoreService.getFormat(server(WebServerType.TOMCAT))).contains(KeystoreFormat.PKCS12);
+        assertThat(keystoreService.getFormat(server(WebServerType.JEUS))).contains(KeystoreFormat.JKS);
+        assertThat(keystoreService.getFormat(server(WebServerType.NGINX))).isEmpty();
+
+        properties.getKeystore().setEnabled(false);
+        assertThat(keystoreService.getFormat(server(WebServerType.TOMCAT))).isEmpty();
+    }
+
+    private static Server server(WebServerType type) {
+        return Server.builder()
+            .id(1L)
+            .name("was-1")
+            .ipAddress("10.0.0.1")
+            .port(22)
+            .webServerType(type)
+            .build();
+    }
+
+    private Certificate certificate(X509Certificate leaf) throws Exception {
+        return Certificate.builder()
+            .id(10L)
+            .domain("example.com")
+            .certificatePem(TestCertificates.toPem(leaf))
+            .chainPem(TestCertificates.toPem(ca))
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.hwgi.autocert.certificate.distribution.metrics;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.model.Server;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * 배포 단계별 메트릭 테스트
+ */
+@DisplayName("DeploymentMetrics 테스트")
+class DeploymentMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeploymentMetrics deploymentMetrics;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deploymentMetrics = new DeploymentMetrics(meterRegistry);
+        server = Server.builder().id(1L).name("web-01").webServerType(WebServerType.NGINX).build();
+    }
+
+    @Test
+    @DisplayName("단계별 타이머를 서버/웹서버 타입/단계 태그로 기록")
+    void record_TagsPhaseTimersByServerAndType() {
+        // Given
+        DeploymentTimer timer = new DeploymentTimer();
+        timer.record(DeploymentPhase.TCP_CONNECT, TimeUnit.MILLISECONDS.toNanos(12));
+        timer.record(DeploymentPhase.RELOAD, TimeUnit.MILLISECONDS.toNanos(900));
+
+        // When
+        deploymentMetrics.record(server, timer, TimeUnit.SECONDS.toNanos(1), "success");
+
+        // Then
+        Timer reload = meterRegistry.find(DeploymentMetrics.PHASE_TIMER)
+                .tags("server", "web-01", "web_server_type", "NGINX", "phase", "reload")
+                .timer();
+        assertThat(reload).isNotNull();
+        assertThat(reload.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(900.0);
+
+        assertThat(meterRegistry.find(DeploymentMetrics.PHASE_TIMER).tag("phase", "upload").timer()).isNull();
+        assertThat(meterRegistry.find(DeploymentMetrics.DURATION_TIMER).tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장용 단계별 소요 시간은 단계 순서대로 밀리초 단위 (같은 단계는 마지막 기록)")
+    void toMillis_OrderedByPhase() {
+        // Given
+        DeploymentTimer timer = new DeploymentTimer();
+        timer.record(DeploymentPhase.RELOAD, TimeUnit.MILLISECONDS.toNanos(900));
+        timer.record(DeploymentPhase.AUTH, TimeUnit.MILLISECONDS.toNanos(40));
+        timer.record(DeploymentPhase.UPLOAD, TimeUnit.MILLISECONDS.toNanos(50));
+        timer.record(DeploymentPhase.UPLOAD, TimeUnit.MILLISECONDS.toNanos(120));
+
+        // Then
+        assertThat(timer.toMillis()).containsExactly(
+                entry("auth", 40L),
+                entry("upload", 120L),
+                entry("reload", 900L));
+    }
+}
@@ -0,0 +1,171 @@
+package com.hwgi.autocert.certificate.distribution.probe;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import java.net.ServerSocket;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TlsProbe 테스트 (로컬 TLS 서버 사용)
+ */
+@DisplayName("TlsProbe 테스트")
+class TlsProbeTest {
+
+    private TlsProbe tlsProbe;
+    private SSLServerSocket serverSocket;
+    private X509Certificate servedCertificate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DistributionProperties properties = new DistributionProperties();
+        properties.getProbe().setTimeout(2000);
+        properties.getProbe().setAttempts(1);
+        tlsProbe = new TlsProbe(properties, new CertificateCodec(100));
+
+        KeyPair keyPair = TestCertificates.keyPair();
+        servedCertificate = TestCertificates.selfSigned("example.com", keyPair);
+        serverSocket = startTlsServer(keyPair, servedCertificate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        serverSocket.close();
+    }
+
+    @Test
+    @DisplayName("배포한 인증서를 제공하면 VERIFIED")
+    void probe_SameCertificate_Verified() throws Exception {
+        // When
+        TlsProbeResult result = tlsProbe.probe(target(TestCertificates.toPem(servedCertificate)));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(DeploymentVerificationStatus.VERIFIED);
+        assertThat(result.getServedSerial()).isEqualTo(servedCertificate.getSerialNumber().toString(16));
+        assertThat(result.getServedFingerprint()).isEqualTo(TlsProbe.fingerprint(servedCertificate));
+        assertThat(result.getHandshakeMs()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 인증서를 제공하면 MISMATCH")
+    void probe_DifferentCertificate_Mismatch() throws Exception {
+        // Given
+        X509Certificate deployed = TestCertificates.selfSigned("example.com", TestCertificates.keyPair());
+
+        // When
+        TlsProbeResult result = tlsProbe.probe(target(TestCertificates.toPem(deployed)));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(DeploymentVerificationStatus.MISMATCH);
+        assertThat(result.getServedSerial()).isEqualTo(servedCertificate.getSerialNumber().toString(16));
+    }
+
+    @Test
+    @DisplayName("연결할 수 없으면 UNREACHABLE")
+    void probe_ClosedPort_Unreachable() throws Exception {
+        // Given
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        // When
+        TlsProbeResult result = tlsProbe.probe(new TlsProbe.Target("127.0.0.1", closedPort, "example.com",
+                TestCertificates.toPem(servedCertificate)));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(DeploymentVerificationStatus.UNREACHABLE);
+    }
+
+    @Test
+    @DisplayName("여러 대상을 동시에 검증하고 순서대로 결과 반환")
+    void probeAll_ReturnsResultsInOrder() throws Exception {
+        // Given
+        X509Certificate other = TestCertificates.selfSigned("example.com", TestCertificates.keyPair());
+
+        // When
+        List<TlsProbeResult> results = tlsProbe.probeAll(List.of(
+                target(TestCertificates.toPem(servedCertificate)),
+                target(TestCertificates.toPem(other))));
+
+        // Then
+        assertThat(results).extracting(TlsProbeResult::getStatus)
+                .containsExactly(DeploymentVerificationStatus.VERIFIED, DeploymentVerificationStatus.MISMATCH);
+    }
+
+    @Test
+    @DisplayName("와일드카드 도메인은 상위 도메인이 아닌 와일드카드가 포함하는 이름을 SNI로 사용")
+    void serverNameOf_Wildcard() {
+        assertThat(TlsProbe.Target.serverNameOf("www.example.com", List.of(), List.of())).isEqualTo("www.example.com");
+        // 설정된 검증 호스트 우선
+        assertThat(TlsProbe.Target.serverNameOf("*.example.com",
+                List.of("*.example.com", "api.example.com"), List.of("www.example.com"))).isEqualTo("www.example.com");
+        // 다른 SAN 중 한 단계 아래 이름 (상위 도메인, 두 단계 아래, 다른 영역 제외)
+        assertThat(TlsProbe.Target.serverNameOf("*.example.com",
+                List.of("example.com", "a.b.example.com", "api.other.com", "api.example.com"), List.of()))
+                .isEqualTo("api.example.com");
+        assertThat(TlsProbe.Target.serverNameOf("*.example.com", List.of("*.example.com", "example.com"),
+                List.of("www.other.com"))).isNull();
+    }
+
+    @Test
+    @DisplayName("와일드카드 인증서의 SAN에서 검증 호스트를 찾고 없으면 empty")
+    void serverNameFor_UsesCertificateSans() throws Exception {
+        // Given
+        DistributionProperties properties = new DistributionProperties();
+        TlsProbe probe = new TlsProbe(properties, new CertificateCodec(100));
+        KeyPair keyPair = TestCertificates.keyPair();
+        String wildcardOnly = TestCertificates.toPem(TestCertificates.selfSigned("*.example.com", keyPair));
+
+        // When / Then
+        assertThat(probe.serverNameFor("*.example.com", wildcardOnly)).isEmpty();
+        properties.getProbe().getWildcardHosts().add("www.example.com");
+        assertThat(probe.serverNameFor("*.example.com", wildcardOnly)).contains("www.example.com");
+    }
+
+    private TlsProbe.Target target(String expectedPem) {
+        return new TlsProbe.Target("127.0.0.1", serverSocket.getLocalPort(), "example.com", expectedPem);
+    }
+
+    private SSLServerSocket startTlsServer(KeyPair keyPair, X509Certificate certificate) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("server", keyPair.getPrivate(), "changeit".toCharArray(),
+                new X509Certificate[]{certificate});
+
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, "changeit".toCharArray());
+
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        SSLServerSocket socket = (SSLServerSocket) context.getServerSocketFactory().createServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            while (!socket.isClosed()) {
+                try (SSLSocket client = (SSLSocket) socket.accept()) {
+                    client.startHandshake();
+                } catch (Exception ignored) {
+                    // 연결 종료 또는 핸드셰이크 실패는 무시
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return socket;
+    }
+}
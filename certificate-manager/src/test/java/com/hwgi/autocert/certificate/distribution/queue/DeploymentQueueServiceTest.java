@@ -0,0 +1,302 @@
+package com.hwgi.autocert.certificate.distribution.queue;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.health.ServerHealthMonitor;
+import com.hwgi.autocert.certificate.distribution.service.CertificateDistributionService;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.DeploymentJob;
+import com.hwgi.autocert.domain.model.DeploymentJobStatus;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.SshKey;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.DeploymentJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 배포 작업 큐 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeploymentQueueService 테스트")
+class DeploymentQueueServiceTest {
+
+    @Mock
+    private DeploymentJobRepository deploymentJobRepository;
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private CertificateDistributionService distributionService;
+
+    @Mock
+    private CertificateEncryptionUtil encryptionUtil;
+
+    @Spy
+    private DistributionProperties properties = new DistributionProperties();
+
+    @Spy
+    private ServerDeploymentLock serverLock;
+
+    @Mock
+    private ServerHealthMonitor healthMonitor;
+
+    @InjectMocks
+    private DeploymentQueueService deploymentQueueService;
+
+    private Server server;
+    private Certificate certificate1;
+    private Certificate certificate2;
+
+    @BeforeEach
+    void setUp() {
+        server = Server.builder().id(1L).name("web-01").build();
+        certificate1 = Certificate.builder().id(10L).domain("a.example.com").server(server)
+                .privateKeyPem("key-a").build();
+        certificate2 = Certificate.builder().id(20L).domain("b.example.com").server(server)
+                .privateKeyPem("key-b").build();
+    }
+
+    @Test
+    @DisplayName("같은 서버의 대기 작업을 한 번의 배포로 합쳐서 처리")
+    @SuppressWarnings("unchecked")
+    void process_CoalescesJobsForSameServer() {
+        // Given
+        List<DeploymentJob> jobs = List.of(job(1L, certificate1), job(2L, certificate2), job(3L, certificate1));
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(jobs);
+        when(certificateRepository.findAllWithServerByIdIn(List.of(10L, 20L)))
+                .thenReturn(List.of(certificate1, certificate2));
+        when(distributionService.isReadyForDeployment(any())).thenReturn(true);
+        when(encryptionUtil.decryptPrivateKey(any()))
+                .thenAnswer(invocation -> invocation.<Certificate>getArgument(0).getPrivateKeyPem());
+        when(distributionService.deployAllAsync(eq(server), anyMap(), any()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        deploymentQueueService.process(1L);
+
+        // Then
+        ArgumentCaptor<Map<Certificate, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(distributionService, times(1)).deployAllAsync(eq(server), captor.capture(), any());
+        assertThat(captor.getValue()).containsOnlyKeys(certificate1, certificate2);
+
+        // 선점한 토큰의 작업만 조회/완료
+        ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<LocalDateTime> startedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseStartedAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(deploymentJobRepository).claimPendingJobs(eq(1L), claimToken.capture(), startedAt.capture(),
+                leaseStartedAfter.capture());
+        // 임대 시간 안에 처리 중인 작업이 있으면 선점하지 않도록 임대 시작 기준 전달
+        assertThat(leaseStartedAfter.getValue())
+                .isEqualTo(startedAt.getValue().minus(Duration.ofMillis(properties.getQueue().getLease())));
+        verify(deploymentJobRepository).findByClaimToken(claimToken.getValue());
+        verify(deploymentJobRepository).completeJobs(eq(List.of(1L, 2L, 3L)), eq(claimToken.getValue()),
+                eq(DeploymentJobStatus.COMPLETED), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("배포 실패 시 시도 횟수가 남은 작업은 백오프 후 재시도")
+    void process_DeploymentFailed_RetriesWithBackoff() {
+        // Given
+        DeploymentJob job = job(1L, certificate1);
+        job.setAttempts(2);
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(List.of(job));
+        when(certificateRepository.findAllWithServerByIdIn(List.of(10L))).thenReturn(List.of(certificate1));
+        when(distributionService.isReadyForDeployment(any())).thenReturn(true);
+        when(encryptionUtil.decryptPrivateKey(any()))
+                .thenAnswer(invocation -> invocation.<Certificate>getArgument(0).getPrivateKeyPem());
+        when(distributionService.deployAllAsync(eq(server), anyMap(), any()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        deploymentQueueService.process(1L);
+
+        // Then - 두 번째 실패이므로 첫 대기 시간의 2배 후 재시도
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(deploymentJobRepository).retryJobs(eq(List.of(1L)), anyString(), anyString(), nextAttemptAt.capture());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(120));
+        verify(deploymentJobRepository, never()).completeJobs(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 선점한 작업을 모두 실패 처리")
+    void process_DeploymentFailed_MarksJobsFailed() {
+        // Given
+        DeploymentJob job = job(1L, certificate1);
+        job.setAttempts(properties.getQueue().getMaxAttempts());
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(List.of(job));
+        when(certificateRepository.findAllWithServerByIdIn(List.of(10L))).thenReturn(List.of(certificate1));
+        when(distributionService.isReadyForDeployment(any())).thenReturn(true);
+        when(encryptionUtil.decryptPrivateKey(any()))
+                .thenAnswer(invocation -> invocation.<Certificate>getArgument(0).getPrivateKeyPem());
+        when(distributionService.deployAllAsync(eq(server), anyMap(), any()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        // When
+        deploymentQueueService.process(1L);
+
+        // Then
+        verify(deploymentJobRepository).completeJobs(eq(List.of(1L)), anyString(),
+                eq(DeploymentJobStatus.FAILED), anyString(), any());
+        verify(deploymentJobRepository, never()).retryJobs(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비밀번호 없이 SSH 키만 등록된 서버에도 배포")
+    void process_KeyOnlyServer_Deploys() {
+        // Given
+        Server keyOnly = Server.builder().id(1L).name("web-01").ipAddress("10.0.0.1").username("deploy")
+                .sshKey(SshKey.builder().id(5L).name("deploy-key").build()).build();
+        Certificate certificate = Certificate.builder().id(10L).domain("a.example.com").server(keyOnly)
+                .certificatePem("cert").privateKeyPem("key").build();
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(List.of(job(1L, certificate)));
+        when(certificateRepository.findAllWithServerByIdIn(List.of(10L))).thenReturn(List.of(certificate));
+        when(distributionService.isReadyForDeployment(any())).thenCallRealMethod();
+        when(encryptionUtil.decryptPrivateKey(any()))
+                .thenAnswer(invocation -> invocation.<Certificate>getArgument(0).getPrivateKeyPem());
+        when(distributionService.deployAllAsync(eq(keyOnly), anyMap(), any()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        // When
+        deploymentQueueService.process(1L);
+
+        // Then
+        verify(distributionService).deployAllAsync(eq(keyOnly), anyMap(), any());
+        verify(deploymentJobRepository).completeJobs(eq(List.of(1L)), anyString(),
+                eq(DeploymentJobStatus.COMPLETED), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("풀 모드 서버는 SSH 계정 확인 없이 작업을 완료 처리")
+    void process_PullModeServer_CompletesWithoutDeploy() {
+        // Given
+        server.setAgentTokenHash("hash");
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(List.of(job(1L, certificate1)));
+        when(certificateRepository.findAllWithServerByIdIn(List.of(10L))).thenReturn(List.of(certificate1));
+
+        // When
+        deploymentQueueService.process(1L);
+
+        // Then
+        verify(distributionService, never()).isReadyForDeployment(any());
+        verify(distributionService, never()).deployAllAsync(any(), anyMap(), any());
+        verify(deploymentJobRepository).completeJobs(eq(List.of(1L)), anyString(),
+                eq(DeploymentJobStatus.COMPLETED), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("SSH 연결을 기다리는 동안 워커는 반환하고 서버 잠금은 배포가 끝날 때 해제")
+    void process_WaitingForConnection_ReleasesWorkerButKeepsLock() {
+        // Given
+        CompletableFuture<Boolean> deployment = new CompletableFuture<>();
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(List.of(job(1L, certificate1)));
+        when(certificateRepository.findAllWithServerByIdIn(List.of(10L))).thenReturn(List.of(certificate1));
+        when(distributionService.isReadyForDeployment(any())).thenReturn(true);
+        when(encryptionUtil.decryptPrivateKey(any()))
+                .thenAnswer(invocation -> invocation.<Certificate>getArgument(0).getPrivateKeyPem());
+        when(distributionService.deployAllAsync(eq(server), anyMap(), any())).thenReturn(deployment);
+        assertThat(serverLock.tryAcquire(1L)).isTrue();
+
+        // When - 연결 대기 중 process가 반환됨
+        deploymentQueueService.process(1L);
+
+        // Then
+        assertThat(serverLock.tryAcquire(1L)).isFalse();
+        verify(deploymentJobRepository, never()).completeJobs(any(), any(), any(), any(), any());
+
+        deployment.complete(true);
+        verify(deploymentJobRepository).completeJobs(eq(List.of(1L)), anyString(),
+                eq(DeploymentJobStatus.COMPLETED), anyString(), any());
+        assertThat(serverLock.tryAcquire(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점한 작업이 없으면 배포하지 않음")
+    void process_NoJobs_DoesNothing() {
+        // Given
+        when(deploymentJobRepository.findByClaimToken(anyString())).thenReturn(List.of());
+
+        // When
+        deploymentQueueService.process(1L);
+
+        // Then
+        verifyNoInteractions(distributionService);
+        verify(deploymentJobRepository, never()).completeJobs(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("연결 불가 서버의 대기 작업은 워커에 할당하지 않고 보류")
+    void dispatch_UnreachableServer_Deferred() {
+        // Given
+        when(deploymentJobRepository.findDispatchableServerIds(any())).thenReturn(List.of(1L));
+        when(healthMonitor.isReachable(1L)).thenReturn(false);
+
+        // When
+        deploymentQueueService.dispatch();
+
+        // Then
+        verify(serverLock, never()).tryAcquire(anyLong());
+        verify(deploymentJobRepository, never()).claimPendingJobs(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지난 처리 중 작업만 대기 상태로 복구")
+    void dispatch_ResetsOnlyExpiredLeases() {
+        // Given
+        when(deploymentJobRepository.findDispatchableServerIds(any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        deploymentQueueService.dispatch();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> startedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(deploymentJobRepository).resetExpiredJobs(startedBefore.capture());
+        assertThat(startedBefore.getValue())
+                .isBeforeOrEqualTo(LocalDateTime.now().minusNanos(properties.getQueue().getLease() * 1_000_000))
+                .isAfterOrEqualTo(before.minusNanos(properties.getQueue().getLease() * 1_000_000));
+    }
+
+    @Test
+    @DisplayName("풀 모드 서버의 대기 작업은 도달성 확인 전에 완료 처리")
+    void dispatch_PullModeJobs_CompletedBeforeReachabilityCheck() {
+        // Given
+        when(deploymentJobRepository.completePullModeJobs(anyString(), any())).thenReturn(2);
+        when(deploymentJobRepository.findDispatchableServerIds(any())).thenReturn(List.of());
+
+        // When
+        deploymentQueueService.dispatch();
+
+        // Then
+        verify(deploymentJobRepository).completePullModeJobs(anyString(), any());
+        verifyNoInteractions(healthMonitor);
+    }
+
+    private DeploymentJob job(Long id, Certificate certificate) {
+        return DeploymentJob.builder()
+                .id(id)
+                .certificate(certificate)
+                .server(server)
+                .status(DeploymentJobStatus.RUNNING)
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.model.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DeployScriptBuilder 테스트
+ *
+ * 생성된 스크립트를 로컬 sh로 실행하여 교체/복구 동작 확인
+ */
+@EnabledOnOs({OS.LINUX, OS.MAC})
+@DisplayName("DeployScriptBuilder 테스트")
+class DeployScriptBuilderTest {
+
+    @TempDir
+    Path dir;
+
+    private final DeployScriptBuilder builder = new DeployScriptBuilder();
+
+    private Path cert;
+    private Path key;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cert = dir.resolve("example.com.crt");
+        key = dir.resolve("example.com.key");
+        Files.writeString(cert, "old-cert");
+        Files.writeString(key, "old-key");
+        Files.writeString(dir.resolve("example.com.crt" + DeployScriptBuilder.STAGING_SUFFIX), "new-cert");
+        Files.writeString(dir.resolve("example.com.key" + DeployScriptBuilder.STAGING_SUFFIX), "new-key");
+    }
+
+    @Test
+    @DisplayName("검증/재기동 성공 시 새 파일로 교체되고 백업 유지")
+    void deployScript_Success() throws Exception {
+        // When
+        int exit = run(builder.buildDeployScript(targets(), adapter("true", "true"), new Server()));
+
+        // Then
+        assertThat(exit).isZero();
+        assertThat(Files.readString(cert)).isEqualTo("new-cert");
+        assertThat(Files.readString(key)).isEqualTo("new-key");
+        assertThat(Files.readString(dir.resolve("example.com.crt" + DeployScriptBuilder.BACKUP_SUFFIX)))
+                .isEqualTo("old-cert");
+        assertThat(dir.resolve("example.com.crt" + DeployScriptBuilder.STAGING_SUFFIX)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("검증 실패 시 기존 파일 복구 후 롤백 종료 코드 반환")
+    void deployScript_ValidationFailed_RestoresFiles() throws Exception {
+        // When
+        int exit = run(builder.buildDeployScript(targets(), adapter("false", "touch reloaded"), new Server()));
+
+        // Then
+        assertThat(exit).isEqualTo(DeployScriptBuilder.ROLLBACK_EXIT_CODE);
+        assertThat(Files.readString(cert)).isEqualTo("old-cert");
+        assertThat(Files.readString(key)).isEqualTo("old-key");
+        assertThat(dir.resolve("reloaded")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("기존 파일이 없던 경우 검증 실패 시 새 파일 제거")
+    void deployScript_FirstDeployValidationFailed_RemovesFiles() throws Exception {
+        // Given
+        Files.delete(cert);
+        Files.delete(key);
+
+        // When
+        int exit = run(builder.buildDeployScript(targets(), adapter("false", "true"), new Server()));
+
+        // Then
+        assertThat(exit).isEqualTo(DeployScriptBuilder.ROLLBACK_EXIT_CODE);
+        assertThat(cert).doesNotExist();
+        assertThat(key).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("두 번째 파일 교체가 실패하면 이미 교체한 파일을 복구하고 롤백 종료 코드 반환")
+    void deployScript_SwapFailed_RestoresSwappedFiles() throws Exception {
+        // Given - 이전 배포의 백업이 남아 있고 두 번째 파일의 스테이징 파일이 없음
+        Files.writeString(dir.resolve("example.com.key" + DeployScriptBuilder.BACKUP_SUFFIX), "stale-key");
+        Files.delete(dir.resolve("example.com.key" + DeployScriptBuilder.STAGING_SUFFIX));
+
+        // When
+        int exit = run(builder.buildDeployScript(targets(), adapter("true", "touch reloaded"), new Server()));
+
+        // Then
+        assertThat(exit).isEqualTo(DeployScriptBuilder.ROLLBACK_EXIT_CODE);
+        assertThat(Files.readString(cert)).isEqualTo("old-cert");
+        assertThat(Files.readString(key)).isEqualTo("old-key");
+        assertThat(dir.resolve("reloaded")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("롤백 스크립트는 백업 파일을 복구")
+    void rollbackScript_RestoresBackup() throws Exception {
+        // Given
+        run(builder.buildDeployScript(targets(), adapter("true", "true"), new Server()));
+
+        // When
+        int exit = run(builder.buildRollbackScript(targets(), adapter("true", "true"), new Server()));
+
+        // Then
+        assertThat(exit).isZero();
+        assertThat(Files.readString(cert)).isEqualTo("old-cert");
+        assertThat(Files.readString(key)).isEqualTo("old-key");
+    }
+
+    private List<String> targets() {
+        return List.of(cert.toString(), key.toString());
+    }
+
+    private int run(String script) throws Exception {
+        Process process = new ProcessBuilder("sh", "-c", script)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .start();
+        process.getInputStream().readAllBytes();
+        return process.waitFor();
+    }
+
+    private ReloadAdapter adapter(String validateCommand, String reloadCommand) {
+        return new ReloadAdapter() {
+            @Override
+            public String getValidateCommand(Server server) {
+                return validateCommand;
+            }
+
+            @Override
+            public String getReloadCommand(Server server) {
+                return reloadCommand;
+            }
+
+            @Override
+            public WebServerType getWebServerType() {
+                return WebServerType.NGINX;
+            }
+        };
+    }
+}
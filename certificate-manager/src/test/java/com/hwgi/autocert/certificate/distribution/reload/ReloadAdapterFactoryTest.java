@@ -0,0 +1,124 @@
+package com.hwgi.autocert.certificate.distribution.reload;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.model.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ReloadAdapterFactory 테스트
+ */
+@DisplayName("ReloadAdapterFactory 테스트")
+class ReloadAdapterFactoryTest {
+
+    private DistributionProperties properties;
+    private ReloadAdapterFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DistributionProperties();
+        factory = new ReloadAdapterFactory(List.of(
+            new NginxReloadAdapter(properties),
+            new ApacheReloadAdapter(properties),
+            new TomcatReloadAdapter(properties),
+            new WebtobReloadAdapter(properties),
+            new JeusReloadAdapter(properties),
+            new WeblogicReloadAdapter(properties)
+        ));
+    }
+
+    @Test
+    @DisplayName("웹서버 타입으로 어댑터 조회 성공")
+    void getAdapter_Success() {
+        // When
+        ReloadAdapter adapter = factory.getAdapter(WebServerType.APACHE).orElseThrow();
+
+        // Then
+        assertThat(adapter.getWebServerType()).isEqualTo(WebServerType.APACHE);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 웹서버 타입은 empty 반환")
+    void getAdapter_UnsupportedType_ReturnsEmpty() {
+        // When & Then
+        assertThat(factory.getAdapter(WebServerType.IIS)).isEmpty();
+        assertThat(factory.getAdapter(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기본 검증/재기동 명령 반환")
+    void defaultCommands() {
+        // When
+        ReloadAdapter adapter = factory.getAdapter(WebServerType.NGINX).orElseThrow();
+
+        // Then
+        assertThat(adapter.getValidateCommand(new Server())).isEqualTo("nginx -t");
+        assertThat(adapter.getReloadCommand(new Server())).isEqualTo("nginx -s reload");
+    }
+
+    @Test
+    @DisplayName("설정된 명령으로 기본 명령 재정의")
+    void commands_WithOverride() {
+        // Given
+        DistributionProperties.Reload reload = new DistributionProperties.Reload();
+        reload.setReloadCommand("systemctl reload httpd");
+        properties.getReload().put(WebServerType.APACHE, reload);
+
+        // When
+        ReloadAdapter adapter = factory.getAdapter(WebServerType.APACHE).orElseThrow();
+
+        // Then
+        assertThat(adapter.getValidateCommand(new Server())).isEqualTo("apachectl configtest");
+        assertThat(adapter.getReloadCommand(new Server())).isEqualTo("systemctl reload httpd");
+    }
+
+    @Test
+    @DisplayName("검증 단계가 없는 타입은 검증 명령이 null")
+    void validateCommand_NotSupported() {
+        // When
+        ReloadAdapter adapter = factory.getAdapter(WebServerType.WEBLOGIC).orElseThrow();
+
+        // Then
+        assertThat(adapter.getValidateCommand(new Server())).isNull();
+        assertThat(adapter.getReloadCommand(new Server())).isEqualTo("systemctl restart weblogic");
+    }
+
+    @Test
+    @DisplayName("Tomcat은 설정된 Manager 인증 정보로 sslReload 호출")
+    void tomcatReload_WithManagerCredentials() {
+        // Given
+        properties.getTomcatManager().setUsername("deployer");
+        properties.getTomcatManager().setPassword("it's-secret");
+
+        // When
+        ReloadAdapter adapter = factory.getAdapter(WebServerType.TOMCAT).orElseThrow();
+
+        // Then
+        assertThat(adapter.getReloadCommand(new Server())).isEqualTo(
+            "curl -fsS -u 'deployer:it'\\''s-secret' 'http://localhost:8080/manager/text/sslReload'");
+    }
+
+    @Test
+    @DisplayName("Tomcat Manager 인증 정보가 없으면 재정의 없이 재기동 명령을 만들지 않음")
+    void tomcatReload_WithoutManagerCredentials_Fails() {
+        // Given
+        ReloadAdapter adapter = factory.getAdapter(WebServerType.TOMCAT).orElseThrow();
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.getReloadCommand(new Server()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("tomcat-manager");
+
+        DistributionProperties.Reload reload = new DistributionProperties.Reload();
+        reload.setReloadCommand("systemctl restart tomcat");
+        properties.getReload().put(WebServerType.TOMCAT, reload);
+        assertThat(adapter.getReloadCommand(new Server())).isEqualTo("systemctl restart tomcat");
+    }
+}
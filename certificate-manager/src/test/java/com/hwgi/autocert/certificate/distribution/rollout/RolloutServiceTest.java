@@ -0,0 +1,163 @@
+package com.hwgi.autocert.certificate.distribution.rollout;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.health.ServerHealthMonitor;
+import com.hwgi.autocert.certificate.distribution.queue.ServerDeploymentLock;
+import com.hwgi.autocert.certificate.distribution.service.CertificateDistributionService;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Deployment;
+import com.hwgi.autocert.domain.model.RolloutStatus;
+import com.hwgi.autocert.domain.model.RolloutTarget;
+import com.hwgi.autocert.domain.model.RolloutTargetStatus;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.DeploymentRepository;
+import com.hwgi.autocert.domain.repository.RolloutRepository;
+import com.hwgi.autocert.domain.repository.RolloutTargetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 롤아웃 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RolloutService 테스트")
+class RolloutServiceTest {
+
+    @Mock
+    private RolloutRepository rolloutRepository;
+
+    @Mock
+    private RolloutTargetRepository rolloutTargetRepository;
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private CertificateDistributionService distributionService;
+
+    @Spy
+    private DistributionProperties properties;
+
+    @Spy
+    private ServerDeploymentLock serverLock;
+
+    @Mock
+    private ServerHealthMonitor healthMonitor;
+
+    @InjectMocks
+    private RolloutService rolloutService;
+
+    private Server server;
+    private Certificate certificate;
+
+    @BeforeEach
+    void setUp() {
+        server = Server.builder().id(1L).name("web-01").build();
+        certificate = Certificate.builder().id(10L).domain("example.com").build();
+    }
+
+    @Test
+    @DisplayName("카나리부터 증가 배율만큼 웨이브 크기를 키우고 최대 크기로 제한")
+    void planWaves_GrowsUntilMaxWaveSize() {
+        assertThat(RolloutService.planWaves(20, 1, 2.0, 8)).containsExactly(1, 2, 4, 8, 5);
+        assertThat(RolloutService.planWaves(3, 5, 2.0, 10)).containsExactly(3);
+        assertThat(RolloutService.planWaves(4, 1, 1.0, 10)).containsExactly(1, 1, 1, 1);
+        assertThat(RolloutService.planWaves(10, 2, 1.5, 100)).containsExactly(2, 3, 5);
+    }
+
+    @Test
+    @DisplayName("카나리 웨이브는 한 대라도 실패하면 중단")
+    void evaluateWave_CanaryFailure_Aborts() {
+        Map<RolloutTargetStatus, Long> counts = Map.of(
+            RolloutTargetStatus.FAILED, 1L, RolloutTargetStatus.PENDING, 99L);
+
+        assertThat(RolloutService.evaluateWave(0, counts, 50)).contains("Canary");
+    }
+
+    @Test
+    @DisplayName("이후 웨이브는 실패 비율이 임계치를 넘을 때만 중단")
+    void evaluateWave_FailureRateThreshold() {
+        Map<RolloutTargetStatus, Long> withinThreshold = Map.of(
+            RolloutTargetStatus.SUCCEEDED, 9L, RolloutTargetStatus.FAILED, 1L);
+        Map<RolloutTargetStatus, Long> overThreshold = Map.of(
+            RolloutTargetStatus.SUCCEEDED, 8L, RolloutTargetStatus.FAILED, 2L);
+
+        assertThat(RolloutService.evaluateWave(2, withinThreshold, 10)).isNull();
+        assertThat(RolloutService.evaluateWave(2, overThreshold, 10)).contains("exceeded");
+    }
+
+    @Test
+    @DisplayName("대상 배포 성공 시 배포 이력을 연결하고 성공 처리")
+    void deployTarget_Success_LinksDeployment() {
+        // Given
+        RolloutTarget target = target();
+        Deployment deployment = Deployment.builder().id(100L).build();
+        when(rolloutRepository.findStatusById(5L)).thenReturn(Optional.of(RolloutStatus.RUNNING));
+        when(healthMonitor.isReachable(1L)).thenReturn(true);
+        when(distributionService.deployAll(eq(server), anyMap())).thenReturn(true);
+        when(deploymentRepository.findLatestDeployment(eq(10L), eq(1L), any())).thenReturn(List.of(deployment));
+
+        // When
+        rolloutService.deployTarget(5L, certificate, "key", target);
+
+        // Then
+        assertThat(target.getStatus()).isEqualTo(RolloutTargetStatus.SUCCEEDED);
+        assertThat(target.getDeployment()).isSameAs(deployment);
+        assertThat(serverLock.tryAcquire(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("일시정지된 롤아웃은 대상 배포를 시작하지 않음")
+    void deployTarget_Paused_LeavesTargetPending() {
+        // Given
+        RolloutTarget target = target();
+        when(rolloutRepository.findStatusById(5L)).thenReturn(Optional.of(RolloutStatus.PAUSED));
+
+        // When
+        rolloutService.deployTarget(5L, certificate, "key", target);
+
+        // Then
+        assertThat(target.getStatus()).isEqualTo(RolloutTargetStatus.PENDING);
+        verifyNoInteractions(distributionService);
+    }
+
+    @Test
+    @DisplayName("연결 불가 서버는 배포하지 않고 건너뜀")
+    void deployTarget_Unreachable_Skips() {
+        // Given
+        RolloutTarget target = target();
+        target.setWaveNumber(2);
+        when(rolloutRepository.findStatusById(5L)).thenReturn(Optional.of(RolloutStatus.RUNNING));
+        when(healthMonitor.isReachable(1L)).thenReturn(false);
+
+        // When
+        rolloutService.deployTarget(5L, certificate, "key", target);
+
+        // Then
+        assertThat(target.getStatus()).isEqualTo(RolloutTargetStatus.SKIPPED);
+        verifyNoInteractions(distributionService);
+    }
+
+    private RolloutTarget target() {
+        return RolloutTarget.builder()
+                .id(1L)
+                .server(server)
+                .waveNumber(0)
+                .status(RolloutTargetStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.hwgi.autocert.certificate.distribution.service;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.keystore.KeystoreService;
+import com.hwgi.autocert.certificate.distribution.metrics.DeploymentMetrics;
+import com.hwgi.autocert.certificate.distribution.probe.TlsProbe;
+import com.hwgi.autocert.certificate.distribution.probe.TlsProbeResult;
+import com.hwgi.autocert.certificate.distribution.reload.DeployScriptBuilder;
+import com.hwgi.autocert.certificate.distribution.reload.ReloadAdapterFactory;
+import com.hwgi.autocert.certificate.distribution.ssh.SshClient;
+import com.hwgi.autocert.certificate.distribution.ssh.SshConnector;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Deployment;
+import com.hwgi.autocert.domain.model.DeploymentStatus;
+import com.hwgi.autocert.domain.model.DeploymentVerificationStatus;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
+import com.hwgi.autocert.domain.repository.DeploymentRepository;
+import net.schmizz.sshj.SSHClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인증서 배포 서비스 테스트 (배포 후 TLS 검증 롤백, 비동기 연결)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CertificateDistributionService 테스트")
+class CertificateDistributionServiceTest {
+
+    @Mock
+    private SshClient sshClient;
+
+    @Mock
+    private SshConnector sshConnector;
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Spy
+    private DistributionProperties properties = new DistributionProperties();
+
+    @Mock
+    private ReloadAdapterFactory reloadAdapterFactory;
+
+    @Mock
+    private DeployScriptBuilder deployScriptBuilder;
+
+    @Mock
+    private TlsProbe tlsProbe;
+
+    @Mock
+    private DeploymentMetrics deploymentMetrics;
+
+    @Mock
+    private KeystoreService keystoreService;
+
+    @Mock
+    private IntermediateCertificateStore intermediateCertificateStore;
+
+    @InjectMocks
+    private CertificateDistributionService distributionService;
+
+    private Server server;
+    private Map<Certificate, String> certificates;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = Server.builder().id(1L).name("web-01").ipAddress("10.0.0.1").username("deploy")
+                .password("secret").build();
+        Certificate certificate = Certificate.builder().id(10L).domain("example.com").server(server)
+                .certificatePem("cert").privateKeyPem("key").build();
+        certificates = new LinkedHashMap<>();
+        certificates.put(certificate, "key");
+
+        when(sshConnector.connect(eq(server), any())).thenReturn(mock(SSHClient.class));
+        when(reloadAdapterFactory.getAdapter(any())).thenReturn(Optional.empty());
+        when(keystoreService.getFormat(any())).thenReturn(Optional.empty());
+        when(deployScriptBuilder.buildDeployScript(any(), any(), any())).thenReturn("deploy");
+        when(deployScriptBuilder.buildRollbackScript(any(), any(), any())).thenReturn("rollback");
+        when(deploymentRepository.save(any(Deployment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tlsProbe.serverNameFor(any(), any())).thenReturn(Optional.of("example.com"));
+        when(tlsProbe.probeAll(any())).thenReturn(List.of(TlsProbeResult.builder()
+                .status(DeploymentVerificationStatus.UNREACHABLE)
+                .message("Connection refused")
+                .build()));
+    }
+
+    @Test
+    @DisplayName("배포 전 UP이던 서버가 재기동 후 응답하지 않으면 롤백")
+    void deployAll_UnreachableAfterReloadOnUpServer_RollsBack() throws Exception {
+        // Given
+        server.setHealthStatus(ServerHealthStatus.UP);
+
+        // When
+        boolean result = distributionService.deployAll(server, certificates);
+
+        // Then
+        assertThat(result).isFalse();
+        verify(sshClient).executeSudoScript(any(), eq("rollback"), eq("secret"));
+        assertThat(savedStatuses()).last().isEqualTo(DeploymentStatus.ROLLED_BACK);
+    }
+
+    @Test
+    @DisplayName("배포 전 HTTPS 포트가 닫혀 있던 서버는 응답이 없어도 롤백하지 않음")
+    void deployAll_UnreachableOnDegradedServer_KeepsDeployment() throws Exception {
+        // Given
+        server.setHealthStatus(ServerHealthStatus.DEGRADED);
+
+        // When
+        boolean result = distributionService.deployAll(server, certificates);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(sshClient, never()).executeSudoScript(any(), eq("rollback"), any());
+        assertThat(savedStatuses()).last().isEqualTo(DeploymentStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("rollback-on-unreachable을 끄면 UP 서버도 응답 없음만 기록")
+    void deployAll_RollbackOnUnreachableDisabled_KeepsDeployment() throws Exception {
+        // Given
+        server.setHealthStatus(ServerHealthStatus.UP);
+        properties.getProbe().setRollbackOnUnreachable(false);
+
+        // When
+        boolean result = distributionService.deployAll(server, certificates);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(sshClient, never()).executeSudoScript(any(), eq("rollback"), any());
+    }
+
+    @Test
+    @DisplayName("비동기 배포는 연결 실패도 배포 이력에 실패로 기록하고 false로 완료")
+    void deployAllAsync_ConnectFailed_MarksFailed() throws Exception {
+        // Given
+        when(sshConnector.connectAsync(eq(server), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Failed to connect after 3 attempts")));
+
+        // When
+        boolean result = distributionService.deployAllAsync(server, certificates, Runnable::run).get();
+
+        // Then
+        assertThat(result).isFalse();
+        verify(deployScriptBuilder, never()).buildDeployScript(any(), any(), any());
+        assertThat(savedStatuses()).last().isEqualTo(DeploymentStatus.FAILED);
+    }
+
+    private List<DeploymentStatus> savedStatuses() {
+        ArgumentCaptor<Deployment> captor = ArgumentCaptor.forClass(Deployment.class);
+        verify(deploymentRepository, atLeastOnce()).save(captor.capture());
+        return captor.getAllValues().stream().map(Deployment::getStatus).toList();
+    }
+
+    @Test
+    @DisplayName("와일드카드에 해당하는 구체적인 호스트가 없으면 지문 비교 없이 성공 처리")
+    void deployAll_WildcardWithoutConcreteHost_SkipsProbe() throws Exception {
+        // Given
+        server.setHealthStatus(ServerHealthStatus.UP);
+        when(tlsProbe.serverNameFor(any(), any())).thenReturn(Optional.empty());
+
+        // When
+        boolean result = distributionService.deployAll(server, certificates);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(tlsProbe).probeAll(List.of());
+        verify(sshClient, never()).executeSudoScript(any(), eq("rollback"), any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.KnownHost;
+import com.hwgi.autocert.domain.repository.KnownHostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * DB 기반 호스트 키 검증 테스트
+ */
+@DisplayName("KnownHostsVerifier 테스트")
+class KnownHostsVerifierTest {
+
+    private KnownHostRepository knownHostRepository;
+    private DistributionProperties properties;
+    private KnownHostsVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        knownHostRepository = mock(KnownHostRepository.class);
+        when(knownHostRepository.findAll()).thenReturn(List.of());
+        properties = new DistributionProperties();
+        verifier = new KnownHostsVerifier(knownHostRepository, properties);
+        verifier.load();
+    }
+
+    @Test
+    @DisplayName("최초 접속 호스트 키는 등록하고 같은 키는 DB 조회 없이 허용")
+    void verify_AcceptNew_RegistersThenMatches() throws Exception {
+        PublicKey key = generateKey();
+
+        assertThat(verifier.verify("10.0.0.1", 22, key)).isTrue();
+        assertThat(verifier.verify("10.0.0.1", 22, key)).isTrue();
+
+        verify(knownHostRepository, times(1)).save(any(KnownHost.class));
+        verify(knownHostRepository, never()).findByHostAndPort(any(), any());
+        assertThat(verifier.findExistingAlgorithms("10.0.0.1", 22)).containsExactly("ssh-rsa");
+    }
+
+    @Test
+    @DisplayName("등록된 키와 다른 호스트 키는 거부")
+    void verify_Mismatch_Rejected() throws Exception {
+        assertThat(verifier.verify("10.0.0.1", 22, generateKey())).isTrue();
+
+        assertThat(verifier.verify("10.0.0.1", 22, generateKey())).isFalse();
+        verify(knownHostRepository, times(1)).save(any(KnownHost.class));
+    }
+
+    @Test
+    @DisplayName("STRICT 정책에서는 미등록 호스트 거부")
+    void verify_Strict_RejectsUnknown() throws Exception {
+        properties.getSsh().setHostKeyPolicy(DistributionProperties.HostKeyPolicy.STRICT);
+
+        assertThat(verifier.verify("10.0.0.1", 22, generateKey())).isFalse();
+        verify(knownHostRepository, never()).save(any(KnownHost.class));
+    }
+
+    private static PublicKey generateKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair().getPublic();
+    }
+}
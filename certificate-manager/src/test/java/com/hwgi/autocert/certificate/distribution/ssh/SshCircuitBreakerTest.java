@@ -0,0 +1,123 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.ssh.CircuitBreakerState.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SSH 서킷 브레이커 테스트
+ */
+@DisplayName("SshCircuitBreaker 테스트")
+class SshCircuitBreakerTest {
+
+    private MutableClock clock;
+    private SshCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        DistributionProperties properties = new DistributionProperties();
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setOpenDuration(60000);
+        properties.getCircuitBreaker().setMaxOpenDuration(150000);
+
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        circuitBreaker = new SshCircuitBreaker(properties, clock);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 차단")
+    void recordFailure_OpensAfterThreshold() {
+        fail(2);
+        assertThat(circuitBreaker.tryAcquire(1L)).isTrue();
+
+        fail(1);
+        assertThat(circuitBreaker.getState(1L).getStatus()).isEqualTo(Status.OPEN);
+        assertThat(circuitBreaker.tryAcquire(1L)).isFalse();
+        assertThat(circuitBreaker.tryAcquire(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화")
+    void recordSuccess_ResetsFailures() {
+        fail(2);
+        circuitBreaker.recordSuccess(1L);
+        fail(2);
+
+        assertThat(circuitBreaker.getState(1L).getStatus()).isEqualTo(Status.CLOSED);
+        assertThat(circuitBreaker.getState(1L).getConsecutiveFailures()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 한 번의 시험 연결만 허용")
+    void tryAcquire_HalfOpenAllowsSingleTrial() {
+        fail(3);
+        clock.advance(Duration.ofSeconds(60));
+
+        assertThat(circuitBreaker.tryAcquire(1L)).isTrue();
+        assertThat(circuitBreaker.getState(1L).getStatus()).isEqualTo(Status.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire(1L)).isFalse();
+
+        circuitBreaker.recordSuccess(1L);
+        assertThat(circuitBreaker.getState(1L).getStatus()).isEqualTo(Status.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 연결이 실패하면 차단 시간을 두 배로 늘리되 최대 시간으로 제한")
+    void recordFailure_HalfOpenFailureBacksOff() {
+        fail(3);
+
+        clock.advance(Duration.ofSeconds(60));
+        circuitBreaker.tryAcquire(1L);
+        fail(1);
+        assertThat(circuitBreaker.getState(1L).getRetryAt()).isEqualTo(clock.instant().plusSeconds(120));
+
+        clock.advance(Duration.ofSeconds(120));
+        circuitBreaker.tryAcquire(1L);
+        fail(1);
+        assertThat(circuitBreaker.getState(1L).getRetryAt()).isEqualTo(clock.instant().plusSeconds(150));
+        assertThat(circuitBreaker.getState(1L).getTripCount()).isEqualTo(3);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.recordFailure(1L, new IOException("Connection refused"));
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
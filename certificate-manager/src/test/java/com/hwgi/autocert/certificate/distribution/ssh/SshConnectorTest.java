@@ -0,0 +1,117 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.SshKey;
+import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 서킷 브레이커/백오프 적용 SSH 연결 테스트
+ */
+@DisplayName("SshConnector 테스트")
+class SshConnectorTest {
+
+    private SshClient sshClient;
+    private SshCircuitBreaker circuitBreaker;
+    private SshKeyProviderCache keyProviderCache;
+    private SshConnector connector;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        DistributionProperties properties = new DistributionProperties();
+        properties.getSsh().setMaxRetries(3);
+        properties.getSsh().setRetryDelay(10);
+        properties.getSsh().setMaxRetryDelay(20);
+        properties.getCircuitBreaker().setFailureThreshold(3);
+
+        sshClient = mock(SshClient.class);
+        circuitBreaker = new SshCircuitBreaker(properties);
+        keyProviderCache = mock(SshKeyProviderCache.class);
+        connector = new SshConnector(sshClient, circuitBreaker, keyProviderCache, properties);
+        connector.start();
+
+        server = Server.builder().id(1L).name("web-01").ipAddress("10.0.0.1").port(22)
+                .username("deploy").password("secret").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connector.stop();
+    }
+
+    @Test
+    @DisplayName("full jitter 대기 시간은 0 이상 지수 상한 이하")
+    void fullJitterDelay_WithinBounds() {
+        for (int i = 0; i < 200; i++) {
+            assertThat(SshConnector.fullJitterDelay(1, 1000, 30000)).isBetween(0L, 1000L);
+            assertThat(SshConnector.fullJitterDelay(4, 1000, 30000)).isBetween(0L, 8000L);
+            assertThat(SshConnector.fullJitterDelay(10, 1000, 30000)).isBetween(0L, 30000L);
+        }
+    }
+
+    @Test
+    @DisplayName("실패 후 재시도하여 연결")
+    void connect_RetriesThenSucceeds() throws Exception {
+        // Given
+        SSHClient ssh = mock(SSHClient.class);
+        when(sshClient.connect(anyString(), anyInt(), anyString(), isNull(), anyString(), any()))
+                .thenThrow(new IOException("Connection refused"))
+                .thenReturn(ssh);
+
+        // When
+        SSHClient connected = connector.connect(server);
+
+        // Then
+        assertThat(connected).isSameAs(ssh);
+        verify(sshClient, times(2)).connect(anyString(), anyInt(), anyString(), isNull(), anyString(), any());
+        assertThat(circuitBreaker.getState(1L).getStatus()).isEqualTo(CircuitBreakerState.Status.CLOSED);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 브레이커가 열리면 이후 배포는 연결을 시도하지 않음")
+    void connect_CircuitOpen_ShortCircuits() throws Exception {
+        // Given
+        when(sshClient.connect(anyString(), anyInt(), anyString(), isNull(), anyString(), any()))
+                .thenThrow(new IOException("Connection timed out"));
+
+        // When
+        assertThatThrownBy(() -> connector.connect(server)).isInstanceOf(IOException.class);
+
+        // Then
+        assertThatThrownBy(() -> connector.connect(server)).isInstanceOf(CircuitOpenException.class);
+        verify(sshClient, times(3)).connect(anyString(), anyInt(), anyString(), isNull(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("SSH 키가 지정된 서버는 캐시된 KeyProvider로 인증")
+    void connect_WithSshKey_UsesCachedKeyProvider() throws Exception {
+        // Given
+        SSHClient ssh = mock(SSHClient.class);
+        KeyProvider keyProvider = mock(KeyProvider.class);
+        server.setSshKey(SshKey.builder().id(7L).build());
+        server.setPassword(null);
+        when(keyProviderCache.get(7L)).thenReturn(keyProvider);
+        when(sshClient.connect(anyString(), anyInt(), anyString(), same(keyProvider), isNull(), any()))
+                .thenReturn(ssh);
+
+        // When
+        SSHClient connected = connector.connect(server);
+
+        // Then
+        assertThat(connected).isSameAs(ssh);
+        verify(keyProviderCache).get(7L);
+    }
+}
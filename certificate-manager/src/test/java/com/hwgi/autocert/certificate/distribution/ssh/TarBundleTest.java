@@ -0,0 +1,99 @@
+package com.hwgi.autocert.certificate.distribution.ssh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TarBundle 테스트
+ *
+ * 생성된 아카이브를 로컬 sh/tar로 추출하여 스테이징 이동과 체크섬 검증 확인
+ */
+@EnabledOnOs({OS.LINUX, OS.MAC})
+@DisplayName("TarBundle 테스트")
+class TarBundleTest {
+
+    private static final String SUFFIX = ".autocert-new";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("아카이브는 512바이트 블록 단위이며 종료 블록을 포함한다")
+    void archiveIsBlockAligned() throws Exception {
+        TarBundle bundle = new TarBundle()
+                .add("/etc/ssl/a.crt", "cert", 0600)
+                .add("/etc/ssl/a.key", "k".repeat(600), 0600);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bundle.writeTo(out);
+        byte[] tar = out.toByteArray();
+
+        // 헤더 3개 + 데이터 블록(1 + 2 + 1) + 종료 블록 2개
+        assertThat(tar.length).isEqualTo(512 * 9);
+        assertThat(new String(tar, 257, 5)).isEqualTo("ustar");
+        assertThat(bundle.manifest()).contains("  0\n").contains("  1\n");
+    }
+
+    @Test
+    @DisplayName("원격에서 추출 후 각 파일을 스테이징 경로로 이동한다")
+    void extractsToStagingPaths() throws Exception {
+        Path cert = dir.resolve("certs/example.com.crt");
+        Path key = dir.resolve("keys/example.com.key");
+        TarBundle bundle = new TarBundle()
+                .add(cert.toString(), "new-cert", 0600)
+                .add(key.toString(), "new-key", 0600);
+
+        int exit = run(bundle.buildExtractScript(dir.resolve(".staging").toString(), SUFFIX), bundle, null);
+
+        assertThat(exit).isZero();
+        assertThat(Files.readString(Path.of(cert + SUFFIX))).isEqualTo("new-cert");
+        assertThat(Files.readString(Path.of(key + SUFFIX))).isEqualTo("new-key");
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                    .noneMatch(name -> name.startsWith(".staging"));
+        }
+    }
+
+    @Test
+    @DisplayName("전송 중 내용이 바뀌면 체크섬 검증에 실패하고 스테이징 파일을 만들지 않는다")
+    void rejectsCorruptedArchive() throws Exception {
+        Path cert = dir.resolve("example.com.crt");
+        TarBundle bundle = new TarBundle().add(cert.toString(), "new-cert", 0600);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bundle.writeTo(out);
+        byte[] tar = out.toByteArray();
+        tar[512] = 'X'; // 첫 파일 데이터 변조 (헤더 체크섬은 유지)
+
+        int exit = run(bundle.buildExtractScript(dir.resolve(".staging").toString(), SUFFIX), bundle, tar);
+
+        assertThat(exit).isEqualTo(TarBundle.CHECKSUM_EXIT_CODE);
+        assertThat(Path.of(cert + SUFFIX)).doesNotExist();
+    }
+
+    private int run(String script, TarBundle bundle, byte[] archive) throws Exception {
+        Process process = new ProcessBuilder("sh", "-c", script)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .start();
+        try (OutputStream stdin = process.getOutputStream()) {
+            if (archive != null) {
+                stdin.write(archive);
+            } else {
+                bundle.writeTo(stdin);
+            }
+        }
+        process.getInputStream().readAllBytes();
+        return process.waitFor();
+    }
+}
@@ -0,0 +1,147 @@
+package com.hwgi.autocert.certificate.index;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.domain.model.CertificateStatus;
+import com.hwgi.autocert.domain.repository.CertificatePemView;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증서 도메인 색인 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CertificateDomainIndex 테스트")
+class CertificateDomainIndexTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    private CertificateDomainIndex index;
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyPair = TestCertificates.keyPair();
+        index = new CertificateDomainIndex(certificateRepository, new CertificateCodec(100));
+
+        when(certificateRepository.findPemsAfter(eq(0L), any())).thenReturn(List.of(
+                view(1L, pem("example.com", "www.example.com")),
+                view(2L, pem("*.example.com")),
+                view(3L, pem("API.Shop.Example.com")),
+                view(4L, TestCertificates.toPem(TestCertificates.selfSignedCa("legacy.example.com", keyPair)))));
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 이름과 레이블 하나를 대신하는 와일드카드로 포함 인증서를 찾는다")
+    void findsCoveringCertificates() {
+        assertThat(index.findCovering("www.example.com")).containsExactly(1L, 2L);
+        assertThat(index.findCovering("example.com")).containsExactly(1L);
+        assertThat(index.findCovering("mail.example.com")).containsExactly(2L);
+        assertThat(index.findCovering("a.mail.example.com")).isEmpty();
+        assertThat(index.findCovering("api.shop.example.com.")).containsExactly(3L);
+        assertThat(index.findCovering("LEGACY.example.com")).containsExactly(2L, 4L);
+        assertThat(index.findCovering("example.org")).isEmpty();
+
+        assertThat(index.findCovering(List.of("www.example.com", "nope.test")))
+                .containsEntry("www.example.com", List.of(1L, 2L))
+                .containsEntry("nope.test", List.of());
+        verify(certificateRepository, times(1)).findPemsAfter(eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("영역 아래에서 인증서가 포함하는 이름을 조회한다")
+    void findsNamesUnderZone() {
+        assertThat(index.findNamesUnder("example.com")).containsOnlyKeys(
+                "example.com", "*.example.com", "www.example.com", "api.shop.example.com", "legacy.example.com");
+        assertThat(index.findNamesUnder("shop.example.com"))
+                .containsOnlyKeys("api.shop.example.com")
+                .containsEntry("api.shop.example.com", List.of(3L));
+        assertThat(index.findNamesUnder("example.org")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신과 삭제는 해당 인증서의 이름만 바꾸고 빈 노드를 정리한다")
+    void updatesIncrementally() throws Exception {
+        assertThat(index.size()).isEqualTo(4);
+
+        index.put(3L, pem("api.example.net"));
+        assertThat(index.findCovering("api.shop.example.com")).isEmpty();
+        assertThat(index.findNamesUnder("shop.example.com")).isEmpty();
+        assertThat(index.findCovering("api.example.net")).containsExactly(3L);
+
+        index.remove(2L);
+        assertThat(index.findCovering("mail.example.com")).isEmpty();
+        assertThat(index.findCovering("www.example.com")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다시 생성하면 DB 상태로 맞추고 많은 호스트도 빠르게 확인한다")
+    void rebuildsAndChecksManyHosts() throws Exception {
+        index.put(99L, pem("stale.example.com"));
+        index.rebuild();
+        assertThat(index.findCovering("stale.example.com")).containsExactly(2L);
+
+        List<String> hosts = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            hosts.add("host-" + i + ".example.com");
+        }
+        long start = System.nanoTime();
+        assertThat(index.findCovering(hosts).values()).allMatch(ids -> ids.equals(List.of(2L)));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private String pem(String... dnsNames) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                new X500Name("CN=" + dnsNames[0]),
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(1, ChronoUnit.DAYS)),
+                Date.from(Instant.now().plus(90, ChronoUnit.DAYS)),
+                new X500Name("CN=" + dnsNames[0]),
+                keyPair.getPublic());
+        builder.addExtension(Extension.subjectAlternativeName, false, new GeneralNames(Arrays.stream(dnsNames)
+                .map(name -> new GeneralName(GeneralName.dNSName, name))
+                .toArray(GeneralName[]::new)));
+        return TestCertificates.toPem(new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(keyPair.getPrivate()))));
+    }
+
+    private static CertificatePemView view(Long id, String certificatePem) {
+        return new CertificatePemView(id, "example.com", CertificateStatus.ACTIVE, certificatePem, null,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,187 @@
+package com.hwgi.autocert.certificate.service;
+
+import com.hwgi.autocert.certificate.acme.service.AcmeOrderService;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.config.AcmeProperties;
+import com.hwgi.autocert.certificate.distribution.queue.DeploymentQueueService;
+import com.hwgi.autocert.certificate.distribution.queue.ServerDeploymentLock;
+import com.hwgi.autocert.certificate.distribution.service.CertificateDistributionService;
+import com.hwgi.autocert.certificate.index.CertificateDomainIndex;
+import com.hwgi.autocert.certificate.util.CertificateEncryptionUtil;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.Deployment;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.DeploymentRepository;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 인증서 관리 서비스 테스트 (도메인 색인 커밋 후 반영, 수동 배포 서버 잠금)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CertificateService 테스트")
+class CertificateServiceTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private ServerRepository serverRepository;
+
+    @Mock
+    private DeploymentRepository deploymentRepository;
+
+    @Mock
+    private AcmeOrderService acmeOrderService;
+
+    @Mock
+    private CertificateEncryptionUtil encryptionUtil;
+
+    @Mock
+    private AcmeProperties acmeProperties;
+
+    @Mock
+    private CertificateDistributionService distributionService;
+
+    @Mock
+    private DeploymentQueueService deploymentQueueService;
+
+    @Mock
+    private CertificateCodec certificateCodec;
+
+    @Mock
+    private CertificateDomainIndex domainIndex;
+
+    @Mock
+    private ServerDeploymentLock serverLock;
+
+    @InjectMocks
+    private CertificateService certificateService;
+
+    private Certificate certificate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(certificateService, "emailService", Optional.empty());
+        certificate = Certificate.builder().id(1L).domain("example.com").certificatePem("old-pem").build();
+        when(certificateRepository.findById(1L)).thenReturn(Optional.of(certificate));
+        when(certificateRepository.save(any(Certificate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(deploymentRepository.findByCertificateIdOrderByDeployedAtDesc(anyLong(), any())).thenReturn(Page.empty());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("인증서 PEM 수정은 커밋된 뒤에만 도메인 색인에 반영")
+    void update_IndexesAfterCommit() {
+        // When
+        certificateService.update(1L, null, null, null, null, null, "new-pem",
+                null, null, null, null, null, null);
+
+        // Then
+        verify(domainIndex, never()).put(anyLong(), anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(domainIndex).put(1L, "new-pem");
+    }
+
+    @Test
+    @DisplayName("삭제가 롤백되면 도메인 색인에서 제거하지 않음")
+    void delete_RolledBack_KeepsIndex() {
+        // When
+        certificateService.delete(1L);
+
+        // Then
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verify(domainIndex, never()).remove(anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제가 커밋되면 도메인 색인에서 제거")
+    void delete_Committed_RemovesFromIndex() {
+        // When
+        certificateService.delete(1L);
+
+        // Then
+        verify(domainIndex, never()).remove(anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(domainIndex).remove(1L);
+    }
+
+    @Test
+    @DisplayName("수동 배포는 서버 잠금을 잡고 배포한 뒤 해제")
+    void deployManually_HoldsServerLock() {
+        // Given
+        Server server = Server.builder().id(5L).name("web-01").build();
+        certificate.setServer(server);
+        certificate.setPrivateKeyPem("key-pem");
+        Deployment deployment = Deployment.builder().id(3L).build();
+        when(certificateRepository.findAllWithServerByIdIn(List.of(1L))).thenReturn(List.of(certificate));
+        when(distributionService.isReadyForDeployment(certificate)).thenReturn(true);
+        when(encryptionUtil.decryptPrivateKey(certificate)).thenReturn("key-pem");
+        when(serverLock.tryAcquire(5L)).thenReturn(true);
+        when(distributionService.deployAll(server, Map.of(certificate, "key-pem"))).thenReturn(true);
+        when(deploymentRepository.findFirstByCertificateAndServerOrderByDeployedAtDesc(certificate, server))
+                .thenReturn(Optional.of(deployment));
+
+        // When
+        Deployment result = certificateService.deployManually(1L);
+
+        // Then
+        assertThat(result).isSameAs(deployment);
+        InOrder inOrder = inOrder(serverLock, distributionService);
+        inOrder.verify(serverLock).tryAcquire(5L);
+        inOrder.verify(distributionService).deployAll(server, Map.of(certificate, "key-pem"));
+        inOrder.verify(serverLock).release(5L);
+    }
+
+    @Test
+    @DisplayName("다른 배포가 진행 중인 서버는 수동 배포를 거부")
+    void deployManually_ServerBusy_Rejects() {
+        // Given
+        Server server = Server.builder().id(5L).name("web-01").build();
+        certificate.setServer(server);
+        certificate.setPrivateKeyPem("key-pem");
+        when(certificateRepository.findAllWithServerByIdIn(List.of(1L))).thenReturn(List.of(certificate));
+        when(distributionService.isReadyForDeployment(certificate)).thenReturn(true);
+        when(serverLock.tryAcquire(5L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> certificateService.deployManually(1L))
+                .isInstanceOf(IllegalStateException.class);
+        verify(distributionService, never()).deployAll(any(), any());
+        verify(serverLock, never()).release(anyLong());
+    }
+}
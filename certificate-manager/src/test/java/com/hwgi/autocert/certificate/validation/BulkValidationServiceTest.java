@@ -0,0 +1,125 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.history.ValidationHistoryService;
+import com.hwgi.autocert.domain.model.CertificateStatus;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import com.hwgi.autocert.domain.repository.CertificatePemView;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증서 일괄 검증 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BulkValidationService 테스트")
+class BulkValidationServiceTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private CertificateValidationService validationService;
+
+    @Mock
+    private ValidationHistoryService historyService;
+
+    private ValidationProperties properties;
+    private BulkValidationService bulkValidationService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ValidationProperties();
+        properties.getBulk().setConcurrency(4);
+        bulkValidationService = new BulkValidationService(certificateRepository, validationService,
+                historyService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkValidationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 인증서를 검증하고 동시 실행 수를 넘지 않는다")
+    void validatesAllWithBoundedConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(certificateRepository.streamPems(CertificateStatus.ACTIVE)).thenReturn(pems(50));
+        when(validationService.validateCertificatePem(anyString(), any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            running.decrementAndGet();
+            boolean valid = !invocation.getArgument(0, String.class).endsWith("7");
+            return result(valid);
+        });
+
+        List<BulkValidationItem> items = new ArrayList<>();
+        BulkValidationService.Summary summary = bulkValidationService.validateAll(CertificateStatus.ACTIVE, items::add);
+
+        assertThat(items).hasSize(50);
+        assertThat(items).extracting(BulkValidationItem::getCertificateId).doesNotHaveDuplicates();
+        assertThat(summary).isEqualTo(new BulkValidationService.Summary(50, 45, 5));
+        assertThat(items).filteredOn(item -> !item.isValid())
+                .allSatisfy(item -> assertThat(item.getErrorCodes()).containsExactly("INVALID_CHAIN"));
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("결과 수신에 실패하면 더 이상 읽지 않고 중단한다")
+    void stopsWhenSinkFails() {
+        AtomicInteger read = new AtomicInteger();
+        when(certificateRepository.streamPems(eq(null))).thenReturn(pems(1000).peek(pem -> read.incrementAndGet()));
+        when(validationService.validateCertificatePem(anyString(), any())).thenReturn(result(true));
+
+        assertThatThrownBy(() -> bulkValidationService.validateAll(null, item -> {
+            throw new UncheckedIOException(new IOException("Broken pipe"));
+        })).isInstanceOf(UncheckedIOException.class);
+
+        assertThat(read.get()).isLessThan(1000);
+    }
+
+    private static Stream<CertificatePemView> pems(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new CertificatePemView((long) i, "host" + i + ".example.com",
+                        CertificateStatus.ACTIVE, "pem-" + i, null, LocalDateTime.now()));
+    }
+
+    private static CertificateValidationResult result(boolean valid) {
+        return CertificateValidationResult.builder()
+                .valid(valid)
+                .validatedAt(LocalDateTime.now())
+                .signatureCheck(ValidationCheckResult.success("ok"))
+                .chainCheck(valid ? ValidationCheckResult.success("ok")
+                        : ValidationCheckResult.failure("untrusted", "INVALID_CHAIN"))
+                .errors(new ArrayList<>())
+                .warnings(new ArrayList<>())
+                .build();
+    }
+}
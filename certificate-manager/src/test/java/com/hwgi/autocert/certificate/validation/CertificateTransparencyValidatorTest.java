@@ -0,0 +1,260 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.ct.CtLogStore;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import com.sun.net.httpserver.HttpServer;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Certificate Transparency(SCT) 검증 테스트 (로컬 CT 로그 목록 서버 사용)
+ */
+@DisplayName("CertificateTransparencyValidator 테스트")
+class CertificateTransparencyValidatorTest {
+
+    private static final String SCT_LIST_OID = "1.3.6.1.4.1.11129.2.4.2";
+
+    private HttpServer logList;
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    private ValidationProperties properties;
+    private KeyPair logA;
+    private KeyPair logB;
+    private KeyPair caKeyPair;
+    private X509Certificate ca;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        logA = TestCertificates.keyPair();
+        logB = TestCertificates.keyPair();
+        caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+
+        byte[] body = ("{\"version\":\"1.0\",\"operators\":[{\"name\":\"Test Operator\",\"logs\":["
+                + logEntry("Test Log A", logA, "{\"usable\":{\"timestamp\":\"2024-01-01T00:00:00Z\"}}") + ","
+                + logEntry("Test Log B", logB, "{\"readonly\":{\"timestamp\":\"2024-01-01T00:00:00Z\"}}")
+                + "]}]}").getBytes(StandardCharsets.UTF_8);
+        logList = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        logList.createContext("/log_list.json", exchange -> {
+            downloads.incrementAndGet();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        logList.start();
+
+        properties = new ValidationProperties();
+        properties.getCt().setLogListUrl("http://127.0.0.1:" + logList.getAddress().getPort() + "/log_list.json");
+        properties.getCt().setTimeout(2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logList.stop(0);
+    }
+
+    @Test
+    @DisplayName("포함된 SCT 서명을 로그 목록의 공개키로 확인하고 결과를 인증서 지문별로 캐시한다")
+    void verifiesEmbeddedScts() throws Exception {
+        CtLogStore store = store();
+        store.refresh();
+        CertificateTransparencyValidator validator = validator(store);
+        X509Certificate leaf = leafWithScts("example.com", false, logA, logB);
+
+        ValidationCheckResult result = validator.validate(leaf, List.of(leaf, ca));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getMessage()).isEqualTo("2 of 2 SCT(s) verified");
+        assertThat(result.getDetails()).contains("Test Log A", "Test Log B");
+        assertThat(validator.validate(leaf, List.of(leaf, ca))).isSameAs(result);
+        assertThat(validator.getCacheSize()).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("알려진 로그의 SCT 서명이 맞지 않으면 실패한다")
+    void rejectsInvalidSignature() throws Exception {
+        CtLogStore store = store();
+        store.refresh();
+        X509Certificate leaf = leafWithScts("example.com", true, logA, logB);
+
+        ValidationCheckResult result = validator(store).validate(leaf, List.of(leaf, ca));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo("INVALID_SCT");
+    }
+
+    @Test
+    @DisplayName("로그 목록을 받기 전에는 네트워크를 기다리지 않고 경고만 남기며, 목록이 바뀌면 다시 검증한다")
+    void doesNotWaitForLogList() throws Exception {
+        CtLogStore store = store();
+        CertificateTransparencyValidator validator = validator(store);
+        X509Certificate leaf = leafWithScts("example.com", false, logA, logB);
+
+        ValidationCheckResult before = validator.validate(leaf, List.of(leaf, ca));
+
+        assertThat(downloads.get()).isZero();
+        assertThat(before.isValid()).isTrue();
+        assertThat(before.getMessage()).startsWith("SCTs not fully verified");
+        assertThat(before.getDetails()).contains("UnknownLogs: 2");
+
+        store.refresh();
+        ValidationCheckResult after = validator.validate(leaf, List.of(leaf, ca));
+
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(after.getMessage()).isEqualTo("2 of 2 SCT(s) verified");
+    }
+
+    @Test
+    @DisplayName("필수 설정이면 SCT가 없거나 확인된 SCT가 부족할 때 실패한다")
+    void failsWhenRequired() throws Exception {
+        properties.getCt().setRequired(true);
+        properties.getCt().setLogListUrl("");
+        ValidationProperties.Ct.Log configured = new ValidationProperties.Ct.Log();
+        configured.setDescription("Private Log");
+        configured.setKey(Base64.getEncoder().encodeToString(logA.getPublic().getEncoded()));
+        properties.getCt().getLogs().add(configured);
+        CertificateTransparencyValidator validator = validator(store());
+
+        X509Certificate plain = TestCertificates.leaf("plain.example.com", TestCertificates.keyPair(), ca, caKeyPair);
+        assertThat(validator.validate(plain, List.of(plain, ca)).getErrorCode()).isEqualTo("NO_SCTS");
+
+        X509Certificate single = leafWithScts("single.example.com", false, logA);
+        ValidationCheckResult result = validator.validate(single, List.of(single, ca));
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo("INSUFFICIENT_SCTS");
+        assertThat(result.getDetails()).contains("Private Log");
+
+        properties.getCt().setMinScts(1);
+        X509Certificate other = leafWithScts("other.example.com", false, logA);
+        assertThat(validator.validate(other, List.of(other, ca)).isValid()).isTrue();
+    }
+
+    private CtLogStore store() {
+        return new CtLogStore(properties, new ObjectMapper());
+    }
+
+    private CertificateTransparencyValidator validator(CtLogStore store) {
+        return new CertificateTransparencyValidator(store, mock(IntermediateCertificateStore.class), properties);
+    }
+
+    /**
+     * 로그가 사전 인증서(SCT 확장 없는 TBS)에 서명한 SCT를 포함한 인증서 발급
+     *
+     * @param tamper true면 다른 TBS에 대한 서명을 넣음
+     */
+    private X509Certificate leafWithScts(String domain, boolean tamper, KeyPair... logs) throws Exception {
+        KeyPair keyPair = TestCertificates.keyPair();
+        BigInteger serial = BigInteger.valueOf(System.nanoTime());
+        Date notBefore = Date.from(Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
+        Date notAfter = Date.from(Instant.now().plus(90, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
+
+        X509Certificate precertificate = issue(domain, keyPair, serial, notBefore, notAfter, null);
+        byte[] tbs = tamper
+                ? issue("other." + domain, keyPair, serial, notBefore, notAfter, null).getTBSCertificate()
+                : precertificate.getTBSCertificate();
+        byte[] issuerKeyHash = MessageDigest.getInstance("SHA-256").digest(ca.getPublicKey().getEncoded());
+
+        ByteArrayOutputStream list = new ByteArrayOutputStream();
+        for (KeyPair log : logs) {
+            byte[] sct = sct(log, System.currentTimeMillis(), issuerKeyHash, tbs);
+            list.write(sct.length >>> 8);
+            list.write(sct.length);
+            list.write(sct);
+        }
+        byte[] encoded = list.toByteArray();
+        ByteArrayOutputStream extension = new ByteArrayOutputStream();
+        extension.write(encoded.length >>> 8);
+        extension.write(encoded.length);
+        extension.write(encoded);
+
+        return issue(domain, keyPair, serial, notBefore, notAfter, extension.toByteArray());
+    }
+
+    private X509Certificate issue(String domain, KeyPair keyPair, BigInteger serial, Date notBefore, Date notAfter,
+                                  byte[] sctList) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                ca, serial, notBefore, notAfter, new X500Name("CN=" + domain), keyPair.getPublic());
+        builder.addExtension(Extension.subjectAlternativeName, false,
+                new GeneralNames(new GeneralName(GeneralName.dNSName, domain)));
+        if (sctList != null) {
+            builder.addExtension(new ASN1ObjectIdentifier(SCT_LIST_OID), false, new DEROctetString(sctList));
+        }
+        return new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(caKeyPair.getPrivate())));
+    }
+
+    /**
+     * RFC 6962 v1 SCT (precert_entry, ECDSA P-256 + SHA-256)
+     */
+    private static byte[] sct(KeyPair log, long timestamp, byte[] issuerKeyHash, byte[] tbs) throws Exception {
+        ByteArrayOutputStream signed = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(signed);
+        data.writeByte(0);
+        data.writeByte(0);
+        data.writeLong(timestamp);
+        data.writeShort(1);
+        data.write(issuerKeyHash);
+        data.writeByte(tbs.length >>> 16);
+        data.writeShort(tbs.length);
+        data.write(tbs);
+        data.writeShort(0);
+
+        Signature signer = Signature.getInstance("SHA256withECDSA");
+        signer.initSign(log.getPrivate());
+        signer.update(signed.toByteArray());
+        byte[] signature = signer.sign();
+
+        ByteArrayOutputStream sct = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(sct);
+        out.writeByte(0);
+        out.write(MessageDigest.getInstance("SHA-256").digest(log.getPublic().getEncoded()));
+        out.writeLong(timestamp);
+        out.writeShort(0);
+        out.writeByte(4);
+        out.writeByte(3);
+        out.writeShort(signature.length);
+        out.write(signature);
+        return sct.toByteArray();
+    }
+
+    private static String logEntry(String description, KeyPair log, String state) {
+        return "{\"description\":\"" + description + "\",\"key\":\""
+                + Base64.getEncoder().encodeToString(log.getPublic().getEncoded())
+                + "\",\"url\":\"https://ct.example.com/\",\"state\":" + state + "}";
+    }
+}
@@ -0,0 +1,232 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.history.ValidationHistoryService;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증서 검증 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CertificateValidationService 테스트")
+class CertificateValidationServiceTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private SignatureValidator signatureValidator;
+
+    @Mock
+    private ValidityPeriodValidator validityPeriodValidator;
+
+    @Mock
+    private ChainValidator chainValidator;
+
+    @Mock
+    private RevocationValidator revocationValidator;
+
+    @Mock
+    private DomainValidator domainValidator;
+
+    @Mock
+    private KeyUsageValidator keyUsageValidator;
+
+    @Mock
+    private CertificateTransparencyValidator transparencyValidator;
+
+    @Spy
+    private ValidationProperties properties;
+
+    @Mock
+    private ValidationResultCache resultCache;
+
+    @Mock
+    private ValidationHistoryService historyService;
+
+    @Spy
+    private CertificateCodec certificateCodec = new CertificateCodec(100);
+
+    @InjectMocks
+    private CertificateValidationService validationService;
+
+    private String certificatePem;
+    private String chainPem;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPair caKeyPair = TestCertificates.keyPair();
+        X509Certificate ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        certificatePem = TestCertificates.toPem(TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair));
+        chainPem = TestCertificates.toPem(ca);
+
+        ValidationCheckResult ok = ValidationCheckResult.success("ok");
+        for (CertificateValidator validator : new CertificateValidator[]{signatureValidator, validityPeriodValidator,
+                chainValidator, revocationValidator, domainValidator, keyUsageValidator, transparencyValidator}) {
+            when(validator.validate(any(), any())).thenReturn(ok);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        validationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("검증 항목은 동시에 실행된다")
+    void runsChecksConcurrently() {
+        // 체인 검증이 끝나야 서명 검증이 끝나므로 순차 실행이면 제한 시간을 넘김
+        CountDownLatch chainStarted = new CountDownLatch(1);
+        when(signatureValidator.validate(any(), any())).thenAnswer(invocation -> {
+            assertThat(chainStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return ValidationCheckResult.success("ok");
+        });
+        when(chainValidator.validate(any(), any())).thenAnswer(invocation -> {
+            chainStarted.countDown();
+            return ValidationCheckResult.success("ok");
+        });
+
+        CertificateValidationResult result = validationService.validateCertificatePem(certificatePem, chainPem);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("항목 제한 시간을 넘기면 작업을 중단하고 시간 초과 결과를 반환한다")
+    void timesOutSlowCheck() {
+        properties.getTimeout().getChecks().put("revocation", 200L);
+        when(revocationValidator.validate(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return ValidationCheckResult.success("late");
+        });
+
+        long start = System.nanoTime();
+        CertificateValidationResult result = validationService.validateCertificatePem(certificatePem, chainPem);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMs).isLessThan(5_000);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getRevocationCheck().getErrorCode()).isEqualTo("CHECK_TIMED_OUT");
+        assertThat(result.getSignatureCheck().isValid()).isTrue();
+        assertThat(result.getErrors()).anyMatch(error -> error.startsWith("Revocation: Check timed out"));
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간은 항목 제한 시간보다 우선한다")
+    void totalDeadlineCapsAllChecks() {
+        properties.getTimeout().setTotal(200);
+        when(domainValidator.validate(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return ValidationCheckResult.success("late");
+        });
+
+        CertificateValidationResult result = validationService.validateCertificatePem(certificatePem, chainPem);
+
+        assertThat(result.getDomainCheck().getErrorCode()).isEqualTo("CHECK_TIMED_OUT");
+        assertThat(result.getKeyUsageCheck().isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 리프 + 체인의 캐시된 결과가 있으면 검증을 실행하지 않는다")
+    void returnsCachedResult() {
+        CertificateValidationResult cached = CertificateValidationResult.builder().valid(true).build();
+        when(resultCache.get(anyString())).thenReturn(cached);
+
+        CertificateValidationResult result = validationService.validateCertificatePem(certificatePem, chainPem);
+
+        assertThat(result).isSameAs(cached);
+        verify(signatureValidator, never()).validate(any(), any());
+        verify(resultCache, never()).put(anyString(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("검증 결과는 리프 + 체인 지문으로 캐시에 저장한다")
+    void storesResultByFingerprint() {
+        CertificateValidationResult result = validationService.validateCertificatePem(certificatePem, chainPem);
+
+        verify(resultCache).put(anyString(), argThat(chain -> chain.size() == 2), eq(result));
+    }
+
+    @Test
+    @DisplayName("검증 항목 예외는 해당 항목의 실패 결과로 바뀐다")
+    void convertsValidatorException() {
+        when(keyUsageValidator.validate(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        CertificateValidationResult result = validationService.validateCertificatePem(certificatePem, chainPem);
+
+        assertThat(result.getKeyUsageCheck().getErrorCode()).isEqualTo("VALIDATION_ERROR");
+        assertThat(result.getKeyUsageCheck().getMessage()).contains("boom");
+        assertThat(result.getChainCheck().isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 인증서는 저장된 체인과 함께 검증하고 지문과 함께 이력을 기록한다")
+    void recordsStoredCertificateValidation() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusDays(1);
+        when(certificateRepository.findById(1L)).thenReturn(Optional.of(Certificate.builder()
+                .id(1L)
+                .certificatePem(certificatePem)
+                .chainPem(chainPem)
+                .updatedAt(updatedAt)
+                .build()));
+
+        CertificateValidationResult result = validationService.validateCertificate(1L);
+
+        assertThat(result.getFingerprint()).hasSize(64);
+        assertThat(result.getExpiresAt()).isNotNull();
+        verify(resultCache).put(anyString(), argThat(chain -> chain.size() == 2), eq(result));
+        verify(historyService).record(1L, updatedAt, result);
+    }
+
+    @Test
+    @DisplayName("이력 기록에 실패해도 검증 결과를 반환한다")
+    void returnsResultWhenRecordFails() {
+        when(certificateRepository.findById(1L)).thenReturn(Optional.of(Certificate.builder()
+                .id(1L)
+                .certificatePem(certificatePem)
+                .chainPem(chainPem)
+                .build()));
+        when(historyService.record(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("uk_certificate_validations_latest"));
+
+        CertificateValidationResult result = validationService.validateCertificate(1L);
+
+        assertThat(result.isValid()).isTrue();
+    }
+}
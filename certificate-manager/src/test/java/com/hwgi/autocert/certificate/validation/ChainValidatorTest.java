@@ -0,0 +1,185 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.validation.trust.CaIssuersClient;
+import com.hwgi.autocert.certificate.validation.trust.IntermediateCertificateStore;
+import com.hwgi.autocert.certificate.validation.trust.TrustAnchorStore;
+import com.hwgi.autocert.domain.repository.IntermediateCertificateRepository;
+import com.sun.net.httpserver.HttpServer;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인증서 체인 검증 테스트 (임시 신뢰 저장소 사용)
+ */
+@DisplayName("ChainValidator 테스트")
+class ChainValidatorTest {
+
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path tempDir;
+
+    private Path trustStorePath;
+    private TrustAnchorStore trustAnchorStore;
+    private ChainValidator chainValidator;
+
+    private KeyPair trustedKeyPair;
+    private X509Certificate trustedCa;
+    private KeyPair otherKeyPair;
+    private X509Certificate otherCa;
+
+    private HttpServer caIssuers;
+    private KeyPair intermediateKeyPair;
+    private X509Certificate intermediate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        trustedKeyPair = TestCertificates.keyPair();
+        trustedCa = TestCertificates.selfSignedCa("Trusted CA", trustedKeyPair);
+        otherKeyPair = TestCertificates.keyPair();
+        otherCa = TestCertificates.selfSignedCa("Other CA", otherKeyPair);
+
+        intermediateKeyPair = TestCertificates.keyPair();
+        intermediate = TestCertificates.intermediateCa("Trusted Intermediate", intermediateKeyPair,
+                trustedCa, trustedKeyPair);
+        caIssuers = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        caIssuers.createContext("/intermediate.der", exchange -> {
+            try {
+                byte[] body = intermediate.getEncoded();
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+        caIssuers.start();
+
+        trustStorePath = tempDir.resolve("truststore.p12");
+        writeTrustStore(trustedCa);
+
+        ValidationProperties properties = new ValidationProperties();
+        properties.getTrustStore().setPath(trustStorePath.toString());
+        properties.getTrustStore().setPassword(PASSWORD);
+        properties.getAia().setAllowedHosts(List.of("127.0.0.1"));
+        trustAnchorStore = new TrustAnchorStore(properties);
+        IntermediateCertificateStore intermediateStore = new IntermediateCertificateStore(
+                mock(IntermediateCertificateRepository.class), trustAnchorStore, new CaIssuersClient(properties),
+                new CertificateCodec(100), properties);
+        chainValidator = new ChainValidator(trustAnchorStore, intermediateStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        caIssuers.stop(0);
+    }
+
+    @Test
+    @DisplayName("신뢰 앵커까지 이어지는 체인은 유효하다")
+    void validatesChainToTrustAnchor() throws Exception {
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), trustedCa, trustedKeyPair);
+
+        assertThat(chainValidator.validate(leaf, List.of(leaf, trustedCa)).isValid()).isTrue();
+        assertThat(chainValidator.validate(leaf, List.of(leaf)).isValid()).isTrue();
+        assertThat(trustAnchorStore.findIssuers(leaf))
+                .extracting(anchor -> anchor.getTrustedCert())
+                .containsExactly(trustedCa);
+    }
+
+    @Test
+    @DisplayName("신뢰 저장소에 없는 CA의 체인은 INVALID_CHAIN으로 실패한다")
+    void rejectsUntrustedChain() throws Exception {
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), otherCa, otherKeyPair);
+
+        ValidationCheckResult result = chainValidator.validate(leaf, List.of(leaf, otherCa));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo("INVALID_CHAIN");
+    }
+
+    @Test
+    @DisplayName("발급자 이름이 같아도 서명이 다르면 체인 검증에 실패한다")
+    void rejectsForgedIssuer() throws Exception {
+        KeyPair forgedKeyPair = TestCertificates.keyPair();
+        X509Certificate forgedCa = TestCertificates.selfSignedCa("Trusted CA", forgedKeyPair);
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), forgedCa, forgedKeyPair);
+
+        assertThat(chainValidator.validate(leaf, List.of(leaf)).isValid()).isFalse();
+        assertThat(chainValidator.validate(leaf, null).getErrorCode()).isEqualTo("SINGLE_CERT_VALIDATION_ERROR");
+    }
+
+    @Test
+    @DisplayName("신뢰 저장소 파일이 바뀌면 다시 로드한다")
+    void reloadsWhenTrustStoreChanges() throws Exception {
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), otherCa, otherKeyPair);
+        assertThat(chainValidator.validate(leaf, List.of(leaf, otherCa)).isValid()).isFalse();
+
+        trustAnchorStore.checkForChanges();
+        assertThat(trustAnchorStore.size()).isEqualTo(1);
+
+        writeTrustStore(trustedCa, otherCa);
+        Files.setLastModifiedTime(trustStorePath, FileTime.from(Instant.now().plusSeconds(60)));
+        trustAnchorStore.checkForChanges();
+
+        assertThat(trustAnchorStore.size()).isEqualTo(2);
+        assertThat(chainValidator.validate(leaf, List.of(leaf, otherCa)).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("체인 없이 검증하면 신뢰 저장소에서 발급자를 찾아 서명을 확인한다")
+    void validatesSingleCertificateAgainstIndex() throws Exception {
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), trustedCa, trustedKeyPair);
+
+        ValidationCheckResult result = chainValidator.validate(leaf, null);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getMessage()).contains("CN=Trusted CA");
+    }
+
+    @Test
+    @DisplayName("리프만 제공되면 AIA caIssuers에서 중간 인증서를 가져와 신뢰 앵커까지 검증한다")
+    void completesLeafOnlyChainViaCaIssuers() throws Exception {
+        String url = "http://127.0.0.1:" + caIssuers.getAddress().getPort() + "/intermediate.der";
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(),
+                intermediate, intermediateKeyPair, null, null, url);
+
+        ValidationCheckResult result = chainValidator.validate(leaf, List.of(leaf));
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getMessage()).contains("2 certificates");
+        assertThat(result.getDetails()).contains("CompletedIntermediates: 1");
+    }
+
+    private void writeTrustStore(X509Certificate... certificates) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        for (int i = 0; i < certificates.length; i++) {
+            keyStore.setCertificateEntry("ca-" + i, certificates[i]);
+        }
+        try (OutputStream out = Files.newOutputStream(trustStorePath)) {
+            keyStore.store(out, PASSWORD.toCharArray());
+        }
+    }
+}
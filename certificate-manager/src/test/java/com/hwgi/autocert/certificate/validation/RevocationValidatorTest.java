@@ -0,0 +1,86 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.certificate.validation.revocation.CrlCache;
+import com.hwgi.autocert.certificate.validation.revocation.OcspClient;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증서 폐기 검증 테스트 (OCSP/CRL 모두 확인하지 못한 경우)
+ */
+@DisplayName("RevocationValidator 테스트")
+class RevocationValidatorTest {
+
+    private OcspClient ocspClient;
+    private CrlCache crlCache;
+    private RevocationValidator validator;
+
+    private X509Certificate ca;
+    private KeyPair caKeyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+
+        ocspClient = mock(OcspClient.class);
+        crlCache = mock(CrlCache.class);
+        validator = new RevocationValidator(ocspClient, crlCache, new ValidationProperties());
+    }
+
+    @Test
+    @DisplayName("OCSP 응답자와 CRL 배포 지점이 있는데 둘 다 실패하면 일시 오류(REVOCATION_UNAVAILABLE)로 처리한다")
+    void bothChecksFailed_Unavailable() throws Exception {
+        // Given
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair,
+                "http://ocsp.example.com", "http://crl.example.com/ca.crl");
+        when(ocspClient.check(any(), any())).thenThrow(new IOException("connect timed out"));
+        when(crlCache.check(any(), any())).thenThrow(new IOException("connect timed out"));
+
+        // When
+        ValidationCheckResult result = validator.validate(leaf, List.of(leaf, ca));
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo("REVOCATION_UNAVAILABLE");
+        assertThat(ValidationResultCache.isTransient(CertificateValidationResult.builder()
+                .signatureCheck(ValidationCheckResult.success("ok"))
+                .validityCheck(ValidationCheckResult.success("ok"))
+                .chainCheck(ValidationCheckResult.success("ok"))
+                .revocationCheck(result)
+                .domainCheck(ValidationCheckResult.success("ok"))
+                .keyUsageCheck(ValidationCheckResult.success("ok"))
+                .transparencyCheck(ValidationCheckResult.success("ok"))
+                .build())).isTrue();
+    }
+
+    @Test
+    @DisplayName("OCSP 응답자와 CRL 배포 지점이 모두 없으면 확인하지 않고 통과한다")
+    void noEndpoints_Skipped() throws Exception {
+        // Given
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair,
+                null, null);
+
+        // When
+        ValidationCheckResult result = validator.validate(leaf, List.of(leaf, ca));
+
+        // Then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getErrorCode()).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package com.hwgi.autocert.certificate.validation;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 결과 캐시 테스트
+ */
+@DisplayName("ValidationResultCache 테스트")
+class ValidationResultCacheTest {
+
+    private ValidationProperties properties;
+    private ValidationResultCache cache;
+
+    private KeyPair caKeyPair;
+    private X509Certificate ca;
+    private List<X509Certificate> chain;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new ValidationProperties();
+        cache = new ValidationResultCache(properties);
+
+        caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        chain = List.of(TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair), ca);
+    }
+
+    @Test
+    @DisplayName("결과는 만료 경고 시작 시점과 OCSP/CRL nextUpdate 중 이른 시각까지 유효하다")
+    void expiresAtEarliestVerdictChange() {
+        Instant now = Instant.now();
+        Duration maxTtl = Duration.ofDays(365);
+        Instant warningStart = chain.get(0).getNotAfter().toInstant()
+                .minus(Duration.ofDays(ValidityPeriodValidator.WARNING_DAYS + 1));
+
+        assertThat(ValidationResultCache.expiresAt(chain, result(null), now, maxTtl)).isEqualTo(warningStart);
+
+        Instant nextUpdate = now.plus(Duration.ofHours(2));
+        assertThat(ValidationResultCache.expiresAt(chain, result(nextUpdate), now, maxTtl)).isEqualTo(nextUpdate);
+
+        assertThat(ValidationResultCache.expiresAt(chain, result(nextUpdate), now, Duration.ofMinutes(5)))
+                .isEqualTo(now.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("같은 지문은 캐시된 결과를 반환하고 체인이 다르면 다른 지문이 된다")
+    void cachesByFingerprint() throws Exception {
+        CertificateValidationResult result = result(null);
+        String fingerprint = ValidationResultCache.fingerprint(chain);
+
+        cache.put(fingerprint, chain, result);
+
+        assertThat(cache.get(fingerprint)).isSameAs(result);
+        assertThat(ValidationResultCache.fingerprint(List.of(chain.get(0)))).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("시간 초과가 포함되거나 nextUpdate가 지난 결과는 캐시하지 않는다")
+    void skipsTransientResults() throws Exception {
+        String fingerprint = ValidationResultCache.fingerprint(chain);
+
+        CertificateValidationResult timedOut = CertificateValidationResult.builder()
+                .signatureCheck(ok(null))
+                .validityCheck(ok(null))
+                .chainCheck(ok(null))
+                .revocationCheck(ValidationCheckResult.failure("Check timed out after 20000ms", "CHECK_TIMED_OUT"))
+                .domainCheck(ok(null))
+                .keyUsageCheck(ok(null))
+                .transparencyCheck(ok(null))
+                .build();
+        cache.put(fingerprint, chain, timedOut);
+        cache.put(fingerprint, chain, result(Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get(fingerprint)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 먼저 만료될 항목을 제거한다")
+    void evictsSoonestExpiringEntry() {
+        properties.getResultCache().setMaxEntries(2);
+        Instant now = Instant.now();
+
+        cache.put("a", chain, result(now.plus(Duration.ofMinutes(30))));
+        cache.put("b", chain, result(now.plus(Duration.ofMinutes(10))));
+        cache.put("c", chain, result(now.plus(Duration.ofMinutes(20))));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    private static CertificateValidationResult result(Instant revocationNextUpdate) {
+        return CertificateValidationResult.builder()
+                .valid(true)
+                .signatureCheck(ok(null))
+                .validityCheck(ok(null))
+                .chainCheck(ok(null))
+                .revocationCheck(ok(revocationNextUpdate))
+                .domainCheck(ok(null))
+                .keyUsageCheck(ok(null))
+                .transparencyCheck(ok(null))
+                .build();
+    }
+
+    private static ValidationCheckResult ok(Instant expiresAt) {
+        return ValidationCheckResult.builder().valid(true).message("ok").expiresAt(expiresAt).build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.hwgi.autocert.certificate.validation.history;
+
+import com.hwgi.autocert.certificate.validation.CertificateValidationService;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.repository.CertificateValidationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증서 증분 재검증 작업 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CertificateRevalidationJob 테스트")
+class CertificateRevalidationJobTest {
+
+    @Mock
+    private CertificateValidationRepository validationRepository;
+
+    @Mock
+    private CertificateValidationService validationService;
+
+    @Mock
+    private ValidationHistoryService historyService;
+
+    @Test
+    @DisplayName("재검증 대상만 ID 키셋으로 조회하여 검증하고, 실패한 인증서가 있어도 다음 대상으로 진행한다")
+    void revalidatesDueCertificatesByKeyset() throws Exception {
+        ValidationProperties properties = new ValidationProperties();
+        properties.getRevalidation().setBatchSize(2);
+        CertificateRevalidationJob job = new CertificateRevalidationJob(validationRepository, validationService,
+                historyService, properties);
+        LocalDateTime now = LocalDateTime.now();
+
+        when(validationRepository.findCertificateIdsDueForValidation(eq(now), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(validationRepository.findCertificateIdsDueForValidation(eq(now), eq(2L), any())).thenReturn(List.of(5L));
+        when(validationRepository.findCertificateIdsDueForValidation(eq(now), eq(5L), any())).thenReturn(List.of());
+        when(validationService.validateCertificate(2L)).thenThrow(new IllegalArgumentException("Certificate not found: 2"));
+
+        int count = job.revalidateDue(now);
+
+        assertThat(count).isEqualTo(2);
+        verify(validationService).validateCertificate(1L);
+        verify(validationService).validateCertificate(5L);
+        verify(validationService, never()).validateCertificate(3L);
+    }
+}
@@ -0,0 +1,160 @@
+package com.hwgi.autocert.certificate.validation.history;
+
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.CertificateValidation;
+import com.hwgi.autocert.domain.model.CertificateValidationCheck;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.model.ValidationCheckResult;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.CertificateValidationCheckRepository;
+import com.hwgi.autocert.domain.repository.CertificateValidationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인증서 검증 이력 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ValidationHistoryService 테스트")
+class ValidationHistoryServiceTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private CertificateValidationRepository validationRepository;
+
+    @Mock
+    private CertificateValidationCheckRepository checkRepository;
+
+    private ValidationProperties properties;
+    private ValidationHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ValidationProperties();
+        historyService = new ValidationHistoryService(certificateRepository, validationRepository,
+                checkRepository, properties);
+
+        when(certificateRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(Certificate.builder().id(1L).build()));
+        when(validationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("직전 실행 대비 통과 여부가 바뀐 항목만 changed로 기록한다")
+    void marksChangedChecks() {
+        CertificateValidation previous = CertificateValidation.builder().id(10L).build();
+        when(validationRepository.findFirstByCertificateIdAndLatestTrue(1L)).thenReturn(Optional.of(previous));
+        when(checkRepository.findByValidationIdIn(List.of(10L))).thenReturn(List.of(
+                check("chain", true), check("validity", true), check("revocation", false)));
+
+        CertificateValidationResult result = result(ValidationCheckResult.failure("untrusted", "INVALID_CHAIN"),
+                Instant.now().plus(Duration.ofDays(3)));
+        CertificateValidation validation = historyService.record(1L, LocalDateTime.now(), result);
+
+        Map<String, CertificateValidationCheck> checks = savedChecks();
+        assertThat(checks.get("chain").getChanged()).isTrue();
+        assertThat(checks.get("chain").getErrorCode()).isEqualTo("INVALID_CHAIN");
+        assertThat(checks.get("validity").getChanged()).isFalse();
+        assertThat(checks.get("revocation").getChanged()).isTrue();
+        assertThat(checks.get("signature").getChanged()).isFalse();
+        assertThat(validation.getLatest()).isTrue();
+        assertThat(validation.getValid()).isFalse();
+        verify(validationRepository).clearLatest(1L);
+    }
+
+    @Test
+    @DisplayName("직전 실행 조회와 최근 표시 해제 전에 인증서 행을 잠가 동시 기록을 직렬화한다")
+    void locksCertificateBeforeReplacingLatest() {
+        when(validationRepository.findFirstByCertificateIdAndLatestTrue(1L)).thenReturn(Optional.empty());
+
+        historyService.record(1L, null, result(ValidationCheckResult.success("ok"), null));
+
+        InOrder inOrder = inOrder(certificateRepository, validationRepository);
+        inOrder.verify(certificateRepository).findByIdForUpdate(1L);
+        inOrder.verify(validationRepository).findFirstByCertificateIdAndLatestTrue(1L);
+        inOrder.verify(validationRepository).clearLatest(1L);
+        inOrder.verify(validationRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("재검증 예정 시각은 판정 변경 시각과 최대 간격 중 이른 시각이고, 일시적 실패는 재시도 간격 후다")
+    void schedulesNextValidation() {
+        when(validationRepository.findFirstByCertificateIdAndLatestTrue(1L)).thenReturn(Optional.empty());
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(2));
+
+        CertificateValidation soon = historyService.record(1L, null,
+                result(ValidationCheckResult.success("ok"), expiresAt));
+        assertThat(soon.getNextValidationAt()).isEqualTo(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+
+        CertificateValidation capped = historyService.record(1L, null,
+                result(ValidationCheckResult.success("ok"), Instant.now().plus(Duration.ofDays(30))));
+        assertThat(capped.getNextValidationAt()).isBefore(LocalDateTime.now().plusDays(1).plusMinutes(1));
+
+        CertificateValidation retry = historyService.record(1L, null,
+                result(ValidationCheckResult.failure("Check timed out", "CHECK_TIMED_OUT"), null));
+        assertThat(retry.getNextValidationAt())
+                .isBetween(LocalDateTime.now().plusMinutes(14), LocalDateTime.now().plusMinutes(16));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 검증 항목으로 조회하면 예외가 발생한다")
+    void rejectsUnknownCheck() {
+        assertThatThrownBy(() -> historyService.findNewlyFailing("ocsp", LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CertificateValidationCheck> savedChecks() {
+        ArgumentCaptor<List<CertificateValidationCheck>> captor = ArgumentCaptor.forClass(List.class);
+        verify(checkRepository).saveAll(captor.capture());
+        return captor.getValue().stream().collect(Collectors.toMap(CertificateValidationCheck::getName, c -> c));
+    }
+
+    private static CertificateValidationCheck check(String name, boolean valid) {
+        return CertificateValidationCheck.builder().name(name).valid(valid).changed(false).build();
+    }
+
+    private static CertificateValidationResult result(ValidationCheckResult chainCheck, Instant expiresAt) {
+        ValidationCheckResult ok = ValidationCheckResult.success("ok");
+        return CertificateValidationResult.builder()
+                .valid(chainCheck.isValid())
+                .fingerprint("ab".repeat(32))
+                .expiresAt(expiresAt)
+                .signatureCheck(ok)
+                .validityCheck(ok)
+                .chainCheck(chainCheck)
+                .revocationCheck(ok)
+                .domainCheck(ok)
+                .keyUsageCheck(ok)
+                .transparencyCheck(ok)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CRL 캐시 테스트 (로컬 HTTP 서버를 CRL 배포 지점으로 사용)
+ */
+@DisplayName("CrlCache 테스트")
+class CrlCacheTest {
+
+    private static final String ETAG = "\"crl-v1\"";
+
+    private HttpServer distributionPoint;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    private KeyPair caKeyPair;
+    private X509Certificate ca;
+    private X509Certificate revokedLeaf;
+    private X509Certificate goodLeaf;
+
+    private ValidationProperties properties;
+    private CrlCache crlCache;
+
+    /**
+     * 배포 지점이 서명에 사용할 키
+     */
+    private volatile KeyPair signerKeyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        distributionPoint = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        distributionPoint.createContext("/ca.crl", exchange -> {
+            try {
+                if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                downloads.incrementAndGet();
+                byte[] body = crl();
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+                throw new IOException(e);
+            } finally {
+                exchange.close();
+            }
+        });
+        distributionPoint.start();
+
+        caKeyPair = TestCertificates.keyPair();
+        signerKeyPair = caKeyPair;
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        String url = "http://127.0.0.1:" + distributionPoint.getAddress().getPort() + "/ca.crl";
+        revokedLeaf = TestCertificates.leaf("revoked.example.com", TestCertificates.keyPair(), ca, caKeyPair, null, url);
+        goodLeaf = TestCertificates.leaf("good.example.com", TestCertificates.keyPair(), ca, caKeyPair, null, url);
+
+        properties = new ValidationProperties();
+        crlCache = new CrlCache(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        distributionPoint.stop(0);
+    }
+
+    @Test
+    @DisplayName("CRL은 배포 지점별로 한 번만 내려받고 색인으로 폐기 여부를 판단한다")
+    void downloadsOncePerDistributionPoint() throws Exception {
+        CrlResult revoked = crlCache.check(revokedLeaf, ca);
+        CrlResult good = crlCache.check(goodLeaf, ca);
+
+        assertThat(revoked.isRevoked()).isTrue();
+        assertThat(revoked.getRevocationTime()).isNotNull();
+        assertThat(revoked.getRevokedCount()).isEqualTo(2);
+        assertThat(good.isRevoked()).isFalse();
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(crlCache.getCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("nextUpdate가 가까운 사용 중인 CRL은 조건부 요청으로 백그라운드 갱신한다")
+    void refreshesConditionallyAheadOfNextUpdate() throws Exception {
+        properties.getCrl().setRefreshAhead(Duration.ofDays(2).toMillis());
+        crlCache.check(revokedLeaf, ca);
+        crlCache.check(goodLeaf, ca);
+
+        crlCache.refreshExpiring();
+
+        assertThat(notModified.get()).isEqualTo(1);
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(crlCache.check(revokedLeaf, ca).isRevoked()).isTrue();
+
+        // 갱신 이후 사용되지 않았으면 다시 갱신하지 않음
+        crlCache.clearCache();
+        crlCache.check(goodLeaf, ca);
+        crlCache.refreshExpiring();
+        crlCache.refreshExpiring();
+        assertThat(notModified.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발급자가 서명하지 않은 CRL은 거부한다")
+    void rejectsCrlWithInvalidSignature() throws Exception {
+        signerKeyPair = TestCertificates.keyPair();
+
+        assertThatThrownBy(() -> crlCache.check(revokedLeaf, ca))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("signature");
+        assertThat(crlCache.getCacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("CRL 배포 지점이 없으면 null을 반환한다")
+    void returnsNullWithoutDistributionPoint() throws Exception {
+        X509Certificate withoutCdp = TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair);
+
+        assertThat(crlCache.check(withoutCdp, ca)).isNull();
+        assertThat(downloads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("일련번호 색인은 63비트를 넘는 일련번호와 중복 항목을 처리한다")
+    void indexesLargeSerialNumbers() {
+        BigInteger large = new BigInteger("7f3a9c1e5b2d4f6a8c0e1b3d5f7a9c2e4b6d8f0a", 16);
+        RevokedSerialIndex index = new RevokedSerialIndex.Builder()
+                .add(large, 3000L)
+                .add(BigInteger.valueOf(5), 1000L)
+                .add(BigInteger.valueOf(5), 1000L)
+                .add(BigInteger.ONE.shiftLeft(64), 2000L)
+                .build();
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.getRevocationTime(large)).isEqualTo(3000L);
+        assertThat(index.getRevocationTime(BigInteger.valueOf(5))).isEqualTo(1000L);
+        assertThat(index.contains(BigInteger.ONE.shiftLeft(64))).isTrue();
+        assertThat(index.contains(large.add(BigInteger.ONE))).isFalse();
+        assertThat(index.contains(BigInteger.ONE.shiftLeft(200))).isFalse();
+
+        RevokedSerialIndex small = new RevokedSerialIndex.Builder()
+                .add(BigInteger.valueOf(42), 1L)
+                .add(BigInteger.valueOf(7), 2L)
+                .build();
+        assertThat(small.getRevocationTime(BigInteger.valueOf(7))).isEqualTo(2L);
+        assertThat(small.contains(large)).isFalse();
+        assertThat(RevokedSerialIndex.empty().contains(BigInteger.ONE)).isFalse();
+    }
+
+    private byte[] crl() throws Exception {
+        Date now = new Date();
+        X509v2CRLBuilder builder = new X509v2CRLBuilder(
+                X500Name.getInstance(ca.getSubjectX500Principal().getEncoded()), now);
+        builder.setNextUpdate(Date.from(Instant.now().plus(Duration.ofDays(1))));
+        builder.addCRLEntry(revokedLeaf.getSerialNumber(), now, CRLReason.keyCompromise);
+        builder.addCRLEntry(BigInteger.valueOf(12345), now, CRLReason.superseded);
+        return builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(signerKeyPair.getPrivate()))
+                .getEncoded();
+    }
+}
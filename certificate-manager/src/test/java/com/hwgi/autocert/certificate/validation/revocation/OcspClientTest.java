@@ -0,0 +1,213 @@
+package com.hwgi.autocert.certificate.validation.revocation;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.ExtendedKeyUsage;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OCSP 클라이언트 테스트 (로컬 HTTP 서버를 OCSP 응답자로 사용)
+ */
+@DisplayName("OcspClient 테스트")
+class OcspClientTest {
+
+    private HttpServer responder;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private KeyPair caKeyPair;
+    private X509Certificate ca;
+    private X509Certificate leaf;
+
+    private ValidationProperties properties;
+    private OcspClient ocspClient;
+
+    /**
+     * 응답자 동작 설정
+     */
+    private volatile CertificateStatus status;
+    private volatile Duration nextUpdateIn;
+    private volatile KeyPair signerKeyPair;
+    private volatile String signatureAlgorithm;
+    private volatile X509CertificateHolder[] responderCertificates;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        responder = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        responder.createContext("/ocsp", exchange -> {
+            requests.incrementAndGet();
+            try {
+                OCSPReq request = new OCSPReq(exchange.getRequestBody().readAllBytes());
+                byte[] body = respond(request);
+                exchange.getResponseHeaders().add("Content-Type", "application/ocsp-response");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+                throw new IOException(e);
+            } finally {
+                exchange.close();
+            }
+        });
+        responder.start();
+
+        caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair,
+                "http://127.0.0.1:" + responder.getAddress().getPort() + "/ocsp", null);
+
+        status = CertificateStatus.GOOD;
+        nextUpdateIn = Duration.ofHours(1);
+        signerKeyPair = caKeyPair;
+        signatureAlgorithm = "SHA256withECDSA";
+        responderCertificates = new X509CertificateHolder[0];
+
+        properties = new ValidationProperties();
+        ocspClient = new OcspClient(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        responder.stop(0);
+    }
+
+    @Test
+    @DisplayName("GOOD 응답은 nextUpdate까지 캐시되어 응답자를 다시 호출하지 않는다")
+    void cachesGoodResponseUntilNextUpdate() throws Exception {
+        OcspResult first = ocspClient.check(leaf, ca);
+        OcspResult second = ocspClient.check(leaf, ca);
+
+        assertThat(first.getStatus()).isEqualTo(OcspResult.Status.GOOD);
+        assertThat(first.getNextUpdate()).isAfter(Instant.now());
+        assertThat(second).isSameAs(first);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(ocspClient.getCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("REVOKED 응답은 폐기 시각과 사유를 반환한다")
+    void returnsRevocation() throws Exception {
+        status = new RevokedStatus(new Date(), CRLReason.keyCompromise);
+
+        OcspResult result = ocspClient.check(leaf, ca);
+
+        assertThat(result.getStatus()).isEqualTo(OcspResult.Status.REVOKED);
+        assertThat(result.getRevocationTime()).isNotNull();
+        assertThat(result.getRevocationReason()).isEqualTo(CRLReason.keyCompromise);
+    }
+
+    @Test
+    @DisplayName("nextUpdate가 없으면 기본 TTL만큼 캐시하고 TTL이 0이면 매번 조회한다")
+    void usesDefaultTtlWithoutNextUpdate() throws Exception {
+        nextUpdateIn = null;
+        properties.getOcsp().setDefaultTtl(0);
+
+        ocspClient.check(leaf, ca);
+        ocspClient.check(leaf, ca);
+
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(ocspClient.getCacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("발급자가 서명하지 않은 응답은 거부한다")
+    void rejectsResponseWithInvalidSignature() throws Exception {
+        signerKeyPair = TestCertificates.keyPair();
+
+        assertThatThrownBy(() -> ocspClient.check(leaf, ca))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("signature");
+        assertThat(ocspClient.getCacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("발급자와 키 유형이 다른 위임 응답자(RSA 응답자, ECDSA 발급자)의 응답을 위임 인증서로 검증한다")
+    void acceptsDelegatedResponderWithDifferentKeyType() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair rsaKeyPair = generator.generateKeyPair();
+        signerKeyPair = rsaKeyPair;
+        signatureAlgorithm = "SHA256withRSA";
+        responderCertificates = new X509CertificateHolder[]{new JcaX509CertificateHolder(responderCertificate(rsaKeyPair))};
+
+        OcspResult result = ocspClient.check(leaf, ca);
+
+        assertThat(result.getStatus()).isEqualTo(OcspResult.Status.GOOD);
+    }
+
+    @Test
+    @DisplayName("AIA에 OCSP 응답자가 없으면 null을 반환한다")
+    void returnsNullWithoutResponder() throws Exception {
+        X509Certificate withoutAia = TestCertificates.leaf("example.com", TestCertificates.keyPair(), ca, caKeyPair);
+
+        assertThat(ocspClient.check(withoutAia, ca)).isNull();
+        assertThat(requests.get()).isZero();
+    }
+
+    private byte[] respond(OCSPReq request) throws Exception {
+        BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(
+                new RespID(X500Name.getInstance(ca.getSubjectX500Principal().getEncoded())));
+        Date thisUpdate = Date.from(Instant.now().minusSeconds(60));
+        Date nextUpdate = nextUpdateIn != null ? Date.from(Instant.now().plus(nextUpdateIn)) : null;
+        for (Req req : request.getRequestList()) {
+            builder.addResponse(req.getCertID(), status, thisUpdate, nextUpdate);
+        }
+        BasicOCSPResp basic = builder.build(
+                new JcaContentSignerBuilder(signatureAlgorithm).build(signerKeyPair.getPrivate()),
+                responderCertificates, new Date());
+        return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basic).getEncoded();
+    }
+
+    /**
+     * CA가 서명한 OCSPSigning 위임 응답자 인증서
+     */
+    private X509Certificate responderCertificate(KeyPair keyPair) throws Exception {
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+                ca,
+                BigInteger.valueOf(System.nanoTime()),
+                Date.from(Instant.now().minus(Duration.ofDays(1))),
+                Date.from(Instant.now().plus(Duration.ofDays(30))),
+                new X500Name("CN=Test OCSP Responder"),
+                keyPair.getPublic());
+        builder.addExtension(Extension.extendedKeyUsage, false, new ExtendedKeyUsage(KeyPurposeId.id_kp_OCSPSigning));
+        return new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(caKeyPair.getPrivate())));
+    }
+}
@@ -0,0 +1,199 @@
+package com.hwgi.autocert.certificate.validation.scan;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.distribution.config.DistributionProperties;
+import com.hwgi.autocert.certificate.distribution.probe.TlsProbe;
+import com.hwgi.autocert.certificate.validation.CertificateValidationService;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.Certificate;
+import com.hwgi.autocert.domain.model.CertificateValidationResult;
+import com.hwgi.autocert.domain.repository.CertificateRepository;
+import com.hwgi.autocert.domain.repository.ServerCertificateView;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import java.net.ServerSocket;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TLS 엔드포인트 스캐너 테스트 (로컬 TLS 서버 사용)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TlsEndpointScanner 테스트")
+class TlsEndpointScannerTest {
+
+    @Mock
+    private ServerRepository serverRepository;
+
+    @Mock
+    private CertificateRepository certificateRepository;
+
+    @Mock
+    private CertificateValidationService validationService;
+
+    private ValidationProperties properties;
+    private DistributionProperties distributionProperties;
+    private TlsEndpointScanner scanner;
+
+    private SSLServerSocket serverSocket;
+    private X509Certificate leaf;
+    private X509Certificate ca;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new ValidationProperties();
+        properties.getScan().setTimeout(2000);
+        properties.getScan().setConcurrency(16);
+        distributionProperties = new DistributionProperties();
+        CertificateCodec certificateCodec = new CertificateCodec(100);
+        scanner = new TlsEndpointScanner(serverRepository, certificateRepository, validationService,
+                certificateCodec, new TlsProbe(distributionProperties, certificateCodec), properties);
+
+        KeyPair caKeyPair = TestCertificates.keyPair();
+        ca = TestCertificates.selfSignedCa("Test CA", caKeyPair);
+        KeyPair leafKeyPair = TestCertificates.keyPair();
+        leaf = TestCertificates.leaf("example.com", leafKeyPair, ca, caKeyPair);
+        serverSocket = startTlsServer(leafKeyPair, leaf, ca);
+
+        when(validationService.validateChain(anyList()))
+                .thenReturn(CertificateValidationResult.builder().valid(true).build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        serverSocket.close();
+    }
+
+    @Test
+    @DisplayName("제공된 체인 전체를 검증하고 저장된 인증서와 같으면 MATCH")
+    void matchesStoredCertificate() throws Exception {
+        TlsScanResult result = scanner.scan(target(TestCertificates.toPem(leaf)));
+
+        assertThat(result.getStatus()).isEqualTo(TlsScanResult.Status.MATCH);
+        assertThat(result.getChainLength()).isEqualTo(2);
+        assertThat(result.getServedSerial()).isEqualTo(leaf.getSerialNumber().toString(16));
+        assertThat(result.getValid()).isTrue();
+        assertThat(result.isFlagged()).isFalse();
+        verify(validationService).validateChain(argThat(chain -> chain.size() == 2 && chain.get(0).equals(leaf)));
+    }
+
+    @Test
+    @DisplayName("다른 인증서는 MISMATCH, 저장된 인증서가 없으면 UNMANAGED, 연결 실패는 UNREACHABLE")
+    void flagsMismatchAndUnreachable() throws Exception {
+        X509Certificate other = TestCertificates.selfSigned("example.com", TestCertificates.keyPair());
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        List<TlsScanResult> results = Collections.synchronizedList(new ArrayList<>());
+        Map<TlsScanResult.Status, Integer> counts = scanner.scan(List.of(
+                target(TestCertificates.toPem(other)),
+                target(null),
+                new TlsScanTarget("127.0.0.1", closedPort, "example.com", 1L, 1L, TestCertificates.toPem(leaf))
+        ), results::add);
+
+        assertThat(counts).containsEntry(TlsScanResult.Status.MISMATCH, 1)
+                .containsEntry(TlsScanResult.Status.UNMANAGED, 1)
+                .containsEntry(TlsScanResult.Status.UNREACHABLE, 1);
+        assertThat(results).filteredOn(TlsScanResult::isFlagged).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("여러 엔드포인트를 동시에 스캔한다")
+    void scansConcurrently() throws Exception {
+        String pem = TestCertificates.toPem(leaf);
+        List<TlsScanTarget> targets = IntStream.range(0, 100).mapToObj(i -> target(pem)).toList();
+
+        List<TlsScanResult> results = Collections.synchronizedList(new ArrayList<>());
+        Map<TlsScanResult.Status, Integer> counts = scanner.scan(targets, results::add);
+
+        assertThat(results).hasSize(100);
+        assertThat(counts).containsEntry(TlsScanResult.Status.MATCH, 100);
+    }
+
+    @Test
+    @DisplayName("서버별 배포 인증서와 추가 엔드포인트로 대상을 만들고 중복을 제거한다 (구체적인 이름이 없는 와일드카드는 제외)")
+    void buildsTargets() throws Exception {
+        properties.getScan().setEndpoints(List.of("10.0.0.1", "shop.example.com:8443", "[::1]:9443", "bad:port"));
+        distributionProperties.getProbe().setWildcardHosts(List.of("www.example.com"));
+        when(serverRepository.findAllWithCertificates()).thenReturn(List.of(
+                new ServerCertificateView(1L, "10.0.0.1", 7L, "*.example.com", "pem-7"),
+                new ServerCertificateView(1L, "10.0.0.1", 8L, "*.internal.test", "pem-8"),
+                new ServerCertificateView(2L, "10.0.0.2", null, null, null)));
+        when(certificateRepository.findByDomain("shop.example.com"))
+                .thenReturn(Optional.of(Certificate.builder().id(9L).certificatePem("pem-9").build()));
+
+        List<TlsScanTarget> targets = scanner.targets();
+
+        assertThat(targets).containsExactly(
+                new TlsScanTarget("10.0.0.1", 443, "www.example.com", 1L, 7L, "pem-7"),
+                new TlsScanTarget("10.0.0.2", 443, null, 2L, null, null),
+                new TlsScanTarget("10.0.0.1", 443, null, null, null, null),
+                new TlsScanTarget("shop.example.com", 8443, "shop.example.com", null, 9L, "pem-9"),
+                new TlsScanTarget("::1", 9443, null, null, null, null));
+    }
+
+    private TlsScanTarget target(String expectedPem) {
+        return new TlsScanTarget("127.0.0.1", serverSocket.getLocalPort(), "example.com", 1L, 1L, expectedPem);
+    }
+
+    private SSLServerSocket startTlsServer(KeyPair keyPair, X509Certificate... chain) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("server", keyPair.getPrivate(), "changeit".toCharArray(), chain);
+
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, "changeit".toCharArray());
+
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        SSLServerSocket socket = (SSLServerSocket) context.getServerSocketFactory().createServerSocket(0, 128);
+        Thread.ofVirtual().start(() -> {
+            while (!socket.isClosed()) {
+                try {
+                    SSLSocket client = (SSLSocket) socket.accept();
+                    Thread.ofVirtual().start(() -> {
+                        try (client) {
+                            client.startHandshake();
+                        } catch (Exception ignored) {
+                            // 연결 종료 또는 핸드셰이크 실패는 무시
+                        }
+                    });
+                } catch (Exception ignored) {
+                    // 서버 소켓 종료
+                }
+            }
+        });
+        return socket;
+    }
+}
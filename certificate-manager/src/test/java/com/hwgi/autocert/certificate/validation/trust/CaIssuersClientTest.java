@@ -0,0 +1,111 @@
+package com.hwgi.autocert.certificate.validation.trust;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AIA caIssuers 클라이언트 테스트 (로컬 서버, 접속 대상 주소 확인)
+ */
+@DisplayName("CaIssuersClient 테스트")
+class CaIssuersClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private ValidationProperties properties;
+    private CaIssuersClient client;
+    private X509Certificate ca;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ca = TestCertificates.selfSignedCa("Test CA", TestCertificates.keyPair());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ca.der", exchange -> {
+            try {
+                downloads.incrementAndGet();
+                byte[] body = ca.getEncoded();
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.createContext("/redirect", exchange -> {
+            exchange.getResponseHeaders().add("Location", exchange.getRequestURI().getQuery());
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        properties = new ValidationProperties();
+        properties.getAia().setTimeout(2000);
+        properties.getAia().setAllowedHosts(List.of("127.0.0.1"));
+        client = new CaIssuersClient(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("허용 호스트는 사설 주소여도 내려받고 허용 호스트로의 리다이렉트는 따라간다")
+    void fetchesFromAllowedHost() throws Exception {
+        assertThat(client.fetch(baseUrl + "/ca.der")).containsExactly(ca);
+        assertThat(client.fetch(baseUrl + "/redirect?" + baseUrl + "/ca.der")).containsExactly(ca);
+        assertThat(downloads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("허용 호스트가 아닌 루프백 주소는 접속하지 않는다")
+    void refusesLoopback() {
+        properties.getAia().setAllowedHosts(List.of());
+
+        assertThatThrownBy(() -> client.fetch(baseUrl + "/ca.der"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("non-public address");
+        assertThat(downloads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("리다이렉트 대상이 사설/루프백 주소이면 따라가지 않는다")
+    void refusesRedirectToNonPublicAddress() {
+        String target = "http://localhost:" + server.getAddress().getPort() + "/ca.der";
+
+        assertThatThrownBy(() -> client.fetch(baseUrl + "/redirect?" + target))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("non-public address");
+        assertThat(downloads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("공인 주소만 접속 대상으로 본다")
+    void publicAddresses() throws Exception {
+        assertThat(CaIssuersClient.isPublicAddress(InetAddress.getByName("93.184.216.34"))).isTrue();
+        assertThat(CaIssuersClient.isPublicAddress(InetAddress.getByName("2606:2800:220:1::1"))).isTrue();
+
+        for (String address : List.of("127.0.0.1", "10.0.0.1", "172.16.0.1", "192.168.1.1", "169.254.169.254",
+                "100.64.0.1", "0.0.0.0", "::1", "fe80::1", "fd00::1", "::ffff:10.0.0.1")) {
+            assertThat(CaIssuersClient.isPublicAddress(InetAddress.getByName(address))).as(address).isFalse();
+        }
+    }
+}
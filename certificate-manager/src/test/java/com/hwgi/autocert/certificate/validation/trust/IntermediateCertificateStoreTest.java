@@ -0,0 +1,187 @@
+package com.hwgi.autocert.certificate.validation.trust;
+
+import com.hwgi.autocert.certificate.TestCertificates;
+import com.hwgi.autocert.certificate.codec.CertificateCodec;
+import com.hwgi.autocert.certificate.validation.config.ValidationProperties;
+import com.hwgi.autocert.domain.model.IntermediateCertificate;
+import com.hwgi.autocert.domain.repository.IntermediateCertificateRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 중간 CA 인증서 저장소 테스트 (로컬 caIssuers 서버 사용)
+ */
+@DisplayName("IntermediateCertificateStore 테스트")
+class IntermediateCertificateStoreTest {
+
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer caIssuers;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile X509Certificate served;
+
+    private ValidationProperties properties;
+    private IntermediateCertificateRepository repository;
+    private CertificateCodec codec;
+    private IntermediateCertificateStore store;
+
+    private X509Certificate root;
+    private X509Certificate intermediate;
+    private KeyPair intermediateKeyPair;
+    private String caIssuersUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPair rootKeyPair = TestCertificates.keyPair();
+        root = TestCertificates.selfSignedCa("Test Root", rootKeyPair);
+        intermediateKeyPair = TestCertificates.keyPair();
+        intermediate = TestCertificates.intermediateCa("Test Intermediate", intermediateKeyPair, root, rootKeyPair);
+        served = intermediate;
+
+        caIssuers = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        caIssuers.createContext("/intermediate.der", exchange -> {
+            try {
+                downloads.incrementAndGet();
+                byte[] body = status == 200 ? served.getEncoded() : new byte[0];
+                exchange.sendResponseHeaders(status, body.length > 0 ? body.length : -1);
+                if (body.length > 0) {
+                    exchange.getResponseBody().write(body);
+                }
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+        caIssuers.start();
+        caIssuersUrl = "http://127.0.0.1:" + caIssuers.getAddress().getPort() + "/intermediate.der";
+
+        Path trustStorePath = tempDir.resolve("truststore.p12");
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setCertificateEntry("root", root);
+        try (OutputStream out = Files.newOutputStream(trustStorePath)) {
+            keyStore.store(out, PASSWORD.toCharArray());
+        }
+
+        properties = new ValidationProperties();
+        properties.getTrustStore().setPath(trustStorePath.toString());
+        properties.getTrustStore().setPassword(PASSWORD);
+        properties.getAia().setTimeout(2000);
+        properties.getAia().setAllowedHosts(List.of("127.0.0.1"));
+
+        repository = mock(IntermediateCertificateRepository.class);
+        when(repository.findAll()).thenReturn(List.of());
+        codec = new CertificateCodec(100);
+        store = new IntermediateCertificateStore(repository, new TrustAnchorStore(properties),
+                new CaIssuersClient(properties), codec, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        caIssuers.stop(0);
+    }
+
+    @Test
+    @DisplayName("누락된 중간 인증서는 caIssuers에서 한 번만 가져와 저장하고 이후에는 저장소를 사용한다")
+    void fetchesOnceAndReusesStoredIntermediate() throws Exception {
+        X509Certificate leaf = leaf("a.example.com");
+        X509Certificate otherLeaf = leaf("b.example.com");
+
+        assertThat(store.completeChain(List.of(leaf))).containsExactly(leaf, intermediate);
+        assertThat(store.completeChain(List.of(otherLeaf))).containsExactly(otherLeaf, intermediate);
+
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+        verify(repository, times(1)).save(any(IntermediateCertificate.class));
+    }
+
+    @Test
+    @DisplayName("저장된 중간 인증서로 배포용 체인 PEM을 네트워크 조회 없이 완성한다")
+    void completesChainPemLocally() throws Exception {
+        when(repository.findAll()).thenReturn(List.of(IntermediateCertificate.builder()
+                .id(1L)
+                .certificatePem(TestCertificates.toPem(intermediate))
+                .build()));
+        String leafPem = TestCertificates.toPem(leaf("example.com"));
+
+        String chainPem = store.completeChainPem(leafPem, null);
+
+        assertThat(codec.parseChain(chainPem)).containsExactly(intermediate);
+        assertThat(store.completeChainPem(leafPem, chainPem)).isSameAs(chainPem);
+        assertThat(downloads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("가져오기에 실패한 URL은 대기 시간 동안 다시 요청하지 않는다")
+    void backsOffAfterFailure() throws Exception {
+        status = 404;
+        X509Certificate leaf = leaf("example.com");
+
+        assertThat(store.completeChain(List.of(leaf))).containsExactly(leaf);
+        assertThat(store.completeChain(List.of(leaf))).containsExactly(leaf);
+
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("신뢰 앵커까지 검증되지 않는 중간 인증서는 이번 요청에서만 사용하고 저장하지 않는다")
+    void doesNotStoreUntrustedIntermediate() throws Exception {
+        KeyPair otherRootKeyPair = TestCertificates.keyPair();
+        X509Certificate otherRoot = TestCertificates.selfSignedCa("Other Root", otherRootKeyPair);
+        KeyPair untrustedKeyPair = TestCertificates.keyPair();
+        X509Certificate untrusted = TestCertificates.intermediateCa("Untrusted Intermediate", untrustedKeyPair,
+                otherRoot, otherRootKeyPair);
+        served = untrusted;
+        X509Certificate leaf = TestCertificates.leaf("example.com", TestCertificates.keyPair(), untrusted,
+                untrustedKeyPair, null, null, caIssuersUrl);
+
+        assertThat(store.completeChain(List.of(leaf))).containsExactly(leaf, untrusted);
+
+        assertThat(store.size()).isZero();
+        verify(repository, never()).save(any(IntermediateCertificate.class));
+    }
+
+    @Test
+    @DisplayName("허용 호스트가 아니면 사설/루프백 주소의 caIssuers URL에 접속하지 않는다")
+    void refusesNonPublicAddress() throws Exception {
+        properties.getAia().setAllowedHosts(List.of());
+        X509Certificate leaf = leaf("example.com");
+
+        assertThat(store.completeChain(List.of(leaf))).containsExactly(leaf);
+
+        assertThat(downloads.get()).isZero();
+    }
+
+    private X509Certificate leaf(String domain) throws Exception {
+        return TestCertificates.leaf(domain, TestCertificates.keyPair(), intermediate, intermediateKeyPair,
+                null, null, caIssuersUrl);
+    }
+}
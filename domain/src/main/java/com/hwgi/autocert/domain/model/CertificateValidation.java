@@ -0,0 +1,59 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증서 검증 실행 이력 엔티티
+ *
+ * 항목별 결과는 CertificateValidationCheck에 저장
+ */
+@Entity
+@Table(name = "certificate_validations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateValidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "certificate_id", nullable = false)
+    private Certificate certificate;
+
+    /**
+     * 리프 + 체인 SHA-256 지문 (파싱 실패 시 null)
+     */
+    @Column(length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private Boolean valid;
+
+    /**
+     * 인증서별 가장 최근 실행 여부
+     */
+    @Column(nullable = false)
+    private Boolean latest;
+
+    /**
+     * 검증 당시 인증서 수정 시각
+     */
+    @Column(name = "certificate_updated_at")
+    private LocalDateTime certificateUpdatedAt;
+
+    /**
+     * 재검증 예정 시각 (시간에 따라 판정이 바뀔 수 있는 가장 이른 시각)
+     */
+    @Column(name = "next_validation_at", nullable = false)
+    private LocalDateTime nextValidationAt;
+
+    @Column(name = "validated_at", nullable = false)
+    private LocalDateTime validatedAt;
+}
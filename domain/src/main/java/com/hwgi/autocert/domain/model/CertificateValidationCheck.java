@@ -0,0 +1,46 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 인증서 검증 항목 결과 엔티티
+ */
+@Entity
+@Table(name = "certificate_validation_checks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateValidationCheck {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "validation_id", nullable = false)
+    private CertificateValidation validation;
+
+    /**
+     * 검증 항목 (signature, validity, chain, revocation, domain, keyUsage, transparency)
+     */
+    @Column(nullable = false, length = 20)
+    private String name;
+
+    @Column(nullable = false)
+    private Boolean valid;
+
+    /**
+     * 직전 실행 대비 통과 여부 변경 (첫 실행은 실패 시 true)
+     */
+    @Column(nullable = false)
+    private Boolean changed;
+
+    @Column(name = "error_code", length = 50)
+    private String errorCode;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,16 @@ public class CertificateValidationResult {
      */
     private LocalDateTime validatedAt;
     
+    /**
+     * 리프 + 체인 SHA-256 지문 (파싱 실패 시 null)
+     */
+    private String fingerprint;
+    
+    /**
+     * 판정이 바뀔 수 있는 가장 이른 시각 (일시적인 실패가 포함되었거나 파싱 실패 시 null)
+     */
+    private Instant expiresAt;
+    
     /**
      * 서명 검증 결과
      */
@@ -58,6 +69,11 @@ public class CertificateValidationResult {
      */
     private ValidationCheckResult keyUsageCheck;
     
+    /**
+     * Certificate Transparency(SCT) 검증 결과
+     */
+    private ValidationCheckResult transparencyCheck;
+    
     /**
      * 경고 메시지 목록
      */
@@ -99,6 +115,7 @@ public class CertificateValidationResult {
                chainCheck != null && chainCheck.isValid() &&
                revocationCheck != null && revocationCheck.isValid() &&
                domainCheck != null && domainCheck.isValid() &&
-               keyUsageCheck != null && keyUsageCheck.isValid();
+               keyUsageCheck != null && keyUsageCheck.isValid() &&
+               transparencyCheck != null && transparencyCheck.isValid();
     }
 }
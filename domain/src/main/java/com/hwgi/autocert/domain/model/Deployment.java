@@ -2,8 +2,11 @@ package com.hwgi.autocert.domain.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 배포 이력 엔티티
@@ -45,6 +48,35 @@ public class Deployment {
     @Column(name = "duration_ms")
     private Long durationMs;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "verification_status", length = 20)
+    private DeploymentVerificationStatus verificationStatus;
+
+    @Column(name = "served_serial", length = 100)
+    private String servedSerial;
+
+    @Column(name = "served_fingerprint", length = 64)
+    private String servedFingerprint;
+
+    @Column(name = "handshake_ms")
+    private Long handshakeMs;
+
+    @Column(name = "verified_at")
+    private LocalDateTime verifiedAt;
+
+    /**
+     * 에이전트가 적용한 번들 버전 (풀 모드 배포의 ETag)
+     */
+    @Column(name = "applied_version", length = 64)
+    private String appliedVersion;
+
+    /**
+     * 단계별 소요 시간 (밀리초, 예: {"tcp_connect": 12, "key_exchange": 85, "auth": 40, "upload": 120, "reload": 900})
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "phase_timings", columnDefinition = "jsonb")
+    private Map<String, Long> phaseTimings;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,74 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배포 작업 큐 엔티티
+ *
+ * 인증서 생성/갱신 트랜잭션에서 배포를 직접 수행하지 않고 작업으로 등록하며,
+ * 배포 워커가 서버 단위로 모아서 처리
+ */
+@Entity
+@Table(name = "deployment_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeploymentJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "certificate_id", nullable = false)
+    private Certificate certificate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "server_id", nullable = false)
+    private Server server;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeploymentJobStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업을 선점한 워커의 선점 토큰 (처리 중일 때만 설정)
+     */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /**
+     * 배포 시도 횟수
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    /**
+     * 재시도 가능 시각 (실패 후 백오프, null이면 즉시)
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
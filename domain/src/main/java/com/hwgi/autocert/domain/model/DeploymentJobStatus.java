@@ -0,0 +1,26 @@
+package com.hwgi.autocert.domain.model;
+
+/**
+ * 배포 작업 큐 상태
+ */
+public enum DeploymentJobStatus {
+    /**
+     * 처리 대기 중
+     */
+    PENDING,
+
+    /**
+     * 워커가 처리 중
+     */
+    RUNNING,
+
+    /**
+     * 처리 완료 (배포 성공)
+     */
+    COMPLETED,
+
+    /**
+     * 처리 실패
+     */
+    FAILED
+}
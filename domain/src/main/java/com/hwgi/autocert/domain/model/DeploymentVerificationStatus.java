@@ -0,0 +1,21 @@
+package com.hwgi.autocert.domain.model;
+
+/**
+ * 배포 후 TLS 검증 상태
+ */
+public enum DeploymentVerificationStatus {
+    /**
+     * 서버가 배포한 인증서를 제공 중
+     */
+    VERIFIED,
+
+    /**
+     * 서버가 다른 인증서를 제공 중
+     */
+    MISMATCH,
+
+    /**
+     * TLS 연결 또는 핸드셰이크 실패
+     */
+    UNREACHABLE
+}
@@ -0,0 +1,64 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 중간 CA 인증서 엔티티
+ *
+ * 리프의 AIA caIssuers URL에서 가져온 중간 인증서를 지문으로 중복 없이 보관
+ * - 이후 검증과 fullchain 배포는 네트워크 조회 없이 이 저장소로 체인을 완성
+ */
+@Entity
+@Table(name = "intermediate_certificates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IntermediateCertificate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * DER SHA-256 지문
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String fingerprint;
+
+    /**
+     * 주체 키 식별자 (hex, 확장이 없으면 null)
+     */
+    @Column(name = "subject_key_id", length = 128)
+    private String subjectKeyId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String issuer;
+
+    @Column(name = "certificate_pem", nullable = false, columnDefinition = "TEXT")
+    private String certificatePem;
+
+    /**
+     * 가져온 caIssuers URL
+     */
+    @Column(name = "source_url", columnDefinition = "TEXT")
+    private String sourceUrl;
+
+    @Column(name = "not_after", nullable = false)
+    private LocalDateTime notAfter;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,58 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSH 호스트 키 엔티티 (known_hosts)
+ *
+ * 서버가 제시한 호스트 키를 호스트/포트/키 타입별로 저장하여 이후 연결에서 검증
+ */
+@Entity
+@Table(name = "ssh_known_hosts",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"host", "port", "key_type"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KnownHost {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String host;
+
+    @Column(nullable = false)
+    private Integer port;
+
+    /**
+     * 키 타입 (ssh-ed25519, ecdsa-sha2-nistp256, ssh-rsa 등)
+     */
+    @Column(name = "key_type", nullable = false, length = 50)
+    private String keyType;
+
+    /**
+     * 공개키 (SSH 와이어 형식 Base64)
+     */
+    @Column(name = "public_key", columnDefinition = "TEXT", nullable = false)
+    private String publicKey;
+
+    /**
+     * 공개키 지문 (SHA256:...)
+     */
+    @Column(nullable = false, length = 100)
+    private String fingerprint;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,101 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 단계적 배포(롤아웃) 엔티티
+ *
+ * 하나의 인증서를 여러 서버에 카나리 → 점진적으로 커지는 웨이브 순서로 배포
+ */
+@Entity
+@Table(name = "rollouts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Rollout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "certificate_id", nullable = false)
+    private Certificate certificate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RolloutStatus status;
+
+    /**
+     * 카나리 웨이브 서버 수
+     */
+    @Column(name = "canary_size", nullable = false)
+    private Integer canarySize;
+
+    /**
+     * 웨이브 크기 증가 배율
+     */
+    @Column(name = "wave_growth_factor", nullable = false)
+    private Double waveGrowthFactor;
+
+    /**
+     * 최대 웨이브 크기
+     */
+    @Column(name = "max_wave_size", nullable = false)
+    private Integer maxWaveSize;
+
+    /**
+     * 웨이브 내 동시 배포 수
+     */
+    @Column(nullable = false)
+    private Integer concurrency;
+
+    /**
+     * 중단 임계치 (시도한 대상 중 실패 비율, %)
+     */
+    @Column(name = "failure_threshold_percent", nullable = false)
+    private Integer failureThresholdPercent;
+
+    /**
+     * 전체 웨이브 수
+     */
+    @Column(name = "total_waves", nullable = false)
+    private Integer totalWaves;
+
+    /**
+     * 현재 진행 중인 웨이브 (0 = 카나리)
+     */
+    @Column(name = "current_wave", nullable = false)
+    private Integer currentWave;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,31 @@
+package com.hwgi.autocert.domain.model;
+
+/**
+ * 단계적 배포(롤아웃) 상태
+ */
+public enum RolloutStatus {
+    /**
+     * 생성됨 (시작 전)
+     */
+    PENDING,
+
+    /**
+     * 진행 중
+     */
+    RUNNING,
+
+    /**
+     * 일시 정지됨 (진행 중인 대상은 마무리 후 정지)
+     */
+    PAUSED,
+
+    /**
+     * 모든 대상 배포 완료
+     */
+    COMPLETED,
+
+    /**
+     * 중단됨 (수동 중단 또는 실패 임계치 초과)
+     */
+    ABORTED
+}
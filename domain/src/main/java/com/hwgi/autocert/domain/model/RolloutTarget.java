@@ -0,0 +1,57 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 롤아웃 대상 서버 엔티티
+ */
+@Entity
+@Table(name = "rollout_targets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RolloutTarget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rollout_id", nullable = false)
+    private Rollout rollout;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "server_id", nullable = false)
+    private Server server;
+
+    /**
+     * 배포 웨이브 번호 (0 = 카나리)
+     */
+    @Column(name = "wave_number", nullable = false)
+    private Integer waveNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RolloutTargetStatus status;
+
+    /**
+     * 배포 이력 (배포 시도 후 연결)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deployment_id")
+    private Deployment deployment;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,31 @@
+package com.hwgi.autocert.domain.model;
+
+/**
+ * 롤아웃 대상 서버별 배포 상태
+ */
+public enum RolloutTargetStatus {
+    /**
+     * 배포 대기 중
+     */
+    PENDING,
+
+    /**
+     * 배포 진행 중
+     */
+    IN_PROGRESS,
+
+    /**
+     * 배포 및 검증 성공
+     */
+    SUCCEEDED,
+
+    /**
+     * 배포 실패 (롤백 포함)
+     */
+    FAILED,
+
+    /**
+     * 롤아웃 중단 또는 서버 연결 불가로 배포하지 않음
+     */
+    SKIPPED
+}
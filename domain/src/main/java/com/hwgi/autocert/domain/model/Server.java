@@ -16,8 +16,12 @@ import java.time.LocalDateTime;
 @Builder
 public class Server {
 
+    /**
+     * 시퀀스 할당 (IDENTITY는 JDBC 배치 INSERT가 불가하므로 일괄 등록을 위해 50개 단위로 미리 할당)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "servers_id_seq")
+    @SequenceGenerator(name = "servers_id_seq", sequenceName = "servers_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -45,6 +49,47 @@ public class Server {
     @Column(nullable = false)
     private String deployPath;
 
+    /**
+     * SSH 인증 키 (설정된 서버는 비밀번호 대신 공개키로 인증)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ssh_key_id")
+    private SshKey sshKey;
+
+    /**
+     * 풀 모드 에이전트 토큰 SHA-256 해시 (16진수, 설정된 서버는 SSH 푸시 대신 에이전트가 번들을 조회)
+     */
+    @Column(name = "agent_token_hash", length = 64)
+    private String agentTokenHash;
+
+    /**
+     * 키스토어(JKS/PKCS12) 비밀번호 (암호화 저장, 최초 키스토어 배포 시 생성)
+     */
+    @Column(name = "keystore_password", length = 512)
+    private String keystorePassword;
+
+    /**
+     * 연결 상태 (도달성 모니터가 상태 변경 또는 샘플 주기마다 갱신)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "health_status", length = 20)
+    private ServerHealthStatus healthStatus;
+
+    @Column(name = "health_checked_at")
+    private LocalDateTime healthCheckedAt;
+
+    /**
+     * SSH 포트 TCP 연결 지연 (밀리초, 연결 불가 시 null)
+     */
+    @Column(name = "ssh_latency_ms")
+    private Integer sshLatencyMs;
+
+    /**
+     * HTTPS 포트 TCP 연결 지연 (밀리초, 연결 불가 시 null)
+     */
+    @Column(name = "https_latency_ms")
+    private Integer httpsLatencyMs;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
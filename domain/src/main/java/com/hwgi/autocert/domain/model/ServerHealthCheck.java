@@ -0,0 +1,54 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서버 도달성 검사 이력 엔티티
+ *
+ * 상태가 바뀌었거나 샘플 주기가 지난 검사 결과만 기록
+ */
+@Entity
+@Table(name = "server_health_checks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServerHealthCheck {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "server_id", nullable = false)
+    private Server server;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ServerHealthStatus status;
+
+    @Column(name = "ssh_reachable", nullable = false)
+    private Boolean sshReachable;
+
+    @Column(name = "ssh_latency_ms")
+    private Integer sshLatencyMs;
+
+    @Column(name = "https_reachable", nullable = false)
+    private Boolean httpsReachable;
+
+    @Column(name = "https_latency_ms")
+    private Integer httpsLatencyMs;
+
+    /**
+     * 연결 실패 사유
+     */
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "checked_at", nullable = false)
+    private LocalDateTime checkedAt;
+}
@@ -0,0 +1,21 @@
+package com.hwgi.autocert.domain.model;
+
+/**
+ * 서버 연결 상태 (TCP 도달성 기준)
+ */
+public enum ServerHealthStatus {
+    /**
+     * SSH, HTTPS 포트 모두 연결 가능
+     */
+    UP,
+
+    /**
+     * SSH 포트는 연결 가능하지만 HTTPS 포트 연결 불가
+     */
+    DEGRADED,
+
+    /**
+     * SSH 포트 연결 불가 (배포 불가)
+     */
+    DOWN
+}
@@ -0,0 +1,72 @@
+package com.hwgi.autocert.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSH 인증 키 엔티티
+ *
+ * 서버 SSH 공개키 인증에 사용하는 개인키 (여러 서버가 같은 키를 공유하면 키 그룹으로 동작)
+ */
+@Entity
+@Table(name = "ssh_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SshKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 키 이름 (키 그룹 식별용)
+     */
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    /**
+     * 개인키 (암호화 저장 - AES-256-GCM)
+     */
+    @Column(name = "private_key", columnDefinition = "TEXT", nullable = false)
+    private String privateKey;
+
+    /**
+     * 개인키 암호 (암호화 저장, 암호 없는 키는 null)
+     */
+    @Column(name = "passphrase", columnDefinition = "TEXT")
+    private String passphrase;
+
+    /**
+     * 공개키 (OpenSSH authorized_keys 형식)
+     */
+    @Column(name = "public_key", columnDefinition = "TEXT", nullable = false)
+    private String publicKey;
+
+    /**
+     * 공개키 지문 (SHA256:...)
+     */
+    @Column(nullable = false, length = 100)
+    private String fingerprint;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
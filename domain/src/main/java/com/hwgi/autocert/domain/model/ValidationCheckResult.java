@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 /**
  * 개별 검증 항목의 결과를 나타내는 클래스
  */
@@ -34,6 +36,11 @@ public class ValidationCheckResult {
      */
     private String errorCode;
     
+    /**
+     * 이 결과가 바뀔 수 있는 다음 시각 (OCSP/CRL nextUpdate 등, 없으면 null)
+     */
+    private Instant expiresAt;
+    
     /**
      * 성공 결과 생성
      */
@@ -0,0 +1,18 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.CertificateStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증서 PEM 조회 전용 프로젝션 (영속성 컨텍스트에 엔티티를 올리지 않음)
+ */
+public record CertificatePemView(
+        Long id,
+        String domain,
+        CertificateStatus status,
+        String certificatePem,
+        String chainPem,
+        LocalDateTime updatedAt
+) {
+}
@@ -5,13 +5,21 @@ import com.hwgi.autocert.domain.model.CertificateStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * 인증서 Repository
@@ -24,11 +32,23 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
      */
     Optional<Certificate> findByDomain(String domain);
 
+    /**
+     * 인증서 조회 (행 잠금, 같은 인증서에 대한 쓰기를 트랜잭션 종료까지 직렬화)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Certificate c WHERE c.id = :id")
+    Optional<Certificate> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 도메인 존재 여부 확인
      */
     boolean existsByDomain(String domain);
 
+    /**
+     * 서버에 배포되는 인증서 조회 (ID 순)
+     */
+    List<Certificate> findByServerIdOrderByIdAsc(Long serverId);
+
     /**
      * 상태별 인증서 조회
      */
@@ -58,4 +78,37 @@ public interface CertificateRepository extends JpaRepository<Certificate, Long>
      */
     @Query("SELECT c FROM Certificate c WHERE c.domain LIKE %:pattern%")
     Page<Certificate> searchByDomainPattern(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * ID 목록으로 인증서 조회 (서버 정보 함께 로딩)
+     */
+    @Query("SELECT c FROM Certificate c JOIN FETCH c.server WHERE c.id IN :ids")
+    List<Certificate> findAllWithServerByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * PEM이 있는 인증서를 ID 순으로 스트리밍 조회 (일괄 검증용)
+     *
+     * 읽기 트랜잭션 안에서 소비해야 하며, 서버 측 커서로 fetch size 단위만 메모리에 올림
+     *
+     * @param status 상태 (null이면 전체)
+     */
+    @Query("SELECT new com.hwgi.autocert.domain.repository.CertificatePemView("
+            + "c.id, c.domain, c.status, c.certificatePem, c.chainPem, c.updatedAt) "
+            + "FROM Certificate c WHERE c.certificatePem IS NOT NULL "
+            + "AND (:status IS NULL OR c.status = :status) ORDER BY c.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<CertificatePemView> streamPems(@Param("status") CertificateStatus status);
+
+    /**
+     * PEM이 있는 인증서 조회 (ID 순, 키셋 페이징)
+     *
+     * @param afterId 이 ID보다 큰 인증서만 조회
+     */
+    @Query("SELECT new com.hwgi.autocert.domain.repository.CertificatePemView("
+            + "c.id, c.domain, c.status, c.certificatePem, c.chainPem, c.updatedAt) "
+            + "FROM Certificate c WHERE c.certificatePem IS NOT NULL AND c.id > :afterId ORDER BY c.id")
+    List<CertificatePemView> findPemsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
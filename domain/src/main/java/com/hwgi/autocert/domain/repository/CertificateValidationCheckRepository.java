@@ -0,0 +1,36 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.CertificateValidationCheck;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * CertificateValidationCheck Repository
+ * 인증서 검증 항목 결과 데이터 접근 계층
+ */
+@Repository
+public interface CertificateValidationCheckRepository extends JpaRepository<CertificateValidationCheck, Long> {
+
+    /**
+     * 실행별 항목 결과 조회
+     */
+    @Query("SELECT c FROM CertificateValidationCheck c WHERE c.validation.id IN :validationIds ORDER BY c.id")
+    List<CertificateValidationCheck> findByValidationIdIn(@Param("validationIds") List<Long> validationIds);
+
+    /**
+     * 특정 시각 이후 새로 실패하기 시작한 항목 조회 (재검증 없이 이력만 조회)
+     *
+     * @param name 검증 항목 (예: chain)
+     * @param since 기준 시각
+     */
+    @Query("SELECT c FROM CertificateValidationCheck c JOIN FETCH c.validation v JOIN FETCH v.certificate "
+            + "WHERE c.name = :name AND c.valid = false AND c.changed = true AND v.validatedAt >= :since "
+            + "ORDER BY v.validatedAt DESC")
+    List<CertificateValidationCheck> findNewlyFailingSince(@Param("name") String name,
+                                                          @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,63 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.CertificateValidation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * CertificateValidation Repository
+ * 인증서 검증 실행 이력 데이터 접근 계층
+ */
+@Repository
+public interface CertificateValidationRepository extends JpaRepository<CertificateValidation, Long> {
+
+    /**
+     * 인증서의 가장 최근 실행 조회
+     */
+    Optional<CertificateValidation> findFirstByCertificateIdAndLatestTrue(Long certificateId);
+
+    /**
+     * 인증서별 실행 이력 조회 (최신순)
+     */
+    Page<CertificateValidation> findByCertificateIdOrderByValidatedAtDesc(Long certificateId, Pageable pageable);
+
+    /**
+     * 재검증 대상 인증서 ID 조회
+     *
+     * 실행 이력이 없거나, 재검증 예정 시각이 지났거나, 마지막 실행 이후 인증서가 수정된 경우
+     *
+     * @param afterId 이 ID보다 큰 인증서만 조회 (키셋 페이징)
+     */
+    @Query("SELECT c.id FROM Certificate c WHERE c.id > :afterId AND c.certificatePem IS NOT NULL AND NOT EXISTS ("
+            + "SELECT v.id FROM CertificateValidation v WHERE v.certificate = c AND v.latest = true "
+            + "AND v.nextValidationAt > :now "
+            + "AND (c.updatedAt IS NULL OR v.certificateUpdatedAt >= c.updatedAt)) ORDER BY c.id")
+    List<Long> findCertificateIdsDueForValidation(@Param("now") LocalDateTime now,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    /**
+     * 기존 최근 실행 표시 해제
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CertificateValidation v SET v.latest = false WHERE v.certificate.id = :certificateId AND v.latest = true")
+    int clearLatest(@Param("certificateId") Long certificateId);
+
+    /**
+     * 보관 기간이 지난 이력 삭제 (가장 최근 실행은 유지, 항목 결과는 FK로 함께 삭제)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CertificateValidation v WHERE v.validatedAt < :before AND v.latest = false")
+    int deleteHistoryBefore(@Param("before") LocalDateTime before);
+}
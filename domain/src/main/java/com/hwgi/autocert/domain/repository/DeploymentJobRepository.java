@@ -0,0 +1,87 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.DeploymentJob;
+import com.hwgi.autocert.domain.model.DeploymentJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배포 작업 큐 Repository
+ */
+@Repository
+public interface DeploymentJobRepository extends JpaRepository<DeploymentJob, Long> {
+
+    /**
+     * 처리할 수 있는 대기 작업이 있는 서버 ID 조회 (재시도 대기 중인 작업만 남은 서버 제외, 오래된 작업 순)
+     */
+    @Query("SELECT j.server.id FROM DeploymentJob j WHERE j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.PENDING AND (j.nextAttemptAt IS NULL OR j.nextAttemptAt <= :now) GROUP BY j.server.id ORDER BY MIN(j.createdAt)")
+    List<Long> findDispatchableServerIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 선점 토큰으로 선점한 작업 조회 (인증서 ID 포함)
+     */
+    @Query("SELECT j FROM DeploymentJob j JOIN FETCH j.certificate WHERE j.claimToken = :claimToken AND j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.RUNNING ORDER BY j.createdAt")
+    List<DeploymentJob> findByClaimToken(@Param("claimToken") String claimToken);
+
+    /**
+     * 서버의 대기 작업을 선점 토큰으로 일괄 선점 (PENDING → RUNNING, 시도 횟수 증가)
+     *
+     * 행 잠금으로 같은 작업은 한 토큰만 선점하므로 다른 워커/인스턴스가 선점한 작업과 섞이지 않음
+     * 임대 시간 안에 처리 중인 작업이 있는 서버는 선점하지 않으므로 다른 인스턴스와 같은 서버를 동시에 배포하지 않음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.RUNNING, j.startedAt = :startedAt, j.claimToken = :claimToken, j.attempts = j.attempts + 1 WHERE j.server.id = :serverId AND j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.PENDING AND NOT EXISTS (SELECT r.id FROM DeploymentJob r WHERE r.server.id = :serverId AND r.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.RUNNING AND r.startedAt >= :leaseStartedAfter)")
+    int claimPendingJobs(@Param("serverId") Long serverId,
+                         @Param("claimToken") String claimToken,
+                         @Param("startedAt") LocalDateTime startedAt,
+                         @Param("leaseStartedAfter") LocalDateTime leaseStartedAfter);
+
+    /**
+     * 선점한 작업 완료 처리 (임대 만료로 다른 워커에 넘어간 작업은 변경하지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = :status, j.message = :message, j.completedAt = :completedAt, j.claimToken = NULL WHERE j.id IN :ids AND j.claimToken = :claimToken")
+    int completeJobs(@Param("ids") List<Long> ids,
+                     @Param("claimToken") String claimToken,
+                     @Param("status") DeploymentJobStatus status,
+                     @Param("message") String message,
+                     @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 선점한 작업을 재시도 대기로 되돌림
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.PENDING, j.message = :message, j.nextAttemptAt = :nextAttemptAt, j.startedAt = NULL, j.claimToken = NULL WHERE j.id IN :ids AND j.claimToken = :claimToken")
+    int retryJobs(@Param("ids") List<Long> ids,
+                  @Param("claimToken") String claimToken,
+                  @Param("message") String message,
+                  @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * 풀 모드 서버의 대기 작업 완료 처리 (에이전트가 다음 조회 시 번들을 가져가므로 SSH 배포 불필요)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.COMPLETED, j.message = :message, j.completedAt = :completedAt WHERE j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.PENDING AND j.server.id IN (SELECT s.id FROM Server s WHERE s.agentTokenHash IS NOT NULL)")
+    int completePullModeJobs(@Param("message") String message, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 임대 시간이 지나도록 처리 중으로 남은 작업을 대기 상태로 복구 (워커/인스턴스 비정상 종료 대비)
+     *
+     * 다른 인스턴스가 처리 중인 작업은 임대 시간 안이므로 건드리지 않음
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DeploymentJob j SET j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.PENDING, j.startedAt = NULL, j.claimToken = NULL WHERE j.status = com.hwgi.autocert.domain.model.DeploymentJobStatus.RUNNING AND j.startedAt < :startedBefore")
+    int resetExpiredJobs(@Param("startedBefore") LocalDateTime startedBefore);
+}
@@ -55,4 +55,11 @@ public interface DeploymentRepository extends JpaRepository<Deployment, Long> {
     List<Deployment> findLatestDeployment(@Param("certificateId") Long certificateId, 
                                          @Param("serverId") Long serverId, 
                                          Pageable pageable);
+
+    /**
+     * 서버에 전달한 번들 버전의 배포 이력 조회 (풀 모드 에이전트 보고용, 인증서 포함)
+     */
+    @Query("SELECT d FROM Deployment d JOIN FETCH d.certificate WHERE d.server.id = :serverId AND d.appliedVersion = :version ORDER BY d.id")
+    List<Deployment> findByServerIdAndAppliedVersion(@Param("serverId") Long serverId,
+                                                     @Param("version") String version);
 }
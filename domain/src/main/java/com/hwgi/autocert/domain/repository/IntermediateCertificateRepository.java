@@ -0,0 +1,18 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.IntermediateCertificate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * IntermediateCertificate Repository
+ * 중간 CA 인증서 데이터 접근 계층
+ */
+@Repository
+public interface IntermediateCertificateRepository extends JpaRepository<IntermediateCertificate, Long> {
+
+    /**
+     * 지문으로 존재 여부 확인
+     */
+    boolean existsByFingerprint(String fingerprint);
+}
@@ -0,0 +1,32 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.KnownHost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * KnownHost Repository
+ * SSH 호스트 키 데이터 접근 계층
+ */
+@Repository
+public interface KnownHostRepository extends JpaRepository<KnownHost, Long> {
+
+    /**
+     * 호스트/포트의 등록된 호스트 키 조회
+     */
+    List<KnownHost> findByHostAndPort(String host, Integer port);
+
+    /**
+     * 호스트/포트의 호스트 키 삭제 (키 교체 후 재등록용)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM KnownHost k WHERE k.host = :host AND k.port = :port")
+    int deleteByHostAndPort(@Param("host") String host, @Param("port") Integer port);
+}
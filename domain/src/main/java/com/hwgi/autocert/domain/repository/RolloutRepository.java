@@ -0,0 +1,89 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.Rollout;
+import com.hwgi.autocert.domain.model.RolloutStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 롤아웃 Repository
+ */
+@Repository
+public interface RolloutRepository extends JpaRepository<Rollout, Long> {
+
+    /**
+     * 인증서 정보를 함께 로딩하여 조회
+     */
+    @Query("SELECT r FROM Rollout r JOIN FETCH r.certificate WHERE r.id = :id")
+    Optional<Rollout> findWithCertificateById(@Param("id") Long id);
+
+    /**
+     * 롤아웃 상태만 조회 (진행 중 일시정지/중단 확인용)
+     */
+    @Query("SELECT r.status FROM Rollout r WHERE r.id = :id")
+    Optional<RolloutStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * 상태별 롤아웃 조회
+     */
+    List<Rollout> findByStatus(RolloutStatus status);
+
+    /**
+     * 인증서별 롤아웃 조회
+     */
+    Page<Rollout> findByCertificateIdOrderByCreatedAtDesc(Long certificateId, Pageable pageable);
+
+    /**
+     * 상태 변경 (현재 상태가 expected 중 하나인 경우에만)
+     *
+     * @return 변경된 행 수 (0이면 상태 전이 불가)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Rollout r SET r.status = :status, r.message = :message, r.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.id = :id AND r.status IN :expected")
+    int updateStatus(@Param("id") Long id,
+                     @Param("expected") Collection<RolloutStatus> expected,
+                     @Param("status") RolloutStatus status,
+                     @Param("message") String message);
+
+    /**
+     * 최초 시작 시각 기록
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Rollout r SET r.startedAt = :startedAt WHERE r.id = :id AND r.startedAt IS NULL")
+    int markStarted(@Param("id") Long id, @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * 현재 웨이브 갱신
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Rollout r SET r.currentWave = :wave, r.updatedAt = CURRENT_TIMESTAMP WHERE r.id = :id")
+    int updateCurrentWave(@Param("id") Long id, @Param("wave") Integer wave);
+
+    /**
+     * 롤아웃 종료 처리 (완료/중단)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Rollout r SET r.status = :status, r.message = :message, r.completedAt = :completedAt, " +
+           "r.updatedAt = CURRENT_TIMESTAMP WHERE r.id = :id AND r.status IN :expected")
+    int finish(@Param("id") Long id,
+               @Param("expected") Collection<RolloutStatus> expected,
+               @Param("status") RolloutStatus status,
+               @Param("message") String message,
+               @Param("completedAt") LocalDateTime completedAt);
+}
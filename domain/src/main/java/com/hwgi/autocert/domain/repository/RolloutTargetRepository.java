@@ -0,0 +1,53 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.RolloutTarget;
+import com.hwgi.autocert.domain.model.RolloutTargetStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 롤아웃 대상 Repository
+ */
+@Repository
+public interface RolloutTargetRepository extends JpaRepository<RolloutTarget, Long> {
+
+    /**
+     * 웨이브별 대상 조회 (서버 정보 함께 로딩)
+     */
+    @Query("SELECT t FROM RolloutTarget t JOIN FETCH t.server WHERE t.rollout.id = :rolloutId AND t.waveNumber = :waveNumber AND t.status = :status ORDER BY t.id")
+    List<RolloutTarget> findByWave(@Param("rolloutId") Long rolloutId,
+                                   @Param("waveNumber") Integer waveNumber,
+                                   @Param("status") RolloutTargetStatus status);
+
+    /**
+     * 롤아웃 대상 페이지 조회 (서버/배포 이력 함께 로딩)
+     */
+    @Query(value = "SELECT t FROM RolloutTarget t JOIN FETCH t.server LEFT JOIN FETCH t.deployment " +
+                   "WHERE t.rollout.id = :rolloutId ORDER BY t.waveNumber, t.id",
+           countQuery = "SELECT COUNT(t) FROM RolloutTarget t WHERE t.rollout.id = :rolloutId")
+    Page<RolloutTarget> findPageByRolloutId(@Param("rolloutId") Long rolloutId, Pageable pageable);
+
+    /**
+     * 상태별 대상 수 집계 ([상태, 개수] 목록)
+     */
+    @Query("SELECT t.status, COUNT(t) FROM RolloutTarget t WHERE t.rollout.id = :rolloutId GROUP BY t.status")
+    List<Object[]> countByStatus(@Param("rolloutId") Long rolloutId);
+
+    /**
+     * 대상 상태 일괄 변경
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RolloutTarget t SET t.status = :status, t.updatedAt = CURRENT_TIMESTAMP WHERE t.rollout.id = :rolloutId AND t.status = :expected")
+    int updateStatusByRollout(@Param("rolloutId") Long rolloutId,
+                              @Param("expected") RolloutTargetStatus expected,
+                              @Param("status") RolloutTargetStatus status);
+}
@@ -0,0 +1,13 @@
+package com.hwgi.autocert.domain.repository;
+
+/**
+ * 서버별 배포 인증서 조회 전용 프로젝션 (인증서가 없는 서버는 인증서 필드가 null)
+ */
+public record ServerCertificateView(
+        Long serverId,
+        String ipAddress,
+        Long certificateId,
+        String domain,
+        String certificatePem
+) {
+}
@@ -0,0 +1,34 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.ServerHealthCheck;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * ServerHealthCheck Repository
+ * 서버 도달성 검사 이력 데이터 접근 계층
+ */
+@Repository
+public interface ServerHealthCheckRepository extends JpaRepository<ServerHealthCheck, Long> {
+
+    /**
+     * 서버별 검사 이력 조회 (최신순)
+     */
+    Page<ServerHealthCheck> findByServerIdOrderByCheckedAtDesc(Long serverId, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 이력 삭제
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ServerHealthCheck h WHERE h.checkedAt < :before")
+    int deleteByCheckedAtBefore(@Param("before") LocalDateTime before);
+}
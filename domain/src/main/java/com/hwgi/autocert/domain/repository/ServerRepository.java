@@ -2,13 +2,18 @@ package com.hwgi.autocert.domain.repository;
 
 import com.hwgi.autocert.common.constants.WebServerType;
 import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.ServerHealthStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,11 +29,29 @@ public interface ServerRepository extends JpaRepository<Server, Long> {
      */
     Optional<Server> findByIpAddress(String ipAddress);
 
+    /**
+     * IP 주소 목록으로 일괄 조회 (일괄 등록 시 행별 존재 확인 대체)
+     */
+    List<Server> findByIpAddressIn(Collection<String> ipAddresses);
+
     /**
      * IP 주소 존재 여부 확인
      */
     boolean existsByIpAddress(String ipAddress);
 
+    /**
+     * SSH 인증 키를 사용하는 서버 존재 여부 확인
+     */
+    boolean existsBySshKeyId(Long sshKeyId);
+
+    /**
+     * 모든 서버와 서버에 배포된 인증서 조회 (TLS 엔드포인트 스캔용)
+     */
+    @Query("SELECT new com.hwgi.autocert.domain.repository.ServerCertificateView("
+            + "s.id, s.ipAddress, c.id, c.domain, c.certificatePem) "
+            + "FROM Server s LEFT JOIN Certificate c ON c.server = s ORDER BY s.id, c.id")
+    List<ServerCertificateView> findAllWithCertificates();
+
     /**
      * 서버 이름으로 조회
      */
@@ -44,9 +67,40 @@ public interface ServerRepository extends JpaRepository<Server, Long> {
      */
     Page<Server> findByWebServerType(WebServerType webServerType, Pageable pageable);
 
+    /**
+     * 연결 상태 갱신 (서버 정보 수정과 충돌하지 않도록 상태 컬럼만 변경)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Server s SET s.healthStatus = :status, s.healthCheckedAt = :checkedAt, " +
+           "s.sshLatencyMs = :sshLatencyMs, s.httpsLatencyMs = :httpsLatencyMs WHERE s.id = :id")
+    int updateHealth(@Param("id") Long id,
+                     @Param("status") ServerHealthStatus status,
+                     @Param("sshLatencyMs") Integer sshLatencyMs,
+                     @Param("httpsLatencyMs") Integer httpsLatencyMs,
+                     @Param("checkedAt") LocalDateTime checkedAt);
+
     /**
      * 서버 이름 패턴 검색
      */
     @Query("SELECT s FROM Server s WHERE s.name LIKE %:pattern% OR s.ipAddress LIKE %:pattern%")
     Page<Server> searchByNameOrIpPattern(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * 키스토어 비밀번호 최초 설정 (동시 배포 시 먼저 저장한 값을 유지하도록 비어 있을 때만 변경)
+     *
+     * @return 변경된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Server s SET s.keystorePassword = :password WHERE s.id = :id AND s.keystorePassword IS NULL")
+    int initKeystorePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * 키스토어 비밀번호 변경
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Server s SET s.keystorePassword = :password WHERE s.id = :id")
+    int updateKeystorePassword(@Param("id") Long id, @Param("password") String password);
 }
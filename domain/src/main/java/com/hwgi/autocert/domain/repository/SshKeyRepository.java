@@ -0,0 +1,18 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.domain.model.SshKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * SshKey Repository
+ * SSH 인증 키 데이터 접근 계층
+ */
+@Repository
+public interface SshKeyRepository extends JpaRepository<SshKey, Long> {
+
+    /**
+     * 키 이름 존재 여부 확인
+     */
+    boolean existsByName(String name);
+}
@@ -0,0 +1,45 @@
+-- Add rollout tables (카나리/웨이브 단계적 배포)
+CREATE TABLE rollouts (
+    id BIGSERIAL PRIMARY KEY,
+    certificate_id BIGINT NOT NULL REFERENCES certificates(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    canary_size INTEGER NOT NULL,
+    wave_growth_factor DOUBLE PRECISION NOT NULL,
+    max_wave_size INTEGER NOT NULL,
+    concurrency INTEGER NOT NULL,
+    failure_threshold_percent INTEGER NOT NULL,
+    total_waves INTEGER NOT NULL,
+    current_wave INTEGER NOT NULL DEFAULT 0,
+    message TEXT,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE rollout_targets (
+    id BIGSERIAL PRIMARY KEY,
+    rollout_id BIGINT NOT NULL REFERENCES rollouts(id) ON DELETE CASCADE,
+    server_id BIGINT NOT NULL REFERENCES servers(id) ON DELETE CASCADE,
+    wave_number INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    deployment_id BIGINT REFERENCES deployments(id) ON DELETE SET NULL,
+    updated_at TIMESTAMP
+);
+
+CREATE INDEX idx_rollouts_certificate_id ON rollouts(certificate_id);
+CREATE INDEX idx_rollouts_status ON rollouts(status);
+CREATE INDEX idx_rollout_targets_rollout_wave ON rollout_targets(rollout_id, wave_number, status);
+
+COMMENT ON TABLE rollouts IS '인증서 단계적 배포 (카나리 → 웨이브)';
+COMMENT ON COLUMN rollouts.status IS '롤아웃 상태 (PENDING, RUNNING, PAUSED, COMPLETED, ABORTED)';
+COMMENT ON COLUMN rollouts.canary_size IS '카나리 웨이브 서버 수';
+COMMENT ON COLUMN rollouts.wave_growth_factor IS '웨이브 크기 증가 배율';
+COMMENT ON COLUMN rollouts.max_wave_size IS '최대 웨이브 크기';
+COMMENT ON COLUMN rollouts.concurrency IS '웨이브 내 동시 배포 수';
+COMMENT ON COLUMN rollouts.failure_threshold_percent IS '중단 임계치 (실패 비율, %)';
+COMMENT ON COLUMN rollouts.current_wave IS '현재 웨이브 번호 (0 = 카나리)';
+COMMENT ON TABLE rollout_targets IS '롤아웃 대상 서버';
+COMMENT ON COLUMN rollout_targets.wave_number IS '배포 웨이브 번호 (0 = 카나리)';
+COMMENT ON COLUMN rollout_targets.status IS '대상 상태 (PENDING, IN_PROGRESS, SUCCEEDED, FAILED, SKIPPED)';
+COMMENT ON COLUMN rollout_targets.deployment_id IS '배포 이력 ID';
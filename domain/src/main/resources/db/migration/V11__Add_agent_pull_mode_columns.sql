@@ -0,0 +1,6 @@
+-- Add pull-mode agent columns
+ALTER TABLE servers ADD COLUMN IF NOT EXISTS agent_token_hash VARCHAR(64);
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS applied_version VARCHAR(64);
+
+COMMENT ON COLUMN servers.agent_token_hash IS '풀 모드 에이전트 토큰 SHA-256 해시 (설정 시 SSH 푸시 대신 에이전트가 번들 조회)';
+COMMENT ON COLUMN deployments.applied_version IS '에이전트가 적용한 번들 버전 (ETag)';
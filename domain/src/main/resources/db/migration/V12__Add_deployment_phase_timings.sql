@@ -0,0 +1,4 @@
+-- Add per-phase deployment timing breakdown
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS phase_timings JSONB;
+
+COMMENT ON COLUMN deployments.phase_timings IS '단계별 소요 시간 (밀리초, connect_retry/tcp_connect/key_exchange/auth/upload/reload/verify)';
@@ -0,0 +1,33 @@
+-- Add SSH public-key authentication and known-hosts tables
+CREATE TABLE ssh_keys (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    private_key TEXT NOT NULL,
+    passphrase TEXT,
+    public_key TEXT NOT NULL,
+    fingerprint VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE ssh_known_hosts (
+    id BIGSERIAL PRIMARY KEY,
+    host VARCHAR(255) NOT NULL,
+    port INTEGER NOT NULL,
+    key_type VARCHAR(50) NOT NULL,
+    public_key TEXT NOT NULL,
+    fingerprint VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_ssh_known_hosts UNIQUE (host, port, key_type)
+);
+
+ALTER TABLE servers ADD COLUMN IF NOT EXISTS ssh_key_id BIGINT REFERENCES ssh_keys(id);
+CREATE INDEX idx_servers_ssh_key_id ON servers(ssh_key_id);
+
+COMMENT ON TABLE ssh_keys IS 'SSH 인증 키 (여러 서버가 공유하면 키 그룹)';
+COMMENT ON COLUMN ssh_keys.private_key IS '개인키 (AES-256-GCM 암호화)';
+COMMENT ON COLUMN ssh_keys.passphrase IS '개인키 암호 (AES-256-GCM 암호화)';
+COMMENT ON COLUMN ssh_keys.public_key IS '공개키 (OpenSSH authorized_keys 형식)';
+COMMENT ON TABLE ssh_known_hosts IS 'SSH 호스트 키 (known_hosts)';
+COMMENT ON COLUMN ssh_known_hosts.public_key IS '호스트 공개키 (SSH 와이어 형식 Base64)';
+COMMENT ON COLUMN servers.ssh_key_id IS 'SSH 인증 키 ID (설정 시 공개키 인증)';
@@ -0,0 +1,25 @@
+-- Add server reachability monitoring
+ALTER TABLE servers ADD COLUMN IF NOT EXISTS health_status VARCHAR(20);
+ALTER TABLE servers ADD COLUMN IF NOT EXISTS health_checked_at TIMESTAMP;
+ALTER TABLE servers ADD COLUMN IF NOT EXISTS ssh_latency_ms INTEGER;
+ALTER TABLE servers ADD COLUMN IF NOT EXISTS https_latency_ms INTEGER;
+
+CREATE TABLE server_health_checks (
+    id BIGSERIAL PRIMARY KEY,
+    server_id BIGINT NOT NULL REFERENCES servers(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    ssh_reachable BOOLEAN NOT NULL,
+    ssh_latency_ms INTEGER,
+    https_reachable BOOLEAN NOT NULL,
+    https_latency_ms INTEGER,
+    error TEXT,
+    checked_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_server_health_checks_server_checked ON server_health_checks(server_id, checked_at DESC);
+CREATE INDEX idx_server_health_checks_checked_at ON server_health_checks(checked_at);
+
+COMMENT ON COLUMN servers.health_status IS '연결 상태 (UP, DEGRADED, DOWN, 미검사 시 NULL)';
+COMMENT ON COLUMN servers.ssh_latency_ms IS 'SSH 포트 TCP 연결 지연 (밀리초)';
+COMMENT ON COLUMN servers.https_latency_ms IS 'HTTPS 포트 TCP 연결 지연 (밀리초)';
+COMMENT ON TABLE server_health_checks IS '서버 도달성 검사 이력 (상태 변경 또는 샘플 주기마다 기록)';
@@ -0,0 +1,3 @@
+-- Use pooled sequence allocation for servers (JDBC batch insert on bulk import)
+-- BIGSERIAL 시퀀스를 50 단위로 증가시켜 Hibernate pooled optimizer와 맞춤
+ALTER SEQUENCE servers_id_seq INCREMENT BY 50;
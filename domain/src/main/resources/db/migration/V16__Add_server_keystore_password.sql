@@ -0,0 +1,4 @@
+-- Add per-server keystore password (encrypted) for JKS/PKCS12 deployment
+ALTER TABLE servers ADD COLUMN keystore_password VARCHAR(512);
+
+COMMENT ON COLUMN servers.keystore_password IS '키스토어(JKS/PKCS12) 비밀번호 (암호화 저장)';
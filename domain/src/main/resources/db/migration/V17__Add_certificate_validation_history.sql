@@ -0,0 +1,35 @@
+-- Persist certificate validation runs and per-check outcomes
+CREATE TABLE certificate_validations (
+    id BIGSERIAL PRIMARY KEY,
+    certificate_id BIGINT NOT NULL REFERENCES certificates(id) ON DELETE CASCADE,
+    fingerprint VARCHAR(64),
+    valid BOOLEAN NOT NULL,
+    latest BOOLEAN NOT NULL,
+    certificate_updated_at TIMESTAMP,
+    next_validation_at TIMESTAMP NOT NULL,
+    validated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE certificate_validation_checks (
+    id BIGSERIAL PRIMARY KEY,
+    validation_id BIGINT NOT NULL REFERENCES certificate_validations(id) ON DELETE CASCADE,
+    name VARCHAR(20) NOT NULL,
+    valid BOOLEAN NOT NULL,
+    changed BOOLEAN NOT NULL,
+    error_code VARCHAR(50),
+    message TEXT
+);
+
+CREATE INDEX idx_certificate_validations_certificate ON certificate_validations(certificate_id, validated_at DESC);
+CREATE UNIQUE INDEX uk_certificate_validations_latest ON certificate_validations(certificate_id) WHERE latest;
+CREATE INDEX idx_certificate_validations_validated_at ON certificate_validations(validated_at);
+CREATE INDEX idx_certificate_validation_checks_validation ON certificate_validation_checks(validation_id);
+CREATE INDEX idx_certificate_validation_checks_changed ON certificate_validation_checks(name, valid) WHERE changed;
+
+COMMENT ON TABLE certificate_validations IS '인증서 검증 실행 이력';
+COMMENT ON COLUMN certificate_validations.fingerprint IS '리프 + 체인 SHA-256 지문 (파싱 실패 시 NULL)';
+COMMENT ON COLUMN certificate_validations.latest IS '인증서별 가장 최근 실행 여부';
+COMMENT ON COLUMN certificate_validations.certificate_updated_at IS '검증 당시 인증서 수정 시각 (이후 수정되면 재검증 대상)';
+COMMENT ON COLUMN certificate_validations.next_validation_at IS '시간에 따라 판정이 바뀔 수 있는 가장 이른 시각 (재검증 예정 시각)';
+COMMENT ON TABLE certificate_validation_checks IS '검증 실행별 항목 결과';
+COMMENT ON COLUMN certificate_validation_checks.changed IS '직전 실행 대비 통과 여부 변경 (첫 실행은 실패 시 true)';
@@ -0,0 +1,20 @@
+-- Intermediate CA certificates fetched via AIA caIssuers (shared by validation and deployment)
+CREATE TABLE intermediate_certificates (
+    id BIGSERIAL PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,
+    subject_key_id VARCHAR(128),
+    subject TEXT NOT NULL,
+    issuer TEXT NOT NULL,
+    certificate_pem TEXT NOT NULL,
+    source_url TEXT,
+    not_after TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_intermediate_certificates_fingerprint UNIQUE (fingerprint)
+);
+
+CREATE INDEX idx_intermediate_certificates_subject_key_id ON intermediate_certificates(subject_key_id);
+
+COMMENT ON TABLE intermediate_certificates IS 'AIA caIssuers로 가져온 중간 CA 인증서';
+COMMENT ON COLUMN intermediate_certificates.fingerprint IS 'DER SHA-256 지문 (중복 제거 기준)';
+COMMENT ON COLUMN intermediate_certificates.subject_key_id IS '주체 키 식별자 (hex, 하위 인증서의 AKI로 조회)';
+COMMENT ON COLUMN intermediate_certificates.source_url IS '가져온 caIssuers URL';
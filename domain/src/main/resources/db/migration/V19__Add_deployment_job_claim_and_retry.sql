@@ -0,0 +1,10 @@
+-- Deployment job claim token (process only the rows this worker claimed) and bounded retry
+ALTER TABLE deployment_jobs ADD COLUMN IF NOT EXISTS claim_token VARCHAR(36);
+ALTER TABLE deployment_jobs ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE deployment_jobs ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_deployment_jobs_claim_token ON deployment_jobs(claim_token);
+
+COMMENT ON COLUMN deployment_jobs.claim_token IS '작업을 선점한 워커의 선점 토큰 (처리 중일 때만 설정)';
+COMMENT ON COLUMN deployment_jobs.attempts IS '배포 시도 횟수';
+COMMENT ON COLUMN deployment_jobs.next_attempt_at IS '재시도 가능 시각 (실패 후 백오프, 없으면 즉시)';
@@ -0,0 +1,7 @@
+-- SSH 키로만 인증하는 서버는 비밀번호가 없으므로 password NULL 허용 (NULL = 비밀번호 없음)
+ALTER TABLE servers ALTER COLUMN password DROP NOT NULL;
+ALTER TABLE servers ALTER COLUMN password DROP DEFAULT;
+
+UPDATE servers SET password = NULL WHERE password = '';
+
+COMMENT ON COLUMN servers.password IS 'SSH/sudo 비밀번호 (SSH 키만 사용하는 서버는 NULL)';
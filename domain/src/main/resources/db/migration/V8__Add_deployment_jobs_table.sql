@@ -0,0 +1,23 @@
+-- Add deployment_jobs table (비동기 배포 작업 큐)
+CREATE TABLE deployment_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    certificate_id BIGINT NOT NULL REFERENCES certificates(id) ON DELETE CASCADE,
+    server_id BIGINT NOT NULL REFERENCES servers(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    message TEXT,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 대기 작업 조회용 인덱스
+CREATE INDEX idx_deployment_jobs_status_server ON deployment_jobs(status, server_id);
+CREATE INDEX idx_deployment_jobs_certificate_id ON deployment_jobs(certificate_id);
+
+COMMENT ON TABLE deployment_jobs IS '비동기 배포 작업 큐';
+COMMENT ON COLUMN deployment_jobs.certificate_id IS '배포할 인증서 ID';
+COMMENT ON COLUMN deployment_jobs.server_id IS '배포 대상 서버 ID';
+COMMENT ON COLUMN deployment_jobs.status IS '작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)';
+COMMENT ON COLUMN deployment_jobs.message IS '처리 결과 메시지 또는 오류 메시지';
+COMMENT ON COLUMN deployment_jobs.started_at IS '워커 처리 시작 시각';
+COMMENT ON COLUMN deployment_jobs.completed_at IS '처리 완료 시각';
@@ -0,0 +1,12 @@
+-- Add post-deploy TLS verification columns to deployments table
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS verification_status VARCHAR(20);
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS served_serial VARCHAR(100);
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS served_fingerprint VARCHAR(64);
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS handshake_ms BIGINT;
+ALTER TABLE deployments ADD COLUMN IF NOT EXISTS verified_at TIMESTAMP;
+
+COMMENT ON COLUMN deployments.verification_status IS '배포 후 TLS 검증 상태 (VERIFIED, MISMATCH, UNREACHABLE)';
+COMMENT ON COLUMN deployments.served_serial IS '서버가 제공한 인증서 시리얼 (16진수)';
+COMMENT ON COLUMN deployments.served_fingerprint IS '서버가 제공한 인증서 SHA-256 지문 (16진수)';
+COMMENT ON COLUMN deployments.handshake_ms IS 'TCP 연결 + TLS 핸드셰이크 소요 시간 (밀리초)';
+COMMENT ON COLUMN deployments.verified_at IS 'TLS 검증 시각';
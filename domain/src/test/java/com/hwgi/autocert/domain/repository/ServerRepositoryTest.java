@@ -0,0 +1,57 @@
+package com.hwgi.autocert.domain.repository;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.TestApplication;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.SshKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 Repository 영속성 테스트 (Flyway 마이그레이션이 적용된 데이터베이스 사용, 테스트 후 롤백)
+ */
+@SpringBootTest(classes = TestApplication.class)
+@Transactional
+@DisplayName("ServerRepository 테스트")
+class ServerRepositoryTest {
+
+    @Autowired
+    private ServerRepository serverRepository;
+
+    @Autowired
+    private SshKeyRepository sshKeyRepository;
+
+    @Test
+    @DisplayName("비밀번호 없이 SSH 키만 사용하는 서버를 저장할 수 있다")
+    void saveKeyOnlyServer() {
+        // Given
+        SshKey sshKey = sshKeyRepository.save(SshKey.builder()
+                .name("test-key-" + System.nanoTime())
+                .privateKey("encrypted-private-key")
+                .publicKey("ssh-ed25519 AAAAC3NzaC1lZDI1NTE5AAAAITest test")
+                .fingerprint("SHA256:test")
+                .build());
+
+        // When
+        Server saved = serverRepository.saveAndFlush(Server.builder()
+                .name("key-only")
+                .ipAddress("192.0.2." + (System.nanoTime() % 250 + 1))
+                .port(22)
+                .webServerType(WebServerType.NGINX)
+                .username("deploy")
+                .password(null)
+                .deployPath("/etc/nginx/ssl")
+                .sshKey(sshKey)
+                .build());
+
+        // Then
+        Server found = serverRepository.findById(saved.getId()).orElseThrow();
+        assertThat(found.getPassword()).isNull();
+        assertThat(found.getSshKey().getId()).isEqualTo(sshKey.getId());
+    }
+}
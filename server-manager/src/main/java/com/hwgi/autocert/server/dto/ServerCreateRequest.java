@@ -42,12 +42,13 @@ public class ServerCreateRequest {
     @NotBlank(message = "사용자명은 필수입니다")
     private String username;
 
-    @Schema(example = "password123", description = "SSH 비밀번호")
-    @NotBlank(message = "비밀번호는 필수입니다")
+    @Schema(example = "password123", description = "SSH 비밀번호 (SSH 키를 지정하면 선택사항, sudo에도 사용)")
     private String password;
 
     @Schema(example = "/etc/nginx/ssl", description = "인증서 배포 경로")
     @NotBlank(message = "배포 경로는 필수입니다")
     private String deployPath;
-}
 
+    @Schema(example = "1", description = "SSH 인증 키 ID (지정 시 공개키 인증)")
+    private Long sshKeyId;
+}
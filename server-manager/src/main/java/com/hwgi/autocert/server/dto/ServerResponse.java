@@ -25,6 +25,11 @@ public class ServerResponse {
     private String description;
     private String username;
     private String deployPath;
+    private Long sshKeyId;
+    private String healthStatus;
+    private LocalDateTime healthCheckedAt;
+    private Integer sshLatencyMs;
+    private Integer httpsLatencyMs;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -42,6 +47,11 @@ public class ServerResponse {
                 .description(server.getDescription())
                 .username(server.getUsername())
                 .deployPath(server.getDeployPath())
+                .sshKeyId(server.getSshKey() != null ? server.getSshKey().getId() : null)
+                .healthStatus(server.getHealthStatus() != null ? server.getHealthStatus().name() : null)
+                .healthCheckedAt(server.getHealthCheckedAt())
+                .sshLatencyMs(server.getSshLatencyMs())
+                .httpsLatencyMs(server.getHttpsLatencyMs())
                 .createdAt(server.getCreatedAt())
                 .updatedAt(server.getUpdatedAt())
                 .build();
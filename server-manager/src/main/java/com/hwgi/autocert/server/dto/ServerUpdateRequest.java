@@ -40,5 +40,7 @@ public class ServerUpdateRequest {
 
     @Schema(example = "/etc/nginx/ssl", description = "인증서 배포 경로")
     private String deployPath;
-}
 
+    @Schema(example = "1", description = "SSH 인증 키 ID (지정 시 공개키 인증)")
+    private Long sshKeyId;
+}
@@ -0,0 +1,24 @@
+package com.hwgi.autocert.server.importer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SSH 로그인 테스트 결과
+ */
+@Getter
+@Builder
+public class ConnectionTestResult {
+
+    private final boolean success;
+
+    /**
+     * 연결 및 인증 소요 시간 (밀리초)
+     */
+    private final long latencyMs;
+
+    /**
+     * 실패 사유
+     */
+    private final String message;
+}
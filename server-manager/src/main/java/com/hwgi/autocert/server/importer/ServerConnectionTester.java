@@ -0,0 +1,21 @@
+package com.hwgi.autocert.server.importer;
+
+import com.hwgi.autocert.domain.model.Server;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 서버 SSH 로그인 테스트
+ *
+ * SSH 키 복호화와 호스트 키 검증을 담당하는 배포 모듈에서 구현
+ */
+public interface ServerConnectionTester {
+
+    /**
+     * 비동기 로그인 테스트 (실패도 결과로 완료)
+     *
+     * @param server 저장된 서버
+     * @return 테스트 결과
+     */
+    CompletableFuture<ConnectionTestResult> test(Server server);
+}
@@ -0,0 +1,36 @@
+package com.hwgi.autocert.server.importer;
+
+import java.util.Locale;
+
+/**
+ * 서버 일괄 등록 입력 형식
+ */
+public enum ServerImportFormat {
+
+    /**
+     * 헤더 행이 있는 CSV
+     */
+    CSV,
+
+    /**
+     * JSON 배열 또는 줄 단위 JSON 객체 (NDJSON)
+     */
+    JSON;
+
+    /**
+     * Content-Type으로 형식 결정
+     */
+    public static ServerImportFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            throw new IllegalArgumentException("Content-Type이 필요합니다");
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (type.startsWith("application/json") || type.startsWith("application/x-ndjson")) {
+            return JSON;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,184 @@
+package com.hwgi.autocert.server.importer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 서버 일괄 등록 입력 스트리밍 파서
+ *
+ * 전체 파일을 메모리에 올리지 않고 한 행씩 읽어 전달
+ * - CSV: 첫 행은 헤더 (ipAddress, ip_address, ip-address 모두 허용, 알 수 없는 열은 무시)
+ * - JSON: 최상위 배열 또는 줄 단위 객체, 행 단위 매핑 오류는 해당 행만 실패 처리
+ */
+@Component
+@RequiredArgsConstructor
+class ServerImportReader {
+
+    /**
+     * 정규화한 헤더 이름 → 행 속성 이름
+     */
+    private static final Map<String, String> CSV_COLUMNS = Map.of(
+            "name", "name",
+            "ipaddress", "ipAddress",
+            "port", "port",
+            "webservertype", "webServerType",
+            "description", "description",
+            "username", "username",
+            "password", "password",
+            "deploypath", "deployPath",
+            "sshkeyid", "sshKeyId"
+    );
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 파싱된 행 (매핑 실패 시 row는 null이고 error에 사유)
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static class ParsedRow {
+        private final int rowNumber;
+        private final ServerImportRow row;
+        private final String error;
+
+        static ParsedRow valid(int rowNumber, ServerImportRow row) {
+            return new ParsedRow(rowNumber, row, null);
+        }
+
+        static ParsedRow invalid(int rowNumber, String error) {
+            return new ParsedRow(rowNumber, null, error);
+        }
+    }
+
+    /**
+     * 입력을 읽어 행마다 consumer 호출
+     */
+    void read(InputStream in, ServerImportFormat format, Consumer<ParsedRow> consumer) throws IOException {
+        if (format == ServerImportFormat.CSV) {
+            readCsv(in, consumer);
+        } else {
+            readJson(in, consumer);
+        }
+    }
+
+    private void readCsv(InputStream in, Consumer<ParsedRow> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (String header : splitCsv(headerLine)) {
+            String normalized = header.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", "");
+            columns.add(CSV_COLUMNS.get(normalized));
+        }
+
+        int rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            try {
+                List<String> values = splitCsv(line);
+                Map<String, String> fields = new HashMap<>();
+                for (int i = 0; i < Math.min(columns.size(), values.size()); i++) {
+                    String value = values.get(i).trim();
+                    if (columns.get(i) != null && !value.isEmpty()) {
+                        fields.put(columns.get(i), value);
+                    }
+                }
+                consumer.accept(ParsedRow.valid(rowNumber, objectMapper.convertValue(fields, ServerImportRow.class)));
+            } catch (IllegalArgumentException e) {
+                consumer.accept(ParsedRow.invalid(rowNumber, "행 형식 오류: " + rootMessage(e)));
+            }
+        }
+    }
+
+    private void readJson(InputStream in, Consumer<ParsedRow> consumer) throws IOException {
+        int rowNumber = 0;
+        try (MappingIterator<ServerImportRow> rows = objectMapper.readerFor(ServerImportRow.class).readValues(in)) {
+            while (true) {
+                rowNumber++;
+                if (!rows.hasNextValue()) {
+                    break;
+                }
+                try {
+                    consumer.accept(ParsedRow.valid(rowNumber, rows.nextValue()));
+                } catch (JsonMappingException e) {
+                    // MappingIterator가 다음 값으로 재동기화하므로 나머지 행은 계속 처리
+                    consumer.accept(ParsedRow.invalid(rowNumber, "행 형식 오류: " + e.getOriginalMessage()));
+                }
+            }
+        } catch (JsonParseException e) {
+            // 문법 오류 이후는 행 경계를 알 수 없으므로 중단
+            consumer.accept(ParsedRow.invalid(rowNumber, "JSON 문법 오류: " + e.getOriginalMessage()));
+        }
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표 필드, "" 이스케이프 지원)
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof JsonMappingException mapping ? mapping.getOriginalMessage() : cause.getMessage();
+    }
+}
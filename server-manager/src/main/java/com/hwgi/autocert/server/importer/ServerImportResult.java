@@ -0,0 +1,55 @@
+package com.hwgi.autocert.server.importer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서버 일괄 등록 행별 결과
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ServerImportResult {
+
+    /**
+     * 처리 상태
+     */
+    public enum Status {
+        CREATED,
+        UPDATED,
+        /**
+         * 형식/검증 오류 (저장하지 않음)
+         */
+        INVALID,
+        /**
+         * 저장 실패
+         */
+        FAILED
+    }
+
+    /**
+     * 입력 행 번호 (1부터, CSV 헤더 제외)
+     */
+    private final int row;
+
+    private final Status status;
+
+    private final Long serverId;
+
+    private final String name;
+
+    private final String ipAddress;
+
+    /**
+     * 오류 메시지
+     */
+    private final String message;
+
+    /**
+     * SSH 로그인 테스트 성공 여부 (테스트하지 않은 경우 null)
+     */
+    private final Boolean connectionSuccess;
+
+    private final Long connectionLatencyMs;
+
+    private final String connectionMessage;
+}
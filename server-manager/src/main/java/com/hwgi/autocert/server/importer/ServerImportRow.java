@@ -0,0 +1,52 @@
+package com.hwgi.autocert.server.importer;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 서버 일괄 등록 행 (CSV 한 줄 또는 JSON 객체 하나)
+ *
+ * 웹서버 타입은 행 단위 오류 메시지를 위해 문자열로 받아 등록 시 변환
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ServerImportRow {
+
+    @NotBlank(message = "서버 이름은 필수입니다")
+    private String name;
+
+    @NotBlank(message = "IP 주소는 필수입니다")
+    @Pattern(regexp = "^((25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$",
+            message = "올바른 IP 주소 형식이 아닙니다")
+    private String ipAddress;
+
+    @NotNull(message = "포트는 필수입니다")
+    @Min(value = 1, message = "포트는 1 이상이어야 합니다")
+    @Max(value = 65535, message = "포트는 65535 이하여야 합니다")
+    private Integer port;
+
+    @NotBlank(message = "웹서버 타입은 필수입니다")
+    private String webServerType;
+
+    private String description;
+
+    @NotBlank(message = "사용자명은 필수입니다")
+    private String username;
+
+    /**
+     * SSH 비밀번호 (SSH 키를 지정하거나 기존 서버를 갱신하는 경우 선택사항)
+     */
+    private String password;
+
+    @NotBlank(message = "배포 경로는 필수입니다")
+    private String deployPath;
+
+    private Long sshKeyId;
+}
@@ -0,0 +1,181 @@
+package com.hwgi.autocert.server.importer;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 일괄 등록 서비스
+ *
+ * 입력을 스트리밍으로 한 행씩 검증하고 청크 단위로 등록/갱신(IP 주소 기준 upsert)
+ * - 검증 오류 행은 INVALID로 즉시 반환하고 나머지 행은 계속 처리
+ * - 청크 저장이 실패하면 행 단위로 다시 저장하여 실패한 행만 FAILED로 반환
+ * - SSH 로그인 테스트를 요청하면 저장된 서버를 동시에 테스트하고 완료되는 대로 결과 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServerImportService {
+
+    /**
+     * 한 트랜잭션에서 저장할 행 수
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final ServerImportReader reader;
+    private final ServerImportWriter writer;
+    private final Validator validator;
+    private final ObjectProvider<ServerConnectionTester> connectionTester;
+
+    /**
+     * 서버 일괄 등록
+     *
+     * @param in 입력 스트림
+     * @param format 입력 형식
+     * @param testConnection 저장 후 SSH 로그인 테스트 여부
+     * @param sink 행별 결과 수신 (호출은 직렬화되지만 입력 순서와 다를 수 있음)
+     * @return 상태별 행 수
+     */
+    public Map<ServerImportResult.Status, Integer> importServers(InputStream in, ServerImportFormat format,
+                                                                 boolean testConnection,
+                                                                 Consumer<ServerImportResult> sink) throws IOException {
+        long start = System.currentTimeMillis();
+        Map<ServerImportResult.Status, Integer> counts = new EnumMap<>(ServerImportResult.Status.class);
+        Consumer<ServerImportResult> emit = result -> {
+            synchronized (counts) {
+                counts.merge(result.getStatus(), 1, Integer::sum);
+                sink.accept(result);
+            }
+        };
+
+        ServerConnectionTester tester = testConnection ? connectionTester.getIfAvailable() : null;
+        if (testConnection && tester == null) {
+            log.warn("Server import requested connection tests but no tester is available");
+        }
+
+        Set<String> seenIpAddresses = new HashSet<>();
+        List<ServerImportReader.ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<CompletableFuture<Void>> tests = new ArrayList<>();
+
+        reader.read(in, format, parsed -> {
+            String error = parsed.getError() != null ? parsed.getError() : validate(parsed.getRow());
+            if (error == null && !seenIpAddresses.add(parsed.getRow().getIpAddress())) {
+                error = "파일 내 중복된 IP 주소입니다: " + parsed.getRow().getIpAddress();
+            }
+            if (error != null) {
+                emit.accept(invalid(parsed, error));
+                return;
+            }
+
+            chunk.add(parsed);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush(chunk, tester, emit, tests);
+            }
+        });
+        flush(chunk, tester, emit, tests);
+        CompletableFuture.allOf(tests.toArray(CompletableFuture[]::new)).join();
+
+        log.info("Server import finished: {} in {}ms", counts, System.currentTimeMillis() - start);
+        return counts;
+    }
+
+    private void flush(List<ServerImportReader.ParsedRow> chunk, ServerConnectionTester tester,
+                       Consumer<ServerImportResult> emit, List<CompletableFuture<Void>> tests) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ServerImportWriter.WrittenRow> written;
+        try {
+            written = writer.write(chunk);
+        } catch (RuntimeException e) {
+            // 청크 트랜잭션은 롤백되었으므로 행 단위로 다시 저장하여 실패 행만 분리
+            log.warn("Server import chunk of {} rows failed, retrying row by row: {}", chunk.size(), e.getMessage());
+            written = new ArrayList<>(chunk.size());
+            for (ServerImportReader.ParsedRow row : chunk) {
+                try {
+                    written.addAll(writer.write(List.of(row)));
+                } catch (RuntimeException rowError) {
+                    emit.accept(result(row, ServerImportResult.Status.FAILED, null)
+                            .message("저장 실패: " + rowError.getMessage())
+                            .build());
+                }
+            }
+        }
+        chunk.clear();
+
+        for (ServerImportWriter.WrittenRow row : written) {
+            if (row.getServer() == null) {
+                emit.accept(invalid(row.getSource(), row.getError()));
+                continue;
+            }
+
+            ServerImportResult result = result(row.getSource(),
+                    row.isCreated() ? ServerImportResult.Status.CREATED : ServerImportResult.Status.UPDATED,
+                    row.getServer().getId())
+                    .build();
+            if (tester == null) {
+                emit.accept(result);
+                continue;
+            }
+            tests.add(tester.test(row.getServer())
+                    .handle((test, e) -> e != null
+                            ? result.toBuilder().connectionSuccess(false).connectionMessage(e.getMessage()).build()
+                            : result.toBuilder()
+                                    .connectionSuccess(test.isSuccess())
+                                    .connectionLatencyMs(test.getLatencyMs())
+                                    .connectionMessage(test.getMessage())
+                                    .build())
+                    .thenAccept(emit));
+        }
+    }
+
+    /**
+     * 행 검증 (오류 메시지, 통과 시 null)
+     */
+    private String validate(ServerImportRow row) {
+        Set<ConstraintViolation<ServerImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!WebServerType.isValidCode(row.getWebServerType())) {
+            return "지원하지 않는 웹서버 타입입니다: " + row.getWebServerType();
+        }
+        return null;
+    }
+
+    private static ServerImportResult invalid(ServerImportReader.ParsedRow parsed, String message) {
+        return result(parsed, ServerImportResult.Status.INVALID, null).message(message).build();
+    }
+
+    private static ServerImportResult.ServerImportResultBuilder result(ServerImportReader.ParsedRow parsed,
+                                                                       ServerImportResult.Status status,
+                                                                       Long serverId) {
+        ServerImportRow row = parsed.getRow();
+        return ServerImportResult.builder()
+                .row(parsed.getRowNumber())
+                .status(status)
+                .serverId(serverId)
+                .name(row != null ? row.getName() : null)
+                .ipAddress(row != null ? row.getIpAddress() : null);
+    }
+}
@@ -0,0 +1,113 @@
+package com.hwgi.autocert.server.importer;
+
+import com.hwgi.autocert.common.constants.WebServerType;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.SshKey;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import com.hwgi.autocert.domain.repository.SshKeyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 일괄 등록 청크 저장
+ *
+ * 청크 하나를 한 트랜잭션에서 처리
+ * - 기존 서버는 IP 목록 한 번의 조회로 찾아 갱신 (행마다 existsByIpAddress 조회하지 않음)
+ * - 신규 서버는 saveAll로 저장하여 hibernate.jdbc.batch_size 단위로 배치 INSERT
+ */
+@Component
+@RequiredArgsConstructor
+class ServerImportWriter {
+
+    private final ServerRepository serverRepository;
+    private final SshKeyRepository sshKeyRepository;
+
+    /**
+     * 행별 저장 결과 (오류 시 server는 null)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class WrittenRow {
+        private final ServerImportReader.ParsedRow source;
+        private final Server server;
+        private final boolean created;
+        private final String error;
+    }
+
+    /**
+     * 검증을 통과한 행 청크 저장 (IP 주소는 파일 내에서 중복되지 않음)
+     *
+     * @param rows 행 목록
+     * @return 입력 순서대로의 결과
+     */
+    @Transactional
+    public List<WrittenRow> write(List<ServerImportReader.ParsedRow> rows) {
+        Set<String> ipAddresses = rows.stream()
+                .map(row -> row.getRow().getIpAddress())
+                .collect(Collectors.toSet());
+        Map<String, Server> existing = serverRepository.findByIpAddressIn(ipAddresses).stream()
+                .collect(Collectors.toMap(Server::getIpAddress, Function.identity()));
+
+        Set<Long> sshKeyIds = rows.stream()
+                .map(row -> row.getRow().getSshKeyId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, SshKey> sshKeys = sshKeyIds.isEmpty() ? Map.of() : sshKeyRepository.findAllById(sshKeyIds).stream()
+                .collect(Collectors.toMap(SshKey::getId, Function.identity()));
+
+        List<WrittenRow> written = new ArrayList<>(rows.size());
+        List<Server> servers = new ArrayList<>(rows.size());
+        for (ServerImportReader.ParsedRow parsed : rows) {
+            ServerImportRow row = parsed.getRow();
+            SshKey sshKey = row.getSshKeyId() != null ? sshKeys.get(row.getSshKeyId()) : null;
+            if (row.getSshKeyId() != null && sshKey == null) {
+                written.add(new WrittenRow(parsed, null, false, "SSH 키를 찾을 수 없습니다: " + row.getSshKeyId()));
+                continue;
+            }
+
+            Server server = existing.get(row.getIpAddress());
+            boolean created = server == null;
+            if (created) {
+                if (sshKey == null && !StringUtils.hasText(row.getPassword())) {
+                    written.add(new WrittenRow(parsed, null, false, "비밀번호 또는 SSH 키는 필수입니다"));
+                    continue;
+                }
+                server = Server.builder()
+                        .ipAddress(row.getIpAddress())
+                        .password(StringUtils.hasText(row.getPassword()) ? row.getPassword() : null)
+                        .build();
+            } else if (StringUtils.hasText(row.getPassword())) {
+                server.setPassword(row.getPassword());
+            }
+
+            server.setName(row.getName());
+            server.setPort(row.getPort());
+            server.setWebServerType(WebServerType.fromCode(row.getWebServerType()));
+            server.setUsername(row.getUsername());
+            server.setDeployPath(row.getDeployPath());
+            if (row.getDescription() != null) {
+                server.setDescription(row.getDescription());
+            }
+            if (sshKey != null) {
+                server.setSshKey(sshKey);
+            }
+
+            servers.add(server);
+            written.add(new WrittenRow(parsed, server, created, null));
+        }
+
+        serverRepository.saveAll(servers);
+        return written;
+    }
+}
@@ -3,7 +3,9 @@ package com.hwgi.autocert.server.service;
 import com.hwgi.autocert.common.constants.WebServerType;
 import com.hwgi.autocert.common.exception.ResourceNotFoundException;
 import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.model.SshKey;
 import com.hwgi.autocert.domain.repository.ServerRepository;
+import com.hwgi.autocert.domain.repository.SshKeyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,6 +24,7 @@ import org.springframework.util.StringUtils;
 public class ServerService {
 
     private final ServerRepository serverRepository;
+    private final SshKeyRepository sshKeyRepository;
 
     /**
      * 모든 서버 조회 (페이지네이션)
@@ -72,7 +75,8 @@ public class ServerService {
      */
     @Transactional
     public Server create(String name, String ipAddress, Integer port, WebServerType webServerType,
-                        String description, String username, String password, String deployPath) {
+                        String description, String username, String password, String deployPath,
+                        Long sshKeyId) {
         log.info("Creating server: name={}, ip={}, type={}", name, ipAddress, webServerType);
 
         // IP 주소 중복 확인
@@ -80,9 +84,9 @@ public class ServerService {
             throw new IllegalArgumentException("이미 존재하는 IP 주소입니다: " + ipAddress);
         }
 
-        // password는 필수
-        if (!StringUtils.hasText(password)) {
-            throw new IllegalArgumentException("비밀번호는 필수입니다");
+        // SSH 키가 없으면 password는 필수
+        if (sshKeyId == null && !StringUtils.hasText(password)) {
+            throw new IllegalArgumentException("비밀번호 또는 SSH 키는 필수입니다");
         }
 
         Server server = Server.builder()
@@ -92,8 +96,9 @@ public class ServerService {
                 .webServerType(webServerType)
                 .description(description)
                 .username(username)
-                .password(password)
+                .password(StringUtils.hasText(password) ? password : null)
                 .deployPath(deployPath)
+                .sshKey(sshKeyId != null ? findSshKey(sshKeyId) : null)
                 .build();
 
         Server saved = serverRepository.save(server);
@@ -108,7 +113,7 @@ public class ServerService {
     @Transactional
     public Server update(Long id, String name, String ipAddress, Integer port, 
                         WebServerType webServerType, String description, String username,
-                        String password, String deployPath) {
+                        String password, String deployPath, Long sshKeyId) {
         log.info("Updating server: id={}", id);
 
         Server server = findById(id);
@@ -143,6 +148,9 @@ public class ServerService {
         if (StringUtils.hasText(deployPath)) {
             server.setDeployPath(deployPath);
         }
+        if (sshKeyId != null) {
+            server.setSshKey(findSshKey(sshKeyId));
+        }
 
         Server updated = serverRepository.save(server);
         log.info("Server updated successfully: id={}", updated.getId());
@@ -162,5 +170,12 @@ public class ServerService {
 
         log.info("Server deleted successfully: id={}", id);
     }
-}
 
+    /**
+     * SSH 키 조회
+     */
+    private SshKey findSshKey(Long sshKeyId) {
+        return sshKeyRepository.findById(sshKeyId)
+                .orElseThrow(() -> new ResourceNotFoundException("SSH 키를 찾을 수 없습니다: " + sshKeyId));
+    }
+}
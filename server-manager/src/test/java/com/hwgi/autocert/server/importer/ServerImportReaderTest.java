@@ -0,0 +1,122 @@
+package com.hwgi.autocert.server.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서버 일괄 등록 입력 파서 테스트
+ */
+@DisplayName("ServerImportReader 테스트")
+class ServerImportReaderTest {
+
+    private final ServerImportReader reader = new ServerImportReader(new ObjectMapper());
+
+    @Test
+    @DisplayName("따옴표 필드 안의 쉼표와 \"\" 이스케이프를 값으로 읽음")
+    void splitCsv_QuotedFieldsAndEscapes() {
+        assertThat(ServerImportReader.splitCsv("web-01,\"a, b\",\"say \"\"hi\"\"\",,end"))
+                .containsExactly("web-01", "a, b", "say \"hi\"", "", "end");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 형식 오류")
+    void splitCsv_UnclosedQuote_Rejected() {
+        assertThatThrownBy(() -> ServerImportReader.splitCsv("web-01,\"10.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("BOM과 헤더 별칭(ip_address, IP-Address, Web Server Type)을 처리하고 알 수 없는 열은 무시")
+    void readCsv_BomAndHeaderAliases() throws Exception {
+        // Given
+        String csv = "﻿Name,ip_address,PORT,Web Server Type,user-name,deploy_path,ignored\n"
+                + "web-01,10.0.0.1,22,nginx,deploy,/etc/nginx/ssl,x\n"
+                + "\n"
+                + "\"web, 02\",10.0.0.2,2222,apache,root,/etc/ssl,y\n";
+
+        // When
+        List<ServerImportReader.ParsedRow> rows = read(csv, ServerImportFormat.CSV);
+
+        // Then
+        assertThat(rows).hasSize(2);
+        ServerImportRow first = rows.get(0).getRow();
+        assertThat(first.getName()).isEqualTo("web-01");
+        assertThat(first.getIpAddress()).isEqualTo("10.0.0.1");
+        assertThat(first.getPort()).isEqualTo(22);
+        assertThat(first.getWebServerType()).isEqualTo("nginx");
+        assertThat(first.getUsername()).isEqualTo("deploy");
+        assertThat(first.getDeployPath()).isEqualTo("/etc/nginx/ssl");
+        assertThat(rows.get(1).getRowNumber()).isEqualTo(2);
+        assertThat(rows.get(1).getRow().getName()).isEqualTo("web, 02");
+    }
+
+    @Test
+    @DisplayName("CSV 형식 오류 행만 실패하고 다음 행은 계속 읽음")
+    void readCsv_BadRow_ContinuesWithNextRow() throws Exception {
+        // Given
+        String csv = "name,ipAddress,port\n"
+                + "web-01,\"10.0.0.1,22\n"
+                + "web-02,10.0.0.2,not-a-port\n"
+                + "web-03,10.0.0.3,22\n";
+
+        // When
+        List<ServerImportReader.ParsedRow> rows = read(csv, ServerImportFormat.CSV);
+
+        // Then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).getError()).contains("닫히지 않은 따옴표");
+        assertThat(rows.get(1).getRow()).isNull();
+        assertThat(rows.get(1).getError()).startsWith("행 형식 오류");
+        assertThat(rows.get(2).getRow().getIpAddress()).isEqualTo("10.0.0.3");
+    }
+
+    @Test
+    @DisplayName("JSON 매핑 오류 행 이후 다음 객체로 재동기화하여 계속 읽음")
+    void readJson_BadRow_Resyncs() throws Exception {
+        // Given
+        String json = "[{\"name\":\"web-01\",\"ipAddress\":\"10.0.0.1\",\"port\":22},"
+                + "{\"name\":\"web-02\",\"ipAddress\":\"10.0.0.2\",\"port\":\"not-a-port\"},"
+                + "{\"name\":\"web-03\",\"ipAddress\":\"10.0.0.3\",\"port\":22}]";
+
+        // When
+        List<ServerImportReader.ParsedRow> rows = read(json, ServerImportFormat.JSON);
+
+        // Then
+        assertThat(rows).extracting(ServerImportReader.ParsedRow::getRowNumber).containsExactly(1, 2, 3);
+        assertThat(rows.get(0).getRow().getName()).isEqualTo("web-01");
+        assertThat(rows.get(1).getRow()).isNull();
+        assertThat(rows.get(1).getError()).startsWith("행 형식 오류");
+        assertThat(rows.get(2).getRow().getName()).isEqualTo("web-03");
+    }
+
+    @Test
+    @DisplayName("줄 단위 JSON은 문법 오류에서 중단")
+    void readJson_SyntaxError_Stops() throws Exception {
+        // Given
+        String ndjson = "{\"name\":\"web-01\",\"ipAddress\":\"10.0.0.1\"}\n"
+                + "{\"name\":\"web-02\",\n";
+
+        // When
+        List<ServerImportReader.ParsedRow> rows = read(ndjson, ServerImportFormat.JSON);
+
+        // Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getRow().getName()).isEqualTo("web-01");
+        assertThat(rows.get(1).getError()).startsWith("JSON 문법 오류");
+    }
+
+    private List<ServerImportReader.ParsedRow> read(String content, ServerImportFormat format) throws Exception {
+        List<ServerImportReader.ParsedRow> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, rows::add);
+        return rows;
+    }
+}
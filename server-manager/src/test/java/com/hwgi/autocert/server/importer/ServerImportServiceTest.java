@@ -0,0 +1,177 @@
+package com.hwgi.autocert.server.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwgi.autocert.domain.model.Server;
+import com.hwgi.autocert.domain.repository.ServerRepository;
+import com.hwgi.autocert.domain.repository.SshKeyRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 서버 일괄 등록 서비스 테스트 (청크 단위 IP 일괄 조회 upsert)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ServerImportService 테스트")
+class ServerImportServiceTest {
+
+    private static final String HEADER = "name,ipAddress,port,webServerType,username,password,deployPath\n";
+
+    @Mock
+    private ServerRepository serverRepository;
+
+    @Mock
+    private SshKeyRepository sshKeyRepository;
+
+    @Mock
+    private ObjectProvider<ServerConnectionTester> connectionTester;
+
+    private ServerImportService importService;
+    private final List<ServerImportResult> results = new ArrayList<>();
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        importService = new ServerImportService(new ServerImportReader(new ObjectMapper()),
+                new ServerImportWriter(serverRepository, sshKeyRepository), validator, connectionTester);
+
+        when(serverRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Server> servers = invocation.getArgument(0);
+            servers.stream().filter(server -> server.getId() == null).forEach(server -> server.setId(ids.incrementAndGet()));
+            return servers;
+        });
+    }
+
+    @Test
+    @DisplayName("청크마다 IP 목록을 한 번에 조회하여 기존 서버는 갱신, 신규 서버는 일괄 저장 (행별 존재 조회 없음)")
+    @SuppressWarnings("unchecked")
+    void importServers_BatchedUpsert() throws Exception {
+        // Given
+        Server existing = Server.builder().id(1L).name("old").ipAddress("10.0.0.1").password("old-secret").build();
+        when(serverRepository.findByIpAddressIn(anyCollection())).thenReturn(List.of(existing));
+        String csv = HEADER
+                + "web-01,10.0.0.1,22,nginx,deploy,,/etc/nginx/ssl\n"
+                + "web-02,10.0.0.2,22,nginx,deploy,secret,/etc/nginx/ssl\n";
+
+        // When
+        Map<ServerImportResult.Status, Integer> counts = importCsv(csv);
+
+        // Then
+        assertThat(counts).containsEntry(ServerImportResult.Status.UPDATED, 1)
+                .containsEntry(ServerImportResult.Status.CREATED, 1);
+
+        ArgumentCaptor<Collection<String>> ipAddresses = ArgumentCaptor.forClass(Collection.class);
+        verify(serverRepository, times(1)).findByIpAddressIn(ipAddresses.capture());
+        assertThat(ipAddresses.getValue()).containsExactlyInAnyOrder("10.0.0.1", "10.0.0.2");
+        verify(serverRepository, times(1)).saveAll(anyList());
+        verify(serverRepository, never()).existsByIpAddress(anyString());
+        verify(serverRepository, never()).save(any());
+
+        // 비밀번호를 비운 기존 서버는 기존 비밀번호 유지
+        assertThat(existing.getName()).isEqualTo("web-01");
+        assertThat(existing.getPassword()).isEqualTo("old-secret");
+        assertThat(results).extracting(ServerImportResult::getServerId).contains(1L);
+    }
+
+    @Test
+    @DisplayName("CHUNK_SIZE 행마다 한 번씩 조회/저장")
+    void importServers_SplitsIntoChunks() throws Exception {
+        // Given
+        when(serverRepository.findByIpAddressIn(anyCollection())).thenReturn(List.of());
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < ServerImportService.CHUNK_SIZE + 1; i++) {
+            csv.append("web-").append(i).append(",10.0.").append(i / 250).append('.').append(i % 250 + 1)
+                    .append(",22,nginx,deploy,secret,/etc/nginx/ssl\n");
+        }
+
+        // When
+        Map<ServerImportResult.Status, Integer> counts = importCsv(csv.toString());
+
+        // Then
+        assertThat(counts).containsEntry(ServerImportResult.Status.CREATED, ServerImportService.CHUNK_SIZE + 1);
+        verify(serverRepository, times(2)).findByIpAddressIn(anyCollection());
+        verify(serverRepository, times(2)).saveAll(anyList());
+        verify(serverRepository, never()).existsByIpAddress(anyString());
+    }
+
+    @Test
+    @DisplayName("검증 오류와 파일 내 중복 IP는 INVALID로 반환하고 저장하지 않음")
+    void importServers_InvalidAndDuplicateRows() throws Exception {
+        // Given
+        when(serverRepository.findByIpAddressIn(anyCollection())).thenReturn(List.of());
+        String csv = HEADER
+                + "web-01,10.0.0.1,22,nginx,deploy,secret,/etc/nginx/ssl\n"
+                + "web-01b,10.0.0.1,22,nginx,deploy,secret,/etc/nginx/ssl\n"
+                + "web-02,999.0.0.1,22,nginx,deploy,secret,/etc/nginx/ssl\n"
+                + "web-03,10.0.0.3,22,caddy,deploy,secret,/etc/nginx/ssl\n"
+                + "web-04,10.0.0.4,22,nginx,deploy,,/etc/nginx/ssl\n";
+
+        // When
+        Map<ServerImportResult.Status, Integer> counts = importCsv(csv);
+
+        // Then
+        assertThat(counts).containsEntry(ServerImportResult.Status.CREATED, 1)
+                .containsEntry(ServerImportResult.Status.INVALID, 4);
+        assertThat(results).filteredOn(result -> result.getStatus() == ServerImportResult.Status.INVALID)
+                .extracting(ServerImportResult::getRow)
+                .containsExactlyInAnyOrder(2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 행 단위로 다시 저장하여 실패한 행만 FAILED")
+    @SuppressWarnings("unchecked")
+    void importServers_ChunkFailure_RetriesRowByRow() throws Exception {
+        // Given
+        when(serverRepository.findByIpAddressIn(anyCollection())).thenReturn(List.of());
+        when(serverRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Server> servers = invocation.getArgument(0);
+            if (servers.stream().anyMatch(server -> "10.0.0.2".equals(server.getIpAddress()))) {
+                throw new IllegalStateException("duplicate key");
+            }
+            servers.forEach(server -> server.setId(ids.incrementAndGet()));
+            return servers;
+        });
+        String csv = HEADER
+                + "web-01,10.0.0.1,22,nginx,deploy,secret,/etc/nginx/ssl\n"
+                + "web-02,10.0.0.2,22,nginx,deploy,secret,/etc/nginx/ssl\n";
+
+        // When
+        Map<ServerImportResult.Status, Integer> counts = importCsv(csv);
+
+        // Then
+        assertThat(counts).containsEntry(ServerImportResult.Status.CREATED, 1)
+                .containsEntry(ServerImportResult.Status.FAILED, 1);
+        assertThat(results).filteredOn(result -> result.getStatus() == ServerImportResult.Status.FAILED)
+                .singleElement()
+                .satisfies(result -> assertThat(result.getIpAddress()).isEqualTo("10.0.0.2"));
+    }
+
+    private Map<ServerImportResult.Status, Integer> importCsv(String csv) throws Exception {
+        return importService.importServers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                ServerImportFormat.CSV, false, results::add);
+    }
+}